@@ -2,11 +2,13 @@ package com.neg.technology.human.resource;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 
-@SpringBootApplication
+// R2DBC is wired manually in R2dbcPersistenceConfig, only when hr.persistence.mode=r2dbc
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
 public class HumanResourceApplication {
 
 	public static void main(String[] args) {
 		SpringApplication.run(HumanResourceApplication.class, args);
 	}
-}
\ No newline at end of file
+}
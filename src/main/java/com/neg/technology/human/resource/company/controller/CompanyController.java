@@ -16,6 +16,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 @RestController
 @RequestMapping("/api/companies")
@@ -25,13 +26,15 @@ public class CompanyController {
 
     private final CompanyService companyService;
     private final CompanyValidator companyValidator;
+    private final Scheduler jdbcScheduler;
 
     @Operation(summary = "Create a new company")
     @ApiResponse(responseCode = "200", description = "Company created successfully")
     @PostMapping("/create")
     public Mono<ResponseEntity<CompanyResponse>> createCompany(@Valid @RequestBody CreateCompanyRequest request) {
-        companyValidator.validateCreate(request);
-        return companyService.createCompany(request)
+        return Mono.fromRunnable(() -> companyValidator.validateCreate(request))
+                .subscribeOn(jdbcScheduler)
+                .then(companyService.createCompany(request))
                 .map(ResponseEntity::ok);
     }
 
@@ -39,8 +42,9 @@ public class CompanyController {
     @ApiResponse(responseCode = "200", description = "Company updated successfully")
     @PostMapping("/update")
     public Mono<ResponseEntity<CompanyResponse>> updateCompany(@Valid @RequestBody UpdateCompanyRequest request) {
-        companyValidator.validateUpdate(request);
-        return companyService.updateCompany(request)
+        return Mono.fromRunnable(() -> companyValidator.validateUpdate(request))
+                .subscribeOn(jdbcScheduler)
+                .then(companyService.updateCompany(request))
                 .map(ResponseEntity::ok);
     }
 
@@ -3,11 +3,15 @@ package com.neg.technology.human.resource.company.model.entity;
 import com.neg.technology.human.resource.utility.AuditableEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 
 @Entity
 @Table(name = "position")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "position")
 @Getter
 @Setter
 @AllArgsConstructor
@@ -16,7 +20,8 @@ import java.math.BigDecimal;
 public class Position extends AuditableEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "position_id_seq")
+    @SequenceGenerator(name = "position_id_seq", sequenceName = "position_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
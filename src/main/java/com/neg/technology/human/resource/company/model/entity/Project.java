@@ -14,7 +14,8 @@ import lombok.*;
 public class Project extends AuditableEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_id_seq")
+    @SequenceGenerator(name = "project_id_seq", sequenceName = "project_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -1,5 +1,6 @@
 package com.neg.technology.human.resource.company.model.request;
 
+import com.neg.technology.human.resource.utility.module.entity.request.KeysetPageRequest;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
@@ -8,7 +9,7 @@ import lombok.*;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
-public class CompanyIdRequest {
+public class CompanyIdRequest extends KeysetPageRequest {
     @NotNull
     private Long companyId;
 }
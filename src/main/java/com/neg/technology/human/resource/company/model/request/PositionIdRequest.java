@@ -1,5 +1,6 @@
 package com.neg.technology.human.resource.company.model.request;
 
+import com.neg.technology.human.resource.utility.module.entity.request.KeysetPageRequest;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
@@ -9,7 +10,7 @@ import lombok.*;
 @NoArgsConstructor
 @Builder
 
-public class PositionIdRequest {
+public class PositionIdRequest extends KeysetPageRequest {
     @NotNull
     private Long positionId;
 }
@@ -8,17 +8,23 @@ import com.neg.technology.human.resource.company.service.CompanyService;
 import com.neg.technology.human.resource.exception.ResourceNotFoundException;
 import com.neg.technology.human.resource.utility.Logger;
 import com.neg.technology.human.resource.utility.module.entity.request.NameRequest;
+import com.neg.technology.human.resource.utility.ReferenceDataCache;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 @Service
 public class CompanyServiceImpl implements CompanyService {
     public static final String MESSAGE = "Company";
 
     private final CompanyRepository companyRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final Scheduler jdbcScheduler;
 
-    public CompanyServiceImpl(CompanyRepository companyRepository) {
+    public CompanyServiceImpl(CompanyRepository companyRepository, ReferenceDataCache referenceDataCache, Scheduler jdbcScheduler) {
         this.companyRepository = companyRepository;
+        this.referenceDataCache = referenceDataCache;
+        this.jdbcScheduler = jdbcScheduler;
     }
 
     @Override
@@ -28,7 +34,7 @@ public class CompanyServiceImpl implements CompanyService {
             Company saved = companyRepository.save(entity);
             Logger.logCreated(Company.class, saved.getId(), saved.getName());
             return CompanyMapper.toDTO(saved);
-        });
+        }).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -39,10 +45,11 @@ public class CompanyServiceImpl implements CompanyService {
 
             existing.setName(request.getName());
             Company updated = companyRepository.save(existing);
+            referenceDataCache.evictCompany(updated.getId());
             Logger.logUpdated(Company.class, updated.getId(), updated.getName());
 
             return CompanyMapper.toDTO(updated);
-        });
+        }).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -52,8 +59,9 @@ public class CompanyServiceImpl implements CompanyService {
                 throw new ResourceNotFoundException(MESSAGE, request.getCompanyId());
             }
             companyRepository.deleteById(request.getCompanyId());
+            referenceDataCache.evictCompany(request.getCompanyId());
             Logger.logDeleted(Company.class, request.getCompanyId());
-        });
+        }).subscribeOn(jdbcScheduler).then();
     }
 
     @Override
@@ -65,16 +73,16 @@ public class CompanyServiceImpl implements CompanyService {
                                 .map(CompanyMapper::toDTO)
                                 .toList()
                 )
-        );
+        ).subscribeOn(jdbcScheduler);
     }
 
     @Override
     public Mono<CompanyResponse> getCompanyById(CompanyIdRequest request) {
         return Mono.fromCallable(() ->
-                companyRepository.findById(request.getCompanyId())
+                referenceDataCache.findCompany(request.getCompanyId())
                         .map(CompanyMapper::toDTO)
                         .orElseThrow(() -> new ResourceNotFoundException(MESSAGE, request.getCompanyId()))
-        );
+        ).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -83,11 +91,11 @@ public class CompanyServiceImpl implements CompanyService {
                 companyRepository.findByName(request.getName())
                         .map(CompanyMapper::toDTO)
                         .orElseThrow(() -> new ResourceNotFoundException(MESSAGE, request.getName()))
-        );
+        ).subscribeOn(jdbcScheduler);
     }
 
     @Override
     public Mono<Boolean> existsByName(NameRequest request) {
-        return Mono.fromCallable(() -> companyRepository.existsByName(request.getName()));
+        return Mono.fromCallable(() -> companyRepository.existsByName(request.getName())).subscribeOn(jdbcScheduler);
     }
 }
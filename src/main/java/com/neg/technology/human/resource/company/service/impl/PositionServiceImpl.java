@@ -14,9 +14,11 @@ import com.neg.technology.human.resource.utility.Logger;
 import com.neg.technology.human.resource.utility.module.entity.request.IdRequest;
 import com.neg.technology.human.resource.utility.module.entity.request.SalaryRequest;
 import com.neg.technology.human.resource.utility.module.entity.request.TitleRequest;
+import com.neg.technology.human.resource.utility.ReferenceDataCache;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.math.BigDecimal;
 
@@ -26,14 +28,20 @@ public class PositionServiceImpl implements PositionService {
     private final PositionRepository positionRepository;
     private final PositionValidator positionValidator;
     private final PositionMapper positionMapper;
+    private final ReferenceDataCache referenceDataCache;
+    private final Scheduler jdbcScheduler;
     private final String message = "Position";
 
     public PositionServiceImpl(PositionRepository positionRepository,
                                PositionValidator positionValidator,
-                               PositionMapper positionMapper) {
+                               PositionMapper positionMapper,
+                               ReferenceDataCache referenceDataCache,
+                               Scheduler jdbcScheduler) {
         this.positionRepository = positionRepository;
         this.positionValidator = positionValidator;
         this.positionMapper = positionMapper;
+        this.referenceDataCache = referenceDataCache;
+        this.jdbcScheduler = jdbcScheduler;
     }
 
     @Override
@@ -45,16 +53,16 @@ public class PositionServiceImpl implements PositionService {
                                 .map(positionMapper::toDTO)
                                 .toList()
                 )
-        );
+        ).subscribeOn(jdbcScheduler);
     }
 
     @Override
     public Mono<PositionResponse> getPositionById(IdRequest request) {
         return Mono.fromCallable(() ->
-                positionRepository.findById(request.getId())
+                referenceDataCache.findPosition(request.getId())
                         .map(positionMapper::toDTO)
                         .orElseThrow(() -> new ResourceNotFoundException(message, request.getId()))
-        );
+        ).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -65,7 +73,7 @@ public class PositionServiceImpl implements PositionService {
             Position saved = positionRepository.save(position);
             Logger.logCreated(Position.class, saved.getId(), saved.getTitle());
             return positionMapper.toDTO(saved);
-        });
+        }).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -79,9 +87,10 @@ public class PositionServiceImpl implements PositionService {
                     .orElseThrow(() -> new ResourceNotFoundException(message, request.getId()));
             positionMapper.updateEntity(existing, request);
             Position updated = positionRepository.save(existing);
+            referenceDataCache.evictPosition(updated.getId());
             Logger.logUpdated(Position.class, updated.getId(), updated.getTitle());
             return positionMapper.toDTO(updated);
-        });
+        }).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -91,8 +100,9 @@ public class PositionServiceImpl implements PositionService {
                 throw new ResourceNotFoundException(message, request.getId());
             }
             positionRepository.deleteById(request.getId());
+            referenceDataCache.evictPosition(request.getId());
             Logger.logDeleted(Position.class, request.getId());
-        });
+        }).subscribeOn(jdbcScheduler).then();
     }
 
     @Override
@@ -101,12 +111,12 @@ public class PositionServiceImpl implements PositionService {
                 positionRepository.findByTitle(request.getTitle())
                         .map(positionMapper::toDTO)
                         .orElseThrow(() -> new ResourceNotFoundException(message, request.getTitle()))
-        );
+        ).subscribeOn(jdbcScheduler);
     }
 
     @Override
     public Mono<Boolean> existsByTitle(TitleRequest request) {
-        return Mono.fromCallable(() -> positionRepository.existsByTitle(request.getTitle()));
+        return Mono.fromCallable(() -> positionRepository.existsByTitle(request.getTitle())).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -118,14 +128,18 @@ public class PositionServiceImpl implements PositionService {
                                 .map(positionMapper::toDTO)
                                 .toList()
                 )
-        );
+        ).subscribeOn(jdbcScheduler);
     }
 
     // --- Utility methods in reactive wrappers ---
 
     @Override
     public Mono<Position> save(Position position) {
-        return Mono.fromCallable(() -> positionRepository.save(position));
+        return Mono.fromCallable(() -> {
+            Position saved = positionRepository.save(position);
+            referenceDataCache.evictPosition(saved.getId());
+            return saved;
+        }).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -133,12 +147,12 @@ public class PositionServiceImpl implements PositionService {
         return Mono.fromCallable(() ->
                 positionRepository.findById(id)
                         .orElseThrow(() -> new ResourceNotFoundException(message, id))
-        );
+        ).subscribeOn(jdbcScheduler);
     }
 
     @Override
     public Flux<Position> findAll() {
-        return Flux.defer(() -> Flux.fromIterable(positionRepository.findAll()));
+        return Flux.defer(() -> Flux.fromIterable(positionRepository.findAll())).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -148,7 +162,8 @@ public class PositionServiceImpl implements PositionService {
                 throw new ResourceNotFoundException(message, id);
             }
             positionRepository.deleteById(id);
-        });
+            referenceDataCache.evictPosition(id);
+        }).subscribeOn(jdbcScheduler).then();
     }
 
     @Override
@@ -158,23 +173,25 @@ public class PositionServiceImpl implements PositionService {
                     .orElseThrow(() -> new ResourceNotFoundException(message, id));
             existing.setTitle(position.getTitle());
             existing.setBaseSalary(position.getBaseSalary());
-            return positionRepository.save(existing);
-        });
+            Position saved = positionRepository.save(existing);
+            referenceDataCache.evictPosition(saved.getId());
+            return saved;
+        }).subscribeOn(jdbcScheduler);
     }
 
     @Override
     public Mono<Boolean> existsById(Long id) {
-        return Mono.fromCallable(() -> positionRepository.existsById(id));
+        return Mono.fromCallable(() -> positionRepository.existsById(id)).subscribeOn(jdbcScheduler);
     }
 
     @Override
     public Mono<Boolean> existsByTitle(String title) {
-        return Mono.fromCallable(() -> positionRepository.existsByTitle(title));
+        return Mono.fromCallable(() -> positionRepository.existsByTitle(title)).subscribeOn(jdbcScheduler);
     }
 
     @Override
     public Flux<Position> findByBaseSalaryGreaterThanEqual(BigDecimal salary) {
-        return Flux.defer(() -> Flux.fromIterable(positionRepository.findByBaseSalaryGreaterThanEqual(salary)));
+        return Flux.defer(() -> Flux.fromIterable(positionRepository.findByBaseSalaryGreaterThanEqual(salary))).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -182,6 +199,6 @@ public class PositionServiceImpl implements PositionService {
         return Mono.fromCallable(() ->
                 positionRepository.findByTitle(title)
                         .orElseThrow(() -> new ResourceNotFoundException(message, title))
-        );
+        ).subscribeOn(jdbcScheduler);
     }
 }
@@ -11,6 +11,7 @@ import com.neg.technology.human.resource.utility.Logger;
 import com.neg.technology.human.resource.utility.module.entity.request.NameRequest;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.util.List;
 
@@ -19,9 +20,11 @@ public class ProjectServiceImpl implements ProjectService {
 
     private static final String MESSAGE = "Project";
     private final ProjectRepository projectRepository;
+    private final Scheduler jdbcScheduler;
 
-    public ProjectServiceImpl(ProjectRepository projectRepository) {
+    public ProjectServiceImpl(ProjectRepository projectRepository, Scheduler jdbcScheduler) {
         this.projectRepository = projectRepository;
+        this.jdbcScheduler = jdbcScheduler;
     }
 
     @Override
@@ -33,7 +36,7 @@ public class ProjectServiceImpl implements ProjectService {
                                 .map(ProjectMapper::toDTO)
                                 .toList()
                 )
-        );
+        ).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -42,7 +45,7 @@ public class ProjectServiceImpl implements ProjectService {
                 projectRepository.findById(request.getProjectId())
                         .map(ProjectMapper::toDTO)
                         .orElseThrow(() -> new ResourceNotFoundException(MESSAGE, request.getProjectId()))
-        );
+        ).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -51,7 +54,7 @@ public class ProjectServiceImpl implements ProjectService {
                 projectRepository.findByName(request.getName())
                         .map(ProjectMapper::toDTO)
                         .orElseThrow(() -> new ResourceNotFoundException(MESSAGE, request.getName()))
-        );
+        ).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -61,7 +64,7 @@ public class ProjectServiceImpl implements ProjectService {
             Project saved = projectRepository.save(entity);
             Logger.logCreated(Project.class, saved.getId(), saved.getName());
             return ProjectMapper.toDTO(saved);
-        });
+        }).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -75,7 +78,7 @@ public class ProjectServiceImpl implements ProjectService {
             Logger.logUpdated(Project.class, updated.getId(), updated.getName());
 
             return ProjectMapper.toDTO(updated);
-        });
+        }).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -86,12 +89,12 @@ public class ProjectServiceImpl implements ProjectService {
             }
             projectRepository.deleteById(request.getProjectId());
             Logger.logDeleted(Project.class, request.getProjectId());
-        });
+        }).subscribeOn(jdbcScheduler).then();
     }
 
     @Override
     public Mono<Boolean> existsByName(NameRequest request) {
-        return Mono.fromCallable(() -> projectRepository.existsByName(request.getName()));
+        return Mono.fromCallable(() -> projectRepository.existsByName(request.getName())).subscribeOn(jdbcScheduler);
     }
 
     // Helpers
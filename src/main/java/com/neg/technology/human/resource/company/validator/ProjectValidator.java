@@ -6,14 +6,17 @@ import com.neg.technology.human.resource.company.repository.ProjectRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 @Service
 public class ProjectValidator {
 
     private final ProjectRepository projectRepository;
+    private final Scheduler jdbcScheduler;
 
-    public ProjectValidator(ProjectRepository projectRepository) {
+    public ProjectValidator(ProjectRepository projectRepository, Scheduler jdbcScheduler) {
         this.projectRepository = projectRepository;
+        this.jdbcScheduler = jdbcScheduler;
     }
 
     public Mono<Void> validateCreate(CreateProjectRequest dto) {
@@ -30,7 +33,8 @@ public class ProjectValidator {
                     }
                     return Mono.empty();
                 }))
-                .then();
+                .then()
+                .subscribeOn(jdbcScheduler);
     }
 
     public Mono<Void> validateUpdate(UpdateProjectRequest dto, Long id) {
@@ -50,6 +54,7 @@ public class ProjectValidator {
                             })
                             .orElse(Mono.empty());
                 }))
-                .then();
+                .then()
+                .subscribeOn(jdbcScheduler);
     }
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.neg.technology.human.resource.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Active only when {@code hr.persistence.mode=r2dbc}. The default mode ({@code jpa}) keeps
+ * every read on the blocking JPA repositories.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@ConditionalOnProperty(name = "hr.persistence.mode", havingValue = "r2dbc")
+public @interface ConditionalOnR2dbcMode {
+}
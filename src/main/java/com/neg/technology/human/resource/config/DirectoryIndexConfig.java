@@ -0,0 +1,22 @@
+package com.neg.technology.human.resource.config;
+
+import com.neg.technology.human.resource.person.repository.PersonSearchRepository;
+import com.neg.technology.human.resource.person.service.DirectoryIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+
+@Configuration
+@EnableConfigurationProperties(DirectoryIndexProperties.class)
+public class DirectoryIndexConfig {
+
+    @Bean(destroyMethod = "stop")
+    public DirectoryIndex directoryIndex(PersonSearchRepository personSearchRepository,
+                                         DirectoryIndexProperties properties,
+                                         Scheduler jdbcScheduler,
+                                         MeterRegistry meterRegistry) {
+        return new DirectoryIndex(personSearchRepository, properties, jdbcScheduler, meterRegistry);
+    }
+}
@@ -0,0 +1,31 @@
+package com.neg.technology.human.resource.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "hr.directory-index")
+public class DirectoryIndexProperties {
+
+    /**
+     * Serve person typeahead from an in-memory prefix index instead of the database. A million persons
+     * with registration numbers take about 250 MB of heap and ten seconds to build on one core
+     * (DirectoryPrefixIndexBenchmark).
+     */
+    private boolean enabled = false;
+
+    /**
+     * How often the index is rebuilt from the database, picking up changes made by other nodes, the
+     * employee import or directly in the database; 0 disables the refresh.
+     */
+    private Duration refreshInterval = Duration.ofMinutes(10);
+
+    /**
+     * Local changes kept in the overlay before the arrays are rebuilt in memory.
+     */
+    private int maxPendingChanges = 1000;
+}
@@ -0,0 +1,31 @@
+package com.neg.technology.human.resource.config;
+
+import com.neg.technology.human.resource.employee.repository.EmployeeRepository;
+import com.neg.technology.human.resource.employee.service.impl.EmployeeImportEngine;
+import com.neg.technology.human.resource.employee.service.impl.OrgGraphIndex;
+import com.neg.technology.human.resource.person.repository.PersonRepository;
+import com.neg.technology.human.resource.utility.ReferenceDataCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import reactor.core.scheduler.Scheduler;
+
+@Configuration
+@EnableConfigurationProperties(EmployeeImportProperties.class)
+public class EmployeeImportConfig {
+
+    @Bean
+    public EmployeeImportEngine employeeImportEngine(PersonRepository personRepository,
+                                                     EmployeeRepository employeeRepository,
+                                                     ReferenceDataCache referenceDataCache,
+                                                     OrgGraphIndex orgGraphIndex,
+                                                     PlatformTransactionManager transactionManager,
+                                                     EmployeeImportProperties properties,
+                                                     Scheduler jdbcScheduler,
+                                                     MeterRegistry meterRegistry) {
+        return new EmployeeImportEngine(personRepository, employeeRepository, referenceDataCache, orgGraphIndex,
+                transactionManager, properties, jdbcScheduler, meterRegistry);
+    }
+}
@@ -0,0 +1,21 @@
+package com.neg.technology.human.resource.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "hr.employee-import")
+public class EmployeeImportProperties {
+
+    /**
+     * Rows validated and inserted in one transaction. References are prefetched once per chunk.
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Chunks imported at the same time. Each holds a JDBC connection, so keep it below the pool size.
+     */
+    private int parallelism = 4;
+}
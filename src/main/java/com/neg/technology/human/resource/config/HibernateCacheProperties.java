@@ -0,0 +1,26 @@
+package com.neg.technology.human.resource.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "hr.hibernate-cache")
+public class HibernateCacheProperties {
+
+    /**
+     * Hibernate second-level and query cache for the entities marked @Cache.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Collect Hibernate statistics; published as hibernate.* metrics (cache hit ratios, query counts).
+     */
+    private boolean statistics = true;
+
+    /**
+     * Caffeine JCache configuration (classpath resource) with one block per cache region.
+     */
+    private String config = "hibernate-jcache.conf";
+}
@@ -0,0 +1,22 @@
+package com.neg.technology.human.resource.config;
+
+import com.neg.technology.human.resource.leave.repository.HolidayRepository;
+import com.neg.technology.human.resource.leave.service.impl.HolidayCalendarEngine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+
+@Configuration
+@EnableConfigurationProperties(HolidayCalendarProperties.class)
+public class HolidayCalendarConfig {
+
+    @Bean(destroyMethod = "stop")
+    public HolidayCalendarEngine holidayCalendarEngine(HolidayRepository holidayRepository,
+                                                       HolidayCalendarProperties properties,
+                                                       Scheduler jdbcScheduler,
+                                                       MeterRegistry meterRegistry) {
+        return new HolidayCalendarEngine(holidayRepository, properties, jdbcScheduler, meterRegistry);
+    }
+}
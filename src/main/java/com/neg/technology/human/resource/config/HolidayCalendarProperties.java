@@ -0,0 +1,24 @@
+package com.neg.technology.human.resource.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "hr.holiday-calendar")
+public class HolidayCalendarProperties {
+
+    /**
+     * Country whose rows of holiday_calendar apply (ISO 3166-1 alpha-2).
+     */
+    private String country = "TR";
+
+    /**
+     * How often holiday_calendar is reloaded so that edits apply without a redeploy; 0 reloads only on
+     * demand.
+     */
+    private Duration refreshInterval = Duration.ofHours(1);
+}
@@ -0,0 +1,29 @@
+package com.neg.technology.human.resource.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JDBC batching for flushes that write many rows of the same entity, such as a bulk leave approval
+ * updating dozens of balances or an import inserting thousands. Inserts and updates are ordered by entity
+ * so that consecutive statements share one batch; versioned entities (LeaveBalance) are batched too, the
+ * driver reports per-row update counts. Inserts only batch because ids come from pooled sequences
+ * (allocationSize 50 on every entity) rather than IDENTITY columns. Values set under spring.jpa.properties win.
+ */
+@Configuration
+@EnableConfigurationProperties(JdbcBatchProperties.class)
+public class JdbcBatchConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer(JdbcBatchProperties properties) {
+        return hibernateProperties -> {
+            hibernateProperties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, properties.getSize());
+            hibernateProperties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            hibernateProperties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+            hibernateProperties.putIfAbsent(AvailableSettings.BATCH_VERSIONED_DATA, true);
+        };
+    }
+}
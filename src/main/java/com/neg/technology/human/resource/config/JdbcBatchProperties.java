@@ -0,0 +1,16 @@
+package com.neg.technology.human.resource.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "hr.jdbc-batch")
+public class JdbcBatchProperties {
+
+    /**
+     * Statements Hibernate sends to the driver in one JDBC batch at flush; 0 or 1 disables batching.
+     */
+    private int size = 50;
+}
@@ -0,0 +1,37 @@
+package com.neg.technology.human.resource.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import reactor.core.scheduler.Scheduler;
+
+@Configuration
+@EnableConfigurationProperties(JdbcSchedulerProperties.class)
+public class JdbcSchedulerConfig {
+
+    // HikariCP default when spring.datasource.hikari.maximum-pool-size is not set
+    private static final int DEFAULT_HIKARI_POOL_SIZE = 10;
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler jdbcScheduler(JdbcSchedulerProperties properties,
+                                   Environment environment,
+                                   MeterRegistry meterRegistry) {
+        int poolSize = properties.getPoolSize() != null
+                ? properties.getPoolSize()
+                : environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, DEFAULT_HIKARI_POOL_SIZE);
+        if (properties.isVirtualThreads()) {
+            return JdbcSchedulerFactory.createVirtual(poolSize + properties.getQueueCapacity(), meterRegistry);
+        }
+        return JdbcSchedulerFactory.create(poolSize, properties.getQueueCapacity(), meterRegistry);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnExpression("${hr.jdbc-scheduler.virtual-threads:false} and ${hr.jdbc-scheduler.pinning.enabled:true}")
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(JdbcSchedulerProperties properties,
+                                                                   MeterRegistry meterRegistry) {
+        return VirtualThreadPinningMonitor.start(properties.getPinning().getThreshold(), meterRegistry);
+    }
+}
@@ -0,0 +1,92 @@
+package com.neg.technology.human.resource.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Builds the scheduler every blocking JPA call is offloaded to. Workers are plain
+ * (blocking-allowed) threads, the pool is sized to the connection pool and the
+ * queue is bounded so a slow database surfaces as rejections instead of unbounded
+ * latency.
+ */
+public final class JdbcSchedulerFactory {
+
+    public static final String NAME = "jdbc";
+
+    private JdbcSchedulerFactory() {}
+
+    public static Scheduler create(int poolSize, int queueCapacity, MeterRegistry meterRegistry) {
+        if (poolSize < 1) {
+            throw new IllegalArgumentException("JDBC scheduler pool size must be positive: " + poolSize);
+        }
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("JDBC scheduler queue capacity must be positive: " + queueCapacity);
+        }
+
+        Counter rejected = rejectedCounter(meterRegistry);
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory(),
+                (task, pool) -> {
+                    rejected.increment();
+                    throw new RejectedExecutionException(
+                            "JDBC scheduler is saturated (" + poolSize + " workers, " + queueCapacity + " queued)");
+                });
+        executor.allowCoreThreadTimeOut(true);
+
+        new ExecutorServiceMetrics(executor, "jdbc-scheduler", Tags.empty()).bindTo(meterRegistry);
+
+        return Schedulers.fromExecutorService(executor, NAME);
+    }
+
+    /**
+     * Virtual-thread variant: one virtual thread per call, at most {@code maxInFlight} calls
+     * admitted at once. Blocking inside the JDBC driver parks the virtual thread instead of
+     * holding a carrier thread.
+     */
+    public static Scheduler createVirtual(int maxInFlight, MeterRegistry meterRegistry) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("JDBC scheduler max in-flight calls must be positive: " + maxInFlight);
+        }
+
+        Counter rejected = rejectedCounter(meterRegistry);
+        VirtualThreadJdbcExecutor executor = new VirtualThreadJdbcExecutor(NAME + "-vt-", maxInFlight, rejected::increment);
+
+        Gauge.builder("hr.jdbc.scheduler.in-flight", executor, VirtualThreadJdbcExecutor::inFlight)
+                .description("Repository calls currently running on virtual threads")
+                .register(meterRegistry);
+
+        return Schedulers.fromExecutorService(executor, NAME);
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry) {
+        return Counter.builder("hr.jdbc.scheduler.rejected")
+                .description("Repository calls rejected because the JDBC scheduler queue was full")
+                .register(meterRegistry);
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, NAME + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
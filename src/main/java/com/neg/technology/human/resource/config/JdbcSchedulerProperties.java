@@ -0,0 +1,51 @@
+package com.neg.technology.human.resource.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "hr.jdbc-scheduler")
+public class JdbcSchedulerProperties {
+
+    /**
+     * Number of worker threads. Defaults to spring.datasource.hikari.maximum-pool-size
+     * so that every worker can hold a connection and no worker waits on the pool.
+     */
+    private Integer poolSize;
+
+    /**
+     * Maximum number of repository calls waiting for a free worker. Calls beyond this
+     * limit are rejected instead of queueing without bound.
+     */
+    private int queueCapacity = 1000;
+
+    /**
+     * Run repository calls on virtual threads (one per call) instead of the fixed platform
+     * pool. At most pool-size + queue-capacity calls are admitted at once.
+     */
+    private boolean virtualThreads = false;
+
+    /**
+     * Pinning diagnostics, only used together with virtual-threads.
+     */
+    private Pinning pinning = new Pinning();
+
+    @Getter
+    @Setter
+    public static class Pinning {
+
+        /**
+         * Stream jdk.VirtualThreadPinned JFR events into the log and metrics.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Pins shorter than this are ignored.
+         */
+        private Duration threshold = Duration.ofMillis(20);
+    }
+}
@@ -0,0 +1,33 @@
+package com.neg.technology.human.resource.config;
+
+import com.neg.technology.human.resource.employee.repository.EmployeeRepository;
+import com.neg.technology.human.resource.leave.repository.LeaveAccrualRunRepository;
+import com.neg.technology.human.resource.leave.repository.LeaveBalanceRepository;
+import com.neg.technology.human.resource.leave.repository.LeaveLedgerRepository;
+import com.neg.technology.human.resource.leave.repository.LeaveTypeRepository;
+import com.neg.technology.human.resource.leave.service.impl.LeaveAccrualJob;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import reactor.core.scheduler.Scheduler;
+
+@Configuration
+@EnableConfigurationProperties(LeaveAccrualProperties.class)
+public class LeaveAccrualConfig {
+
+    @Bean(destroyMethod = "stop")
+    public LeaveAccrualJob leaveAccrualJob(LeaveAccrualRunRepository leaveAccrualRunRepository,
+                                           EmployeeRepository employeeRepository,
+                                           LeaveBalanceRepository leaveBalanceRepository,
+                                           LeaveLedgerRepository leaveLedgerRepository,
+                                           LeaveTypeRepository leaveTypeRepository,
+                                           PlatformTransactionManager transactionManager,
+                                           LeaveAccrualProperties properties,
+                                           Scheduler jdbcScheduler,
+                                           MeterRegistry meterRegistry) {
+        return new LeaveAccrualJob(leaveAccrualRunRepository, employeeRepository, leaveBalanceRepository,
+                leaveLedgerRepository, leaveTypeRepository, transactionManager, properties, jdbcScheduler, meterRegistry);
+    }
+}
@@ -0,0 +1,33 @@
+package com.neg.technology.human.resource.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "hr.leave-accrual")
+public class LeaveAccrualProperties {
+
+    /**
+     * Employees read, accrued and committed together; also the unit of the checkpoint.
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * Chunks accrued at the same time. Each holds a JDBC connection, so keep it below the pool size.
+     */
+    private int parallelism = 4;
+
+    /**
+     * A RUNNING run without a heartbeat for this long is considered dead and may be restarted.
+     */
+    private Duration staleAfter = Duration.ofMinutes(10);
+
+    /**
+     * How often a running job writes its heartbeat, whether or not a chunk finished; well below staleAfter.
+     */
+    private Duration heartbeatInterval = Duration.ofMinutes(1);
+}
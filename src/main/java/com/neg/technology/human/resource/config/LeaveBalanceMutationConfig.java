@@ -0,0 +1,18 @@
+package com.neg.technology.human.resource.config;
+
+import com.neg.technology.human.resource.leave.service.impl.LeaveBalanceMutationGuard;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(LeaveBalanceMutationProperties.class)
+public class LeaveBalanceMutationConfig {
+
+    @Bean
+    public LeaveBalanceMutationGuard leaveBalanceMutationGuard(LeaveBalanceMutationProperties properties,
+                                                               MeterRegistry meterRegistry) {
+        return new LeaveBalanceMutationGuard(properties, meterRegistry);
+    }
+}
@@ -0,0 +1,26 @@
+package com.neg.technology.human.resource.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "hr.leave-balance.mutation")
+public class LeaveBalanceMutationProperties {
+
+    /**
+     * How many times a balance mutation is retried after an optimistic lock conflict,
+     * i.e. after another node changed the same balance rows concurrently.
+     */
+    private int maxRetries = 3;
+
+    /**
+     * First retry delay; doubles on every attempt (with jitter) up to max-backoff.
+     */
+    private Duration minBackoff = Duration.ofMillis(20);
+
+    private Duration maxBackoff = Duration.ofMillis(500);
+}
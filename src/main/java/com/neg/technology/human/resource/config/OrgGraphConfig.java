@@ -0,0 +1,22 @@
+package com.neg.technology.human.resource.config;
+
+import com.neg.technology.human.resource.employee.repository.OrgChartRepository;
+import com.neg.technology.human.resource.employee.service.impl.OrgGraphIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+
+@Configuration
+@EnableConfigurationProperties(OrgGraphProperties.class)
+public class OrgGraphConfig {
+
+    @Bean(destroyMethod = "stop")
+    public OrgGraphIndex orgGraphIndex(OrgChartRepository orgChartRepository,
+                                       OrgGraphProperties properties,
+                                       Scheduler jdbcScheduler,
+                                       MeterRegistry meterRegistry) {
+        return new OrgGraphIndex(orgChartRepository, properties, jdbcScheduler, meterRegistry);
+    }
+}
@@ -0,0 +1,19 @@
+package com.neg.technology.human.resource.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "hr.org-graph")
+public class OrgGraphProperties {
+
+    /**
+     * How often the in-memory org graph is compared with the employee table and replaced when another
+     * node or a direct database change moved a manager; 0 disables the check.
+     */
+    private Duration checkInterval = Duration.ofMinutes(5);
+}
@@ -0,0 +1,30 @@
+package com.neg.technology.human.resource.config;
+
+import com.neg.technology.human.resource.person.repository.PersonSearchRepository;
+import com.neg.technology.human.resource.person.service.DirectoryIndex;
+import com.neg.technology.human.resource.person.service.DirectoryIndexSearchService;
+import com.neg.technology.human.resource.person.service.PersonSearchService;
+import com.neg.technology.human.resource.person.service.PersonSearchServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+
+@Configuration
+@EnableConfigurationProperties(PersonSearchProperties.class)
+public class PersonSearchConfig {
+
+    // hr.directory-index.enabled ise typeahead veritabanına hiç gitmez
+    @Bean
+    public PersonSearchService personSearchService(PersonSearchRepository personSearchRepository,
+                                                   DirectoryIndex directoryIndex,
+                                                   PersonSearchProperties properties,
+                                                   Scheduler jdbcScheduler,
+                                                   MeterRegistry meterRegistry) {
+        if (directoryIndex.isEnabled()) {
+            return new DirectoryIndexSearchService(directoryIndex, properties, meterRegistry);
+        }
+        return new PersonSearchServiceImpl(personSearchRepository, properties, jdbcScheduler, meterRegistry);
+    }
+}
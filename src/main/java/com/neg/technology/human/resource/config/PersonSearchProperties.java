@@ -0,0 +1,27 @@
+package com.neg.technology.human.resource.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "hr.person-search")
+public class PersonSearchProperties {
+
+    /**
+     * Results returned when the request does not ask for a limit.
+     */
+    private int defaultLimit = 10;
+
+    /**
+     * Upper bound for the requested limit. Every match is ranked before the limit applies, so this
+     * bounds the response, not the work.
+     */
+    private int maxLimit = 50;
+
+    /**
+     * Shorter queries return nothing. One letter matches a large part of the table.
+     */
+    private int minQueryLength = 2;
+}
@@ -0,0 +1,19 @@
+package com.neg.technology.human.resource.config;
+
+import com.neg.technology.human.resource.utility.PgCopyExporter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.scheduler.Scheduler;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class PgCopyExportConfig {
+
+    @Bean
+    public PgCopyExporter pgCopyExporter(DataSource dataSource, Scheduler jdbcScheduler, MeterRegistry meterRegistry) {
+        return new PgCopyExporter(dataSource, DefaultDataBufferFactory.sharedInstance, jdbcScheduler, meterRegistry);
+    }
+}
@@ -0,0 +1,74 @@
+package com.neg.technology.human.resource.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.util.StringUtils;
+
+/**
+ * Reactive read path used when {@code hr.persistence.mode=r2dbc}.
+ * <p>
+ * The connection pool is deliberately not exposed as a {@code ConnectionFactory} bean:
+ * DataSourceAutoConfiguration backs off when one exists, and the JPA write path still
+ * needs its DataSource.
+ */
+@Configuration
+@ConditionalOnR2dbcMode
+@EnableConfigurationProperties(R2dbcPersistenceProperties.class)
+public class R2dbcPersistenceConfig implements DisposableBean {
+
+    private ConnectionPool connectionPool;
+
+    @Bean
+    public DatabaseClient r2dbcDatabaseClient(R2dbcPersistenceProperties properties, Environment environment) {
+        String url = StringUtils.hasText(properties.getUrl())
+                ? properties.getUrl()
+                : toR2dbcUrl(environment.getRequiredProperty("spring.datasource.url"));
+        String username = StringUtils.hasText(properties.getUsername())
+                ? properties.getUsername()
+                : environment.getProperty("spring.datasource.username");
+        String password = StringUtils.hasText(properties.getPassword())
+                ? properties.getPassword()
+                : environment.getProperty("spring.datasource.password");
+
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (username != null) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (password != null) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+
+        ConnectionPoolConfiguration poolConfiguration = ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(options.build()))
+                .name("hr-r2dbc")
+                .initialSize(properties.getInitialSize())
+                .maxSize(properties.getMaxSize())
+                .maxIdleTime(properties.getMaxIdleTime())
+                .build();
+
+        this.connectionPool = new ConnectionPool(poolConfiguration);
+        return DatabaseClient.create(connectionPool);
+    }
+
+    static String toR2dbcUrl(String jdbcUrl) {
+        if (!jdbcUrl.startsWith("jdbc:")) {
+            throw new IllegalArgumentException("Cannot derive an R2DBC url from " + jdbcUrl + ", set hr.r2dbc.url");
+        }
+        return "r2dbc:" + jdbcUrl.substring("jdbc:".length());
+    }
+
+    @Override
+    public void destroy() {
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.neg.technology.human.resource.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "hr.r2dbc")
+public class R2dbcPersistenceProperties {
+
+    /**
+     * R2DBC connection url, e.g. r2dbc:postgresql://localhost:5432/hr_management.
+     * Derived from spring.datasource.url when not set.
+     */
+    private String url;
+
+    /**
+     * Defaults to spring.datasource.username.
+     */
+    private String username;
+
+    /**
+     * Defaults to spring.datasource.password.
+     */
+    private String password;
+
+    private int initialSize = 2;
+
+    private int maxSize = 10;
+
+    private Duration maxIdleTime = Duration.ofMinutes(30);
+}
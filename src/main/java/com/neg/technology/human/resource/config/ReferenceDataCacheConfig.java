@@ -0,0 +1,27 @@
+package com.neg.technology.human.resource.config;
+
+import com.neg.technology.human.resource.company.repository.CompanyRepository;
+import com.neg.technology.human.resource.company.repository.PositionRepository;
+import com.neg.technology.human.resource.department.repository.DepartmentRepository;
+import com.neg.technology.human.resource.leave.repository.LeaveTypeRepository;
+import com.neg.technology.human.resource.utility.ReferenceDataCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ReferenceDataCacheProperties.class)
+public class ReferenceDataCacheConfig {
+
+    @Bean
+    public ReferenceDataCache referenceDataCache(LeaveTypeRepository leaveTypeRepository,
+                                                 DepartmentRepository departmentRepository,
+                                                 PositionRepository positionRepository,
+                                                 CompanyRepository companyRepository,
+                                                 ReferenceDataCacheProperties properties,
+                                                 MeterRegistry meterRegistry) {
+        return new ReferenceDataCache(leaveTypeRepository, departmentRepository, positionRepository,
+                companyRepository, properties, meterRegistry);
+    }
+}
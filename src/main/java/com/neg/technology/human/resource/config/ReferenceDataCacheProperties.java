@@ -0,0 +1,24 @@
+package com.neg.technology.human.resource.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "hr.reference-cache")
+public class ReferenceDataCacheProperties {
+
+    /**
+     * Maximum entries kept per reference table (leave types, departments, positions, companies).
+     */
+    private long maximumSize = 1000;
+
+    /**
+     * Entries are reloaded after this long even without an invalidation, which bounds staleness
+     * when another node changed the row.
+     */
+    private Duration ttl = Duration.ofMinutes(10);
+}
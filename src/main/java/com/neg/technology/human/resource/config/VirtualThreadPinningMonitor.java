@@ -0,0 +1,79 @@
+package com.neg.technology.human.resource.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+/**
+ * Streams {@code jdk.VirtualThreadPinned} JFR events while the JDBC scheduler runs on
+ * virtual threads. A pin means a virtual thread blocked inside a synchronized block or a
+ * native frame and held its carrier thread, e.g. a driver or pool code path that still
+ * uses monitors. Each pin is logged with its top frames and recorded in
+ * {@code hr.jdbc.virtual-thread.pinned}.
+ */
+@Slf4j
+public final class VirtualThreadPinningMonitor implements AutoCloseable {
+
+    private static final int LOGGED_FRAMES = 8;
+
+    private final RecordingStream stream;
+
+    private VirtualThreadPinningMonitor(RecordingStream stream) {
+        this.stream = stream;
+    }
+
+    public static VirtualThreadPinningMonitor start(Duration threshold, MeterRegistry meterRegistry) {
+        Timer pinned = Timer.builder("hr.jdbc.virtual-thread.pinned")
+                .description("Time virtual threads spent pinned to their carrier thread")
+                .register(meterRegistry);
+        Counter dropped = Counter.builder("hr.jdbc.virtual-thread.pinned.unattributed")
+                .description("Pinning events recorded without a stack trace")
+                .register(meterRegistry);
+
+        RecordingStream stream = new RecordingStream();
+        stream.enable("jdk.VirtualThreadPinned").withThreshold(threshold).withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", event -> {
+            pinned.record(event.getDuration());
+            RecordedStackTrace stackTrace = event.getStackTrace();
+            if (stackTrace == null) {
+                dropped.increment();
+                return;
+            }
+            log.warn("Virtual thread pinned for {} ms on {}:\n{}",
+                    event.getDuration().toMillis(), threadName(event), topFrames(stackTrace));
+        });
+        stream.startAsync();
+
+        log.info("Virtual thread pinning monitor started (threshold {} ms)", threshold.toMillis());
+        return new VirtualThreadPinningMonitor(stream);
+    }
+
+    private static String threadName(RecordedEvent event) {
+        return event.getThread() != null ? event.getThread().getJavaName() : "unknown";
+    }
+
+    private static String topFrames(RecordedStackTrace stackTrace) {
+        return stackTrace.getFrames().stream()
+                .limit(LOGGED_FRAMES)
+                .map(VirtualThreadPinningMonitor::format)
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String format(RecordedFrame frame) {
+        return "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + "(line " + frame.getLineNumber() + ")";
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+}
@@ -3,9 +3,13 @@ package com.neg.technology.human.resource.department.model.entity;
 import com.neg.technology.human.resource.utility.AuditableEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "department")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "department")
 @Getter
 @Setter
 @AllArgsConstructor
@@ -14,7 +18,8 @@ import lombok.*;
 public class Department extends AuditableEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "department_id_seq")
+    @SequenceGenerator(name = "department_id_seq", sequenceName = "department_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 100)
@@ -10,16 +10,22 @@ import com.neg.technology.human.resource.exception.ResourceNotFoundException;
 import com.neg.technology.human.resource.utility.Logger;
 import com.neg.technology.human.resource.utility.module.entity.request.IdRequest;
 import com.neg.technology.human.resource.utility.module.entity.request.NameRequest;
+import com.neg.technology.human.resource.utility.ReferenceDataCache;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 @Service
 public class DepartmentServiceImpl implements DepartmentService {
     public static final String MESSAGE = "Department";
     private final DepartmentRepository departmentRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final Scheduler jdbcScheduler;
 
-    public DepartmentServiceImpl(DepartmentRepository departmentRepository) {
+    public DepartmentServiceImpl(DepartmentRepository departmentRepository, ReferenceDataCache referenceDataCache, Scheduler jdbcScheduler) {
         this.departmentRepository = departmentRepository;
+        this.referenceDataCache = referenceDataCache;
+        this.jdbcScheduler = jdbcScheduler;
     }
 
     @Override
@@ -32,7 +38,7 @@ public class DepartmentServiceImpl implements DepartmentService {
             Department saved = departmentRepository.save(department);
             Logger.logCreated(Department.class, saved.getId(), saved.getName());
             return toResponse(saved);
-        });
+        }).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -44,9 +50,10 @@ public class DepartmentServiceImpl implements DepartmentService {
             existing.setName(request.getName());
             existing.setLocation(request.getLocation());
             Department updated = departmentRepository.save(existing);
+            referenceDataCache.evictDepartment(updated.getId());
             Logger.logUpdated(Department.class, updated.getId(), updated.getName());
             return toResponse(updated);
-        });
+        }).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -56,16 +63,17 @@ public class DepartmentServiceImpl implements DepartmentService {
                 throw new ResourceNotFoundException(MESSAGE, request.getId());
             }
             departmentRepository.deleteById(request.getId());
+            referenceDataCache.evictDepartment(request.getId());
             Logger.logDeleted(Department.class, request.getId());
-        });
+        }).subscribeOn(jdbcScheduler).then();
     }
 
     @Override
     public Mono<DepartmentResponse> getDepartmentById(IdRequest request) {
         return Mono.fromCallable(() ->
-                departmentRepository.findById(request.getId())
+                referenceDataCache.findDepartment(request.getId())
                         .orElseThrow(() -> new ResourceNotFoundException(MESSAGE, request.getId()))
-        ).map(this::toResponse);
+        ).map(this::toResponse).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -73,14 +81,14 @@ public class DepartmentServiceImpl implements DepartmentService {
         return Mono.fromCallable(() ->
                 departmentRepository.findByName(request.getName())
                         .orElseThrow(() -> new ResourceNotFoundException(MESSAGE, request.getName()))
-        ).map(this::toResponse);
+        ).map(this::toResponse).subscribeOn(jdbcScheduler);
     }
 
     @Override
     public Mono<Boolean> existsByName(NameRequest request) {
         return Mono.fromCallable(() ->
                 departmentRepository.existsByName(request.getName())
-        );
+        ).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -92,7 +100,7 @@ public class DepartmentServiceImpl implements DepartmentService {
                                 .map(this::toResponse)
                                 .toList()
                 )
-        );
+        ).subscribeOn(jdbcScheduler);
     }
 
     // ----------------- UTILITY -----------------
@@ -6,14 +6,17 @@ import com.neg.technology.human.resource.department.repository.DepartmentReposit
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 @Service
 public class DepartmentValidator {
 
     private final DepartmentRepository departmentRepository;
+    private final Scheduler jdbcScheduler;
 
-    public DepartmentValidator(DepartmentRepository departmentRepository) {
+    public DepartmentValidator(DepartmentRepository departmentRepository, Scheduler jdbcScheduler) {
         this.departmentRepository = departmentRepository;
+        this.jdbcScheduler = jdbcScheduler;
     }
 
     public Mono<Void> validateCreate(CreateDepartmentRequest dto) {
@@ -30,7 +33,8 @@ public class DepartmentValidator {
                     }
                     return Mono.empty();
                 }))
-                .then();
+                .then()
+                .subscribeOn(jdbcScheduler);
     }
 
     public Mono<Void> validateUpdate(UpdateDepartmentRequest dto) {
@@ -50,6 +54,7 @@ public class DepartmentValidator {
                             })
                             .orElse(Mono.empty());
                 }))
-                .then();
+                .then()
+                .subscribeOn(jdbcScheduler);
     }
 }
\ No newline at end of file
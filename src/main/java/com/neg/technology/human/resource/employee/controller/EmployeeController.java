@@ -7,18 +7,28 @@ import com.neg.technology.human.resource.company.model.request.PositionIdRequest
 import com.neg.technology.human.resource.utility.module.entity.request.DateRequest;
 import com.neg.technology.human.resource.utility.module.entity.request.IdRequest;
 import com.neg.technology.human.resource.employee.model.request.UpdateEmployeeRequest;
+import com.neg.technology.human.resource.employee.model.response.EmployeeImportResponse;
 import com.neg.technology.human.resource.employee.model.response.EmployeeResponse;
 import com.neg.technology.human.resource.employee.model.response.EmployeeListResponse;
 import com.neg.technology.human.resource.employee.service.EmployeeService;
+import com.neg.technology.human.resource.employee.service.impl.EmployeeImportEngine;
 import com.neg.technology.human.resource.employee.validator.EmployeeValidator;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.StringDecoder;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.multipart.FilePart;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 @RestController
 @RequestMapping("/api/employees")
@@ -26,15 +36,20 @@ import reactor.core.publisher.Mono;
 @Tag(name = "Employee Controller", description = "Operations related to employee management")
 public class EmployeeController {
 
+    // Dosyayı satır satır çözer; satır başına en fazla 256 KB tamponlanır
+    private static final StringDecoder LINE_DECODER = StringDecoder.allMimeTypes();
+
     private final EmployeeService employeeService;
     private final EmployeeValidator employeeValidator;
+    private final Scheduler jdbcScheduler;
 
     @Operation(summary = "Create new employee")
     @ApiResponse(responseCode = "200", description = "Employee created successfully")
     @PostMapping("/create")
     public Mono<ResponseEntity<EmployeeResponse>> createEmployee(@Valid @RequestBody CreateEmployeeRequest request) {
-        employeeValidator.validateCreateDTO(request);
-        return employeeService.createEmployee(request)
+        return Mono.fromRunnable(() -> employeeValidator.validateCreateDTO(request))
+                .subscribeOn(jdbcScheduler)
+                .then(employeeService.createEmployee(request))
                 .map(ResponseEntity::ok);
     }
 
@@ -42,11 +57,37 @@ public class EmployeeController {
     @ApiResponse(responseCode = "200", description = "Employee updated successfully")
     @PostMapping("/update")
     public Mono<ResponseEntity<EmployeeResponse>> updateEmployee(@Valid @RequestBody UpdateEmployeeRequest request) {
-        employeeValidator.validateUpdateDTO(request);
-        return employeeService.updateEmployee(request)
+        return Mono.fromRunnable(() -> employeeValidator.validateUpdateDTO(request))
+                .subscribeOn(jdbcScheduler)
+                .then(employeeService.updateEmployee(request))
                 .map(ResponseEntity::ok);
     }
 
+    @Operation(summary = "Import employees from CSV",
+            description = "Creates a person and an employee per row of a CSV file read as it is uploaded; rows that fail are reported and skipped")
+    @ApiResponse(responseCode = "200", description = "File processed; see failed and errors for rejected rows")
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public Mono<ResponseEntity<EmployeeImportResponse>> importEmployees(@RequestPart("file") FilePart file) {
+        return employeeService.importEmployees(lines(file))
+                .map(ResponseEntity::ok);
+    }
+
+    @Operation(summary = "Import employees from CSV and return the rejected rows",
+            description = "Same import as /import; the response is a CSV of the rejected rows, with counts in X-Import-* headers")
+    @ApiResponse(responseCode = "200", description = "File processed; body lists the rejected rows")
+    @PostMapping(value = "/importWithErrorFile", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = "text/csv")
+    public Mono<ResponseEntity<String>> importEmployeesWithErrorFile(@RequestPart("file") FilePart file) {
+        return employeeService.importEmployees(lines(file))
+                .map(response -> ResponseEntity.ok()
+                        .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                                .filename("employee-import-errors.csv").build().toString())
+                        .header("X-Import-Total", String.valueOf(response.getTotalRows()))
+                        .header("X-Import-Imported", String.valueOf(response.getImported()))
+                        .header("X-Import-Failed", String.valueOf(response.getFailed()))
+                        .header("X-Import-Elapsed-Millis", String.valueOf(response.getElapsedMillis()))
+                        .body(EmployeeImportEngine.errorFile(response.getErrors())));
+    }
+
     @Operation(summary = "Get employee by ID")
     @ApiResponse(responseCode = "200", description = "Employee found")
     @PostMapping("/getById")
@@ -63,6 +104,13 @@ public class EmployeeController {
                 .map(ResponseEntity::ok);
     }
 
+    @Operation(summary = "Stream all employees", description = "Streams employees as newline-delimited JSON without loading the whole table")
+    @ApiResponse(responseCode = "200", description = "Employees streamed successfully")
+    @PostMapping(value = "/streamAll", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<EmployeeResponse> streamAllEmployees() {
+        return employeeService.streamAllEmployees();
+    }
+
     @Operation(summary = "Delete employee by ID")
     @ApiResponse(responseCode = "204", description = "Employee deleted successfully")
     @PostMapping("/delete")
@@ -126,4 +174,8 @@ public class EmployeeController {
         return employeeService.getEmployeesEmploymentEndedBefore(request)
                 .map(ResponseEntity::ok);
     }
-}
\ No newline at end of file
+
+    private static Flux<String> lines(FilePart file) {
+        return LINE_DECODER.decode(file.content(), ResolvableType.forClass(String.class), null, null);
+    }
+}
@@ -0,0 +1,69 @@
+package com.neg.technology.human.resource.employee.controller;
+
+import com.neg.technology.human.resource.employee.model.request.ApproverRequest;
+import com.neg.technology.human.resource.employee.model.response.ApproverResponse;
+import com.neg.technology.human.resource.employee.model.response.HeadcountResponse;
+import com.neg.technology.human.resource.employee.model.response.OrgChartResponse;
+import com.neg.technology.human.resource.employee.model.response.SpanOfControlResponse;
+import com.neg.technology.human.resource.employee.service.OrgChartService;
+import com.neg.technology.human.resource.utility.module.entity.request.IdRequest;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/employees/org")
+@RequiredArgsConstructor
+@Tag(name = "Employee Org Chart Controller", description = "Reporting hierarchy of employees")
+public class EmployeeOrgChartController {
+
+    private final OrgChartService orgChartService;
+
+    @Operation(summary = "Get reporting subtree", description = "Employee and everyone reporting to them directly or indirectly, in depth-first order")
+    @ApiResponse(responseCode = "200", description = "Subtree retrieved successfully")
+    @PostMapping("/getSubtree")
+    public Mono<ResponseEntity<OrgChartResponse>> getSubtree(@Valid @RequestBody IdRequest request) {
+        return orgChartService.getSubtree(request)
+                .map(ResponseEntity::ok);
+    }
+
+    @Operation(summary = "Get chain of command", description = "Employee followed by their managers up to the top of the hierarchy")
+    @ApiResponse(responseCode = "200", description = "Chain of command retrieved successfully")
+    @PostMapping("/getChainOfCommand")
+    public Mono<ResponseEntity<OrgChartResponse>> getChainOfCommand(@Valid @RequestBody IdRequest request) {
+        return orgChartService.getChainOfCommand(request)
+                .map(ResponseEntity::ok);
+    }
+
+    @Operation(summary = "Get span of control", description = "Direct and total report counts and depth of the employee's subtree")
+    @ApiResponse(responseCode = "200", description = "Span of control retrieved successfully")
+    @PostMapping("/getSpanOfControl")
+    public Mono<ResponseEntity<SpanOfControlResponse>> getSpanOfControl(@Valid @RequestBody IdRequest request) {
+        return orgChartService.getSpanOfControl(request)
+                .map(ResponseEntity::ok);
+    }
+
+    @Operation(summary = "Get headcount", description = "Manager, depth, direct reports and subtree headcount from the in-memory org graph")
+    @ApiResponse(responseCode = "200", description = "Headcount retrieved successfully")
+    @PostMapping("/getHeadcount")
+    public Mono<ResponseEntity<HeadcountResponse>> getHeadcount(@Valid @RequestBody IdRequest request) {
+        return orgChartService.getHeadcount(request)
+                .map(ResponseEntity::ok);
+    }
+
+    @Operation(summary = "Check approver", description = "Whether the approver is above the employee in the chain of command")
+    @ApiResponse(responseCode = "200", description = "Approver checked successfully")
+    @PostMapping("/canApprove")
+    public Mono<ResponseEntity<ApproverResponse>> canApprove(@Valid @RequestBody ApproverRequest request) {
+        return orgChartService.canApprove(request)
+                .map(ResponseEntity::ok);
+    }
+}
@@ -15,6 +15,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 @RestController
 @RequestMapping("/api/employee-projects")
@@ -24,13 +25,15 @@ public class EmployeeProjectController {
 
     private final EmployeeProjectService employeeProjectService;
     private final EmployeeProjectValidator employeeProjectValidator;
+    private final Scheduler jdbcScheduler;
 
     @Operation(summary = "Create a new employee project")
     @ApiResponse(responseCode = "200", description = "Employee project created successfully")
     @PostMapping("/create")
     public Mono<ResponseEntity<EmployeeProjectResponse>> create(@Valid @RequestBody CreateEmployeeProjectRequest request) {
-        employeeProjectValidator.validateCreateDTO(request);
-        return employeeProjectService.createEmployeeProject(request)
+        return Mono.fromRunnable(() -> employeeProjectValidator.validateCreateDTO(request))
+                .subscribeOn(jdbcScheduler)
+                .then(employeeProjectService.createEmployeeProject(request))
                 .map(ResponseEntity::ok);
     }
 
@@ -38,8 +41,9 @@ public class EmployeeProjectController {
     @ApiResponse(responseCode = "200", description = "Employee project updated successfully")
     @PostMapping("/update")
     public Mono<ResponseEntity<EmployeeProjectResponse>> update(@Valid @RequestBody UpdateEmployeeProjectRequest request) {
-        employeeProjectValidator.validateUpdateDTO(request.getId(), request);
-        return employeeProjectService.updateEmployeeProject(request)
+        return Mono.fromRunnable(() -> employeeProjectValidator.validateUpdateDTO(request.getId(), request))
+                .subscribeOn(jdbcScheduler)
+                .then(employeeProjectService.updateEmployeeProject(request))
                 .map(ResponseEntity::ok);
     }
 
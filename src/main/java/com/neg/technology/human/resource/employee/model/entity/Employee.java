@@ -7,11 +7,15 @@ import com.neg.technology.human.resource.company.model.entity.Position;
 import com.neg.technology.human.resource.utility.*;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "employee")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "employee")
 @Getter
 @Setter
 @AllArgsConstructor
@@ -20,7 +24,8 @@ import java.time.LocalDateTime;
 public class Employee extends AuditableEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employee_id_seq")
+    @SequenceGenerator(name = "employee_id_seq", sequenceName = "employee_id_seq", allocationSize = 50)
     private Long id;
 
     @OneToOne
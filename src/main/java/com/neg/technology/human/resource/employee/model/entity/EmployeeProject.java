@@ -15,7 +15,8 @@ import lombok.*;
 public class EmployeeProject extends AuditableEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employee_project_id_seq")
+    @SequenceGenerator(name = "employee_project_id_seq", sequenceName = "employee_project_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -0,0 +1,55 @@
+package com.neg.technology.human.resource.employee.model.mapper;
+
+import com.neg.technology.human.resource.employee.model.response.HeadcountResponse;
+import com.neg.technology.human.resource.employee.model.response.OrgChartNodeResponse;
+import com.neg.technology.human.resource.employee.model.response.OrgChartResponse;
+import com.neg.technology.human.resource.employee.model.response.SpanOfControlResponse;
+import com.neg.technology.human.resource.employee.repository.OrgChartRepository;
+import com.neg.technology.human.resource.utility.OrgGraph;
+
+import java.util.List;
+
+public class OrgChartMapper {
+
+    private OrgChartMapper() {}
+
+    public static OrgChartNodeResponse toDTO(OrgChartRepository.NodeRow row) {
+        if (row == null) return null;
+
+        return OrgChartNodeResponse.builder()
+                .id(row.getId())
+                .firstName(row.getFirstName())
+                .lastName(row.getLastName())
+                .positionTitle(row.getPositionTitle())
+                .departmentName(row.getDepartmentName())
+                .managerId(row.getManagerId())
+                .depth(row.getDepth())
+                .build();
+    }
+
+    public static OrgChartResponse toDTO(List<OrgChartRepository.NodeRow> rows) {
+        return new OrgChartResponse(rows.stream()
+                .map(OrgChartMapper::toDTO)
+                .toList());
+    }
+
+    // Kökün kendisi sayılmaz
+    public static SpanOfControlResponse toDTO(Long employeeId, OrgChartRepository.SpanRow row) {
+        return SpanOfControlResponse.builder()
+                .employeeId(employeeId)
+                .directReports(row.getDirectReports())
+                .totalReports(row.getMembers() - 1)
+                .levels(row.getLevels())
+                .build();
+    }
+
+    public static HeadcountResponse toHeadcount(Long employeeId, OrgGraph graph) {
+        return HeadcountResponse.builder()
+                .employeeId(employeeId)
+                .managerId(graph.managerOf(employeeId))
+                .depth(graph.depth(employeeId))
+                .directReports(graph.directReports(employeeId).length)
+                .headcount(graph.headcount(employeeId))
+                .build();
+    }
+}
@@ -0,0 +1,17 @@
+package com.neg.technology.human.resource.employee.model.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ApproverRequest {
+    @NotNull
+    private Long employeeId;
+
+    @NotNull
+    private Long approverId;
+}
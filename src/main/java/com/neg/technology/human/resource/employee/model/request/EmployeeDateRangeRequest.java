@@ -1,5 +1,6 @@
 package com.neg.technology.human.resource.employee.model.request;
 
+import com.neg.technology.human.resource.utility.module.entity.request.KeysetPageRequest;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
@@ -9,7 +10,7 @@ import java.time.LocalDate;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
-public class EmployeeDateRangeRequest {
+public class EmployeeDateRangeRequest extends KeysetPageRequest {
     @NotNull
     private Long employeeId;
 
@@ -1,5 +1,6 @@
 package com.neg.technology.human.resource.employee.model.request;
 
+import com.neg.technology.human.resource.utility.module.entity.request.KeysetPageRequest;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
@@ -10,7 +11,7 @@ import java.time.LocalDate;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
-public class EmployeeLeaveTypeDateRangeRequest {
+public class EmployeeLeaveTypeDateRangeRequest extends KeysetPageRequest {
     @NotNull
     private Long employeeId;
 
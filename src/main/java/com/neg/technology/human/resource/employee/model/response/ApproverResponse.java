@@ -0,0 +1,14 @@
+package com.neg.technology.human.resource.employee.model.response;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ApproverResponse {
+    private Long employeeId;
+    private Long approverId;
+    private boolean canApprove;
+}
@@ -0,0 +1,16 @@
+package com.neg.technology.human.resource.employee.model.response;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EmployeeImportError {
+    // Dosyadaki satır numarası, başlık satırı 1
+    private long line;
+    private String message;
+    // Satırın kendisi; düzeltilip yeniden yüklenebilsin diye olduğu gibi döner
+    private String row;
+}
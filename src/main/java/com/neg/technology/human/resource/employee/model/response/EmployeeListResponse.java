@@ -1,5 +1,6 @@
 package com.neg.technology.human.resource.employee.model.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 
 import java.util.List;
@@ -11,4 +12,11 @@ import java.util.List;
 @Builder
 public class EmployeeListResponse {
     private List<EmployeeResponse> employees;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
+    public EmployeeListResponse(List<EmployeeResponse> employees) {
+        this.employees = employees;
+    }
 }
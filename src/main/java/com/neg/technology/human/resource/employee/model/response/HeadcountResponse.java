@@ -0,0 +1,16 @@
+package com.neg.technology.human.resource.employee.model.response;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class HeadcountResponse {
+    private Long employeeId;
+    private Long managerId;
+    private Integer depth;
+    private Integer directReports;
+    private Integer headcount;
+}
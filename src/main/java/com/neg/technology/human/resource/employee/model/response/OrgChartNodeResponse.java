@@ -0,0 +1,18 @@
+package com.neg.technology.human.resource.employee.model.response;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class OrgChartNodeResponse {
+    private Long id;
+    private String firstName;
+    private String lastName;
+    private String positionTitle;
+    private String departmentName;
+    private Long managerId;
+    private Integer depth;
+}
@@ -0,0 +1,14 @@
+package com.neg.technology.human.resource.employee.model.response;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class OrgChartResponse {
+    private List<OrgChartNodeResponse> nodes;
+}
@@ -0,0 +1,15 @@
+package com.neg.technology.human.resource.employee.model.response;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SpanOfControlResponse {
+    private Long employeeId;
+    private Long directReports;
+    private Long totalReports;
+    private Integer levels;
+}
@@ -0,0 +1,113 @@
+package com.neg.technology.human.resource.employee.repository;
+
+import com.neg.technology.human.resource.config.ConditionalOnR2dbcMode;
+import com.neg.technology.human.resource.employee.model.response.EmployeeResponse;
+import com.neg.technology.human.resource.utility.KeysetPage;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Non-blocking employee reads. Rows are joined straight into {@link EmployeeResponse},
+ * so no entity graph is materialized.
+ */
+@Repository
+@ConditionalOnR2dbcMode
+@RequiredArgsConstructor
+public class EmployeeR2dbcRepository {
+
+    private static final String SELECT_EMPLOYEE = """
+            SELECT e.id, p.first_name, p.last_name, p.phone,
+                   d.name AS department_name, pos.title AS position_title,
+                   mp.first_name AS manager_first_name, mp.last_name AS manager_last_name,
+                   c.name AS company_name
+            FROM employee e
+            JOIN person p ON p.id = e.person_id
+            LEFT JOIN department d ON d.id = e.department_id
+            LEFT JOIN position pos ON pos.id = e.position_id
+            LEFT JOIN company c ON c.id = e.company_id
+            LEFT JOIN employee m ON m.id = e.manager_id
+            LEFT JOIN person mp ON mp.id = m.person_id
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<EmployeeResponse> findById(Long id) {
+        return databaseClient.sql(SELECT_EMPLOYEE + "WHERE e.id = :id")
+                .bind("id", id)
+                .map(EmployeeR2dbcRepository::toResponse)
+                .one();
+    }
+
+    public Flux<EmployeeResponse> findAll() {
+        return databaseClient.sql(SELECT_EMPLOYEE + "ORDER BY e.id")
+                .map(EmployeeR2dbcRepository::toResponse)
+                .all();
+    }
+
+    public Flux<EmployeeResponse> findByIsActive(boolean active) {
+        return databaseClient.sql(SELECT_EMPLOYEE + "WHERE e.is_active = :active ORDER BY e.id")
+                .bind("active", active)
+                .map(EmployeeR2dbcRepository::toResponse)
+                .all();
+    }
+
+    public Flux<EmployeeResponse> findByDepartmentId(Long departmentId, KeysetPage page) {
+        return databaseClient.sql(SELECT_EMPLOYEE + "WHERE e.department_id = :departmentId" + page.keysetClause("e.id"))
+                .bind("departmentId", departmentId)
+                .bindValues(page.bindings())
+                .map(EmployeeR2dbcRepository::toResponse)
+                .all();
+    }
+
+    public Flux<EmployeeResponse> findByPositionId(Long positionId, KeysetPage page) {
+        return databaseClient.sql(SELECT_EMPLOYEE + "WHERE e.position_id = :positionId" + page.keysetClause("e.id"))
+                .bind("positionId", positionId)
+                .bindValues(page.bindings())
+                .map(EmployeeR2dbcRepository::toResponse)
+                .all();
+    }
+
+    public Flux<EmployeeResponse> findByCompanyId(Long companyId, KeysetPage page) {
+        return databaseClient.sql(SELECT_EMPLOYEE + "WHERE e.company_id = :companyId" + page.keysetClause("e.id"))
+                .bind("companyId", companyId)
+                .bindValues(page.bindings())
+                .map(EmployeeR2dbcRepository::toResponse)
+                .all();
+    }
+
+    public Flux<EmployeeResponse> findByHireDateBefore(LocalDateTime date, KeysetPage page) {
+        return databaseClient.sql(SELECT_EMPLOYEE + "WHERE e.hire_date < :date" + page.keysetClause("e.id"))
+                .bind("date", date)
+                .bindValues(page.bindings())
+                .map(EmployeeR2dbcRepository::toResponse)
+                .all();
+    }
+
+    public Flux<EmployeeResponse> findByEmploymentEndDateBefore(LocalDateTime date, KeysetPage page) {
+        return databaseClient.sql(SELECT_EMPLOYEE + "WHERE e.employment_end_date < :date" + page.keysetClause("e.id"))
+                .bind("date", date)
+                .bindValues(page.bindings())
+                .map(EmployeeR2dbcRepository::toResponse)
+                .all();
+    }
+
+    private static EmployeeResponse toResponse(Readable row) {
+        return EmployeeResponse.builder()
+                .id(row.get("id", Long.class))
+                .firstName(row.get("first_name", String.class))
+                .lastName(row.get("last_name", String.class))
+                .phone(row.get("phone", String.class))
+                .departmentName(row.get("department_name", String.class))
+                .positionTitle(row.get("position_title", String.class))
+                .managerFirstName(row.get("manager_first_name", String.class))
+                .managerLastName(row.get("manager_last_name", String.class))
+                .companyName(row.get("company_name", String.class))
+                .build();
+    }
+}
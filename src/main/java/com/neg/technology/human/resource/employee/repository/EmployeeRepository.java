@@ -1,34 +1,109 @@
 package com.neg.technology.human.resource.employee.repository;
 
 import com.neg.technology.human.resource.employee.model.entity.Employee;
+import com.neg.technology.human.resource.employee.model.response.EmployeeResponse;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
 
+    /**
+     * Reads exactly the columns of {@link EmployeeResponse} in one statement. Mapping entities instead
+     * costs an extra select per person, department, position, company and manager of every row.
+     */
+    String RESPONSE_SELECT = """
+        SELECT new com.neg.technology.human.resource.employee.model.response.EmployeeResponse(
+            e.id, p.firstName, p.lastName, p.phone, d.name, pos.title, mp.firstName, mp.lastName, c.name)
+        FROM Employee e
+        JOIN e.person p
+        LEFT JOIN e.department d
+        LEFT JOIN e.position pos
+        LEFT JOIN e.company c
+        LEFT JOIN e.manager m
+        LEFT JOIN m.person mp
+        """;
+
     Optional<Employee> findByPersonId(Long personId);
 
     List<Employee> findByManagerId(Long managerId);
 
-    List<Employee> findByDepartmentId(Long departmentId);
+    List<Employee> findByPersonIdIn(List<Long> personIds);
 
-    List<Employee> findByPositionId(Long positionId);
+    boolean existsByManagerId(Long managerId);
 
-    List<Employee> findByCompanyId(Long companyId);
+    @Query(RESPONSE_SELECT + "WHERE e.id = :id")
+    Optional<EmployeeResponse> findResponseById(Long id);
 
-    List<Employee> findByIsActiveTrue();
+    @Query(RESPONSE_SELECT)
+    List<EmployeeResponse> findAllResponses();
 
-    List<Employee> findByIsActiveFalse();
+    // Keyset sayfalama: id üzerinden, OFFSET kullanmadan
+    @Query(RESPONSE_SELECT + "WHERE e.id > :afterId ORDER BY e.id")
+    List<EmployeeResponse> findResponsePage(Long afterId, Limit limit);
 
-    List<Employee> findByHireDateBefore(java.time.LocalDateTime date);
+    @Query(RESPONSE_SELECT + "WHERE e.isActive = true")
+    List<EmployeeResponse> findActiveResponses();
 
-    List<Employee> findByEmploymentEndDateBefore(java.time.LocalDateTime date);
+    @Query(RESPONSE_SELECT + "WHERE e.isActive = false")
+    List<EmployeeResponse> findInactiveResponses();
 
-    List<Employee> findByPersonIdIn(List<Long> personIds);
+    @Query(RESPONSE_SELECT + "WHERE e.department.id = :departmentId")
+    List<EmployeeResponse> findResponsesByDepartmentId(Long departmentId);
 
-    boolean existsByManagerId(Long managerId);
-}
\ No newline at end of file
+    @Query(RESPONSE_SELECT + "WHERE e.department.id = :departmentId AND e.id > :afterId ORDER BY e.id")
+    List<EmployeeResponse> findResponsePageByDepartmentId(Long departmentId, Long afterId, Limit limit);
+
+    @Query(RESPONSE_SELECT + "WHERE e.position.id = :positionId")
+    List<EmployeeResponse> findResponsesByPositionId(Long positionId);
+
+    @Query(RESPONSE_SELECT + "WHERE e.position.id = :positionId AND e.id > :afterId ORDER BY e.id")
+    List<EmployeeResponse> findResponsePageByPositionId(Long positionId, Long afterId, Limit limit);
+
+    @Query(RESPONSE_SELECT + "WHERE e.company.id = :companyId")
+    List<EmployeeResponse> findResponsesByCompanyId(Long companyId);
+
+    @Query(RESPONSE_SELECT + "WHERE e.company.id = :companyId AND e.id > :afterId ORDER BY e.id")
+    List<EmployeeResponse> findResponsePageByCompanyId(Long companyId, Long afterId, Limit limit);
+
+    @Query(RESPONSE_SELECT + "WHERE e.hireDate < :date")
+    List<EmployeeResponse> findResponsesByHireDateBefore(LocalDateTime date);
+
+    @Query(RESPONSE_SELECT + "WHERE e.hireDate < :date AND e.id > :afterId ORDER BY e.id")
+    List<EmployeeResponse> findResponsePageByHireDateBefore(LocalDateTime date, Long afterId, Limit limit);
+
+    @Query(RESPONSE_SELECT + "WHERE e.employmentEndDate < :date")
+    List<EmployeeResponse> findResponsesByEmploymentEndDateBefore(LocalDateTime date);
+
+    @Query(RESPONSE_SELECT + "WHERE e.employmentEndDate < :date AND e.id > :afterId ORDER BY e.id")
+    List<EmployeeResponse> findResponsePageByEmploymentEndDateBefore(LocalDateTime date, Long afterId, Limit limit);
+
+    // Yıl sonu izin tahakkuku: yalnızca hak ediş hesabına giren alanlar, id sırasıyla sayfa sayfa
+    @Query("""
+        SELECT e.id AS id, e.employmentStartDate AS employmentStartDate, p.birthDate AS birthDate
+        FROM Employee e
+        LEFT JOIN e.person p
+        WHERE e.isActive = true AND e.id > :afterId
+        ORDER BY e.id
+    """)
+    List<AccrualCandidate> findAccrualPage(Long afterId, Limit limit);
+
+    interface AccrualCandidate {
+        Long getId();
+
+        LocalDateTime getEmploymentStartDate();
+
+        LocalDate getBirthDate();
+    }
+
+    @Query("SELECT e.id FROM Employee e WHERE e.id IN :ids")
+    List<Long> findExistingIds(Collection<Long> ids);
+}
@@ -0,0 +1,104 @@
+package com.neg.technology.human.resource.employee.repository;
+
+import com.neg.technology.human.resource.employee.model.entity.Employee;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+
+import java.util.List;
+
+/**
+ * Manager hierarchy read in one recursive CTE per call, whatever the depth. Walking down uses
+ * ix_employee_manager_id, walking up uses the primary key; the visited path stops the recursion on a
+ * cyclic manager chain.
+ */
+@org.springframework.stereotype.Repository
+public interface OrgChartRepository extends Repository<Employee, Long> {
+
+    String NODE_COLUMNS = """
+        SELECT h.id AS "id", h.manager_id AS "managerId", h.depth AS "depth",
+               p.first_name AS "firstName", p.last_name AS "lastName",
+               pos.title AS "positionTitle", d.name AS "departmentName"
+        """;
+
+    String NODE_JOINS = """
+        JOIN employee e ON e.id = h.id
+        JOIN person p ON p.id = e.person_id
+        LEFT JOIN position pos ON pos.id = e.position_id
+        LEFT JOIN department d ON d.id = e.department_id
+        """;
+
+    String SUBTREE = """
+        WITH RECURSIVE h AS (
+            SELECT e.id, e.manager_id, 0 AS depth, ARRAY[e.id] AS path
+            FROM employee e
+            WHERE e.id = :employeeId
+            UNION ALL
+            SELECT r.id, r.manager_id, h.depth + 1, h.path || r.id
+            FROM employee r
+            JOIN h ON r.manager_id = h.id
+            WHERE r.id <> ALL(h.path)
+        )
+        """;
+
+    // Kök dahil tüm alt ağaç, derinlik öncelikli (pre-order) sırada
+    @Query(value = SUBTREE + NODE_COLUMNS + "FROM h " + NODE_JOINS + "ORDER BY h.path", nativeQuery = true)
+    List<NodeRow> findSubtree(Long employeeId);
+
+    // Çalışandan en üst yöneticiye kadar zincir; depth 0 çalışanın kendisi
+    @Query(value = """
+        WITH RECURSIVE h AS (
+            SELECT e.id, e.manager_id, 0 AS depth, ARRAY[e.id] AS path
+            FROM employee e
+            WHERE e.id = :employeeId
+            UNION ALL
+            SELECT m.id, m.manager_id, h.depth + 1, h.path || m.id
+            FROM employee m
+            JOIN h ON m.id = h.manager_id
+            WHERE m.id <> ALL(h.path)
+        )
+        """ + NODE_COLUMNS + "FROM h " + NODE_JOINS + "ORDER BY h.depth", nativeQuery = true)
+    List<NodeRow> findChainOfCommand(Long employeeId);
+
+    // members = 0 ise çalışan yok
+    @Query(value = SUBTREE + """
+        SELECT COUNT(*) AS "members",
+               COUNT(*) FILTER (WHERE h.depth = 1) AS "directReports",
+               COALESCE(MAX(h.depth), 0) AS "levels"
+        FROM h
+        """, nativeQuery = true)
+    SpanRow findSpanOfControl(Long employeeId);
+
+    // Bellek içi OrgGraph için tüm çalışan → yönetici bağlantıları; manager_id sütunundan, join olmadan
+    @Query("SELECT e.id AS id, e.manager.id AS managerId FROM Employee e")
+    List<ManagerLink> findManagerLinks();
+
+    interface NodeRow {
+        Long getId();
+
+        Long getManagerId();
+
+        Integer getDepth();
+
+        String getFirstName();
+
+        String getLastName();
+
+        String getPositionTitle();
+
+        String getDepartmentName();
+    }
+
+    interface ManagerLink {
+        Long getId();
+
+        Long getManagerId();
+    }
+
+    interface SpanRow {
+        Long getMembers();
+
+        Long getDirectReports();
+
+        Integer getLevels();
+    }
+}
@@ -8,8 +8,10 @@ import com.neg.technology.human.resource.utility.module.entity.request.DateReque
 import com.neg.technology.human.resource.utility.module.entity.request.IdRequest;
 import com.neg.technology.human.resource.employee.model.request.CreateEmployeeRequest;
 import com.neg.technology.human.resource.employee.model.request.UpdateEmployeeRequest;
+import com.neg.technology.human.resource.employee.model.response.EmployeeImportResponse;
 import com.neg.technology.human.resource.employee.model.response.EmployeeResponse;
 import com.neg.technology.human.resource.employee.model.response.EmployeeListResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface EmployeeService {
@@ -22,8 +24,15 @@ public interface EmployeeService {
 
     Mono<EmployeeListResponse> getAllEmployees();
 
+    Flux<EmployeeResponse> streamAllEmployees();
+
     Mono<Void> deleteEmployee(IdRequest request);
 
+    /**
+     * Creates people and employees from the lines of a CSV file, header first.
+     */
+    Mono<EmployeeImportResponse> importEmployees(Flux<String> lines);
+
     Mono<EmployeeListResponse> getActiveEmployees();
 
     Mono<EmployeeListResponse> getInactiveEmployees();
@@ -0,0 +1,23 @@
+package com.neg.technology.human.resource.employee.service;
+
+import com.neg.technology.human.resource.employee.model.request.ApproverRequest;
+import com.neg.technology.human.resource.employee.model.response.ApproverResponse;
+import com.neg.technology.human.resource.employee.model.response.HeadcountResponse;
+import com.neg.technology.human.resource.employee.model.response.OrgChartResponse;
+import com.neg.technology.human.resource.employee.model.response.SpanOfControlResponse;
+import com.neg.technology.human.resource.utility.module.entity.request.IdRequest;
+import reactor.core.publisher.Mono;
+
+public interface OrgChartService {
+
+    Mono<OrgChartResponse> getSubtree(IdRequest request);
+
+    Mono<OrgChartResponse> getChainOfCommand(IdRequest request);
+
+    Mono<SpanOfControlResponse> getSpanOfControl(IdRequest request);
+
+    // Bellek içi OrgGraph üzerinden, veritabanına gitmeden
+    Mono<HeadcountResponse> getHeadcount(IdRequest request);
+
+    Mono<ApproverResponse> canApprove(ApproverRequest request);
+}
@@ -0,0 +1,471 @@
+package com.neg.technology.human.resource.employee.service.impl;
+
+import com.neg.technology.human.resource.config.EmployeeImportProperties;
+import com.neg.technology.human.resource.employee.model.entity.Employee;
+import com.neg.technology.human.resource.employee.model.response.EmployeeImportError;
+import com.neg.technology.human.resource.employee.model.response.EmployeeImportResponse;
+import com.neg.technology.human.resource.employee.repository.EmployeeRepository;
+import com.neg.technology.human.resource.exception.InvalidImportFileException;
+import com.neg.technology.human.resource.person.model.entity.Person;
+import com.neg.technology.human.resource.person.model.enums.Gender;
+import com.neg.technology.human.resource.person.model.enums.MaritalStatus;
+import com.neg.technology.human.resource.person.repository.PersonRepository;
+import com.neg.technology.human.resource.utility.ReferenceDataCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.function.Tuple2;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Imports people and their employee records from a CSV file whose first line names the columns (any
+ * order; comma or, as Excel writes it in Turkish locales, semicolon separated). Lines are read as they
+ * arrive and cut into chunks; chunks are parsed, validated and inserted in parallel on the JDBC
+ * scheduler, each in its own transaction. Department, position and company come from
+ * {@link ReferenceDataCache}; managers, e-mails and national ids are checked with one query each per
+ * chunk, and the chunk's people and employees go out as batched inserts. A row that fails is reported
+ * with its line number and left out while the rest of the file proceeds; a chunk whose insert fails is
+ * reported row by row and does not roll back the chunks committed before it.
+ * <p>
+ * Managers must already exist: a row cannot point at another row of the same file.
+ */
+@Slf4j
+public class EmployeeImportEngine {
+
+    static final String METRIC_PREFIX = "hr.employee.import";
+
+    static final List<String> COLUMNS = List.of(
+            "first_name", "last_name", "national_id", "birth_date", "gender", "email", "phone", "address",
+            "marital_status", "department_id", "position_id", "company_id", "manager_id", "registration_number",
+            "hire_date", "employment_start_date", "employment_end_date", "is_active");
+
+    static final List<String> REQUIRED_COLUMNS = List.of(
+            "first_name", "department_id", "position_id", "company_id", "hire_date", "employment_start_date");
+
+    private final PersonRepository personRepository;
+    private final EmployeeRepository employeeRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final OrgGraphIndex orgGraphIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final EmployeeImportProperties properties;
+    private final Scheduler jdbcScheduler;
+    private final MeterRegistry meterRegistry;
+
+    public EmployeeImportEngine(PersonRepository personRepository,
+                                EmployeeRepository employeeRepository,
+                                ReferenceDataCache referenceDataCache,
+                                OrgGraphIndex orgGraphIndex,
+                                PlatformTransactionManager transactionManager,
+                                EmployeeImportProperties properties,
+                                Scheduler jdbcScheduler,
+                                MeterRegistry meterRegistry) {
+        this.personRepository = personRepository;
+        this.employeeRepository = employeeRepository;
+        this.referenceDataCache = referenceDataCache;
+        this.orgGraphIndex = orgGraphIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.jdbcScheduler = jdbcScheduler;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param lines the file's lines without their line breaks, header first
+     */
+    public Mono<EmployeeImportResponse> importLines(Flux<String> lines) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            long start = System.nanoTime();
+            // Dosya içindeki tekrarlar chunk'lar arasında da yakalansın
+            Set<String> seen = ConcurrentHashMap.newKeySet();
+            return lines.index()
+                    .switchOnFirst((first, indexed) -> {
+                        if (!first.hasValue()) {
+                            return Flux.error(new InvalidImportFileException("Import file is empty"));
+                        }
+                        Header header;
+                        try {
+                            header = Header.parse(first.get().getT2());
+                        } catch (InvalidImportFileException e) {
+                            return Flux.error(e);
+                        }
+                        return indexed.skip(1)
+                                .filter(line -> !line.getT2().isBlank())
+                                .buffer(properties.getChunkSize())
+                                .flatMapSequential(chunk -> Mono.fromCallable(() -> importChunk(header, chunk, seen))
+                                        .subscribeOn(jdbcScheduler), properties.getParallelism());
+                    })
+                    .collectList()
+                    .map(results -> summarize(results, System.nanoTime() - start))
+                    .doOnSuccess(response -> {
+                        stop(sample, "completed");
+                        count("imported", response.getImported());
+                        count("failed", response.getFailed());
+                        log.info("Employee import: {} of {} rows imported in {} ms", response.getImported(),
+                                response.getTotalRows(), response.getElapsedMillis());
+                    })
+                    .doOnError(e -> stop(sample, "failed"));
+        });
+    }
+
+    /**
+     * The rejected rows as a CSV file: line number, reason and the original row.
+     */
+    public static String errorFile(List<EmployeeImportError> errors) {
+        StringBuilder file = new StringBuilder("line,error,row\n");
+        for (EmployeeImportError error : errors) {
+            file.append(error.getLine()).append(',')
+                    .append(quote(error.getMessage())).append(',')
+                    .append(quote(error.getRow())).append('\n');
+        }
+        return file.toString();
+    }
+
+    /**
+     * Blocking; one transaction. Line numbers in {@code lines} are zero-based, the header being line 0.
+     */
+    ChunkResult importChunk(Header header, List<Tuple2<Long, String>> lines, Set<String> seen) {
+        List<EmployeeImportError> errors = new ArrayList<>();
+        List<Row> rows = new ArrayList<>();
+        for (Tuple2<Long, String> line : lines) {
+            try {
+                rows.add(parse(header, line.getT1() + 1, line.getT2()));
+            } catch (IllegalArgumentException e) {
+                errors.add(new EmployeeImportError(line.getT1() + 1, e.getMessage(), line.getT2()));
+            }
+        }
+
+        Set<String> takenEmails = existing(rows, row -> upper(row.person().getEmail()), personRepository::findExistingEmailsUpperCase);
+        Set<String> takenNationalIds = existing(rows, row -> row.person().getNationalId(), personRepository::findExistingNationalIds);
+        Set<Long> managers = existing(rows, Row::managerId, employeeRepository::findExistingIds);
+
+        List<Row> valid = new ArrayList<>();
+        for (Row row : rows) {
+            String problem = problem(row, takenEmails, takenNationalIds, managers, seen);
+            if (problem != null) {
+                errors.add(new EmployeeImportError(row.line(), problem, row.raw()));
+            } else {
+                valid.add(row);
+            }
+        }
+
+        if (!valid.isEmpty()) {
+            try {
+                insert(valid);
+            } catch (DataAccessException e) {
+                String message = "Not imported, the insert of its chunk failed: " + e.getMostSpecificCause().getMessage();
+                for (Row row : valid) {
+                    errors.add(new EmployeeImportError(row.line(), message, row.raw()));
+                    // Satır eklenmedi: dosyada sonra gelen aynı e-posta veya TC kimlik no artık tekrar sayılmaz
+                    forget(row, seen);
+                }
+                valid.clear();
+            }
+        }
+        errors.sort((a, b) -> Long.compare(a.getLine(), b.getLine()));
+        return new ChunkResult(lines.size(), valid.size(), errors);
+    }
+
+    private void insert(List<Row> rows) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Person> people = new ArrayList<>(rows.size());
+            List<Employee> employees = new ArrayList<>(rows.size());
+            for (Row row : rows) {
+                row.employee().setManager(row.managerId() != null ? employeeRepository.getReferenceById(row.managerId()) : null);
+                people.add(row.person());
+                employees.add(row.employee());
+            }
+            personRepository.saveAll(people);
+            employeeRepository.saveAll(employees);
+        });
+
+        long[] ids = new long[rows.size()];
+        Long[] managerIds = new Long[rows.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = rows.get(i).employee().getId();
+            managerIds[i] = rows.get(i).managerId();
+        }
+        orgGraphIndex.putAll(ids, managerIds);
+    }
+
+    private static String problem(Row row, Set<String> takenEmails, Set<String> takenNationalIds,
+                                  Set<Long> managers, Set<String> seen) {
+        String email = upper(row.person().getEmail());
+        String nationalId = row.person().getNationalId();
+        if (email != null && takenEmails.contains(email)) {
+            return "Email already exists";
+        }
+        if (nationalId != null && takenNationalIds.contains(nationalId)) {
+            return "National ID already exists";
+        }
+        if (row.managerId() != null && !managers.contains(row.managerId())) {
+            return "Invalid manager id";
+        }
+        if (email != null && !seen.add("email:" + email)) {
+            return "Email appears earlier in the file";
+        }
+        if (nationalId != null && !seen.add("national_id:" + nationalId)) {
+            if (email != null) {
+                seen.remove("email:" + email);
+            }
+            return "National ID appears earlier in the file";
+        }
+        return null;
+    }
+
+    private static void forget(Row row, Set<String> seen) {
+        String email = upper(row.person().getEmail());
+        if (email != null) {
+            seen.remove("email:" + email);
+        }
+        if (row.person().getNationalId() != null) {
+            seen.remove("national_id:" + row.person().getNationalId());
+        }
+    }
+
+    private Row parse(Header header, long line, String raw) {
+        Map<String, String> values = header.values(raw);
+
+        String firstName = values.get("first_name");
+        if (firstName == null) {
+            throw new IllegalArgumentException("First name must not be empty");
+        }
+        Person person = Person.builder()
+                .firstName(firstName)
+                .lastName(values.get("last_name"))
+                .nationalId(values.get("national_id"))
+                .birthDate(date(values, "birth_date"))
+                .gender(Gender.fromString(values.get("gender")))
+                .email(values.get("email"))
+                .phone(values.get("phone"))
+                .address(values.get("address"))
+                .maritalStatus(MaritalStatus.fromString(values.get("marital_status")))
+                .build();
+
+        Long departmentId = id(values, "department_id");
+        Long positionId = id(values, "position_id");
+        Long companyId = id(values, "company_id");
+        LocalDateTime hireDate = dateTime(values, "hire_date");
+        LocalDateTime employmentStartDate = dateTime(values, "employment_start_date");
+        LocalDateTime employmentEndDate = dateTime(values, "employment_end_date");
+        if (departmentId == null || positionId == null || companyId == null) {
+            throw new IllegalArgumentException("Department, position and company ids are required");
+        }
+        if (hireDate == null || employmentStartDate == null) {
+            throw new IllegalArgumentException("Hire date and employment start date are required");
+        }
+        if (employmentEndDate != null && employmentEndDate.isBefore(employmentStartDate)) {
+            throw new IllegalArgumentException("Employment end date cannot be before start date");
+        }
+        String active = values.get("is_active");
+        if (active != null && !active.equalsIgnoreCase("true") && !active.equalsIgnoreCase("false")) {
+            throw new IllegalArgumentException("is_active must be true or false");
+        }
+
+        Employee employee = Employee.builder()
+                .person(person)
+                .department(referenceDataCache.findDepartment(departmentId)
+                        .orElseThrow(() -> new IllegalArgumentException("Invalid department id")))
+                .position(referenceDataCache.findPosition(positionId)
+                        .orElseThrow(() -> new IllegalArgumentException("Invalid position id")))
+                .company(referenceDataCache.findCompany(companyId)
+                        .orElseThrow(() -> new IllegalArgumentException("Invalid company id")))
+                .registrationNumber(values.get("registration_number"))
+                .hireDate(hireDate)
+                .employmentStartDate(employmentStartDate)
+                .employmentEndDate(employmentEndDate)
+                // Boş bırakılırsa çalışan aktif sayılır
+                .isActive(active == null || Boolean.parseBoolean(active))
+                .build();
+        return new Row(line, raw, person, employee, id(values, "manager_id"));
+    }
+
+    private static <K> Set<K> existing(List<Row> rows, Function<Row, K> key, Function<Set<K>, List<K>> query) {
+        Set<K> keys = new HashSet<>();
+        for (Row row : rows) {
+            K value = key.apply(row);
+            if (value != null) {
+                keys.add(value);
+            }
+        }
+        return keys.isEmpty() ? Set.of() : new HashSet<>(query.apply(keys));
+    }
+
+    private static Long id(Map<String, String> values, String column) {
+        String value = values.get(column);
+        try {
+            return value != null ? Long.valueOf(value) : null;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + column + ": " + value);
+        }
+    }
+
+    private static LocalDate date(Map<String, String> values, String column) {
+        String value = values.get(column);
+        try {
+            return value != null ? LocalDate.parse(value) : null;
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid " + column + ", expected yyyy-MM-dd: " + value);
+        }
+    }
+
+    // Yalnızca tarih verilirse günün başı
+    private static LocalDateTime dateTime(Map<String, String> values, String column) {
+        String value = values.get(column);
+        try {
+            return value == null ? null : value.length() == 10 ? LocalDate.parse(value).atStartOfDay() : LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid " + column + ", expected yyyy-MM-dd or yyyy-MM-ddTHH:mm: " + value);
+        }
+    }
+
+    private static String upper(String value) {
+        return value != null ? value.toUpperCase(Locale.ROOT) : null;
+    }
+
+    private static String quote(String value) {
+        return value == null ? "" : "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    private EmployeeImportResponse summarize(List<ChunkResult> results, long elapsedNanos) {
+        long total = 0;
+        long imported = 0;
+        List<EmployeeImportError> errors = new ArrayList<>();
+        for (ChunkResult result : results) {
+            total += result.rows();
+            imported += result.imported();
+            errors.addAll(result.errors());
+        }
+        long elapsedMillis = elapsedNanos / 1_000_000;
+        return EmployeeImportResponse.builder()
+                .totalRows(total)
+                .imported(imported)
+                .failed(errors.size())
+                .elapsedMillis(elapsedMillis)
+                .rowsPerSecond(elapsedNanos > 0 ? total * 1e9 / elapsedNanos : 0)
+                .errors(errors)
+                .build();
+    }
+
+    private void stop(Timer.Sample sample, String outcome) {
+        sample.stop(Timer.builder(METRIC_PREFIX)
+                .description("Employee file imports, from the first line read to the last chunk committed")
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    private void count(String outcome, long rows) {
+        Counter.builder(METRIC_PREFIX + ".rows")
+                .description("Rows of employee import files, by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment(rows);
+    }
+
+    /**
+     * Column positions of the header line and the separator it uses.
+     */
+    record Header(char delimiter, Map<String, Integer> columns) {
+
+        static Header parse(String line) {
+            // Excel UTF-8 dışa aktarımı BOM ile başlar
+            String text = line.startsWith("\uFEFF") ? line.substring(1) : line;
+            char delimiter = text.indexOf(';') >= 0 && text.indexOf(',') < 0 ? ';' : ',';
+            Map<String, Integer> columns = new HashMap<>();
+            List<String> names = split(text, delimiter);
+            for (int i = 0; i < names.size(); i++) {
+                String name = names.get(i).toLowerCase(Locale.ROOT);
+                if (!COLUMNS.contains(name)) {
+                    throw new InvalidImportFileException("Unknown column '" + names.get(i) + "'; expected some of " + COLUMNS);
+                }
+                if (columns.put(name, i) != null) {
+                    throw new InvalidImportFileException("Column '" + name + "' appears twice");
+                }
+            }
+            for (String required : REQUIRED_COLUMNS) {
+                if (!columns.containsKey(required)) {
+                    throw new InvalidImportFileException("Missing column '" + required + "'");
+                }
+            }
+            return new Header(delimiter, columns);
+        }
+
+        /**
+         * Values by column name; empty fields are left out.
+         */
+        Map<String, String> values(String line) {
+            List<String> fields = split(line, delimiter);
+            if (fields.size() != columns.size()) {
+                throw new IllegalArgumentException("Expected " + columns.size() + " fields but found " + fields.size());
+            }
+            Map<String, String> values = new HashMap<>();
+            columns.forEach((name, index) -> {
+                String value = fields.get(index);
+                if (!value.isEmpty()) {
+                    values.put(name, value);
+                }
+            });
+            return values;
+        }
+    }
+
+    /**
+     * Splits one CSV line; fields may be quoted, with "" standing for a quote. A quoted field cannot span
+     * lines.
+     */
+    static List<String> split(String line, char delimiter) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == delimiter) {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+
+    private record Row(long line, String raw, Person person, Employee employee, Long managerId) {
+    }
+
+    record ChunkResult(int rows, int imported, List<EmployeeImportError> errors) {
+    }
+}
@@ -14,6 +14,7 @@ import com.neg.technology.human.resource.utility.Logger;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.util.List;
 
@@ -24,6 +25,7 @@ public class EmployeeProjectServiceImpl implements EmployeeProjectService {
     private final EmployeeProjectRepository employeeProjectRepository;
     private final EmployeeRepository employeeRepository;
     private final ProjectRepository projectRepository;
+    private final Scheduler jdbcScheduler;
 
     @Override
     public Mono<List<EmployeeProjectResponse>> getAllEmployeeProjects() {
@@ -32,7 +34,7 @@ public class EmployeeProjectServiceImpl implements EmployeeProjectService {
                         .stream()
                         .map(EmployeeProjectMapper::toDTO)
                         .toList()
-        );
+        ).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -41,7 +43,7 @@ public class EmployeeProjectServiceImpl implements EmployeeProjectService {
                 employeeProjectRepository.findById(id)
                         .map(EmployeeProjectMapper::toDTO)
                         .orElseThrow(() -> new ResourceNotFoundException("Employee Project", id))
-        );
+        ).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -57,7 +59,7 @@ public class EmployeeProjectServiceImpl implements EmployeeProjectService {
             EmployeeProject saved = employeeProjectRepository.save(entity);
             Logger.logCreated(EmployeeProject.class, saved.getId(), "EmployeeProject");
             return EmployeeProjectMapper.toDTO(saved);
-        });
+        }).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -78,7 +80,7 @@ public class EmployeeProjectServiceImpl implements EmployeeProjectService {
             EmployeeProject updated = employeeProjectRepository.save(existing);
             Logger.logUpdated(EmployeeProject.class, updated.getId(), "EmployeeProject");
             return EmployeeProjectMapper.toDTO(updated);
-        });
+        }).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -89,7 +91,7 @@ public class EmployeeProjectServiceImpl implements EmployeeProjectService {
             }
             employeeProjectRepository.deleteById(id);
             Logger.logDeleted(EmployeeProject.class, id);
-        });
+        }).subscribeOn(jdbcScheduler).then();
     }
 
     @Override
@@ -100,7 +102,7 @@ public class EmployeeProjectServiceImpl implements EmployeeProjectService {
             }
             employeeProjectRepository.deleteByEmployee_Id(employeeId);
             Logger.logDeleted(EmployeeProject.class, employeeId);
-        });
+        }).subscribeOn(jdbcScheduler).then();
     }
 
     @Override
@@ -111,7 +113,7 @@ public class EmployeeProjectServiceImpl implements EmployeeProjectService {
             }
             employeeProjectRepository.deleteByProject_Id(projectId);
             Logger.logDeleted(EmployeeProject.class, projectId);
-        });
+        }).subscribeOn(jdbcScheduler).then();
     }
 
     @Override
@@ -121,7 +123,7 @@ public class EmployeeProjectServiceImpl implements EmployeeProjectService {
                         .stream()
                         .map(EmployeeProjectMapper::toDTO)
                         .toList()
-        );
+        ).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -131,13 +133,13 @@ public class EmployeeProjectServiceImpl implements EmployeeProjectService {
                         .stream()
                         .map(EmployeeProjectMapper::toDTO)
                         .toList()
-        );
+        ).subscribeOn(jdbcScheduler);
     }
 
     @Override
     public Mono<Boolean> existsByEmployeeIdAndProjectId(Long employeeId, Long projectId) {
         return Mono.fromCallable(() ->
                 employeeProjectRepository.existsByEmployee_IdAndProject_Id(employeeId, projectId)
-        );
+        ).subscribeOn(jdbcScheduler);
     }
 }
\ No newline at end of file
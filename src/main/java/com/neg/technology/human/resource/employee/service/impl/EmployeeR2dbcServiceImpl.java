@@ -0,0 +1,137 @@
+package com.neg.technology.human.resource.employee.service.impl;
+
+import com.neg.technology.human.resource.company.model.request.CompanyIdRequest;
+import com.neg.technology.human.resource.company.model.request.PositionIdRequest;
+import com.neg.technology.human.resource.config.ConditionalOnR2dbcMode;
+import com.neg.technology.human.resource.department.model.request.DepartmentIdRequest;
+import com.neg.technology.human.resource.employee.model.entity.Employee;
+import com.neg.technology.human.resource.employee.model.request.CreateEmployeeRequest;
+import com.neg.technology.human.resource.employee.model.request.UpdateEmployeeRequest;
+import com.neg.technology.human.resource.employee.model.response.EmployeeImportResponse;
+import com.neg.technology.human.resource.employee.model.response.EmployeeListResponse;
+import com.neg.technology.human.resource.employee.model.response.EmployeeResponse;
+import com.neg.technology.human.resource.employee.repository.EmployeeR2dbcRepository;
+import com.neg.technology.human.resource.employee.service.EmployeeService;
+import com.neg.technology.human.resource.exception.ResourceNotFoundException;
+import com.neg.technology.human.resource.utility.KeysetPage;
+import com.neg.technology.human.resource.utility.module.entity.request.DateRequest;
+import com.neg.technology.human.resource.utility.module.entity.request.IdRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * EmployeeService for hr.persistence.mode=r2dbc. Reads go through R2DBC end to end,
+ * writes and entity lookups are delegated to the JPA implementation.
+ */
+@Service
+@Primary
+@ConditionalOnR2dbcMode
+@RequiredArgsConstructor
+public class EmployeeR2dbcServiceImpl implements EmployeeService {
+
+    private final EmployeeServiceImpl jpaEmployeeService;
+    private final EmployeeR2dbcRepository employeeR2dbcRepository;
+
+    @Override
+    public Mono<EmployeeResponse> createEmployee(CreateEmployeeRequest request) {
+        return jpaEmployeeService.createEmployee(request);
+    }
+
+    @Override
+    public Mono<EmployeeResponse> updateEmployee(UpdateEmployeeRequest request) {
+        return jpaEmployeeService.updateEmployee(request);
+    }
+
+    @Override
+    public Mono<EmployeeResponse> getEmployeeById(IdRequest request) {
+        return employeeR2dbcRepository.findById(request.getId())
+                .switchIfEmpty(Mono.error(new ResourceNotFoundException(EmployeeServiceImpl.MESSAGE, request.getId())));
+    }
+
+    @Override
+    public Mono<EmployeeListResponse> getAllEmployees() {
+        return toListResponse(employeeR2dbcRepository.findAll());
+    }
+
+    @Override
+    public Flux<EmployeeResponse> streamAllEmployees() {
+        return employeeR2dbcRepository.findAll();
+    }
+
+    @Override
+    public Mono<Void> deleteEmployee(IdRequest request) {
+        return jpaEmployeeService.deleteEmployee(request);
+    }
+
+    @Override
+    public Mono<EmployeeImportResponse> importEmployees(Flux<String> lines) {
+        return jpaEmployeeService.importEmployees(lines);
+    }
+
+    @Override
+    public Mono<EmployeeListResponse> getActiveEmployees() {
+        return toListResponse(employeeR2dbcRepository.findByIsActive(true));
+    }
+
+    @Override
+    public Mono<EmployeeListResponse> getInactiveEmployees() {
+        return toListResponse(employeeR2dbcRepository.findByIsActive(false));
+    }
+
+    @Override
+    public Mono<EmployeeListResponse> getEmployeesByDepartment(DepartmentIdRequest request) {
+        KeysetPage page = request.toPage();
+        return toListResponse(page, employeeR2dbcRepository.findByDepartmentId(request.getDepartmentId(), page));
+    }
+
+    @Override
+    public Mono<EmployeeListResponse> getEmployeesByPosition(PositionIdRequest request) {
+        KeysetPage page = request.toPage();
+        return toListResponse(page, employeeR2dbcRepository.findByPositionId(request.getPositionId(), page));
+    }
+
+    @Override
+    public Mono<EmployeeListResponse> getEmployeesByCompany(CompanyIdRequest request) {
+        KeysetPage page = request.toPage();
+        return toListResponse(page, employeeR2dbcRepository.findByCompanyId(request.getCompanyId(), page));
+    }
+
+    @Override
+    public Mono<EmployeeListResponse> getEmployeesHiredBefore(DateRequest request) {
+        KeysetPage page = request.toPage();
+        return toListResponse(page, Mono.fromSupplier(() -> LocalDateTime.parse(request.getDate()))
+                .flatMapMany(date -> employeeR2dbcRepository.findByHireDateBefore(date, page)));
+    }
+
+    @Override
+    public Mono<EmployeeListResponse> getEmployeesEmploymentEndedBefore(DateRequest request) {
+        KeysetPage page = request.toPage();
+        return toListResponse(page, Mono.fromSupplier(() -> LocalDateTime.parse(request.getDate()))
+                .flatMapMany(date -> employeeR2dbcRepository.findByEmploymentEndDateBefore(date, page)));
+    }
+
+    @Override
+    public Mono<Employee> findEntityById(Long id) {
+        return jpaEmployeeService.findEntityById(id);
+    }
+
+    @Override
+    public Mono<Object> findById(Long employeeId) {
+        return jpaEmployeeService.findById(employeeId);
+    }
+
+    private Mono<EmployeeListResponse> toListResponse(Flux<EmployeeResponse> employees) {
+        return employees.collectList().map(EmployeeListResponse::new);
+    }
+
+    private Mono<EmployeeListResponse> toListResponse(KeysetPage page, Flux<EmployeeResponse> employees) {
+        return employees.collectList()
+                .map(rows -> page.slice(rows, EmployeeResponse::getId))
+                .map(slice -> new EmployeeListResponse(slice.items(), slice.nextCursor()));
+    }
+}
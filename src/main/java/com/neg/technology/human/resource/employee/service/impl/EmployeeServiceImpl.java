@@ -5,22 +5,27 @@ import com.neg.technology.human.resource.department.model.request.DepartmentIdRe
 import com.neg.technology.human.resource.company.model.request.PositionIdRequest;
 import com.neg.technology.human.resource.employee.service.EmployeeService;
 import com.neg.technology.human.resource.utility.Logger;
-import com.neg.technology.human.resource.company.repository.CompanyRepository;
-import com.neg.technology.human.resource.department.repository.DepartmentRepository;
 import com.neg.technology.human.resource.employee.model.entity.Employee;
 import com.neg.technology.human.resource.employee.model.mapper.EmployeeMapper;
 import com.neg.technology.human.resource.employee.model.request.CreateEmployeeRequest;
 import com.neg.technology.human.resource.utility.module.entity.request.DateRequest;
 import com.neg.technology.human.resource.utility.module.entity.request.IdRequest;
 import com.neg.technology.human.resource.employee.model.request.UpdateEmployeeRequest;
+import com.neg.technology.human.resource.employee.model.response.EmployeeImportResponse;
 import com.neg.technology.human.resource.employee.model.response.EmployeeResponse;
 import com.neg.technology.human.resource.employee.model.response.EmployeeListResponse;
 import com.neg.technology.human.resource.employee.repository.EmployeeRepository;
 import com.neg.technology.human.resource.exception.ResourceNotFoundException;
 import com.neg.technology.human.resource.person.repository.PersonRepository;
-import com.neg.technology.human.resource.company.repository.PositionRepository;
+import com.neg.technology.human.resource.person.service.DirectoryIndex;
+import com.neg.technology.human.resource.utility.KeysetFlux;
+import com.neg.technology.human.resource.utility.KeysetPage;
+import com.neg.technology.human.resource.utility.ReferenceDataCache;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -31,20 +36,26 @@ public class EmployeeServiceImpl implements EmployeeService {
 
     private final EmployeeRepository employeeRepository;
     private final PersonRepository personRepository;
-    private final DepartmentRepository departmentRepository;
-    private final PositionRepository positionRepository;
-    private final CompanyRepository companyRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final OrgGraphIndex orgGraphIndex;
+    private final DirectoryIndex directoryIndex;
+    private final EmployeeImportEngine employeeImportEngine;
+    private final Scheduler jdbcScheduler;
 
     public EmployeeServiceImpl(EmployeeRepository employeeRepository,
                                PersonRepository personRepository,
-                               DepartmentRepository departmentRepository,
-                               PositionRepository positionRepository,
-                               CompanyRepository companyRepository) {
+                               ReferenceDataCache referenceDataCache,
+                               OrgGraphIndex orgGraphIndex,
+                               DirectoryIndex directoryIndex,
+                               EmployeeImportEngine employeeImportEngine,
+                               Scheduler jdbcScheduler) {
         this.employeeRepository = employeeRepository;
         this.personRepository = personRepository;
-        this.departmentRepository = departmentRepository;
-        this.positionRepository = positionRepository;
-        this.companyRepository = companyRepository;
+        this.referenceDataCache = referenceDataCache;
+        this.orgGraphIndex = orgGraphIndex;
+        this.directoryIndex = directoryIndex;
+        this.employeeImportEngine = employeeImportEngine;
+        this.jdbcScheduler = jdbcScheduler;
     }
 
     @Override
@@ -54,19 +65,21 @@ public class EmployeeServiceImpl implements EmployeeService {
                     request,
                     personRepository.findById(request.getPersonId())
                             .orElseThrow(() -> new ResourceNotFoundException("Person", request.getPersonId())),
-                    departmentRepository.findById(request.getDepartmentId())
+                    referenceDataCache.findDepartment(request.getDepartmentId())
                             .orElseThrow(() -> new ResourceNotFoundException("Department", request.getDepartmentId())),
-                    positionRepository.findById(request.getPositionId())
+                    referenceDataCache.findPosition(request.getPositionId())
                             .orElseThrow(() -> new ResourceNotFoundException("Position", request.getPositionId())),
-                    companyRepository.findById(request.getCompanyId())
+                    referenceDataCache.findCompany(request.getCompanyId())
                             .orElseThrow(() -> new ResourceNotFoundException("Company", request.getCompanyId())),
                     request.getManagerId() != null ? employeeRepository.findById(request.getManagerId()).orElse(null) : null
             );
 
             Employee saved = employeeRepository.save(employee);
+            orgGraphIndex.put(saved.getId(), managerId(saved));
+            directoryIndex.putEmployee(saved.getPerson().getId(), saved.getId(), saved.getRegistrationNumber());
             Logger.logEmployeeCreated(saved.getId(), saved.getPerson().getFirstName() + " " + saved.getPerson().getLastName());
             return EmployeeMapper.toDTO(saved);
-        });
+        }).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -74,38 +87,50 @@ public class EmployeeServiceImpl implements EmployeeService {
         return Mono.fromCallable(() -> {
             Employee existing = employeeRepository.findById(request.getId())
                     .orElseThrow(() -> new ResourceNotFoundException(MESSAGE, request.getId()));
+            Long previousPersonId = existing.getPerson().getId();
 
             EmployeeMapper.updateEntity(
                     existing,
                     request,
                     request.getPersonId() != null ? personRepository.findById(request.getPersonId()).orElse(null) : null,
-                    request.getDepartmentId() != null ? departmentRepository.findById(request.getDepartmentId()).orElse(null) : null,
-                    request.getPositionId() != null ? positionRepository.findById(request.getPositionId()).orElse(null) : null,
-                    request.getCompanyId() != null ? companyRepository.findById(request.getCompanyId()).orElse(null) : null,
+                    request.getDepartmentId() != null ? referenceDataCache.findDepartment(request.getDepartmentId()).orElse(null) : null,
+                    request.getPositionId() != null ? referenceDataCache.findPosition(request.getPositionId()).orElse(null) : null,
+                    request.getCompanyId() != null ? referenceDataCache.findCompany(request.getCompanyId()).orElse(null) : null,
                     request.getManagerId() != null ? employeeRepository.findById(request.getManagerId()).orElse(null) : null
             );
 
             Employee updated = employeeRepository.save(existing);
+            orgGraphIndex.put(updated.getId(), managerId(updated));
+            if (!previousPersonId.equals(updated.getPerson().getId())) {
+                directoryIndex.removeEmployee(previousPersonId);
+            }
+            directoryIndex.putEmployee(updated.getPerson().getId(), updated.getId(), updated.getRegistrationNumber());
             Logger.logEmployeeUpdated(updated.getId(), updated.getPerson().getFirstName() + " " + updated.getPerson().getLastName());
             return EmployeeMapper.toDTO(updated);
-        });
+        }).subscribeOn(jdbcScheduler);
     }
 
     @Override
     public Mono<EmployeeResponse> getEmployeeById(IdRequest request) {
         return Mono.fromCallable(() ->
-                employeeRepository.findById(request.getId())
-                        .map(EmployeeMapper::toDTO)
+                employeeRepository.findResponseById(request.getId())
                         .orElseThrow(() -> new ResourceNotFoundException(MESSAGE, request.getId()))
-        );
+        ).subscribeOn(jdbcScheduler);
     }
 
     @Override
     public Mono<EmployeeListResponse> getAllEmployees() {
-        return Mono.fromCallable(() -> {
-            List<Employee> employees = employeeRepository.findAll();
-            return new EmployeeListResponse(EmployeeMapper.toDTO(employees));
-        });
+        return Mono.fromCallable(() -> new EmployeeListResponse(employeeRepository.findAllResponses()))
+                .subscribeOn(jdbcScheduler);
+    }
+
+    @Override
+    public Flux<EmployeeResponse> streamAllEmployees() {
+        return KeysetFlux.stream(
+                afterId -> employeeRepository.findResponsePage(afterId, Limit.of(KeysetFlux.DEFAULT_CHUNK_SIZE)),
+                EmployeeResponse::getId,
+                KeysetFlux.DEFAULT_CHUNK_SIZE,
+                jdbcScheduler);
     }
 
     @Override
@@ -114,66 +139,84 @@ public class EmployeeServiceImpl implements EmployeeService {
             Employee employee = employeeRepository.findById(request.getId())
                     .orElseThrow(() -> new ResourceNotFoundException(MESSAGE, request.getId()));
             employeeRepository.delete(employee);
+            orgGraphIndex.remove(employee.getId());
+            directoryIndex.removeEmployee(employee.getPerson().getId());
             Logger.logEmployeeDeleted(employee.getId());
-        });
+        }).subscribeOn(jdbcScheduler).then();
+    }
+
+    @Override
+    public Mono<EmployeeImportResponse> importEmployees(Flux<String> lines) {
+        return employeeImportEngine.importLines(lines);
     }
 
     @Override
     public Mono<EmployeeListResponse> getActiveEmployees() {
-        return Mono.fromCallable(() -> {
-            List<Employee> employees = employeeRepository.findByIsActiveTrue();
-            return new EmployeeListResponse(EmployeeMapper.toDTO(employees));
-        });
+        return Mono.fromCallable(() -> new EmployeeListResponse(employeeRepository.findActiveResponses()))
+                .subscribeOn(jdbcScheduler);
     }
 
     @Override
     public Mono<EmployeeListResponse> getInactiveEmployees() {
-        return Mono.fromCallable(() -> {
-            List<Employee> employees = employeeRepository.findByIsActiveFalse();
-            return new EmployeeListResponse(EmployeeMapper.toDTO(employees));
-        });
+        return Mono.fromCallable(() -> new EmployeeListResponse(employeeRepository.findInactiveResponses()))
+                .subscribeOn(jdbcScheduler);
     }
 
     @Override
     public Mono<EmployeeListResponse> getEmployeesByDepartment(DepartmentIdRequest request) {
         return Mono.fromCallable(() -> {
-            List<Employee> employees = employeeRepository.findByDepartmentId(request.getDepartmentId());
-            return new EmployeeListResponse(EmployeeMapper.toDTO(employees));
-        });
+            KeysetPage page = request.toPage();
+            List<EmployeeResponse> employees = page.isPaged()
+                    ? employeeRepository.findResponsePageByDepartmentId(request.getDepartmentId(), page.afterId(), page.fetchLimit())
+                    : employeeRepository.findResponsesByDepartmentId(request.getDepartmentId());
+            return toListResponse(page, employees);
+        }).subscribeOn(jdbcScheduler);
     }
 
     @Override
     public Mono<EmployeeListResponse> getEmployeesByPosition(PositionIdRequest request) {
         return Mono.fromCallable(() -> {
-            List<Employee> employees = employeeRepository.findByPositionId(request.getPositionId());
-            return new EmployeeListResponse(EmployeeMapper.toDTO(employees));
-        });
+            KeysetPage page = request.toPage();
+            List<EmployeeResponse> employees = page.isPaged()
+                    ? employeeRepository.findResponsePageByPositionId(request.getPositionId(), page.afterId(), page.fetchLimit())
+                    : employeeRepository.findResponsesByPositionId(request.getPositionId());
+            return toListResponse(page, employees);
+        }).subscribeOn(jdbcScheduler);
     }
 
     @Override
     public Mono<EmployeeListResponse> getEmployeesByCompany(CompanyIdRequest request) {
         return Mono.fromCallable(() -> {
-            List<Employee> employees = employeeRepository.findByCompanyId(request.getCompanyId());
-            return new EmployeeListResponse(EmployeeMapper.toDTO(employees));
-        });
+            KeysetPage page = request.toPage();
+            List<EmployeeResponse> employees = page.isPaged()
+                    ? employeeRepository.findResponsePageByCompanyId(request.getCompanyId(), page.afterId(), page.fetchLimit())
+                    : employeeRepository.findResponsesByCompanyId(request.getCompanyId());
+            return toListResponse(page, employees);
+        }).subscribeOn(jdbcScheduler);
     }
 
     @Override
     public Mono<EmployeeListResponse> getEmployeesHiredBefore(DateRequest request) {
         return Mono.fromCallable(() -> {
             LocalDateTime date = LocalDateTime.parse(request.getDate());
-            List<Employee> employees = employeeRepository.findByHireDateBefore(date);
-            return new EmployeeListResponse(EmployeeMapper.toDTO(employees));
-        });
+            KeysetPage page = request.toPage();
+            List<EmployeeResponse> employees = page.isPaged()
+                    ? employeeRepository.findResponsePageByHireDateBefore(date, page.afterId(), page.fetchLimit())
+                    : employeeRepository.findResponsesByHireDateBefore(date);
+            return toListResponse(page, employees);
+        }).subscribeOn(jdbcScheduler);
     }
 
     @Override
     public Mono<EmployeeListResponse> getEmployeesEmploymentEndedBefore(DateRequest request) {
         return Mono.fromCallable(() -> {
             LocalDateTime date = LocalDateTime.parse(request.getDate());
-            List<Employee> employees = employeeRepository.findByEmploymentEndDateBefore(date);
-            return new EmployeeListResponse(EmployeeMapper.toDTO(employees));
-        });
+            KeysetPage page = request.toPage();
+            List<EmployeeResponse> employees = page.isPaged()
+                    ? employeeRepository.findResponsePageByEmploymentEndDateBefore(date, page.afterId(), page.fetchLimit())
+                    : employeeRepository.findResponsesByEmploymentEndDateBefore(date);
+            return toListResponse(page, employees);
+        }).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -181,14 +224,23 @@ public class EmployeeServiceImpl implements EmployeeService {
         return Mono.fromCallable(() ->
                 employeeRepository.findById(id)
                         .orElseThrow(() -> new ResourceNotFoundException(MESSAGE, id))
-        );
+        ).subscribeOn(jdbcScheduler);
     }
 
     @Override
     public Mono<Object> findById(Long employeeId) {
-        return Mono.fromCallable(() ->
+        return Mono.<Object>fromCallable(() ->
                 employeeRepository.findById(employeeId)
                         .orElseThrow(() -> new ResourceNotFoundException(MESSAGE, employeeId))
-        );
+        ).subscribeOn(jdbcScheduler);
+    }
+
+    private EmployeeListResponse toListResponse(KeysetPage page, List<EmployeeResponse> employees) {
+        KeysetPage.Slice<EmployeeResponse> slice = page.slice(employees, EmployeeResponse::getId);
+        return new EmployeeListResponse(slice.items(), slice.nextCursor());
+    }
+
+    private static Long managerId(Employee employee) {
+        return employee.getManager() != null ? employee.getManager().getId() : null;
     }
-}
\ No newline at end of file
+}
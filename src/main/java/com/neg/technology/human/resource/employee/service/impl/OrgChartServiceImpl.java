@@ -0,0 +1,91 @@
+package com.neg.technology.human.resource.employee.service.impl;
+
+import com.neg.technology.human.resource.employee.model.mapper.OrgChartMapper;
+import com.neg.technology.human.resource.employee.model.request.ApproverRequest;
+import com.neg.technology.human.resource.employee.model.response.ApproverResponse;
+import com.neg.technology.human.resource.employee.model.response.HeadcountResponse;
+import com.neg.technology.human.resource.employee.model.response.OrgChartResponse;
+import com.neg.technology.human.resource.employee.model.response.SpanOfControlResponse;
+import com.neg.technology.human.resource.employee.repository.OrgChartRepository;
+import com.neg.technology.human.resource.employee.service.OrgChartService;
+import com.neg.technology.human.resource.exception.ResourceNotFoundException;
+import com.neg.technology.human.resource.utility.module.entity.request.IdRequest;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.List;
+
+@Service
+public class OrgChartServiceImpl implements OrgChartService {
+    public static final String MESSAGE = "Employee";
+
+    private final OrgChartRepository orgChartRepository;
+    private final OrgGraphIndex orgGraphIndex;
+    private final Scheduler jdbcScheduler;
+
+    public OrgChartServiceImpl(OrgChartRepository orgChartRepository,
+                               OrgGraphIndex orgGraphIndex,
+                               Scheduler jdbcScheduler) {
+        this.orgChartRepository = orgChartRepository;
+        this.orgGraphIndex = orgGraphIndex;
+        this.jdbcScheduler = jdbcScheduler;
+    }
+
+    @Override
+    public Mono<OrgChartResponse> getSubtree(IdRequest request) {
+        return Mono.fromCallable(() ->
+                OrgChartMapper.toDTO(existing(request.getId(), orgChartRepository.findSubtree(request.getId())))
+        ).subscribeOn(jdbcScheduler);
+    }
+
+    @Override
+    public Mono<OrgChartResponse> getChainOfCommand(IdRequest request) {
+        return Mono.fromCallable(() ->
+                OrgChartMapper.toDTO(existing(request.getId(), orgChartRepository.findChainOfCommand(request.getId())))
+        ).subscribeOn(jdbcScheduler);
+    }
+
+    @Override
+    public Mono<SpanOfControlResponse> getSpanOfControl(IdRequest request) {
+        return Mono.fromCallable(() -> {
+            OrgChartRepository.SpanRow span = orgChartRepository.findSpanOfControl(request.getId());
+            if (span.getMembers() == 0) {
+                throw new ResourceNotFoundException(MESSAGE, request.getId());
+            }
+            return OrgChartMapper.toDTO(request.getId(), span);
+        }).subscribeOn(jdbcScheduler);
+    }
+
+    @Override
+    public Mono<HeadcountResponse> getHeadcount(IdRequest request) {
+        return orgGraphIndex.graph().map(graph -> {
+            if (!graph.contains(request.getId())) {
+                throw new ResourceNotFoundException(MESSAGE, request.getId());
+            }
+            return OrgChartMapper.toHeadcount(request.getId(), graph);
+        });
+    }
+
+    @Override
+    public Mono<ApproverResponse> canApprove(ApproverRequest request) {
+        return orgGraphIndex.graph().map(graph -> {
+            if (!graph.contains(request.getEmployeeId())) {
+                throw new ResourceNotFoundException(MESSAGE, request.getEmployeeId());
+            }
+            if (!graph.contains(request.getApproverId())) {
+                throw new ResourceNotFoundException("Approver Employee", request.getApproverId());
+            }
+            return new ApproverResponse(request.getEmployeeId(), request.getApproverId(),
+                    graph.reportsTo(request.getEmployeeId(), request.getApproverId()));
+        });
+    }
+
+    // Kök satırı her zaman sonuçtadır; boş sonuç çalışanın olmadığı anlamına gelir
+    private static <T> List<T> existing(Long id, List<T> rows) {
+        if (rows.isEmpty()) {
+            throw new ResourceNotFoundException(MESSAGE, id);
+        }
+        return rows;
+    }
+}
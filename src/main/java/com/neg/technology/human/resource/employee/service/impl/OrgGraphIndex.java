@@ -0,0 +1,136 @@
+package com.neg.technology.human.resource.employee.service.impl;
+
+import com.neg.technology.human.resource.config.OrgGraphProperties;
+import com.neg.technology.human.resource.employee.repository.OrgChartRepository;
+import com.neg.technology.human.resource.utility.OrgGraph;
+import com.neg.technology.human.resource.utility.SnapshotHolder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Holds the current {@link OrgGraph} so that approver routing, headcounts and depths are answered from
+ * memory. The graph is loaded once the application is ready and kept current by
+ * {@link EmployeeServiceImpl}, which reports every committed manager change of this node. Changes made
+ * by other nodes or directly in the database are picked up by a periodic consistency check that reloads
+ * the relation and replaces the snapshot when it differs.
+ * <p>
+ * Reads are lock-free; updates are serialized by {@link SnapshotHolder} and each one builds a new snapshot
+ * in O(employees).
+ */
+@Slf4j
+public class OrgGraphIndex {
+
+    static final String METRIC_PREFIX = "hr.org-graph";
+
+    private final OrgChartRepository orgChartRepository;
+    private final OrgGraphProperties properties;
+    private final Counter mismatches;
+    private final SnapshotHolder<OrgGraph> snapshot;
+
+    public OrgGraphIndex(OrgChartRepository orgChartRepository,
+                         OrgGraphProperties properties,
+                         Scheduler jdbcScheduler,
+                         MeterRegistry meterRegistry) {
+        this.orgChartRepository = orgChartRepository;
+        this.properties = properties;
+        this.snapshot = new SnapshotHolder<>("Org graph", this::load, jdbcScheduler);
+        this.mismatches = Counter.builder(METRIC_PREFIX + ".consistency.mismatches")
+                .description("Consistency checks that found the in-memory graph out of date")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".employees", this, index -> index.current().size())
+                .description("Employees in the in-memory org graph")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".cyclic", this, index -> index.current().cyclicNodes())
+                .description("Employees on or below a manager cycle")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".footprint", this, index -> index.current().footprintBytes())
+                .description("Heap held by the org graph arrays")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        snapshot.start(properties.getCheckInterval(), this::check,
+                graph -> log.info("Org graph loaded: {} employees, {} bytes", graph.size(), graph.footprintBytes()));
+    }
+
+    public void stop() {
+        snapshot.stop();
+    }
+
+    /**
+     * The current snapshot, loading it first if this is the first use.
+     */
+    public Mono<OrgGraph> graph() {
+        return snapshot.get();
+    }
+
+    /**
+     * Records a committed create or manager change.
+     */
+    public void put(Long employeeId, Long managerId) {
+        snapshot.update(graph -> graph.withManager(employeeId, managerId));
+    }
+
+    /**
+     * Records many committed creates at once, such as one chunk of an employee import.
+     */
+    public void putAll(long[] employeeIds, Long[] managerIds) {
+        snapshot.update(graph -> graph.withManagers(employeeIds, managerIds));
+    }
+
+    /**
+     * Records a committed delete.
+     */
+    public void remove(Long employeeId) {
+        snapshot.update(graph -> graph.without(employeeId));
+    }
+
+    /**
+     * Reloads the relation and replaces the snapshot if it no longer matches. Local changes that landed
+     * during the reload are applied to the loaded relation before the two are compared.
+     *
+     * @return true when the snapshot was out of date
+     */
+    public Mono<Boolean> check() {
+        AtomicBoolean outOfDate = new AtomicBoolean();
+        return snapshot.reload((current, loaded) -> {
+            if (current != null && current.sameEdges(loaded)) {
+                return current;
+            }
+            if (current != null) {
+                mismatches.increment();
+                log.warn("Org graph was out of date ({} employees in memory, {} in database); replaced",
+                        current.size(), loaded.size());
+            }
+            outOfDate.set(true);
+            return loaded;
+        }).map(graph -> outOfDate.get());
+    }
+
+    private OrgGraph current() {
+        OrgGraph current = snapshot.current();
+        return current != null ? current : OrgGraph.empty();
+    }
+
+    private OrgGraph load() {
+        List<OrgChartRepository.ManagerLink> links = orgChartRepository.findManagerLinks();
+        long[] ids = new long[links.size()];
+        Long[] managerIds = new Long[links.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = links.get(i).getId();
+            managerIds[i] = links.get(i).getManagerId();
+        }
+        return OrgGraph.of(ids, managerIds);
+    }
+}
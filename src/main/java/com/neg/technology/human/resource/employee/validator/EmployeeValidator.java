@@ -1,10 +1,8 @@
 package com.neg.technology.human.resource.employee.validator;
 
-import com.neg.technology.human.resource.company.repository.CompanyRepository;
-import com.neg.technology.human.resource.department.repository.DepartmentRepository;
 import com.neg.technology.human.resource.employee.repository.EmployeeRepository;
 import com.neg.technology.human.resource.person.repository.PersonRepository;
-import com.neg.technology.human.resource.company.repository.PositionRepository;
+import com.neg.technology.human.resource.utility.ReferenceDataCache;
 import com.neg.technology.human.resource.employee.model.request.CreateEmployeeRequest;
 import com.neg.technology.human.resource.employee.model.request.UpdateEmployeeRequest;
 import org.springframework.stereotype.Service;
@@ -13,20 +11,14 @@ import org.springframework.stereotype.Service;
 public class EmployeeValidator {
     private final PersonRepository personRepository;
     private final EmployeeRepository employeeRepository;
-    private final PositionRepository positionRepository;
-    private final DepartmentRepository departmentRepository;
-    private final CompanyRepository companyRepository;
+    private final ReferenceDataCache referenceDataCache;
 
     public EmployeeValidator(PersonRepository personRepository,
-                             DepartmentRepository departmentRepository,
-                             PositionRepository positionRepository,
-                             CompanyRepository companyRepository,
+                             ReferenceDataCache referenceDataCache,
                              EmployeeRepository employeeRepository) {
         this.personRepository = personRepository;
         this.employeeRepository = employeeRepository;
-        this.departmentRepository = departmentRepository;
-        this.positionRepository = positionRepository;
-        this.companyRepository = companyRepository;
+        this.referenceDataCache = referenceDataCache;
     }
 
     public void validateCreateDTO(CreateEmployeeRequest dto) {
@@ -65,15 +57,15 @@ public class EmployeeValidator {
             throw new IllegalArgumentException("Invalid person id");
         }
 
-        if (departmentId != null && departmentRepository.findById(departmentId).isEmpty()) {
+        if (departmentId != null && referenceDataCache.findDepartment(departmentId).isEmpty()) {
             throw new IllegalArgumentException("Invalid department id");
         }
 
-        if (positionId != null && positionRepository.findById(positionId).isEmpty()) {
+        if (positionId != null && referenceDataCache.findPosition(positionId).isEmpty()) {
             throw new IllegalArgumentException("Invalid position id");
         }
 
-        if (companyId != null && companyRepository.findById(companyId).isEmpty()) {
+        if (companyId != null && referenceDataCache.findCompany(companyId).isEmpty()) {
             throw new IllegalArgumentException("Invalid company id");
         }
 
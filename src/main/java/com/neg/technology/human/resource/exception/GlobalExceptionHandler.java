@@ -3,6 +3,7 @@ package com.neg.technology.human.resource.exception;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -16,6 +17,7 @@ import org.springframework.web.server.UnsupportedMediaTypeStatusException;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 @Slf4j
 @ControllerAdvice
@@ -31,6 +33,16 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST, exchange.getRequest().getPath().value());
     }
 
+    @ExceptionHandler(InvalidPageRequestException.class)
+    public ResponseEntity<ApiErrorResponse> handleInvalidPageRequest(InvalidPageRequestException ex, ServerWebExchange exchange) {
+        return buildErrorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST, exchange.getRequest().getPath().value());
+    }
+
+    @ExceptionHandler(InvalidImportFileException.class)
+    public ResponseEntity<ApiErrorResponse> handleInvalidImportFile(InvalidImportFileException ex, ServerWebExchange exchange) {
+        return buildErrorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST, exchange.getRequest().getPath().value());
+    }
+
     @ExceptionHandler(DuplicateEmployeeException.class)
     public ResponseEntity<ApiErrorResponse> handleDuplicateEmployee(DuplicateEmployeeException ex, ServerWebExchange exchange) {
         return buildErrorResponse(ex.getMessage(), HttpStatus.CONFLICT, exchange.getRequest().getPath().value());
@@ -64,6 +76,13 @@ public class GlobalExceptionHandler {
                 HttpStatus.CONFLICT, exchange.getRequest().getPath().value());
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiErrorResponse> handleOptimisticLockingFailure(OptimisticLockingFailureException ex, ServerWebExchange exchange) {
+        log.warn("Concurrent modification detected: {}", ex.getMessage());
+        return buildErrorResponse("The record was modified concurrently, please retry",
+                HttpStatus.CONFLICT, exchange.getRequest().getPath().value());
+    }
+
     @ExceptionHandler(MissingRequestValueException.class)
     public ResponseEntity<ApiErrorResponse> handleMissingRequestParam(MissingRequestValueException ex, ServerWebExchange exchange) {
         String message = "Missing request parameter or body value: " + ex.getReason();
@@ -76,6 +95,13 @@ public class GlobalExceptionHandler {
                 HttpStatus.UNSUPPORTED_MEDIA_TYPE, exchange.getRequest().getPath().value());
     }
 
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ApiErrorResponse> handleRejectedExecution(RejectedExecutionException ex, ServerWebExchange exchange) {
+        log.warn("Request rejected, database worker queue is full: {}", ex.getMessage());
+        return buildErrorResponse("Service is temporarily overloaded, please retry later",
+                HttpStatus.SERVICE_UNAVAILABLE, exchange.getRequest().getPath().value());
+    }
+
     @ExceptionHandler(ServerErrorException.class)
     public ResponseEntity<ApiErrorResponse> handleServerError(ServerErrorException ex, ServerWebExchange exchange) {
         log.error("Server error occurred", ex);
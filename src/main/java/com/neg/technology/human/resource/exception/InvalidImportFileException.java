@@ -0,0 +1,7 @@
+package com.neg.technology.human.resource.exception;
+
+public class InvalidImportFileException extends RuntimeException {
+    public InvalidImportFileException(String message) {
+        super(message);
+    }
+}
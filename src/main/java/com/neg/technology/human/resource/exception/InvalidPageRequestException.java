@@ -0,0 +1,7 @@
+package com.neg.technology.human.resource.exception;
+
+public class InvalidPageRequestException extends RuntimeException {
+    public InvalidPageRequestException(String message) {
+        super(message);
+    }
+}
@@ -1,9 +1,15 @@
 package com.neg.technology.human.resource.leave.controller;
 
 import com.neg.technology.human.resource.leave.model.request.*;
+import com.neg.technology.human.resource.leave.model.response.DeductLeaveResponse;
 import com.neg.technology.human.resource.leave.model.response.LeaveBalanceResponse;
 import com.neg.technology.human.resource.leave.model.response.LeaveBalanceResponseList;
+import com.neg.technology.human.resource.leave.model.response.LeaveAccrualRunResponse;
+import com.neg.technology.human.resource.leave.model.response.LeaveLedgerResponse;
+import com.neg.technology.human.resource.leave.service.LeaveAccrualService;
 import com.neg.technology.human.resource.leave.service.LeaveBalanceService;
+import com.neg.technology.human.resource.leave.service.LeaveExportService;
+import com.neg.technology.human.resource.utility.PgCopyExporter;
 import com.neg.technology.human.resource.utility.module.entity.request.IdRequest;
 import com.neg.technology.human.resource.employee.model.request.EmployeeYearRequest;
 import com.neg.technology.human.resource.employee.model.request.EmployeeLeaveTypeYearRequest;
@@ -12,9 +18,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Tag(name = "Leave Balance Controller", description = "Operations related to leave balance management")
@@ -25,6 +35,8 @@ import reactor.core.publisher.Mono;
 public class LeaveBalanceController {
 
     private final LeaveBalanceService leaveBalanceService;
+    private final LeaveAccrualService leaveAccrualService;
+    private final LeaveExportService leaveExportService;
 
     @Operation(summary = "Get all leave balances")
     @PostMapping("/getAll")
@@ -33,6 +45,13 @@ public class LeaveBalanceController {
                 .map(ResponseEntity::ok);
     }
 
+    @Operation(summary = "Stream all leave balances", description = "Streams leave balances as newline-delimited JSON without loading the whole table")
+    @ApiResponse(responseCode = "200", description = "Leave balances streamed successfully")
+    @PostMapping(value = "/streamAll", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<LeaveBalanceResponse> streamAllLeaveBalances() {
+        return leaveBalanceService.streamAll();
+    }
+
     @Operation(summary = "Get leave balance by ID")
     @ApiResponse(responseCode = "200", description = "Leave balance found")
     @ApiResponse(responseCode = "404", description = "Leave balance not found")
@@ -44,9 +63,9 @@ public class LeaveBalanceController {
 
     @Operation(summary = "Deduct leave from employee balance")
     @PostMapping("/deduct")
-    public Mono<ResponseEntity<Void>> deductLeave(@Valid @RequestBody DeductLeaveRequest request) {
+    public Mono<ResponseEntity<DeductLeaveResponse>> deductLeave(@Valid @RequestBody DeductLeaveRequest request) {
         return leaveBalanceService.deductLeave(request)
-                .then(Mono.just(ResponseEntity.ok().build()));
+                .map(ResponseEntity::ok);
     }
 
 
@@ -105,4 +124,43 @@ public class LeaveBalanceController {
         return leaveBalanceService.getByLeaveTypeAndYear(request)
                 .map(ResponseEntity::ok);
     }
+
+    @Operation(summary = "Export leave balances by leave type and year as CSV",
+            description = "Same rows as /getByLeaveTypeAndYear with used and remaining days, streamed from the database with COPY; gzip-encoded when the client accepts it")
+    @ApiResponse(responseCode = "200", description = "CSV streamed")
+    @PostMapping(value = "/exportByLeaveTypeAndYear", produces = "text/csv")
+    public ResponseEntity<Flux<DataBuffer>> exportLeaveBalancesByLeaveTypeAndYear(
+            @Valid @RequestBody LeaveTypeYearRequest request,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        boolean gzip = PgCopyExporter.acceptsGzip(acceptEncoding);
+        return PgCopyExporter.attachment("leave-balances.csv", gzip, leaveExportService.exportLeaveBalances(request, gzip));
+    }
+
+    @Operation(summary = "Get leave ledger of an employee, leave type and year",
+            description = "Every accrual, carry-over, adjustment, deduction and refund in order, with the totals they add up to")
+    @ApiResponse(responseCode = "200", description = "Ledger entries listed")
+    @PostMapping("/ledger")
+    public Mono<ResponseEntity<LeaveLedgerResponse>> getLedger(@Valid @RequestBody EmployeeLeaveTypeYearRequest request) {
+        return leaveBalanceService.getLedger(request)
+                .map(ResponseEntity::ok);
+    }
+
+    @Operation(summary = "Start year-end leave accrual",
+            description = "Creates next year's balances (entitlement plus carry-over) for all active employees in the background; a failed run resumes from its checkpoint")
+    @ApiResponse(responseCode = "200", description = "Accrual run started, resumed or already completed")
+    @ApiResponse(responseCode = "400", description = "Leave type is not annual or the run is already running")
+    @PostMapping("/accrual/start")
+    public Mono<ResponseEntity<LeaveAccrualRunResponse>> startAccrual(@Valid @RequestBody LeaveAccrualRequest request) {
+        return leaveAccrualService.start(request)
+                .map(ResponseEntity::ok);
+    }
+
+    @Operation(summary = "Get year-end leave accrual progress")
+    @ApiResponse(responseCode = "200", description = "Accrual run found")
+    @ApiResponse(responseCode = "404", description = "Accrual was never started for the year and leave type")
+    @PostMapping("/accrual/status")
+    public Mono<ResponseEntity<LeaveAccrualRunResponse>> getAccrualStatus(@Valid @RequestBody LeaveAccrualRequest request) {
+        return leaveAccrualService.getStatus(request)
+                .map(ResponseEntity::ok);
+    }
 }
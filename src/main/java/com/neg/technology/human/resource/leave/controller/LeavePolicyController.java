@@ -102,6 +102,14 @@ public class LeavePolicyController {
                 .map(ResponseEntity::ok);
     }
 
+    @Operation(summary = "Reload holiday calendar", description = "Rebuilds the in-memory calendar after holiday_calendar was edited")
+    @ApiResponse(responseCode = "204", description = "Holiday calendar reloaded")
+    @PostMapping("/holiday-calendar/reload")
+    public Mono<ResponseEntity<Void>> reloadHolidayCalendar() {
+        return leavePolicyService.reloadHolidayCalendar()
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
     @Operation(summary = "Get all leave policies")
     @PostMapping("/all")
     public Mono<ResponseEntity<LeavePolicyResponseList>> getAllLeavePolicies() {
@@ -1,11 +1,15 @@
 package com.neg.technology.human.resource.leave.controller;
 
+import com.neg.technology.human.resource.leave.model.request.BulkChangeLeaveRequestStatusRequest;
 import com.neg.technology.human.resource.leave.model.request.ChangeLeaveRequestStatusRequest;
 import com.neg.technology.human.resource.leave.model.request.CreateLeaveRequestRequest;
 import com.neg.technology.human.resource.leave.model.request.UpdateLeaveRequestRequest;
+import com.neg.technology.human.resource.leave.model.response.BulkChangeLeaveRequestStatusResponse;
 import com.neg.technology.human.resource.leave.model.response.LeaveRequestResponse;
 import com.neg.technology.human.resource.leave.model.response.LeaveRequestResponseList;
+import com.neg.technology.human.resource.leave.service.LeaveExportService;
 import com.neg.technology.human.resource.leave.service.LeaveRequestService;
+import com.neg.technology.human.resource.utility.PgCopyExporter;
 import com.neg.technology.human.resource.utility.module.entity.request.IdRequest;
 import com.neg.technology.human.resource.utility.module.entity.request.StatusRequest;
 import com.neg.technology.human.resource.employee.model.request.EmployeeDateRangeRequest;
@@ -16,8 +20,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Tag(name = "LeaveRequest Controller", description = "Operations related to leave requests management")
@@ -27,6 +35,7 @@ import reactor.core.publisher.Mono;
 public class LeaveRequestController {
 
     private final LeaveRequestService leaveRequestService;
+    private final LeaveExportService leaveExportService;
 
     @Operation(summary = "Get all leave requests")
     @PostMapping("/getAll")
@@ -35,6 +44,13 @@ public class LeaveRequestController {
                 .map(ResponseEntity::ok);
     }
 
+    @Operation(summary = "Stream all leave requests", description = "Streams leave requests as newline-delimited JSON without loading the whole table")
+    @ApiResponse(responseCode = "200", description = "Leave requests streamed successfully")
+    @PostMapping(value = "/streamAll", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<LeaveRequestResponse> streamAllLeaveRequests() {
+        return leaveRequestService.streamAll();
+    }
+
     @Operation(summary = "Get leave request by ID")
     @ApiResponse(responseCode = "200", description = "Leave request found")
     @ApiResponse(responseCode = "404", description = "Leave request not found")
@@ -107,6 +123,17 @@ public class LeaveRequestController {
                 .map(ResponseEntity::ok);
     }
 
+    @Operation(summary = "Export leave requests by date range as CSV",
+            description = "Same rows as /getByDateRange, streamed from the database with COPY; gzip-encoded when the client accepts it")
+    @ApiResponse(responseCode = "200", description = "CSV streamed")
+    @PostMapping(value = "/exportByDateRange", produces = "text/csv")
+    public ResponseEntity<Flux<DataBuffer>> exportLeaveRequestsByDateRange(
+            @Valid @RequestBody EmployeeDateRangeRequest request,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        boolean gzip = PgCopyExporter.acceptsGzip(acceptEncoding);
+        return PgCopyExporter.attachment("leave-requests.csv", gzip, leaveExportService.exportLeaveRequests(request, gzip));
+    }
+
     @Operation(summary = "Get leave requests by employee, leave type and date range")
     @PostMapping("/getByEmployeeLeaveTypeAndDateRange")
     public Mono<ResponseEntity<LeaveRequestResponseList>> getLeaveRequestsByEmployeeLeaveTypeAndDateRange(@Valid @RequestBody EmployeeLeaveTypeDateRangeRequest request) {
@@ -136,4 +163,16 @@ public class LeaveRequestController {
         return leaveRequestService.changeStatus(request)
                 .map(ResponseEntity::ok);
     }
+
+    @Operation(summary = "Approve or reject many leave requests",
+            description = "Applies one status to up to 200 leave requests in a single transaction; requests that cannot be changed are reported per item and left as they are")
+    @ApiResponse(responseCode = "200", description = "Per-request outcomes")
+    @ApiResponse(responseCode = "400", description = "Status other than APPROVED or REJECTED, or invalid request list")
+    @PostMapping("/bulkChangeStatus")
+    public Mono<ResponseEntity<BulkChangeLeaveRequestStatusResponse>> bulkChangeLeaveRequestStatus(
+            @Valid @RequestBody BulkChangeLeaveRequestStatusRequest request) {
+
+        return leaveRequestService.changeStatusBulk(request)
+                .map(ResponseEntity::ok);
+    }
 }
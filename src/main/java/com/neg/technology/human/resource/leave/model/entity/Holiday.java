@@ -0,0 +1,40 @@
+package com.neg.technology.human.resource.leave.model.entity;
+
+import com.neg.technology.human.resource.company.model.entity.Company;
+import com.neg.technology.human.resource.utility.AuditableEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * One non-working day of a country's calendar. Rows with a company are extra days off for that
+ * company only, on top of the country's holidays.
+ */
+@Entity
+@Table(name = "holiday_calendar")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class Holiday extends AuditableEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "holiday_calendar_id_seq")
+    @SequenceGenerator(name = "holiday_calendar_id_seq", sequenceName = "holiday_calendar_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "country_code", nullable = false, length = 2)
+    private String countryCode;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "company_id")
+    private Company company;
+
+    @Column(name = "holiday_date", nullable = false)
+    private LocalDate holidayDate;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+}
@@ -0,0 +1,73 @@
+package com.neg.technology.human.resource.leave.model.entity;
+
+import com.neg.technology.human.resource.leave.model.enums.AccrualRunStatus;
+import com.neg.technology.human.resource.utility.AuditableEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of the year-end accrual of one leave type. Employees are accrued in id order and every
+ * employee up to {@link #checkpointEmployeeId} is done, so a failed or interrupted run resumes from there.
+ * updated_at is the heartbeat of a running job, written at every checkpoint and on a timer in between.
+ * started_at identifies the claim: a run taken over gets a new one, and the writes of the old claim,
+ * which all name the started_at they were claimed with, no longer match.
+ */
+@Entity
+@Table(
+        name = "leave_accrual_run",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"year", "leave_type_id"})
+)
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class LeaveAccrualRun extends AuditableEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "leave_accrual_run_id_seq")
+    @SequenceGenerator(name = "leave_accrual_run_id_seq", sequenceName = "leave_accrual_run_id_seq", allocationSize = 50)
+    private Long id;
+
+    // Bakiyelerin oluşturulduğu yıl; devir bir önceki yıldan yapılır
+    @Column(nullable = false)
+    private Integer year;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "leave_type_id", nullable = false)
+    private LeaveType leaveType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AccrualRunStatus status;
+
+    @Column(name = "checkpoint_employee_id", nullable = false)
+    @Builder.Default
+    private Long checkpointEmployeeId = 0L;
+
+    @Column(name = "employees_processed", nullable = false)
+    @Builder.Default
+    private Long employeesProcessed = 0L;
+
+    @Column(name = "balances_created", nullable = false)
+    @Builder.Default
+    private Long balancesCreated = 0L;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    /**
+     * Last sign of life of the run: its last heartbeat or checkpoint, or its creation.
+     */
+    public LocalDateTime getLastHeartbeat() {
+        return updatedAt != null ? updatedAt : createdAt;
+    }
+}
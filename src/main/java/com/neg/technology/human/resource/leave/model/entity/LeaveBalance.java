@@ -9,6 +9,14 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
+@NamedEntityGraph(
+        name = LeaveBalance.GRAPH_WITH_NAMES,
+        attributeNodes = {
+                @NamedAttributeNode(value = "employee", subgraph = "employee.person"),
+                @NamedAttributeNode("leaveType")
+        },
+        subgraphs = @NamedSubgraph(name = "employee.person", attributeNodes = @NamedAttributeNode("person"))
+)
 @Table(
         name = "leave_balance",
         uniqueConstraints = @UniqueConstraint(
@@ -22,15 +30,22 @@ import java.time.LocalDate;
 @Builder
 public class LeaveBalance extends AuditableEntity {
 
+    /**
+     * Fetch plan for listings: employee with person (names) and leave type in the same select.
+     * Deduction and accrual queries load no association at all, they only need the amounts.
+     */
+    public static final String GRAPH_WITH_NAMES = "LeaveBalance.withNames";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "leave_balance_id_seq")
+    @SequenceGenerator(name = "leave_balance_id_seq", sequenceName = "leave_balance_id_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne(fetch = FetchType.EAGER) // Lazy patlamasın diye
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employee_id", nullable = false)
     private Employee employee;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "leave_type_id", nullable = false)
     private LeaveType leaveType;
 
@@ -41,15 +56,21 @@ public class LeaveBalance extends AuditableEntity {
     @Column(nullable = false)
     private BigDecimal amount;
 
-    @Column(name = "used_days")
+    // Yarım gün izinler nedeniyle kesirli olabilir
+    @Column(name = "used_days", nullable = false)
     @Builder.Default
-    private Integer usedDays = 0;
+    private BigDecimal usedDays = BigDecimal.ZERO;
+
+    // Düğümler arası eşzamanlı güncellemeleri yakalamak için (optimistic lock)
+    @Version
+    @Column(nullable = false)
+    private Long version;
 
     /**
      * Kullanılabilir bakiye hesaplama helper metodu
      */
     public BigDecimal getAvailableBalance() {
-        return amount.subtract(BigDecimal.valueOf(usedDays));
+        return amount.subtract(usedDays);
     }
 
     /**
@@ -59,7 +80,7 @@ public class LeaveBalance extends AuditableEntity {
         if (getAvailableBalance().compareTo(days) < 0) {
             throw new IllegalArgumentException("Insufficient leave balance.");
         }
-        this.usedDays += days.intValue();
+        this.usedDays = this.usedDays.add(days);
     }
 
     /**
@@ -0,0 +1,75 @@
+package com.neg.technology.human.resource.leave.model.entity;
+
+import com.neg.technology.human.resource.employee.model.entity.Employee;
+import com.neg.technology.human.resource.leave.model.enums.LedgerEntryType;
+import com.neg.technology.human.resource.utility.AuditableEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One append-only movement of an employee's leave of one type and year. The leave_balance rows of the
+ * year are the running total of these entries and are updated in the same transaction as every append,
+ * so reading a balance never replays the ledger while the ledger keeps the full history.
+ */
+@Entity
+@Table(name = "leave_ledger")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class LeaveLedgerEntry extends AuditableEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "leave_ledger_id_seq")
+    @SequenceGenerator(name = "leave_ledger_id_seq", sequenceName = "leave_ledger_id_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "employee_id", nullable = false)
+    private Employee employee;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "leave_type_id", nullable = false)
+    private LeaveType leaveType;
+
+    @Column(nullable = false)
+    private Integer year;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", nullable = false, length = 20)
+    private LedgerEntryType entryType;
+
+    @Column(nullable = false)
+    private BigDecimal days;
+
+    // Düşüm ve iadelerde kaynağı olan izin talebi
+    @Column(name = "leave_request_id")
+    private Long leaveRequestId;
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Entry against the employee, leave type and year of a balance row.
+     */
+    public static LeaveLedgerEntry of(LeaveBalance balance, LedgerEntryType entryType, BigDecimal days, Long leaveRequestId) {
+        return of(balance.getEmployee(), balance.getLeaveType(), balance.getEffectiveDate().getYear(), entryType, days, leaveRequestId);
+    }
+
+    public static LeaveLedgerEntry of(Employee employee, LeaveType leaveType, int year, LedgerEntryType entryType,
+                                      BigDecimal days, Long leaveRequestId) {
+        return LeaveLedgerEntry.builder()
+                .employee(employee)
+                .leaveType(leaveType)
+                .year(year)
+                .entryType(entryType)
+                .days(days)
+                .leaveRequestId(leaveRequestId)
+                .build();
+    }
+}
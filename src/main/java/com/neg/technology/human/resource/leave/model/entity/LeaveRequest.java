@@ -21,7 +21,8 @@ import java.time.LocalDateTime;
 public class LeaveRequest extends AuditableEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "leave_request_id_seq")
+    @SequenceGenerator(name = "leave_request_id_seq", sequenceName = "leave_request_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -38,9 +39,18 @@ public class LeaveRequest extends AuditableEntity {
     @Column(name = "end_date", nullable = false)
     private LocalDate endDate;
 
+    // Tatil takviminden hesaplanan iş günü; durum değişikliklerinde yeniden hesaplanmaz
     @Column(name = "requested_days")
     private BigDecimal requestedDays;
 
+    @Column(name = "start_half_day", nullable = false)
+    @Builder.Default
+    private Boolean startHalfDay = false;
+
+    @Column(name = "end_half_day", nullable = false)
+    @Builder.Default
+    private Boolean endHalfDay = false;
+
     @Enumerated(EnumType.STRING) // Enum değerlerinin String olarak saklanmasını sağlar
     @Column(nullable = false)
     private LeaveStatus status;
@@ -57,8 +67,9 @@ public class LeaveRequest extends AuditableEntity {
     @Column(name = "approved_note")
     private String approvalNote;
 
-    @Column(name = "is_cancelled")
-    private Boolean isCancelled;
+    @Column(name = "is_cancelled", nullable = false)
+    @Builder.Default
+    private Boolean isCancelled = false;
 
     @Column(name = "cancelled_at")
     private LocalDateTime cancelledAt;
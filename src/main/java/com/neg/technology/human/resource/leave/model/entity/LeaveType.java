@@ -5,9 +5,13 @@ import com.neg.technology.human.resource.utility.AuditableEntity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "leave_type")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "leave-type")
 @Getter
 @Setter
 @AllArgsConstructor
@@ -16,7 +20,8 @@ import lombok.*;
 public class LeaveType extends AuditableEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "leave_type_id_seq")
+    @SequenceGenerator(name = "leave_type_id_seq", sequenceName = "leave_type_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
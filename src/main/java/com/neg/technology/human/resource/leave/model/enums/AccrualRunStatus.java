@@ -0,0 +1,8 @@
+package com.neg.technology.human.resource.leave.model.enums;
+
+public enum AccrualRunStatus {
+    RUNNING,
+    COMPLETED,
+    // Checkpoint'ten yeniden başlatılabilir
+    FAILED
+}
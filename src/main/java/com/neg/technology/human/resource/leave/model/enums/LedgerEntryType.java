@@ -0,0 +1,20 @@
+package com.neg.technology.human.resource.leave.model.enums;
+
+/**
+ * Kind of a leave_ledger entry and how it moves the (employee, leave type, year) balance: the first four
+ * add their days to the amount, DEDUCTION adds to the used days and REFUND takes from them.
+ */
+public enum LedgerEntryType {
+    // Defter öncesi bakiyeler, geçişte bir kez yazıldı
+    OPENING,
+    ACCRUAL,
+    CARRY_OVER,
+    // Elle düzeltme; negatif olabilir
+    ADJUSTMENT,
+    DEDUCTION,
+    REFUND;
+
+    public boolean movesAmount() {
+        return this != DEDUCTION && this != REFUND;
+    }
+}
@@ -0,0 +1,8 @@
+package com.neg.technology.human.resource.leave.model.enums;
+
+public enum StatusChangeOutcome {
+    CHANGED,
+    // Talep zaten istenen durumda
+    SKIPPED,
+    FAILED
+}
@@ -3,7 +3,6 @@ package com.neg.technology.human.resource.leave.model.mapper;
 import com.neg.technology.human.resource.employee.model.entity.Employee;
 import com.neg.technology.human.resource.leave.model.entity.LeaveRequest;
 import com.neg.technology.human.resource.leave.model.entity.LeaveType;
-import com.neg.technology.human.resource.leave.model.enums.LeaveStatus;
 import com.neg.technology.human.resource.leave.model.request.CreateLeaveRequestRequest;
 import com.neg.technology.human.resource.leave.model.request.UpdateLeaveRequestRequest;
 import com.neg.technology.human.resource.leave.model.response.LeaveRequestResponse;
@@ -38,7 +37,8 @@ public class LeaveRequestMapper {
                 .leaveType(leaveType)
                 .startDate(dto.getStartDate())
                 .endDate(dto.getEndDate())
-                .requestedDays(dto.getRequestedDays())
+                .startHalfDay(Boolean.TRUE.equals(dto.getStartHalfDay()))
+                .endHalfDay(Boolean.TRUE.equals(dto.getEndHalfDay()))
                 .status(dto.getStatus()) // No conversion needed, type is already LeaveStatus
                 .reason(dto.getReason())
                 .approvedBy(approver)
@@ -50,16 +50,14 @@ public class LeaveRequestMapper {
         if (leaveType != null) entity.setLeaveType(leaveType);
         if (dto.getStartDate() != null) entity.setStartDate(dto.getStartDate());
         if (dto.getEndDate() != null) entity.setEndDate(dto.getEndDate());
-        if (dto.getRequestedDays() != null) entity.setRequestedDays(dto.getRequestedDays());
-        if (dto.getStatus() != null) {
-            entity.setStatus(LeaveStatus.fromString(dto.getStatus()));
-        }
+        if (dto.getStartHalfDay() != null) entity.setStartHalfDay(dto.getStartHalfDay());
+        if (dto.getEndHalfDay() != null) entity.setEndHalfDay(dto.getEndHalfDay());
+        // status ve isCancelled burada uygulanmaz: bakiye ve defterle birlikte LeaveRequestStatusEngine değiştirir
 
         if (dto.getReason() != null) entity.setReason(dto.getReason());
         if (approver != null) entity.setApprovedBy(approver);
         if (dto.getApprovedAt() != null) entity.setApprovedAt(dto.getApprovedAt());
         if (dto.getApprovalNote() != null) entity.setApprovalNote(dto.getApprovalNote());
-        if (dto.getIsCancelled() != null) entity.setIsCancelled(dto.getIsCancelled());
         if (dto.getCancelledAt() != null) entity.setCancelledAt(dto.getCancelledAt());
         if (dto.getCancellationReason() != null) entity.setCancellationReason(dto.getCancellationReason());
     }
@@ -0,0 +1,26 @@
+package com.neg.technology.human.resource.leave.model.request;
+
+import com.neg.technology.human.resource.leave.model.enums.LeaveStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkChangeLeaveRequestStatusRequest {
+    @NotEmpty(message = "At least one leave request ID is required")
+    @Size(max = 200, message = "At most 200 leave requests can be changed at once")
+    private List<@NotNull Long> leaveRequestIds;
+
+    // Yalnızca APPROVED veya REJECTED
+    @NotNull(message = "New status is required")
+    private LeaveStatus status;
+
+    private String approvalNote;
+}
@@ -4,7 +4,6 @@ import com.neg.technology.human.resource.leave.model.enums.LeaveStatus;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Getter
@@ -26,8 +25,11 @@ public class CreateLeaveRequestRequest {
     @NotNull(message = "End date is required")
     private LocalDate endDate;
 
-    @NotNull(message = "Requested days is required")
-    private BigDecimal requestedDays;
+    // İlk gün öğleden sonra başlar
+    private Boolean startHalfDay;
+
+    // Son gün öğlen biter
+    private Boolean endHalfDay;
 
     @NotNull(message = "Status is required")
     private LeaveStatus status;
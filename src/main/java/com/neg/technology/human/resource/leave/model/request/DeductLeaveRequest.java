@@ -16,4 +16,6 @@ public class DeductLeaveRequest {
     private Long leaveTypeId;
     private BigDecimal amount;
     private Integer year;
+    // Düşüm bir izin talebi için yapılıyorsa defter kaydına yazılır
+    private Long leaveRequestId;
 }
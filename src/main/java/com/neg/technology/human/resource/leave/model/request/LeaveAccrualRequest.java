@@ -0,0 +1,20 @@
+package com.neg.technology.human.resource.leave.model.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaveAccrualRequest {
+    // Bakiyelerin oluşturulacağı yıl; devir bir önceki yıldan alınır
+    @NotNull(message = "Year is required")
+    @Min(1900)
+    private Integer year;
+
+    @NotNull(message = "Leave type ID is required")
+    private Long leaveTypeId;
+}
@@ -1,5 +1,6 @@
 package com.neg.technology.human.resource.leave.model.request;
 
+import com.neg.technology.human.resource.utility.module.entity.request.KeysetPageRequest;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
@@ -9,7 +10,7 @@ import lombok.*;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
-public class LeaveTypeYearRequest {
+public class LeaveTypeYearRequest extends KeysetPageRequest {
     @NotNull
     private Long leaveTypeId;
 
@@ -4,7 +4,6 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
@@ -25,7 +24,9 @@ public class UpdateLeaveRequestRequest {
 
     private LocalDate endDate;
 
-    private BigDecimal requestedDays;
+    private Boolean startHalfDay;
+
+    private Boolean endHalfDay;
 
     @Size(min = 3, max = 50)
     private String status;
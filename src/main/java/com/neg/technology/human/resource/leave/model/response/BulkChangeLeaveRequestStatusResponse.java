@@ -0,0 +1,17 @@
+package com.neg.technology.human.resource.leave.model.response;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BulkChangeLeaveRequestStatusResponse {
+    private List<LeaveRequestStatusChangeResult> results;
+    private int changed;
+    private int skipped;
+    private int failed;
+}
@@ -0,0 +1,18 @@
+package com.neg.technology.human.resource.leave.model.response;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DeductLeaveResponse {
+    private Long employeeId;
+    private Long leaveTypeId;
+    private Integer year;
+    private BigDecimal deductedAmount;
+    private BigDecimal remainingBalance;
+}
@@ -0,0 +1,25 @@
+package com.neg.technology.human.resource.leave.model.response;
+
+import com.neg.technology.human.resource.leave.model.enums.AccrualRunStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class LeaveAccrualRunResponse {
+    private Long id;
+    private Integer year;
+    private Long leaveTypeId;
+    private AccrualRunStatus status;
+    // Bu id'ye kadar olan çalışanlar işlendi
+    private Long checkpointEmployeeId;
+    private Long employeesProcessed;
+    private Long balancesCreated;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String lastError;
+}
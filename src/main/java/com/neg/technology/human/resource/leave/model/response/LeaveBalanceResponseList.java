@@ -1,16 +1,26 @@
 package com.neg.technology.human.resource.leave.model.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
 public class LeaveBalanceResponseList {
     private List<LeaveBalanceResponse> leaveBalances;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
     public LeaveBalanceResponseList() {}
 
     public LeaveBalanceResponseList(List<LeaveBalanceResponse> leaveBalances) {
         this.leaveBalances = leaveBalances;
     }
 
+    public LeaveBalanceResponseList(List<LeaveBalanceResponse> leaveBalances, String nextCursor) {
+        this.leaveBalances = leaveBalances;
+        this.nextCursor = nextCursor;
+    }
+
     public List<LeaveBalanceResponse> getLeaveBalances() {
         return leaveBalances;
     }
@@ -18,4 +28,12 @@ public class LeaveBalanceResponseList {
     public void setLeaveBalances(List<LeaveBalanceResponse> leaveBalances) {
         this.leaveBalances = leaveBalances;
     }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
 }
@@ -0,0 +1,20 @@
+package com.neg.technology.human.resource.leave.model.response;
+
+import com.neg.technology.human.resource.leave.model.enums.LedgerEntryType;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class LeaveLedgerEntryResponse {
+    private Long id;
+    private LedgerEntryType entryType;
+    private BigDecimal days;
+    private Long leaveRequestId;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,21 @@
+package com.neg.technology.human.resource.leave.model.response;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class LeaveLedgerResponse {
+    private Long employeeId;
+    private Long leaveTypeId;
+    private Integer year;
+    // Kayıtların toplamı; aynı yılın leave_balance satırlarının toplamıyla eşit olmalı
+    private BigDecimal amount;
+    private BigDecimal usedDays;
+    private List<LeaveLedgerEntryResponse> entries;
+}
@@ -1,16 +1,26 @@
 package com.neg.technology.human.resource.leave.model.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
 public class LeaveRequestResponseList {
     private List<LeaveRequestResponse> leaveRequests;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
     public LeaveRequestResponseList() {}
 
     public LeaveRequestResponseList(List<LeaveRequestResponse> leaveRequests) {
         this.leaveRequests = leaveRequests;
     }
 
+    public LeaveRequestResponseList(List<LeaveRequestResponse> leaveRequests, String nextCursor) {
+        this.leaveRequests = leaveRequests;
+        this.nextCursor = nextCursor;
+    }
+
     public List<LeaveRequestResponse> getLeaveRequests() {
         return leaveRequests;
     }
@@ -18,4 +28,12 @@ public class LeaveRequestResponseList {
     public void setLeaveRequests(List<LeaveRequestResponse> leaveRequests) {
         this.leaveRequests = leaveRequests;
     }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
 }
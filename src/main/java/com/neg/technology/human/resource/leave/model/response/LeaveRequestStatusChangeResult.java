@@ -0,0 +1,22 @@
+package com.neg.technology.human.resource.leave.model.response;
+
+import com.neg.technology.human.resource.leave.model.enums.LeaveStatus;
+import com.neg.technology.human.resource.leave.model.enums.StatusChangeOutcome;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class LeaveRequestStatusChangeResult {
+    private Long leaveRequestId;
+    private StatusChangeOutcome outcome;
+    // Değişiklikten sonraki durum; bulunamayan talepte null
+    private LeaveStatus status;
+    // Onayda bakiyeden düşülen, onaylı talebin reddinde bakiyeye iade edilen gün
+    private BigDecimal balanceDays;
+    private String message;
+}
@@ -0,0 +1,24 @@
+package com.neg.technology.human.resource.leave.repository;
+
+import com.neg.technology.human.resource.leave.model.entity.Holiday;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface HolidayRepository extends JpaRepository<Holiday, Long> {
+
+    // HolidayCalendar yüklemesi için yalnızca tarih ve şirket; company_id sütunundan, join olmadan
+    @Query("SELECT h.holidayDate AS date, h.company.id AS companyId FROM Holiday h "
+            + "WHERE h.countryCode = :countryCode AND h.deleted = 'N'")
+    List<HolidayDay> findCalendarDays(String countryCode);
+
+    interface HolidayDay {
+        LocalDate getDate();
+
+        Long getCompanyId();
+    }
+}
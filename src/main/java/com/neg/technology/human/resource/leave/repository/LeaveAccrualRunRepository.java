@@ -0,0 +1,61 @@
+package com.neg.technology.human.resource.leave.repository;
+
+import com.neg.technology.human.resource.leave.model.entity.LeaveAccrualRun;
+import com.neg.technology.human.resource.leave.model.enums.AccrualRunStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface LeaveAccrualRunRepository extends JpaRepository<LeaveAccrualRun, Long> {
+
+    Optional<LeaveAccrualRun> findByYearAndLeaveTypeId(Integer year, Long leaveTypeId);
+
+    // İki düğüm aynı koşuyu aynı anda devralmasın diye satır kilitlenir
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM LeaveAccrualRun r WHERE r.year = :year AND r.leaveType.id = :leaveTypeId")
+    Optional<LeaveAccrualRun> lockByYearAndLeaveTypeId(Integer year, Long leaveTypeId);
+
+    /**
+     * Share-locks the run (SELECT ... FOR SHARE) while it is still the claim started at startedAt. Chunks
+     * of one claim do not block each other, but a takeover waits for the chunks still writing and the
+     * chunks after it find no row.
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT r FROM LeaveAccrualRun r WHERE r.id = :id AND r.startedAt = :startedAt")
+    Optional<LeaveAccrualRun> lockClaim(Long id, LocalDateTime startedAt);
+
+    // Koşu sürdükçe checkpoint'ten bağımsız yazılır; 0 dönerse koşu başka bir düğüme geçmiştir
+    @Modifying
+    @Query("UPDATE LeaveAccrualRun r SET r.updatedAt = LOCAL DATETIME WHERE r.id = :id AND r.startedAt = :startedAt")
+    int heartbeat(Long id, LocalDateTime startedAt);
+
+    /**
+     * Moves the checkpoint past a finished chunk and adds its counts, if the run is still the claim
+     * started at startedAt. Also refreshes updated_at, the heartbeat.
+     */
+    @Modifying
+    @Query("""
+        UPDATE LeaveAccrualRun r
+        SET r.checkpointEmployeeId = :checkpointEmployeeId,
+            r.employeesProcessed = r.employeesProcessed + :employees,
+            r.balancesCreated = r.balancesCreated + :balances,
+            r.updatedAt = LOCAL DATETIME
+        WHERE r.id = :id AND r.startedAt = :startedAt
+    """)
+    int advanceCheckpoint(Long id, LocalDateTime startedAt, Long checkpointEmployeeId, long employees, long balances);
+
+    @Modifying
+    @Query("""
+        UPDATE LeaveAccrualRun r
+        SET r.status = :status, r.lastError = :lastError, r.finishedAt = LOCAL DATETIME, r.updatedAt = LOCAL DATETIME
+        WHERE r.id = :id AND r.startedAt = :startedAt
+    """)
+    int finish(Long id, LocalDateTime startedAt, AccrualRunStatus status, String lastError);
+}
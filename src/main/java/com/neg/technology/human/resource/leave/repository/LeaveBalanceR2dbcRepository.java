@@ -0,0 +1,127 @@
+package com.neg.technology.human.resource.leave.repository;
+
+import com.neg.technology.human.resource.config.ConditionalOnR2dbcMode;
+import com.neg.technology.human.resource.leave.model.response.LeaveBalanceResponse;
+import com.neg.technology.human.resource.utility.KeysetPage;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Non-blocking leave balance reads, joined straight into {@link LeaveBalanceResponse}.
+ */
+@Repository
+@ConditionalOnR2dbcMode
+@RequiredArgsConstructor
+public class LeaveBalanceR2dbcRepository {
+
+    private static final String SELECT_LEAVE_BALANCE = """
+            SELECT lb.id, p.first_name AS employee_first_name, p.last_name AS employee_last_name,
+                   lt.name AS leave_type_name, lt.borrowable_limit AS leave_type_borrowable_limit,
+                   lt.is_unpaid AS leave_type_is_unpaid, lb.effective_date, lb.amount
+            FROM leave_balance lb
+            JOIN employee e ON e.id = lb.employee_id
+            JOIN person p ON p.id = e.person_id
+            JOIN leave_type lt ON lt.id = lb.leave_type_id
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<LeaveBalanceResponse> findById(Long id) {
+        return databaseClient.sql(SELECT_LEAVE_BALANCE + "WHERE lb.id = :id")
+                .bind("id", id)
+                .map(LeaveBalanceR2dbcRepository::toResponse)
+                .one();
+    }
+
+    public Flux<LeaveBalanceResponse> findAll() {
+        return databaseClient.sql(SELECT_LEAVE_BALANCE + "ORDER BY lb.id")
+                .map(LeaveBalanceR2dbcRepository::toResponse)
+                .all();
+    }
+
+    public Flux<LeaveBalanceResponse> findByEmployeeId(Long employeeId, KeysetPage page) {
+        return databaseClient.sql(SELECT_LEAVE_BALANCE + "WHERE lb.employee_id = :employeeId" + page.keysetClause("lb.id"))
+                .bind("employeeId", employeeId)
+                .bindValues(page.bindings())
+                .map(LeaveBalanceR2dbcRepository::toResponse)
+                .all();
+    }
+
+    public Flux<LeaveBalanceResponse> findByEmployeeIdAndEffectiveDateBetween(Long employeeId, LocalDate start, LocalDate end,
+                                                                             KeysetPage page) {
+        return databaseClient.sql(SELECT_LEAVE_BALANCE + """
+                        WHERE lb.employee_id = :employeeId
+                          AND lb.effective_date BETWEEN :start AND :end
+                        """ + page.keysetClause("lb.id"))
+                .bind("employeeId", employeeId)
+                .bind("start", start)
+                .bind("end", end)
+                .bindValues(page.bindings())
+                .map(LeaveBalanceR2dbcRepository::toResponse)
+                .all();
+    }
+
+    public Flux<LeaveBalanceResponse> findByEmployeeIdAndLeaveTypeIdOrderByEffectiveDateAsc(Long employeeId, Long leaveTypeId) {
+        return databaseClient.sql(SELECT_LEAVE_BALANCE + """
+                        WHERE lb.employee_id = :employeeId
+                          AND lb.leave_type_id = :leaveTypeId
+                        ORDER BY lb.effective_date
+                        """)
+                .bind("employeeId", employeeId)
+                .bind("leaveTypeId", leaveTypeId)
+                .map(LeaveBalanceR2dbcRepository::toResponse)
+                .all();
+    }
+
+    public Flux<LeaveBalanceResponse> findByEmployeeIdAndLeaveTypeIdAndEffectiveDateBetween(Long employeeId,
+                                                                                          Long leaveTypeId,
+                                                                                          LocalDate start,
+                                                                                          LocalDate end) {
+        return databaseClient.sql(SELECT_LEAVE_BALANCE + """
+                        WHERE lb.employee_id = :employeeId
+                          AND lb.leave_type_id = :leaveTypeId
+                          AND lb.effective_date BETWEEN :start AND :end
+                        ORDER BY lb.id
+                        """)
+                .bind("employeeId", employeeId)
+                .bind("leaveTypeId", leaveTypeId)
+                .bind("start", start)
+                .bind("end", end)
+                .map(LeaveBalanceR2dbcRepository::toResponse)
+                .all();
+    }
+
+    public Flux<LeaveBalanceResponse> findByLeaveTypeIdAndEffectiveDateBetween(Long leaveTypeId, LocalDate start, LocalDate end,
+                                                                              KeysetPage page) {
+        return databaseClient.sql(SELECT_LEAVE_BALANCE + """
+                        WHERE lb.leave_type_id = :leaveTypeId
+                          AND lb.effective_date BETWEEN :start AND :end
+                        """ + page.keysetClause("lb.effective_date", "lb.id"))
+                .bind("leaveTypeId", leaveTypeId)
+                .bind("start", start)
+                .bind("end", end)
+                .bindValues(page.bindings(page.afterKey(LocalDate::parse, start)))
+                .map(LeaveBalanceR2dbcRepository::toResponse)
+                .all();
+    }
+
+    private static LeaveBalanceResponse toResponse(Readable row) {
+        return LeaveBalanceResponse.builder()
+                .id(row.get("id", Long.class))
+                .employeeFirstName(row.get("employee_first_name", String.class))
+                .employeeLastName(row.get("employee_last_name", String.class))
+                .leaveTypeName(row.get("leave_type_name", String.class))
+                .leaveTypeBorrowableLimit(row.get("leave_type_borrowable_limit", Integer.class))
+                .leaveTypeIsUnpaid(row.get("leave_type_is_unpaid", Boolean.class))
+                .effectiveDate(row.get("effective_date", LocalDate.class))
+                .amount(row.get("amount", BigDecimal.class))
+                .build();
+    }
+}
@@ -1,28 +1,136 @@
 package com.neg.technology.human.resource.leave.repository;
 
 import com.neg.technology.human.resource.leave.model.entity.LeaveBalance;
+import org.springframework.data.domain.Limit;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface LeaveBalanceRepository extends JpaRepository<LeaveBalance, Long> {
 
+    // Listeleme: isimler mapper'da kullanıldığı için employee.person ve leaveType aynı select ile gelir
+    @Override
+    @EntityGraph(LeaveBalance.GRAPH_WITH_NAMES)
+    List<LeaveBalance> findAll();
+
+    @Override
+    @EntityGraph(LeaveBalance.GRAPH_WITH_NAMES)
+    Optional<LeaveBalance> findById(Long id);
+
+    @EntityGraph(LeaveBalance.GRAPH_WITH_NAMES)
     List<LeaveBalance> findByEmployeeId(Long employeeId);
 
+    @EntityGraph(LeaveBalance.GRAPH_WITH_NAMES)
     List<LeaveBalance> findByEmployeeIdAndEffectiveDateBetween(Long employeeId, LocalDate startDate, LocalDate endDate);
 
+    @EntityGraph(LeaveBalance.GRAPH_WITH_NAMES)
+    Optional<LeaveBalance> findFirstWithNamesByEmployeeIdAndLeaveTypeIdOrderByEffectiveDateAsc(Long employeeId, Long leaveTypeId);
+
+    @EntityGraph(LeaveBalance.GRAPH_WITH_NAMES)
+    Optional<LeaveBalance> findFirstWithNamesByEmployeeIdAndLeaveTypeIdAndEffectiveDateBetweenOrderByEffectiveDateAsc(
+            Long employeeId, Long leaveTypeId, LocalDate startDate, LocalDate endDate);
+
+    @EntityGraph(LeaveBalance.GRAPH_WITH_NAMES)
+    List<LeaveBalance> findByLeaveTypeIdAndEffectiveDateBetween(Long leaveTypeId, LocalDate startDate, LocalDate endDate);
+
+    @EntityGraph(LeaveBalance.GRAPH_WITH_NAMES)
+    List<LeaveBalance> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @EntityGraph(LeaveBalance.GRAPH_WITH_NAMES)
+    List<LeaveBalance> findByEmployeeIdAndIdGreaterThanOrderByIdAsc(Long employeeId, Long id, Limit limit);
+
+    @EntityGraph(LeaveBalance.GRAPH_WITH_NAMES)
+    List<LeaveBalance> findByEmployeeIdAndEffectiveDateBetweenAndIdGreaterThanOrderByIdAsc(Long employeeId, LocalDate startDate, LocalDate endDate, Long id, Limit limit);
+
+    @EntityGraph(LeaveBalance.GRAPH_WITH_NAMES)
+    @Query("""
+        SELECT lb FROM LeaveBalance lb
+        WHERE lb.leaveType.id = :leaveTypeId
+        AND lb.effectiveDate >= :start
+        AND lb.effectiveDate <= :end
+        AND lb.effectiveDate >= :afterDate
+        AND (lb.effectiveDate > :afterDate OR lb.id > :afterId)
+        ORDER BY lb.effectiveDate, lb.id
+    """)
+    List<LeaveBalance> findPageByLeaveTypeIdAndEffectiveDateBetween(Long leaveTypeId, LocalDate start, LocalDate end,
+                                                                    LocalDate afterDate, Long afterId, Limit limit);
+
+    // Bakiye hesapları: sadece tutarlar gerekir, ilişkiler yüklenmez
     Optional<LeaveBalance> findByEmployeeIdAndLeaveTypeIdAndEffectiveDate(Long employeeId, Long leaveTypeId, LocalDate effectiveDate);
 
     List<LeaveBalance> findByEmployeeIdAndLeaveTypeIdOrderByEffectiveDateAsc(Long employeeId, Long leaveTypeId);
 
     List<LeaveBalance> findByEmployeeIdAndLeaveTypeIdAndEffectiveDateBetween(Long employeeId, Long leaveTypeId, LocalDate startDate, LocalDate endDate);
 
-    List<LeaveBalance> findByLeaveTypeIdAndEffectiveDateBetween(Long leaveTypeId, LocalDate startDate, LocalDate endDate);
-
     boolean existsById(Long id);
-}
 
+    // Değişikliğin hangi çalışanın sırasında çalışacağını bulmak için
+    @Query("SELECT lb.employee.id FROM LeaveBalance lb WHERE lb.id = :id")
+    Optional<Long> findEmployeeIdById(Long id);
+
+    /**
+     * Loads and row-locks (SELECT ... FOR UPDATE) the balances of one employee and leave type in a date range,
+     * oldest first. Always locks in the same order so concurrent deductions queue instead of deadlocking.
+     * Deliberately without a fetch graph: FOR UPDATE would lock the joined employee and person rows too.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT lb FROM LeaveBalance lb
+        WHERE lb.employee.id = :employeeId
+        AND lb.leaveType.id = :leaveTypeId
+        AND lb.effectiveDate BETWEEN :startDate AND :endDate
+        ORDER BY lb.effectiveDate, lb.id
+    """)
+    List<LeaveBalance> lockForDeduction(Long employeeId, Long leaveTypeId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Bulk variant of {@link #lockForDeduction}: locks the balances of every listed employee and leave type
+     * in the date range with one statement. Matches the cross product of the two id lists, so it may lock a
+     * few balances the caller does not change. Locks in (employee, leave type, effectiveDate, id) order, a
+     * superset of the single-deduction order, so bulk and single changes queue instead of deadlocking.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT lb FROM LeaveBalance lb
+        WHERE lb.employee.id IN :employeeIds
+        AND lb.leaveType.id IN :leaveTypeIds
+        AND lb.effectiveDate BETWEEN :startDate AND :endDate
+        ORDER BY lb.employee.id, lb.leaveType.id, lb.effectiveDate, lb.id
+    """)
+    List<LeaveBalance> lockForBulkDeduction(Collection<Long> employeeIds, Collection<Long> leaveTypeIds,
+                                            LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Remaining days (amount - used) per employee and year of one leave type, for a whole chunk of
+     * employees in one statement. The accrual reads the previous year for the carry-over and the new year
+     * to skip employees that already have a balance.
+     */
+    @Query("""
+        SELECT lb.employee.id AS employeeId, YEAR(lb.effectiveDate) AS year, SUM(lb.amount - lb.usedDays) AS remaining
+        FROM LeaveBalance lb
+        WHERE lb.employee.id IN :employeeIds
+        AND lb.leaveType.id = :leaveTypeId
+        AND lb.effectiveDate BETWEEN :startDate AND :endDate
+        GROUP BY lb.employee.id, YEAR(lb.effectiveDate)
+    """)
+    List<YearRemaining> sumRemainingByYear(Collection<Long> employeeIds, Long leaveTypeId,
+                                           LocalDate startDate, LocalDate endDate);
+
+    interface YearRemaining {
+        Long getEmployeeId();
+
+        Integer getYear();
+
+        BigDecimal getRemaining();
+    }
+}
@@ -0,0 +1,13 @@
+package com.neg.technology.human.resource.leave.repository;
+
+import com.neg.technology.human.resource.leave.model.entity.LeaveLedgerEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface LeaveLedgerRepository extends JpaRepository<LeaveLedgerEntry, Long> {
+
+    List<LeaveLedgerEntry> findByEmployeeIdAndLeaveTypeIdAndYearOrderByIdAsc(Long employeeId, Long leaveTypeId, Integer year);
+}
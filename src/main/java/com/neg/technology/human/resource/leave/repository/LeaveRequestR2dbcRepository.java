@@ -0,0 +1,159 @@
+package com.neg.technology.human.resource.leave.repository;
+
+import com.neg.technology.human.resource.config.ConditionalOnR2dbcMode;
+import com.neg.technology.human.resource.leave.model.enums.LeaveStatus;
+import com.neg.technology.human.resource.leave.model.response.LeaveRequestResponse;
+import com.neg.technology.human.resource.utility.KeysetPage;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Non-blocking leave request reads, joined straight into {@link LeaveRequestResponse}.
+ */
+@Repository
+@ConditionalOnR2dbcMode
+@RequiredArgsConstructor
+public class LeaveRequestR2dbcRepository {
+
+    private static final String SELECT_LEAVE_REQUEST = """
+            SELECT lr.id, ep.first_name AS employee_first_name, ep.last_name AS employee_last_name,
+                   lt.name AS leave_type_name, lr.start_date, lr.end_date, lr.requested_days,
+                   lr.status, lr.reason,
+                   ap.first_name AS approved_by_first_name, ap.last_name AS approved_by_last_name,
+                   lr.approved_at, lr.approved_note, lr.is_cancelled, lr.cancelled_at, lr.cancellation_reason
+            FROM leave_request lr
+            JOIN employee e ON e.id = lr.employee_id
+            JOIN person ep ON ep.id = e.person_id
+            JOIN leave_type lt ON lt.id = lr.leave_type_id
+            LEFT JOIN employee a ON a.id = lr.approved_by
+            LEFT JOIN person ap ON ap.id = a.person_id
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<LeaveRequestResponse> findById(Long id) {
+        return databaseClient.sql(SELECT_LEAVE_REQUEST + "WHERE lr.id = :id")
+                .bind("id", id)
+                .map(LeaveRequestR2dbcRepository::toResponse)
+                .one();
+    }
+
+    public Flux<LeaveRequestResponse> findAll() {
+        return databaseClient.sql(SELECT_LEAVE_REQUEST + "ORDER BY lr.id")
+                .map(LeaveRequestR2dbcRepository::toResponse)
+                .all();
+    }
+
+    public Flux<LeaveRequestResponse> findByEmployeeId(Long employeeId, KeysetPage page) {
+        return databaseClient.sql(SELECT_LEAVE_REQUEST + "WHERE lr.employee_id = :employeeId" + page.keysetClause("lr.id"))
+                .bind("employeeId", employeeId)
+                .bindValues(page.bindings())
+                .map(LeaveRequestR2dbcRepository::toResponse)
+                .all();
+    }
+
+    public Flux<LeaveRequestResponse> findByStatus(LeaveStatus status, KeysetPage page) {
+        return databaseClient.sql(SELECT_LEAVE_REQUEST + "WHERE lr.status = :status" + page.keysetClause("lr.id"))
+                .bind("status", status.name())
+                .bindValues(page.bindings())
+                .map(LeaveRequestR2dbcRepository::toResponse)
+                .all();
+    }
+
+    public Flux<LeaveRequestResponse> findByEmployeeIdAndStatus(Long employeeId, LeaveStatus status, KeysetPage page) {
+        return databaseClient.sql(SELECT_LEAVE_REQUEST + "WHERE lr.employee_id = :employeeId AND lr.status = :status"
+                        + page.keysetClause("lr.id"))
+                .bind("employeeId", employeeId)
+                .bind("status", status.name())
+                .bindValues(page.bindings())
+                .map(LeaveRequestR2dbcRepository::toResponse)
+                .all();
+    }
+
+    public Flux<LeaveRequestResponse> findByIsCancelledTrue() {
+        return databaseClient.sql(SELECT_LEAVE_REQUEST + "WHERE lr.is_cancelled = true ORDER BY lr.id")
+                .map(LeaveRequestR2dbcRepository::toResponse)
+                .all();
+    }
+
+    public Flux<LeaveRequestResponse> findByApprovedById(Long approverId, KeysetPage page) {
+        return databaseClient.sql(SELECT_LEAVE_REQUEST + "WHERE lr.approved_by = :approverId" + page.keysetClause("lr.id"))
+                .bind("approverId", approverId)
+                .bindValues(page.bindings())
+                .map(LeaveRequestR2dbcRepository::toResponse)
+                .all();
+    }
+
+    public Flux<LeaveRequestResponse> findByStartDateBetween(LocalDate start, LocalDate end, KeysetPage page) {
+        return databaseClient.sql(SELECT_LEAVE_REQUEST + "WHERE lr.start_date BETWEEN :start AND :end"
+                        + page.keysetClause("lr.start_date", "lr.id"))
+                .bind("start", start)
+                .bind("end", end)
+                .bindValues(page.bindings(page.afterKey(LocalDate::parse, start)))
+                .map(LeaveRequestR2dbcRepository::toResponse)
+                .all();
+    }
+
+    public Flux<LeaveRequestResponse> findByEmployeeIdAndLeaveTypeIdAndStartDateBetween(Long employeeId,
+                                                                                      Long leaveTypeId,
+                                                                                      LocalDate start,
+                                                                                      LocalDate end,
+                                                                                      KeysetPage page) {
+        return databaseClient.sql(SELECT_LEAVE_REQUEST + """
+                        WHERE lr.employee_id = :employeeId
+                          AND lr.leave_type_id = :leaveTypeId
+                          AND lr.start_date BETWEEN :start AND :end
+                        """ + page.keysetClause("lr.start_date", "lr.id"))
+                .bind("employeeId", employeeId)
+                .bind("leaveTypeId", leaveTypeId)
+                .bind("start", start)
+                .bind("end", end)
+                .bindValues(page.bindings(page.afterKey(LocalDate::parse, start)))
+                .map(LeaveRequestR2dbcRepository::toResponse)
+                .all();
+    }
+
+    public Flux<LeaveRequestResponse> findOverlapping(Long employeeId, LocalDate startDate, LocalDate endDate) {
+        return databaseClient.sql(SELECT_LEAVE_REQUEST + """
+                        WHERE lr.employee_id = :employeeId
+                          AND lr.start_date <= :endDate
+                          AND lr.end_date >= :startDate
+                          AND lr.is_cancelled = false
+                        ORDER BY lr.id
+                        """)
+                .bind("employeeId", employeeId)
+                .bind("startDate", startDate)
+                .bind("endDate", endDate)
+                .map(LeaveRequestR2dbcRepository::toResponse)
+                .all();
+    }
+
+    private static LeaveRequestResponse toResponse(Readable row) {
+        return LeaveRequestResponse.builder()
+                .id(row.get("id", Long.class))
+                .employeeFirstName(row.get("employee_first_name", String.class))
+                .employeeLastName(row.get("employee_last_name", String.class))
+                .leaveTypeName(row.get("leave_type_name", String.class))
+                .startDate(row.get("start_date", LocalDate.class))
+                .endDate(row.get("end_date", LocalDate.class))
+                .requestedDays(row.get("requested_days", BigDecimal.class))
+                .status(row.get("status", String.class))
+                .reason(row.get("reason", String.class))
+                .approvedByFirstName(row.get("approved_by_first_name", String.class))
+                .approvedByLastName(row.get("approved_by_last_name", String.class))
+                .approvedAt(row.get("approved_at", LocalDateTime.class))
+                .approvalNote(row.get("approved_note", String.class))
+                .isCancelled(row.get("is_cancelled", Boolean.class))
+                .cancelledAt(row.get("cancelled_at", LocalDateTime.class))
+                .cancellationReason(row.get("cancellation_reason", String.class))
+                .build();
+    }
+}
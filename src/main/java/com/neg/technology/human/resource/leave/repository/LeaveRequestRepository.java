@@ -3,53 +3,191 @@ package com.neg.technology.human.resource.leave.repository;
 import com.neg.technology.human.resource.leave.model.entity.LeaveRequest;
 import com.neg.technology.human.resource.leave.model.entity.LeaveType;
 import com.neg.technology.human.resource.leave.model.enums.LeaveStatus;
+import com.neg.technology.human.resource.leave.model.response.LeaveRequestResponse;
+import org.springframework.data.domain.Limit;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface LeaveRequestRepository extends JpaRepository<LeaveRequest, Long> {
 
-    List<LeaveRequest> findByEmployeeId(Long employeeId);
+    /**
+     * Reads exactly the columns of {@link LeaveRequestResponse} in one statement, instead of one select
+     * per employee, employee person, leave type and approver of every row.
+     */
+    String RESPONSE_SELECT = """
+        SELECT new com.neg.technology.human.resource.leave.model.response.LeaveRequestResponse(
+            lr.id, ep.firstName, ep.lastName, lt.name, lr.startDate, lr.endDate, lr.requestedDays,
+            CAST(lr.status AS String), lr.reason, ap.firstName, ap.lastName, lr.approvedAt, lr.approvalNote,
+            lr.isCancelled, lr.cancelledAt, lr.cancellationReason)
+        FROM LeaveRequest lr
+        JOIN lr.employee e
+        JOIN e.person ep
+        JOIN lr.leaveType lt
+        LEFT JOIN lr.approvedBy a
+        LEFT JOIN a.person ap
+        """;
 
-    List<LeaveRequest> findByStartDateBetween(LocalDate start, LocalDate end);
+    List<LeaveRequest> findByLeaveType(LeaveType leaveType);
 
-    // ✅ Enum parametreli
-    List<LeaveRequest> findByEmployeeIdAndStatus(Long employeeId, LeaveStatus status);
+    // ✅ Onaylanmış izinleri yıl bazlı çekmek için
+    @Query("""
+        SELECT lr FROM LeaveRequest lr
+        WHERE lr.employee.id = :employeeId
+        AND lr.status = com.neg.technology.human.resource.leave.model.enums.LeaveStatus.APPROVED
+    """)
+    List<LeaveRequest> findApprovedByEmployeeId(Long employeeId);
 
-    List<LeaveRequest> findByStatus(LeaveStatus status);
+    @Query(RESPONSE_SELECT + "WHERE lr.id = :id")
+    Optional<LeaveRequestResponse> findResponseById(Long id);
 
-    List<LeaveRequest> findByIsCancelledTrue();
+    @Query(RESPONSE_SELECT)
+    List<LeaveRequestResponse> findAllResponses();
 
-    List<LeaveRequest> findByApprovedById(Long approverId);
+    // Keyset sayfalama: (sıralama anahtarı, id) üzerinden, OFFSET kullanmadan
+    @Query(RESPONSE_SELECT + "WHERE lr.id > :afterId ORDER BY lr.id")
+    List<LeaveRequestResponse> findResponsePage(Long afterId, Limit limit);
 
-    List<LeaveRequest> findByLeaveType(LeaveType leaveType);
+    @Query(RESPONSE_SELECT + "WHERE lr.employee.id = :employeeId")
+    List<LeaveRequestResponse> findResponsesByEmployeeId(Long employeeId);
 
-    List<LeaveRequest> findByEmployeeIdAndLeaveTypeIdAndStartDateBetween(
-            Long employeeId,
-            Long leaveTypeId,
-            LocalDate startDate,
-            LocalDate endDate
-    );
+    @Query(RESPONSE_SELECT + "WHERE lr.employee.id = :employeeId AND lr.id > :afterId ORDER BY lr.id")
+    List<LeaveRequestResponse> findResponsePageByEmployeeId(Long employeeId, Long afterId, Limit limit);
 
-    // Çakışma kontrolü
-    @Query("""
-        SELECT lr FROM LeaveRequest lr 
-        WHERE lr.employee.id = :employeeId 
-        AND lr.startDate <= :endDate 
+    @Query(RESPONSE_SELECT + "WHERE lr.status = :status")
+    List<LeaveRequestResponse> findResponsesByStatus(LeaveStatus status);
+
+    @Query(RESPONSE_SELECT + "WHERE lr.status = :status AND lr.id > :afterId ORDER BY lr.id")
+    List<LeaveRequestResponse> findResponsePageByStatus(LeaveStatus status, Long afterId, Limit limit);
+
+    @Query(RESPONSE_SELECT + "WHERE lr.employee.id = :employeeId AND lr.status = :status")
+    List<LeaveRequestResponse> findResponsesByEmployeeIdAndStatus(Long employeeId, LeaveStatus status);
+
+    @Query(RESPONSE_SELECT + "WHERE lr.employee.id = :employeeId AND lr.status = :status AND lr.id > :afterId ORDER BY lr.id")
+    List<LeaveRequestResponse> findResponsePageByEmployeeIdAndStatus(Long employeeId, LeaveStatus status, Long afterId, Limit limit);
+
+    @Query(RESPONSE_SELECT + "WHERE lr.isCancelled = true")
+    List<LeaveRequestResponse> findCancelledResponses();
+
+    @Query(RESPONSE_SELECT + "WHERE lr.approvedBy.id = :approverId")
+    List<LeaveRequestResponse> findResponsesByApprovedById(Long approverId);
+
+    @Query(RESPONSE_SELECT + "WHERE lr.approvedBy.id = :approverId AND lr.id > :afterId ORDER BY lr.id")
+    List<LeaveRequestResponse> findResponsePageByApprovedById(Long approverId, Long afterId, Limit limit);
+
+    @Query(RESPONSE_SELECT + """
+        WHERE lr.employee.id = :employeeId
+        AND lr.startDate <= :endDate
         AND lr.endDate >= :startDate
         AND lr.isCancelled = false
     """)
-    List<LeaveRequest> findOverlappingRequests(Long employeeId, LocalDate startDate, LocalDate endDate);
+    List<LeaveRequestResponse> findOverlappingResponses(Long employeeId, LocalDate startDate, LocalDate endDate);
 
-    // ✅ Onaylanmış izinleri yıl bazlı çekmek için
-    @Query("""
-        SELECT lr FROM LeaveRequest lr
+    @Query(RESPONSE_SELECT + "WHERE lr.startDate BETWEEN :start AND :end")
+    List<LeaveRequestResponse> findResponsesByStartDateBetween(LocalDate start, LocalDate end);
+
+    @Query(RESPONSE_SELECT + """
+        WHERE lr.startDate >= :start
+        AND lr.startDate <= :end
+        AND lr.startDate >= :afterDate
+        AND (lr.startDate > :afterDate OR lr.id > :afterId)
+        ORDER BY lr.startDate, lr.id
+    """)
+    List<LeaveRequestResponse> findResponsePageByStartDateBetween(LocalDate start, LocalDate end,
+                                                                  LocalDate afterDate, Long afterId, Limit limit);
+
+    @Query(RESPONSE_SELECT + """
         WHERE lr.employee.id = :employeeId
-        AND lr.status = com.neg.technology.human.resource.leave.model.enums.LeaveStatus.APPROVED
+        AND lr.leaveType.id = :leaveTypeId
+        AND lr.startDate BETWEEN :start AND :end
     """)
-    List<LeaveRequest> findApprovedByEmployeeId(Long employeeId);
+    List<LeaveRequestResponse> findResponsesByEmployeeIdAndLeaveTypeIdAndStartDateBetween(Long employeeId, Long leaveTypeId,
+                                                                                          LocalDate start, LocalDate end);
+
+    @Query(RESPONSE_SELECT + """
+        WHERE lr.employee.id = :employeeId
+        AND lr.leaveType.id = :leaveTypeId
+        AND lr.startDate >= :start
+        AND lr.startDate <= :end
+        AND lr.startDate >= :afterDate
+        AND (lr.startDate > :afterDate OR lr.id > :afterId)
+        ORDER BY lr.startDate, lr.id
+    """)
+    List<LeaveRequestResponse> findResponsePageByEmployeeIdAndLeaveTypeIdAndStartDateBetween(Long employeeId, Long leaveTypeId,
+                                                                                             LocalDate start, LocalDate end,
+                                                                                             LocalDate afterDate, Long afterId, Limit limit);
+
+    // Güncelleme için tek talebi kilitler (SELECT ... FOR UPDATE); ilişkiler ayrı select'lerle yüklenir, kilitlenmez
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT lr FROM LeaveRequest lr WHERE lr.id = :id")
+    Optional<LeaveRequest> lockById(Long id);
+
+    // Durum değişikliğinin hangi çalışanın bakiyesine dokunacağını kilitten önce bulmak için
+    @Query("SELECT lr.employee.id FROM LeaveRequest lr WHERE lr.id = :id")
+    Optional<Long> findEmployeeIdById(Long id);
+
+    /**
+     * Row-locks the given requests (SELECT ... FOR UPDATE, id order) and reads only what a status change
+     * needs. The company comes from a scalar subquery so that only leave_request rows are locked.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT lr.id AS id, lr.employee.id AS employeeId, lr.leaveType.id AS leaveTypeId,
+               (SELECT e.company.id FROM Employee e WHERE e.id = lr.employee.id) AS companyId,
+               lr.startDate AS startDate, lr.endDate AS endDate, lr.startHalfDay AS startHalfDay,
+               lr.endHalfDay AS endHalfDay, lr.requestedDays AS requestedDays, lr.status AS status,
+               lr.isCancelled AS isCancelled
+        FROM LeaveRequest lr
+        WHERE lr.id IN :ids
+        ORDER BY lr.id
+    """)
+    List<StatusChangeRow> lockForStatusChange(Collection<Long> ids);
+
+    @Modifying
+    @Query("""
+        UPDATE LeaveRequest lr
+        SET lr.status = :status, lr.approvalNote = COALESCE(:approvalNote, lr.approvalNote), lr.updatedAt = LOCAL DATETIME
+        WHERE lr.id IN :ids
+    """)
+    int updateStatus(Collection<Long> ids, LeaveStatus status, String approvalNote);
+
+    // Eski kayıtlarda boş kalan requested_days, ilk durum değişikliğinde saklanır
+    @Modifying
+    @Query("UPDATE LeaveRequest lr SET lr.requestedDays = :requestedDays WHERE lr.id = :id AND lr.requestedDays IS NULL")
+    int fillRequestedDays(Long id, BigDecimal requestedDays);
+
+    interface StatusChangeRow {
+        Long getId();
+
+        Long getEmployeeId();
+
+        Long getLeaveTypeId();
+
+        Long getCompanyId();
+
+        LocalDate getStartDate();
+
+        LocalDate getEndDate();
+
+        Boolean getStartHalfDay();
+
+        Boolean getEndHalfDay();
+
+        BigDecimal getRequestedDays();
+
+        LeaveStatus getStatus();
+
+        Boolean getIsCancelled();
+    }
 }
+
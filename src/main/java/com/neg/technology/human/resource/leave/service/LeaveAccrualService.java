@@ -0,0 +1,16 @@
+package com.neg.technology.human.resource.leave.service;
+
+import com.neg.technology.human.resource.leave.model.request.LeaveAccrualRequest;
+import com.neg.technology.human.resource.leave.model.response.LeaveAccrualRunResponse;
+import reactor.core.publisher.Mono;
+
+public interface LeaveAccrualService {
+
+    /**
+     * Starts, or resumes from its checkpoint, the year-end accrual of a leave type and returns without
+     * waiting for it.
+     */
+    Mono<LeaveAccrualRunResponse> start(LeaveAccrualRequest request);
+
+    Mono<LeaveAccrualRunResponse> getStatus(LeaveAccrualRequest request);
+}
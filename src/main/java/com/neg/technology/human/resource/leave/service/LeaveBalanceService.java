@@ -3,20 +3,25 @@ package com.neg.technology.human.resource.leave.service;
 import com.neg.technology.human.resource.employee.model.request.EmployeeYearRequest;
 import com.neg.technology.human.resource.leave.model.request.CreateLeaveBalanceRequest;
 import com.neg.technology.human.resource.leave.model.request.UpdateLeaveBalanceRequest;
+import com.neg.technology.human.resource.leave.model.response.DeductLeaveResponse;
 import com.neg.technology.human.resource.leave.model.response.LeaveBalanceResponse;
 import com.neg.technology.human.resource.leave.model.response.LeaveBalanceResponseList;
+import com.neg.technology.human.resource.leave.model.response.LeaveLedgerResponse;
 import com.neg.technology.human.resource.utility.module.entity.request.IdRequest;
 import com.neg.technology.human.resource.leave.model.request.EmployeeLeaveTypeRequest;
 import com.neg.technology.human.resource.employee.model.request.EmployeeLeaveTypeYearRequest;
 import com.neg.technology.human.resource.leave.model.request.LeaveTypeYearRequest;
 import com.neg.technology.human.resource.leave.model.request.AddLeaveRequest;
 import com.neg.technology.human.resource.leave.model.request.DeductLeaveRequest;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface LeaveBalanceService {
 
     Mono<LeaveBalanceResponseList> getAll();
 
+    Flux<LeaveBalanceResponse> streamAll();
+
     Mono<LeaveBalanceResponse> getById(IdRequest request);
 
     Mono<LeaveBalanceResponse> create(CreateLeaveBalanceRequest request);
@@ -35,7 +40,15 @@ public interface LeaveBalanceService {
 
     Mono<LeaveBalanceResponseList> getByLeaveTypeAndYear(LeaveTypeYearRequest request);
 
-    Mono<Void> deductLeave(DeductLeaveRequest request);
+    Mono<DeductLeaveResponse> deductLeave(DeductLeaveRequest request);
 
     Mono<Void> addLeave(AddLeaveRequest request);
+
+    /**
+     * Returns the days of an approved leave request that is rejected or cancelled to the used days of
+     * the year's balances.
+     */
+    Mono<Void> refundLeave(DeductLeaveRequest request);
+
+    Mono<LeaveLedgerResponse> getLedger(EmployeeLeaveTypeYearRequest request);
 }
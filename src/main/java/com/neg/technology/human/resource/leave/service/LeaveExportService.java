@@ -0,0 +1,22 @@
+package com.neg.technology.human.resource.leave.service;
+
+import com.neg.technology.human.resource.employee.model.request.EmployeeDateRangeRequest;
+import com.neg.technology.human.resource.leave.model.request.LeaveTypeYearRequest;
+import org.springframework.core.io.buffer.DataBuffer;
+import reactor.core.publisher.Flux;
+
+/**
+ * CSV exports for payroll, streamed from the database rather than assembled in memory.
+ */
+public interface LeaveExportService {
+
+    /**
+     * The rows of /api/leave-requests/getByDateRange: requests starting within the range.
+     */
+    Flux<DataBuffer> exportLeaveRequests(EmployeeDateRangeRequest request, boolean gzip);
+
+    /**
+     * The rows of /api/leave_balances/getByLeaveTypeAndYear: balances of the type effective in the year.
+     */
+    Flux<DataBuffer> exportLeaveBalances(LeaveTypeYearRequest request, boolean gzip);
+}
@@ -29,5 +29,7 @@ public interface LeavePolicyService {
 
     Mono<LeavePolicyResponse> isHoliday(LeavePolicyRequest request);
 
+    Mono<Void> reloadHolidayCalendar();
+
     Mono<LeavePolicyResponseList> getAllLeavePolicies();
 }
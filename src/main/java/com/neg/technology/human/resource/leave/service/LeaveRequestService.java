@@ -3,18 +3,23 @@ package com.neg.technology.human.resource.leave.service;
 import com.neg.technology.human.resource.employee.model.request.EmployeeDateRangeRequest;
 import com.neg.technology.human.resource.employee.model.request.EmployeeLeaveTypeDateRangeRequest;
 import com.neg.technology.human.resource.employee.model.request.EmployeeStatusRequest;
+import com.neg.technology.human.resource.leave.model.request.BulkChangeLeaveRequestStatusRequest;
 import com.neg.technology.human.resource.leave.model.request.ChangeLeaveRequestStatusRequest;
 import com.neg.technology.human.resource.leave.model.request.CreateLeaveRequestRequest;
 import com.neg.technology.human.resource.leave.model.request.UpdateLeaveRequestRequest;
+import com.neg.technology.human.resource.leave.model.response.BulkChangeLeaveRequestStatusResponse;
 import com.neg.technology.human.resource.leave.model.response.LeaveRequestResponse;
 import com.neg.technology.human.resource.leave.model.response.LeaveRequestResponseList;
 import com.neg.technology.human.resource.utility.module.entity.request.IdRequest;
 import com.neg.technology.human.resource.utility.module.entity.request.StatusRequest;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface LeaveRequestService {
     Mono<LeaveRequestResponseList> getAll();
 
+    Flux<LeaveRequestResponse> streamAll();
+
     Mono<LeaveRequestResponse> getById(IdRequest request);
 
     Mono<LeaveRequestResponse> create(CreateLeaveRequestRequest dto);
@@ -43,5 +48,7 @@ public interface LeaveRequestService {
 
     Mono<LeaveRequestResponse> changeStatus(ChangeLeaveRequestStatusRequest request);
 
+    Mono<BulkChangeLeaveRequestStatusResponse> changeStatusBulk(BulkChangeLeaveRequestStatusRequest request);
+
 
 }
\ No newline at end of file
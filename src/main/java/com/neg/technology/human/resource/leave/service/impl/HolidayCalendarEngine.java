@@ -0,0 +1,89 @@
+package com.neg.technology.human.resource.leave.service.impl;
+
+import com.neg.technology.human.resource.config.HolidayCalendarProperties;
+import com.neg.technology.human.resource.leave.repository.HolidayRepository;
+import com.neg.technology.human.resource.utility.HolidayCalendar;
+import com.neg.technology.human.resource.utility.SnapshotHolder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The single source of holidays and working days for leave validation and leave policies. Holds the
+ * current {@link HolidayCalendar} built from holiday_calendar; it is loaded once the application is ready
+ * (or on first use) and rebuilt every {@code hr.holiday-calendar.refresh-interval} or on {@link #reload()},
+ * so calendar edits apply without a redeploy. Lookups after the first load never touch the database.
+ */
+@Slf4j
+public class HolidayCalendarEngine {
+
+    static final String METRIC_PREFIX = "hr.holiday-calendar";
+
+    private final HolidayRepository holidayRepository;
+    private final HolidayCalendarProperties properties;
+    private final SnapshotHolder<HolidayCalendar> snapshot;
+
+    public HolidayCalendarEngine(HolidayRepository holidayRepository,
+                                 HolidayCalendarProperties properties,
+                                 Scheduler jdbcScheduler,
+                                 MeterRegistry meterRegistry) {
+        this.holidayRepository = holidayRepository;
+        this.properties = properties;
+        this.snapshot = new SnapshotHolder<>("Holiday calendar", this::load, jdbcScheduler);
+        Gauge.builder(METRIC_PREFIX + ".holidays", this, engine -> engine.current().country().holidays())
+                .description("Country holidays on a weekday in the loaded calendar")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        snapshot.start(properties.getRefreshInterval(), this::reload,
+                calendar -> log.info("Holiday calendar loaded for {}", properties.getCountry()));
+    }
+
+    public void stop() {
+        snapshot.stop();
+    }
+
+    /**
+     * The current calendar, loading it first if this is the first use.
+     */
+    public Mono<HolidayCalendar> calendar() {
+        return snapshot.get();
+    }
+
+    /**
+     * Rebuilds the calendar from holiday_calendar and makes it current.
+     */
+    public Mono<HolidayCalendar> reload() {
+        return snapshot.reload((current, loaded) -> loaded);
+    }
+
+    private HolidayCalendar current() {
+        HolidayCalendar current = snapshot.current();
+        return current != null ? current : HolidayCalendar.empty();
+    }
+
+    private HolidayCalendar load() {
+        List<LocalDate> country = new ArrayList<>();
+        Map<Long, List<LocalDate>> companies = new HashMap<>();
+        for (HolidayRepository.HolidayDay day : holidayRepository.findCalendarDays(properties.getCountry())) {
+            if (day.getCompanyId() == null) {
+                country.add(day.getDate());
+            } else {
+                companies.computeIfAbsent(day.getCompanyId(), id -> new ArrayList<>()).add(day.getDate());
+            }
+        }
+        return HolidayCalendar.of(country, companies);
+    }
+}
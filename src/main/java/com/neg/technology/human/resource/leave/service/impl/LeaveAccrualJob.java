@@ -0,0 +1,298 @@
+package com.neg.technology.human.resource.leave.service.impl;
+
+import com.neg.technology.human.resource.config.LeaveAccrualProperties;
+import com.neg.technology.human.resource.employee.repository.EmployeeRepository;
+import com.neg.technology.human.resource.employee.repository.EmployeeRepository.AccrualCandidate;
+import com.neg.technology.human.resource.exception.InvalidLeaveRequestException;
+import com.neg.technology.human.resource.leave.model.entity.LeaveAccrualRun;
+import com.neg.technology.human.resource.leave.model.entity.LeaveBalance;
+import com.neg.technology.human.resource.leave.model.entity.LeaveLedgerEntry;
+import com.neg.technology.human.resource.leave.model.enums.AccrualRunStatus;
+import com.neg.technology.human.resource.leave.model.enums.LedgerEntryType;
+import com.neg.technology.human.resource.leave.repository.LeaveAccrualRunRepository;
+import com.neg.technology.human.resource.leave.repository.LeaveBalanceRepository;
+import com.neg.technology.human.resource.leave.repository.LeaveBalanceRepository.YearRemaining;
+import com.neg.technology.human.resource.leave.repository.LeaveLedgerRepository;
+import com.neg.technology.human.resource.leave.repository.LeaveTypeRepository;
+import com.neg.technology.human.resource.utility.AnnualLeaveEntitlement;
+import com.neg.technology.human.resource.utility.KeysetFlux;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Year-end accrual of one leave type: gives every active employee a balance on January 1st of the year
+ * worth their entitlement ({@link AnnualLeaveEntitlement} as of that day) plus the days left over from the
+ * previous year. Employees are read in id-ordered chunks; chunks are accrued in parallel, each in its own
+ * transaction with one read of the chunk's balances and batched inserts of the new balances and their
+ * CARRY_OVER and ACCRUAL ledger entries, and the checkpoint in leave_accrual_run only moves past a chunk
+ * once every chunk before it is committed.
+ * <p>
+ * Restarting a failed or stale run resumes after the checkpoint. Chunks committed past the checkpoint
+ * before the failure are read again and skip the employees that already have a balance in the year, so
+ * a restart never accrues twice.
+ * <p>
+ * A running job writes a heartbeat every hr.leave-accrual.heartbeat-interval, so a slow chunk does not make
+ * the run look stale. If the run is taken over anyway, the old job is fenced off by the run's started_at:
+ * every chunk share-locks the run row with the started_at it was claimed with, and checkpoint, heartbeat
+ * and finish only match that value. A takeover waits for the chunks still writing, and the old job stops
+ * at its next chunk or heartbeat without writing anything more.
+ */
+@Slf4j
+public class LeaveAccrualJob {
+
+    static final String METRIC_PREFIX = "hr.leave.accrual";
+
+    private final LeaveAccrualRunRepository leaveAccrualRunRepository;
+    private final EmployeeRepository employeeRepository;
+    private final LeaveBalanceRepository leaveBalanceRepository;
+    private final LeaveLedgerRepository leaveLedgerRepository;
+    private final LeaveTypeRepository leaveTypeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final LeaveAccrualProperties properties;
+    private final Scheduler jdbcScheduler;
+    private final MeterRegistry meterRegistry;
+    private final Disposable.Composite running = Disposables.composite();
+
+    public LeaveAccrualJob(LeaveAccrualRunRepository leaveAccrualRunRepository,
+                           EmployeeRepository employeeRepository,
+                           LeaveBalanceRepository leaveBalanceRepository,
+                           LeaveLedgerRepository leaveLedgerRepository,
+                           LeaveTypeRepository leaveTypeRepository,
+                           PlatformTransactionManager transactionManager,
+                           LeaveAccrualProperties properties,
+                           Scheduler jdbcScheduler,
+                           MeterRegistry meterRegistry) {
+        this.leaveAccrualRunRepository = leaveAccrualRunRepository;
+        this.employeeRepository = employeeRepository;
+        this.leaveBalanceRepository = leaveBalanceRepository;
+        this.leaveLedgerRepository = leaveLedgerRepository;
+        this.leaveTypeRepository = leaveTypeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.jdbcScheduler = jdbcScheduler;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Claims the run of the year and leave type and accrues it in the background. Emits the run as
+     * claimed; a run that is already COMPLETED is returned unchanged and not started again.
+     *
+     * @throws InvalidLeaveRequestException (as error signal) when the run is RUNNING and not stale
+     */
+    public Mono<LeaveAccrualRun> start(int year, Long leaveTypeId) {
+        return Mono.fromCallable(() -> claim(year, leaveTypeId))
+                .subscribeOn(jdbcScheduler)
+                .doOnNext(run -> {
+                    if (run.getStatus() == AccrualRunStatus.RUNNING) {
+                        running.add(run(run).subscribe());
+                    }
+                });
+    }
+
+    public void stop() {
+        running.dispose();
+    }
+
+    /**
+     * Accrues a claimed run to the end. Completes once the run is COMPLETED or marked FAILED.
+     */
+    Mono<Void> run(LeaveAccrualRun run) {
+        Long runId = run.getId();
+        LocalDateTime claimedAt = run.getStartedAt();
+        int year = run.getYear();
+        Long leaveTypeId = run.getLeaveType().getId();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        log.info("Leave accrual {} for leave type {} started after employee {}", year, leaveTypeId, run.getCheckpointEmployeeId());
+
+        Mono<Void> accrual = KeysetFlux.chunks(
+                        afterId -> employeeRepository.findAccrualPage(afterId, Limit.of(properties.getChunkSize())),
+                        AccrualCandidate::getId,
+                        properties.getChunkSize(),
+                        run.getCheckpointEmployeeId(),
+                        jdbcScheduler)
+                .flatMapSequential(chunk -> Mono.fromCallable(() -> accrue(runId, claimedAt, year, leaveTypeId, chunk))
+                        .subscribeOn(jdbcScheduler), Math.max(1, properties.getParallelism()))
+                // Sıralı: checkpoint yalnızca önündeki tüm chunk'lar commit edildiyse ilerler
+                .concatMap(result -> Mono.fromRunnable(() -> checkpoint(runId, claimedAt, result)).subscribeOn(jdbcScheduler))
+                .then(Mono.<Void>fromRunnable(() -> finish(runId, claimedAt, AccrualRunStatus.COMPLETED, null)).subscribeOn(jdbcScheduler));
+
+        // Yalnızca devralındığında hata verir; o zaman tahakkuk da iptal edilir. Geçici yazma hataları atlanır
+        Mono<Void> heartbeat = Flux.interval(properties.getHeartbeatInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> Mono.<Void>fromRunnable(() -> heartbeat(runId, claimedAt))
+                        .subscribeOn(jdbcScheduler)
+                        .onErrorResume(DataAccessException.class, error -> {
+                            log.warn("Leave accrual run {} could not write its heartbeat", runId, error);
+                            return Mono.empty();
+                        }))
+                .then();
+
+        return Mono.firstWithSignal(accrual, heartbeat)
+                .doOnSuccess(done -> {
+                    log.info("Leave accrual {} for leave type {} completed", year, leaveTypeId);
+                    sample.stop(timer("completed"));
+                })
+                .onErrorResume(error -> {
+                    log.error("Leave accrual {} for leave type {} failed; restart resumes from the checkpoint", year, leaveTypeId, error);
+                    sample.stop(timer("failed"));
+                    return Mono.fromRunnable(() -> finish(runId, claimedAt, AccrualRunStatus.FAILED, String.valueOf(error.getMessage())))
+                            .subscribeOn(jdbcScheduler)
+                            .doOnError(markError -> log.warn("Leave accrual run {} could not be marked failed", runId, markError))
+                            .onErrorResume(markError -> Mono.empty())
+                            .then();
+                })
+                .then();
+    }
+
+    private LeaveAccrualRun claim(int year, Long leaveTypeId) {
+        try {
+            return transactionTemplate.execute(status -> {
+                LeaveAccrualRun run = leaveAccrualRunRepository.lockByYearAndLeaveTypeId(year, leaveTypeId).orElse(null);
+                LocalDateTime now = LocalDateTime.now();
+                if (run == null) {
+                    run = LeaveAccrualRun.builder()
+                            .year(year)
+                            .leaveType(leaveTypeRepository.getReferenceById(leaveTypeId))
+                            .build();
+                } else if (run.getStatus() == AccrualRunStatus.COMPLETED) {
+                    return run;
+                } else if (run.getStatus() == AccrualRunStatus.RUNNING
+                        && run.getLastHeartbeat() != null
+                        && run.getLastHeartbeat().isAfter(now.minus(properties.getStaleAfter()))) {
+                    throw alreadyRunning(year, leaveTypeId);
+                }
+                run.setStatus(AccrualRunStatus.RUNNING);
+                // Veritabanının hassasiyetinde: bu koşunun yazmaları saklanan değerle birebir eşleşmeli
+                run.setStartedAt(now.truncatedTo(ChronoUnit.MICROS));
+                run.setFinishedAt(null);
+                run.setLastError(null);
+                return leaveAccrualRunRepository.saveAndFlush(run);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Aynı koşuyu başka bir düğüm aynı anda oluşturdu
+            throw alreadyRunning(year, leaveTypeId);
+        }
+    }
+
+    ChunkResult accrue(Long runId, LocalDateTime claimedAt, int year, Long leaveTypeId, List<AccrualCandidate> chunk) {
+        return transactionTemplate.execute(status -> {
+            // Commit'e kadar tutulur: devralma, bu chunk yazılırken koşuyu değiştiremez
+            if (leaveAccrualRunRepository.lockClaim(runId, claimedAt).isEmpty()) {
+                throw takenOver(runId);
+            }
+            List<Long> employeeIds = chunk.stream().map(AccrualCandidate::getId).toList();
+            Map<Long, BigDecimal> carryOver = new HashMap<>();
+            Set<Long> accrued = new HashSet<>();
+            for (YearRemaining row : leaveBalanceRepository.sumRemainingByYear(employeeIds, leaveTypeId,
+                    LocalDate.of(year - 1, 1, 1), LocalDate.of(year, 12, 31))) {
+                if (row.getYear() == year) {
+                    accrued.add(row.getEmployeeId());
+                } else {
+                    carryOver.put(row.getEmployeeId(), row.getRemaining().max(BigDecimal.ZERO));
+                }
+            }
+
+            LocalDate firstDay = LocalDate.of(year, 1, 1);
+            List<LeaveBalance> balances = new ArrayList<>();
+            List<LeaveLedgerEntry> ledger = new ArrayList<>();
+            for (AccrualCandidate employee : chunk) {
+                if (accrued.contains(employee.getId())) {
+                    continue;
+                }
+                LocalDate employmentStart = employee.getEmploymentStartDate() != null
+                        ? employee.getEmploymentStartDate().toLocalDate() : null;
+                BigDecimal entitlement = BigDecimal.valueOf(AnnualLeaveEntitlement.days(employmentStart, employee.getBirthDate(), firstDay));
+                BigDecimal carried = carryOver.getOrDefault(employee.getId(), BigDecimal.ZERO);
+                if (entitlement.add(carried).signum() <= 0) {
+                    continue;
+                }
+                LeaveBalance balance = LeaveBalance.builder()
+                        .employee(employeeRepository.getReferenceById(employee.getId()))
+                        .leaveType(leaveTypeRepository.getReferenceById(leaveTypeId))
+                        .effectiveDate(firstDay)
+                        .amount(entitlement.add(carried))
+                        .usedDays(BigDecimal.ZERO)
+                        .build();
+                balances.add(balance);
+                if (carried.signum() > 0) {
+                    ledger.add(LeaveLedgerEntry.of(balance, LedgerEntryType.CARRY_OVER, carried, null));
+                }
+                if (entitlement.signum() > 0) {
+                    ledger.add(LeaveLedgerEntry.of(balance, LedgerEntryType.ACCRUAL, entitlement, null));
+                }
+            }
+            // Commit'te JDBC batch olarak yazılır (hr.jdbc-batch.size)
+            leaveBalanceRepository.saveAll(balances);
+            leaveLedgerRepository.saveAll(ledger);
+            return new ChunkResult(chunk.get(chunk.size() - 1).getId(), chunk.size(), balances.size());
+        });
+    }
+
+    private void heartbeat(Long runId, LocalDateTime claimedAt) {
+        Integer updated = transactionTemplate.execute(status -> leaveAccrualRunRepository.heartbeat(runId, claimedAt));
+        if (updated != null && updated == 0) {
+            throw takenOver(runId);
+        }
+    }
+
+    private void checkpoint(Long runId, LocalDateTime claimedAt, ChunkResult result) {
+        Integer updated = transactionTemplate.execute(status -> leaveAccrualRunRepository.advanceCheckpoint(runId, claimedAt,
+                result.lastEmployeeId(), result.employees(), result.balances()));
+        if (updated != null && updated == 0) {
+            throw takenOver(runId);
+        }
+        Counter.builder(METRIC_PREFIX + ".balances")
+                .description("Leave balances created by the year-end accrual")
+                .register(meterRegistry)
+                .increment(result.balances());
+    }
+
+    private void finish(Long runId, LocalDateTime claimedAt, AccrualRunStatus status, String error) {
+        String lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        Integer updated = transactionTemplate.execute(tx -> leaveAccrualRunRepository.finish(runId, claimedAt, status, lastError));
+        if (updated != null && updated == 0) {
+            log.warn("Leave accrual run {} was taken over; left as the new claim has it instead of {}", runId, status);
+        }
+    }
+
+    private Timer timer(String outcome) {
+        return Timer.builder(METRIC_PREFIX)
+                .description("Year-end leave accrual runs")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static InvalidLeaveRequestException alreadyRunning(int year, Long leaveTypeId) {
+        return new InvalidLeaveRequestException("Leave accrual for " + year + " and leave type " + leaveTypeId + " is already running.");
+    }
+
+    private static IllegalStateException takenOver(Long runId) {
+        return new IllegalStateException("Leave accrual run " + runId + " was taken over by another claim.");
+    }
+
+    record ChunkResult(Long lastEmployeeId, int employees, int balances) {
+    }
+}
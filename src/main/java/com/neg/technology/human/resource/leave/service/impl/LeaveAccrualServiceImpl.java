@@ -0,0 +1,62 @@
+package com.neg.technology.human.resource.leave.service.impl;
+
+import com.neg.technology.human.resource.exception.InvalidLeaveRequestException;
+import com.neg.technology.human.resource.exception.ResourceNotFoundException;
+import com.neg.technology.human.resource.leave.model.entity.LeaveAccrualRun;
+import com.neg.technology.human.resource.leave.model.request.LeaveAccrualRequest;
+import com.neg.technology.human.resource.leave.model.response.LeaveAccrualRunResponse;
+import com.neg.technology.human.resource.leave.repository.LeaveAccrualRunRepository;
+import com.neg.technology.human.resource.leave.service.LeaveAccrualService;
+import com.neg.technology.human.resource.utility.ReferenceDataCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+@Service
+@RequiredArgsConstructor
+public class LeaveAccrualServiceImpl implements LeaveAccrualService {
+
+    private final LeaveAccrualJob leaveAccrualJob;
+    private final LeaveAccrualRunRepository leaveAccrualRunRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final Scheduler jdbcScheduler;
+
+    @Override
+    public Mono<LeaveAccrualRunResponse> start(LeaveAccrualRequest request) {
+        return Mono.fromCallable(() -> referenceDataCache.findLeaveType(request.getLeaveTypeId())
+                        .orElseThrow(() -> new ResourceNotFoundException("LeaveType", request.getLeaveTypeId())))
+                .subscribeOn(jdbcScheduler)
+                .flatMap(leaveType -> {
+                    if (!Boolean.TRUE.equals(leaveType.getIsAnnual())) {
+                        return Mono.error(new InvalidLeaveRequestException("Only annual leave types are accrued at year end."));
+                    }
+                    return leaveAccrualJob.start(request.getYear(), leaveType.getId());
+                })
+                .map(this::toResponse);
+    }
+
+    @Override
+    public Mono<LeaveAccrualRunResponse> getStatus(LeaveAccrualRequest request) {
+        return Mono.fromCallable(() -> leaveAccrualRunRepository.findByYearAndLeaveTypeId(request.getYear(), request.getLeaveTypeId())
+                        .map(this::toResponse)
+                        .orElseThrow(() -> new ResourceNotFoundException("LeaveAccrualRun",
+                                request.getYear() + "/" + request.getLeaveTypeId())))
+                .subscribeOn(jdbcScheduler);
+    }
+
+    private LeaveAccrualRunResponse toResponse(LeaveAccrualRun run) {
+        return LeaveAccrualRunResponse.builder()
+                .id(run.getId())
+                .year(run.getYear())
+                .leaveTypeId(run.getLeaveType().getId())
+                .status(run.getStatus())
+                .checkpointEmployeeId(run.getCheckpointEmployeeId())
+                .employeesProcessed(run.getEmployeesProcessed())
+                .balancesCreated(run.getBalancesCreated())
+                .startedAt(run.getStartedAt())
+                .finishedAt(run.getFinishedAt())
+                .lastError(run.getLastError())
+                .build();
+    }
+}
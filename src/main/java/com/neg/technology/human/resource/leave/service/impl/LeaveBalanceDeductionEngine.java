@@ -0,0 +1,191 @@
+package com.neg.technology.human.resource.leave.service.impl;
+
+import com.neg.technology.human.resource.exception.LeaveBalanceExceededException;
+import com.neg.technology.human.resource.exception.ResourceNotFoundException;
+import com.neg.technology.human.resource.leave.model.entity.LeaveBalance;
+import com.neg.technology.human.resource.leave.model.entity.LeaveLedgerEntry;
+import com.neg.technology.human.resource.leave.model.enums.LedgerEntryType;
+import com.neg.technology.human.resource.leave.model.response.DeductLeaveResponse;
+import com.neg.technology.human.resource.leave.repository.LeaveBalanceRepository;
+import com.neg.technology.human.resource.leave.repository.LeaveLedgerRepository;
+import com.neg.technology.human.resource.leave.validator.LeaveBalanceValidator;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Deducts leave from the balances of one (employee, leave type, year) inside a single transaction that
+ * holds row locks on those balances. Concurrent approvals for the same employee and leave type queue on
+ * the locks, so the availability check and the oldest-first drain always see committed usage and a
+ * balance cannot be spent twice. Every deduction and refund is appended to leave_ledger in the same
+ * transaction; the changed rows and the entry are flushed together at commit.
+ * <p>
+ * Blocking: callers run it on the JDBC scheduler.
+ */
+@Component
+public class LeaveBalanceDeductionEngine {
+
+    private final LeaveBalanceRepository leaveBalanceRepository;
+    private final LeaveLedgerRepository leaveLedgerRepository;
+    private final LeaveBalanceValidator leaveBalanceValidator;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Timer lockWait;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public LeaveBalanceDeductionEngine(LeaveBalanceRepository leaveBalanceRepository,
+                                       LeaveLedgerRepository leaveLedgerRepository,
+                                       LeaveBalanceValidator leaveBalanceValidator,
+                                       PlatformTransactionManager transactionManager,
+                                       MeterRegistry meterRegistry) {
+        this.leaveBalanceRepository = leaveBalanceRepository;
+        this.leaveLedgerRepository = leaveLedgerRepository;
+        this.leaveBalanceValidator = leaveBalanceValidator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.lockWait = Timer.builder("hr.leave.deduction.lock-wait")
+                .description("Time spent waiting for the row locks on the balances being deducted")
+                .register(meterRegistry);
+        Gauge.builder("hr.leave.deduction.in-flight", inFlight, AtomicInteger::get)
+                .description("Leave deductions currently holding or waiting for balance row locks")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param leaveRequestId request the days are taken for, recorded on the ledger entry; may be null
+     */
+    public DeductLeaveResponse deduct(Long employeeId, Long leaveTypeId, BigDecimal amount, int year, Long leaveRequestId) {
+        return measured(() -> transactionTemplate.execute(status ->
+                deductLocked(employeeId, leaveTypeId, amount, year, leaveRequestId)));
+    }
+
+    /**
+     * Same as {@link #deduct} inside the caller's transaction, which then holds the balance locks until it
+     * commits; lets a status change lock its leave request first and write it in the same commit.
+     */
+    DeductLeaveResponse deductInTransaction(Long employeeId, Long leaveTypeId, BigDecimal amount, int year, Long leaveRequestId) {
+        return measured(() -> deductLocked(employeeId, leaveTypeId, amount, year, leaveRequestId));
+    }
+
+    private DeductLeaveResponse measured(Supplier<DeductLeaveResponse> deduction) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failed";
+        inFlight.incrementAndGet();
+        try {
+            DeductLeaveResponse response = deduction.get();
+            outcome = "deducted";
+            return response;
+        } catch (LeaveBalanceExceededException e) {
+            outcome = "insufficient";
+            throw e;
+        } catch (ResourceNotFoundException e) {
+            outcome = "not-found";
+            throw e;
+        } finally {
+            inFlight.decrementAndGet();
+            sample.stop(Timer.builder("hr.leave.deduction")
+                    .description("Leave deductions by outcome, including the time spent waiting for locks")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Gives back days of an approved request that is rejected or cancelled by lowering the used days of
+     * the year's balances, newest first, under the same row locks as a deduction.
+     *
+     * @return the days given back; less than {@code amount} only if less was used
+     */
+    public BigDecimal refund(Long employeeId, Long leaveTypeId, BigDecimal amount, int year, Long leaveRequestId) {
+        return transactionTemplate.execute(status -> refundInTransaction(employeeId, leaveTypeId, amount, year, leaveRequestId));
+    }
+
+    /**
+     * Same as {@link #refund} inside the caller's transaction.
+     */
+    BigDecimal refundInTransaction(Long employeeId, Long leaveTypeId, BigDecimal amount, int year, Long leaveRequestId) {
+        List<LeaveBalance> balances = lockBalances(employeeId, leaveTypeId, year);
+        BigDecimal returned = release(balances, amount);
+        // Geri verilecek kullanılmış gün kalmadıysa defterde boş iade kaydı olmaz
+        if (returned.signum() > 0) {
+            leaveLedgerRepository.save(LeaveLedgerEntry.of(balances.get(0), LedgerEntryType.REFUND, returned, leaveRequestId));
+        }
+        return returned;
+    }
+
+    private List<LeaveBalance> lockBalances(Long employeeId, Long leaveTypeId, int year) {
+        long lockStart = System.nanoTime();
+        List<LeaveBalance> balances = leaveBalanceRepository.lockForDeduction(
+                employeeId, leaveTypeId, LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31));
+        lockWait.record(System.nanoTime() - lockStart, TimeUnit.NANOSECONDS);
+
+        if (balances.isEmpty()) {
+            throw new ResourceNotFoundException("Leave Balance",
+                    "Employee: " + employeeId + ", LeaveType: " + leaveTypeId + ", Year: " + year);
+        }
+        return balances;
+    }
+
+    private DeductLeaveResponse deductLocked(Long employeeId, Long leaveTypeId, BigDecimal amount, int year, Long leaveRequestId) {
+        List<LeaveBalance> balances = lockBalances(employeeId, leaveTypeId, year);
+
+        BigDecimal totalBalance = leaveBalanceValidator.calculateTotalBalance(balances);
+        leaveBalanceValidator.hasEnoughBalance(available(balances), amount);
+        drain(balances, amount);
+
+        BigDecimal remainingBalance = leaveBalanceValidator.calculateTotalBalance(balances);
+        leaveLedgerRepository.save(LeaveLedgerEntry.of(balances.get(0), LedgerEntryType.DEDUCTION, amount, leaveRequestId));
+        return new DeductLeaveResponse(employeeId, leaveTypeId, year,
+                totalBalance.subtract(remainingBalance), remainingBalance);
+    }
+
+    // düşülebilecek gün: aşılmış bakiyeler diğerlerinden düşmez
+    static BigDecimal available(List<LeaveBalance> balances) {
+        BigDecimal available = BigDecimal.ZERO;
+        for (LeaveBalance balance : balances) {
+            available = available.add(balance.getAmount().subtract(balance.getUsedDays()).max(BigDecimal.ZERO));
+        }
+        return available;
+    }
+
+    // en eski effectiveDate'den başlayarak düş; çağıran önce available ile yeterliliği kontrol eder
+    static void drain(List<LeaveBalance> balances, BigDecimal amount) {
+        BigDecimal remaining = amount;
+        for (LeaveBalance balance : balances) {
+            if (remaining.signum() <= 0) {
+                break;
+            }
+            BigDecimal available = balance.getAmount().subtract(balance.getUsedDays());
+            if (available.signum() <= 0) {
+                continue;
+            }
+            BigDecimal taken = available.min(remaining);
+            balance.setUsedDays(balance.getUsedDays().add(taken));
+            remaining = remaining.subtract(taken);
+        }
+    }
+
+    // iade: düşümün tersi, en yeni effectiveDate'den başlayarak kullanılanı azalt
+    static BigDecimal release(List<LeaveBalance> balances, BigDecimal amount) {
+        BigDecimal remaining = amount;
+        for (int i = balances.size() - 1; i >= 0 && remaining.signum() > 0; i--) {
+            LeaveBalance balance = balances.get(i);
+            BigDecimal returned = balance.getUsedDays().min(remaining);
+            if (returned.signum() > 0) {
+                balance.setUsedDays(balance.getUsedDays().subtract(returned));
+                remaining = remaining.subtract(returned);
+            }
+        }
+        return amount.subtract(remaining);
+    }
+}
@@ -0,0 +1,54 @@
+package com.neg.technology.human.resource.leave.service.impl;
+
+import com.neg.technology.human.resource.config.LeaveBalanceMutationProperties;
+import com.neg.technology.human.resource.utility.KeyedSequentialExecutor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.dao.OptimisticLockingFailureException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+import reactor.util.retry.RetryBackoffSpec;
+
+/**
+ * Coordinates writes to an employee's leave balances. Inside this process the mutations of one employee
+ * run one after another on a {@link KeyedSequentialExecutor} while other employees proceed in parallel.
+ * Across nodes the {@code @Version} column on LeaveBalance is the safety net: a mutation that lost an
+ * optimistic lock race is re-run from scratch, with backoff, while it still holds the employee's turn.
+ * <p>
+ * Single leave request status changes take the turn of the request's employee. The bulk status engine
+ * spans many employees in one transaction and relies on its row locks instead.
+ */
+public class LeaveBalanceMutationGuard {
+
+    static final String METRIC_PREFIX = "hr.leave.balance.mutation";
+
+    private final KeyedSequentialExecutor executor;
+    private final RetryBackoffSpec optimisticLockRetry;
+
+    public LeaveBalanceMutationGuard(LeaveBalanceMutationProperties properties, MeterRegistry meterRegistry) {
+        this.executor = new KeyedSequentialExecutor(METRIC_PREFIX, meterRegistry);
+
+        Counter retries = Counter.builder(METRIC_PREFIX + ".optimistic-lock.retries")
+                .description("Balance mutations re-run after an optimistic lock conflict")
+                .register(meterRegistry);
+        Counter exhausted = Counter.builder(METRIC_PREFIX + ".optimistic-lock.exhausted")
+                .description("Balance mutations that still conflicted after the last retry")
+                .register(meterRegistry);
+
+        this.optimisticLockRetry = Retry.backoff(properties.getMaxRetries(), properties.getMinBackoff())
+                .maxBackoff(properties.getMaxBackoff())
+                .filter(OptimisticLockingFailureException.class::isInstance)
+                .doBeforeRetry(signal -> retries.increment())
+                .onRetryExhaustedThrow((spec, signal) -> {
+                    exhausted.increment();
+                    return signal.failure();
+                });
+    }
+
+    /**
+     * @param mutation must re-read the balances it changes on every subscription, so a retry sees the winner's write
+     */
+    public <T> Mono<T> run(Long employeeId, Mono<T> mutation) {
+        return executor.submit(employeeId, mutation.retryWhen(optimisticLockRetry));
+    }
+}
@@ -0,0 +1,171 @@
+package com.neg.technology.human.resource.leave.service.impl;
+
+import com.neg.technology.human.resource.config.ConditionalOnR2dbcMode;
+import com.neg.technology.human.resource.employee.model.request.EmployeeLeaveTypeYearRequest;
+import com.neg.technology.human.resource.employee.model.request.EmployeeYearRequest;
+import com.neg.technology.human.resource.exception.ResourceNotFoundException;
+import com.neg.technology.human.resource.leave.model.request.AddLeaveRequest;
+import com.neg.technology.human.resource.leave.model.request.CreateLeaveBalanceRequest;
+import com.neg.technology.human.resource.leave.model.request.DeductLeaveRequest;
+import com.neg.technology.human.resource.leave.model.request.EmployeeLeaveTypeRequest;
+import com.neg.technology.human.resource.leave.model.request.LeaveTypeYearRequest;
+import com.neg.technology.human.resource.leave.model.request.UpdateLeaveBalanceRequest;
+import com.neg.technology.human.resource.leave.model.response.DeductLeaveResponse;
+import com.neg.technology.human.resource.leave.model.response.LeaveBalanceResponse;
+import com.neg.technology.human.resource.leave.model.response.LeaveBalanceResponseList;
+import com.neg.technology.human.resource.leave.model.response.LeaveLedgerResponse;
+import com.neg.technology.human.resource.leave.repository.LeaveBalanceR2dbcRepository;
+import com.neg.technology.human.resource.leave.service.LeaveBalanceService;
+import com.neg.technology.human.resource.utility.KeysetPage;
+import com.neg.technology.human.resource.utility.module.entity.request.IdRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * LeaveBalanceService for hr.persistence.mode=r2dbc. Reads go through R2DBC end to end,
+ * deductions and every other write stay on the JPA implementation.
+ */
+@Service
+@Primary
+@ConditionalOnR2dbcMode
+@RequiredArgsConstructor
+public class LeaveBalanceR2dbcServiceImpl implements LeaveBalanceService {
+
+    private final LeaveBalanceServiceImpl jpaLeaveBalanceService;
+    private final LeaveBalanceR2dbcRepository leaveBalanceR2dbcRepository;
+
+    @Override
+    public Mono<LeaveBalanceResponseList> getAll() {
+        return toListResponse(leaveBalanceR2dbcRepository.findAll());
+    }
+
+    @Override
+    public Flux<LeaveBalanceResponse> streamAll() {
+        return leaveBalanceR2dbcRepository.findAll();
+    }
+
+    @Override
+    public Mono<LeaveBalanceResponse> getById(IdRequest request) {
+        if (request == null || request.getId() == null) {
+            return Mono.error(new IllegalArgumentException("Id is required"));
+        }
+        return leaveBalanceR2dbcRepository.findById(request.getId())
+                .switchIfEmpty(Mono.error(new ResourceNotFoundException(LeaveBalanceServiceImpl.MESSAGE, request.getId())));
+    }
+
+    @Override
+    public Mono<LeaveBalanceResponse> create(CreateLeaveBalanceRequest request) {
+        return jpaLeaveBalanceService.create(request);
+    }
+
+    @Override
+    public Mono<LeaveBalanceResponse> update(UpdateLeaveBalanceRequest request) {
+        return jpaLeaveBalanceService.update(request);
+    }
+
+    @Override
+    public Mono<Void> delete(IdRequest request) {
+        return jpaLeaveBalanceService.delete(request);
+    }
+
+    @Override
+    public Mono<LeaveBalanceResponseList> getByEmployee(IdRequest request) {
+        if (request == null || request.getId() == null) {
+            return Mono.error(new IllegalArgumentException("EmployeeId cannot be null"));
+        }
+        KeysetPage page = request.toPage();
+        return toListResponse(page, leaveBalanceR2dbcRepository.findByEmployeeId(request.getId(), page));
+    }
+
+    @Override
+    public Mono<LeaveBalanceResponseList> getByEmployeeAndYear(EmployeeYearRequest request) {
+        if (request == null || request.getEmployeeId() == null || request.getYear() == null) {
+            return Mono.error(new IllegalArgumentException("EmployeeId and Year are required"));
+        }
+        KeysetPage page = request.toPage();
+        return toListResponse(page, leaveBalanceR2dbcRepository.findByEmployeeIdAndEffectiveDateBetween(
+                request.getEmployeeId(),
+                LocalDate.of(request.getYear(), 1, 1),
+                LocalDate.of(request.getYear(), 12, 31),
+                page));
+    }
+
+    @Override
+    public Mono<LeaveBalanceResponse> getByEmployeeAndLeaveType(EmployeeLeaveTypeRequest request) {
+        if (request == null || request.getEmployeeId() == null || request.getLeaveTypeId() == null) {
+            return Mono.error(new IllegalArgumentException("EmployeeId and LeaveTypeId are required"));
+        }
+        return leaveBalanceR2dbcRepository
+                .findByEmployeeIdAndLeaveTypeIdOrderByEffectiveDateAsc(request.getEmployeeId(), request.getLeaveTypeId())
+                .next()
+                .switchIfEmpty(Mono.error(new ResourceNotFoundException(LeaveBalanceServiceImpl.MESSAGE,
+                        "Employee: " + request.getEmployeeId() + ", LeaveType: " + request.getLeaveTypeId())));
+    }
+
+    @Override
+    public Mono<LeaveBalanceResponse> getByEmployeeLeaveTypeAndYear(EmployeeLeaveTypeYearRequest request) {
+        if (request == null || request.getEmployeeId() == null || request.getLeaveTypeId() == null || request.getYear() == null) {
+            return Mono.error(new IllegalArgumentException("EmployeeId, LeaveTypeId and Year are required"));
+        }
+        return leaveBalanceR2dbcRepository
+                .findByEmployeeIdAndLeaveTypeIdAndEffectiveDateBetween(
+                        request.getEmployeeId(),
+                        request.getLeaveTypeId(),
+                        LocalDate.of(request.getYear(), 1, 1),
+                        LocalDate.of(request.getYear(), 12, 31))
+                .next()
+                .switchIfEmpty(Mono.error(new ResourceNotFoundException(LeaveBalanceServiceImpl.MESSAGE,
+                        "Employee: " + request.getEmployeeId() + ", LeaveType: " + request.getLeaveTypeId() + ", Year: " + request.getYear())));
+    }
+
+    @Override
+    public Mono<LeaveBalanceResponseList> getByLeaveTypeAndYear(LeaveTypeYearRequest request) {
+        if (request == null || request.getLeaveTypeId() == null || request.getYear() == null) {
+            return Mono.error(new IllegalArgumentException("LeaveTypeId and Year are required"));
+        }
+        KeysetPage page = request.toPage();
+        return leaveBalanceR2dbcRepository.findByLeaveTypeIdAndEffectiveDateBetween(
+                        request.getLeaveTypeId(),
+                        LocalDate.of(request.getYear(), 1, 1),
+                        LocalDate.of(request.getYear(), 12, 31),
+                        page)
+                .collectList()
+                .map(rows -> page.slice(rows, LeaveBalanceResponse::getEffectiveDate, LeaveBalanceResponse::getId))
+                .map(slice -> new LeaveBalanceResponseList(slice.items(), slice.nextCursor()));
+    }
+
+    @Override
+    public Mono<DeductLeaveResponse> deductLeave(DeductLeaveRequest request) {
+        return jpaLeaveBalanceService.deductLeave(request);
+    }
+
+    @Override
+    public Mono<Void> addLeave(AddLeaveRequest request) {
+        return jpaLeaveBalanceService.addLeave(request);
+    }
+
+    @Override
+    public Mono<Void> refundLeave(DeductLeaveRequest request) {
+        return jpaLeaveBalanceService.refundLeave(request);
+    }
+
+    @Override
+    public Mono<LeaveLedgerResponse> getLedger(EmployeeLeaveTypeYearRequest request) {
+        return jpaLeaveBalanceService.getLedger(request);
+    }
+
+    private Mono<LeaveBalanceResponseList> toListResponse(Flux<LeaveBalanceResponse> balances) {
+        return balances.collectList().map(LeaveBalanceResponseList::new);
+    }
+
+    private Mono<LeaveBalanceResponseList> toListResponse(KeysetPage page, Flux<LeaveBalanceResponse> balances) {
+        return balances.collectList()
+                .map(rows -> page.slice(rows, LeaveBalanceResponse::getId))
+                .map(slice -> new LeaveBalanceResponseList(slice.items(), slice.nextCursor()));
+    }
+}
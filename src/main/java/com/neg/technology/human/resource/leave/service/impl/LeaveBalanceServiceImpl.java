@@ -6,50 +6,106 @@ import com.neg.technology.human.resource.employee.model.request.EmployeeYearRequ
 import com.neg.technology.human.resource.employee.repository.EmployeeRepository;
 import com.neg.technology.human.resource.exception.ResourceNotFoundException;
 import com.neg.technology.human.resource.leave.model.entity.LeaveBalance;
+import com.neg.technology.human.resource.leave.model.entity.LeaveLedgerEntry;
 import com.neg.technology.human.resource.leave.model.entity.LeaveType;
+import com.neg.technology.human.resource.leave.model.enums.LedgerEntryType;
 import com.neg.technology.human.resource.leave.model.mapper.LeaveBalanceMapper;
 import com.neg.technology.human.resource.leave.model.request.*;
+import com.neg.technology.human.resource.leave.model.response.DeductLeaveResponse;
 import com.neg.technology.human.resource.leave.model.response.LeaveBalanceResponse;
 import com.neg.technology.human.resource.leave.model.response.LeaveBalanceResponseList;
+import com.neg.technology.human.resource.leave.model.response.LeaveLedgerEntryResponse;
+import com.neg.technology.human.resource.leave.model.response.LeaveLedgerResponse;
 import com.neg.technology.human.resource.leave.repository.LeaveBalanceRepository;
-import com.neg.technology.human.resource.leave.repository.LeaveTypeRepository;
+import com.neg.technology.human.resource.leave.repository.LeaveBalanceRepository.YearRemaining;
+import com.neg.technology.human.resource.leave.repository.LeaveLedgerRepository;
 import com.neg.technology.human.resource.leave.service.LeaveBalanceService;
 import com.neg.technology.human.resource.leave.validator.LeaveBalanceValidator;
 import com.neg.technology.human.resource.utility.Logger;
 import com.neg.technology.human.resource.utility.module.entity.request.IdRequest;
 import com.neg.technology.human.resource.leave.model.request.EmployeeLeaveTypeRequest;
 import com.neg.technology.human.resource.leave.model.request.LeaveTypeYearRequest;
-import lombok.RequiredArgsConstructor;
+import com.neg.technology.human.resource.utility.KeysetFlux;
+import com.neg.technology.human.resource.utility.KeysetPage;
+import com.neg.technology.human.resource.utility.ReferenceDataCache;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
+import reactor.core.scheduler.Scheduler;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
-
+import java.util.function.Supplier;
+
+/**
+ * Balance associations are lazy. Every blocking section runs inside its own transaction on the JDBC
+ * scheduler, and listings load employee names and the leave type through
+ * {@link LeaveBalance#GRAPH_WITH_NAMES}, so mapping never reaches an uninitialized proxy.
+ * <p>
+ * leave_balance is the running total of leave_ledger: every write here appends the matching ledger
+ * entries in the same transaction, so balances are read directly and the history stays in the ledger.
+ */
 @Service
-@RequiredArgsConstructor
 public class LeaveBalanceServiceImpl implements LeaveBalanceService {
 
     public static final String MESSAGE = "LeaveBalance";
 
     private final LeaveBalanceRepository leaveBalanceRepository;
+    private final LeaveLedgerRepository leaveLedgerRepository;
     private final EmployeeRepository employeeRepository;
-    private final LeaveTypeRepository leaveTypeRepository;
+    private final ReferenceDataCache referenceDataCache;
     private final LeaveBalanceMapper leaveBalanceMapper;
     private final LeaveBalanceValidator leaveBalanceValidator;
+    private final LeaveBalanceDeductionEngine leaveBalanceDeductionEngine;
+    private final LeaveBalanceMutationGuard leaveBalanceMutationGuard;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final Scheduler jdbcScheduler;
+
+    public LeaveBalanceServiceImpl(LeaveBalanceRepository leaveBalanceRepository,
+                                   LeaveLedgerRepository leaveLedgerRepository,
+                                   EmployeeRepository employeeRepository,
+                                   ReferenceDataCache referenceDataCache,
+                                   LeaveBalanceMapper leaveBalanceMapper,
+                                   LeaveBalanceValidator leaveBalanceValidator,
+                                   LeaveBalanceDeductionEngine leaveBalanceDeductionEngine,
+                                   LeaveBalanceMutationGuard leaveBalanceMutationGuard,
+                                   PlatformTransactionManager transactionManager,
+                                   Scheduler jdbcScheduler) {
+        this.leaveBalanceRepository = leaveBalanceRepository;
+        this.leaveLedgerRepository = leaveLedgerRepository;
+        this.employeeRepository = employeeRepository;
+        this.referenceDataCache = referenceDataCache;
+        this.leaveBalanceMapper = leaveBalanceMapper;
+        this.leaveBalanceValidator = leaveBalanceValidator;
+        this.leaveBalanceDeductionEngine = leaveBalanceDeductionEngine;
+        this.leaveBalanceMutationGuard = leaveBalanceMutationGuard;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.jdbcScheduler = jdbcScheduler;
+    }
 
     @Override
     public Mono<LeaveBalanceResponseList> getAll() {
-        return Mono.fromCallable(() -> {
-            List<LeaveBalance> balances = leaveBalanceRepository.findAll();
-            List<LeaveBalanceResponse> responses = balances.stream()
-                    .map(leaveBalanceMapper::toResponse)
-                    .collect(Collectors.toList());
-            return new LeaveBalanceResponseList(responses);
-        }).subscribeOn(Schedulers.boundedElastic());
+        return read(() -> leaveBalanceMapper.toResponseList(leaveBalanceRepository.findAll()));
+    }
+
+    @Override
+    public Flux<LeaveBalanceResponse> streamAll() {
+        return KeysetFlux.stream(
+                afterId -> readTransaction.execute(status ->
+                        leaveBalanceRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(KeysetFlux.DEFAULT_CHUNK_SIZE)).stream()
+                                .map(leaveBalanceMapper::toResponse)
+                                .toList()),
+                LeaveBalanceResponse::getId,
+                KeysetFlux.DEFAULT_CHUNK_SIZE,
+                jdbcScheduler);
     }
 
     @Override
@@ -57,11 +113,11 @@ public class LeaveBalanceServiceImpl implements LeaveBalanceService {
         if (request == null || request.getId() == null) {
             return Mono.error(new IllegalArgumentException("Id is required"));
         }
-        return Mono.fromCallable(() ->
+        return read(() ->
                 leaveBalanceRepository.findById(request.getId())
                         .map(leaveBalanceMapper::toResponse)
                         .orElseThrow(() -> new ResourceNotFoundException(MESSAGE, request.getId()))
-        ).subscribeOn(Schedulers.boundedElastic());
+        );
     }
 
     @Override
@@ -71,31 +127,26 @@ public class LeaveBalanceServiceImpl implements LeaveBalanceService {
             request.setEffectiveDate(LocalDate.of(LocalDate.now().getYear(), 1, 1));
         }
 
-        return Mono.zip(
-                Mono.fromCallable(() -> employeeRepository.findById(request.getEmployeeId())
-                        .orElseThrow(() -> new ResourceNotFoundException("Employee", request.getEmployeeId()))),
-                Mono.fromCallable(() -> leaveTypeRepository.findById(request.getLeaveTypeId())
-                        .orElseThrow(() -> new ResourceNotFoundException("LeaveType", request.getLeaveTypeId())))
-        ).flatMap(tuple -> {
-            Employee employee = tuple.getT1();
-            LeaveType leaveType = tuple.getT2();
+        return leaveBalanceMutationGuard.run(request.getEmployeeId(), write(() -> {
+            Employee employee = employeeRepository.findById(request.getEmployeeId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Employee", request.getEmployeeId()));
+            LeaveType leaveType = referenceDataCache.findLeaveType(request.getLeaveTypeId())
+                    .orElseThrow(() -> new ResourceNotFoundException("LeaveType", request.getLeaveTypeId()));
 
             leaveBalanceValidator.validateLeaveCreation(request.getAmount(), employee, leaveType);
 
-            // Repository metodunu ve DTO'daki alan adını tutarlı hale getirin.
-            return Mono.fromCallable(() -> leaveBalanceRepository.findByEmployeeIdAndLeaveTypeIdAndEffectiveDate(
-                    request.getEmployeeId(), request.getLeaveTypeId(), request.getEffectiveDate()
-            )).flatMap(existingBalanceOpt -> {
-                if (existingBalanceOpt.isPresent()) {
-                    return Mono.error(new IllegalArgumentException("Leave balance for this employee, leave type and year already exists. Use update method instead."));
-                }
-                // LeaveBalance.builder() çağrısını DTO ile uyumlu hale getirin.
-                LeaveBalance entity = leaveBalanceMapper.toEntity(request, employee, leaveType);
-                LeaveBalance saved = leaveBalanceRepository.save(entity);
-                Logger.logCreated(LeaveBalance.class, saved.getId(), "LeaveBalance");
-                return Mono.just(leaveBalanceMapper.toResponse(saved));
-            });
-        }).subscribeOn(Schedulers.boundedElastic());
+            if (leaveBalanceRepository.findByEmployeeIdAndLeaveTypeIdAndEffectiveDate(
+                    request.getEmployeeId(), request.getLeaveTypeId(), request.getEffectiveDate()).isPresent()) {
+                throw new IllegalArgumentException("Leave balance for this employee, leave type and year already exists. Use update method instead.");
+            }
+            LeaveBalance entity = leaveBalanceMapper.toEntity(request, employee, leaveType);
+            LeaveBalance saved = leaveBalanceRepository.save(entity);
+            List<LeaveLedgerEntry> ledger = new ArrayList<>();
+            recordChange(ledger, employee, leaveType, saved.getEffectiveDate().getYear(), saved.getAmount(), saved.getUsedDays());
+            leaveLedgerRepository.saveAll(ledger);
+            Logger.logCreated(LeaveBalance.class, saved.getId(), "LeaveBalance");
+            return leaveBalanceMapper.toResponse(saved);
+        }));
     }
 
     @Override
@@ -104,7 +155,7 @@ public class LeaveBalanceServiceImpl implements LeaveBalanceService {
             return Mono.error(new IllegalArgumentException("Id is required for update"));
         }
 
-        return Mono.fromCallable(() -> {
+        return employeeOf(request.getId()).flatMap(employeeId -> guarded(employeeId, request.getEmployeeId(), write(() -> {
             LeaveBalance existing = leaveBalanceRepository.findById(request.getId())
                     .orElseThrow(() -> new ResourceNotFoundException(MESSAGE, request.getId()));
 
@@ -116,16 +167,47 @@ public class LeaveBalanceServiceImpl implements LeaveBalanceService {
 
             LeaveType leaveType = null;
             if (request.getLeaveTypeId() != null) {
-                leaveType = leaveTypeRepository.findById(request.getLeaveTypeId())
+                leaveType = referenceDataCache.findLeaveType(request.getLeaveTypeId())
                         .orElseThrow(() -> new ResourceNotFoundException("LeaveType", request.getLeaveTypeId()));
             }
 
+            Employee oldEmployee = existing.getEmployee();
+            LeaveType oldLeaveType = existing.getLeaveType();
+            int oldYear = existing.getEffectiveDate().getYear();
+            BigDecimal oldAmount = existing.getAmount();
+
+            Long newEmployeeId = employee != null ? employee.getId() : oldEmployee.getId();
+            Long newLeaveTypeId = leaveType != null ? leaveType.getId() : oldLeaveType.getId();
+            int newYear = request.getEffectiveDate() != null ? request.getEffectiveDate().getYear() : oldYear;
+            if (!newEmployeeId.equals(oldEmployee.getId()) && existing.getUsedDays().signum() > 0) {
+                // Kullanılan günler onaylı taleplere aittir; başka çalışana taşınırsa onun bakiyesinden düşülmüş görünür
+                throw new IllegalArgumentException("A leave balance with used days cannot be moved to another employee.");
+            }
+            if ((!newEmployeeId.equals(oldEmployee.getId()) || !newLeaveTypeId.equals(oldLeaveType.getId()) || newYear != oldYear)
+                    && !leaveBalanceRepository.findByEmployeeIdAndLeaveTypeIdAndEffectiveDateBetween(newEmployeeId, newLeaveTypeId,
+                            LocalDate.of(newYear, 1, 1), LocalDate.of(newYear, 12, 31)).isEmpty()) {
+                throw new IllegalArgumentException("Leave balance for this employee, leave type and year already exists. Update that one instead.");
+            }
+
             leaveBalanceMapper.updateEntity(existing, request, employee, leaveType);
             LeaveBalance updated = leaveBalanceRepository.save(existing);
 
+            List<LeaveLedgerEntry> ledger = new ArrayList<>();
+            if (updated.getEmployee().getId().equals(oldEmployee.getId())
+                    && updated.getLeaveType().getId().equals(oldLeaveType.getId())
+                    && updated.getEffectiveDate().getYear() == oldYear) {
+                recordChange(ledger, oldEmployee, oldLeaveType, oldYear, updated.getAmount().subtract(oldAmount), BigDecimal.ZERO);
+            } else {
+                // Başka çalışana, türe veya yıla taşınan satır: eski yerinden çıkar, yenisine girer
+                recordChange(ledger, oldEmployee, oldLeaveType, oldYear, oldAmount.negate(), updated.getUsedDays().negate());
+                recordChange(ledger, updated.getEmployee(), updated.getLeaveType(), updated.getEffectiveDate().getYear(),
+                        updated.getAmount(), updated.getUsedDays());
+            }
+            leaveLedgerRepository.saveAll(ledger);
+
             Logger.logUpdated(LeaveBalance.class, updated.getId(), MESSAGE);
             return leaveBalanceMapper.toResponse(updated);
-        }).subscribeOn(Schedulers.boundedElastic());
+        })));
     }
 
     @Override
@@ -134,14 +216,17 @@ public class LeaveBalanceServiceImpl implements LeaveBalanceService {
             return Mono.error(new IllegalArgumentException("Id cannot be null"));
         }
 
-        return Mono.fromCallable(() -> {
-            if (!leaveBalanceRepository.existsById(request.getId())) {
-                throw new ResourceNotFoundException(MESSAGE, request.getId());
-            }
-            leaveBalanceRepository.deleteById(request.getId());
+        return employeeOf(request.getId()).flatMap(employeeId -> leaveBalanceMutationGuard.run(employeeId, write(() -> {
+            LeaveBalance existing = leaveBalanceRepository.findById(request.getId())
+                    .orElseThrow(() -> new ResourceNotFoundException(MESSAGE, request.getId()));
+            List<LeaveLedgerEntry> ledger = new ArrayList<>();
+            recordChange(ledger, existing.getEmployee(), existing.getLeaveType(), existing.getEffectiveDate().getYear(),
+                    existing.getAmount().negate(), existing.getUsedDays().negate());
+            leaveLedgerRepository.saveAll(ledger);
+            leaveBalanceRepository.delete(existing);
             Logger.logDeleted(LeaveBalance.class, request.getId());
             return null;
-        }).subscribeOn(Schedulers.boundedElastic()).then();
+        }))).then();
     }
 
     @Override
@@ -150,9 +235,13 @@ public class LeaveBalanceServiceImpl implements LeaveBalanceService {
             return Mono.error(new IllegalArgumentException("EmployeeId cannot be null"));
         }
 
-        return Mono.fromCallable(() ->
-                leaveBalanceMapper.toResponseList(leaveBalanceRepository.findByEmployeeId(request.getId()))
-        ).subscribeOn(Schedulers.boundedElastic());
+        return read(() -> {
+            KeysetPage page = request.toPage();
+            List<LeaveBalance> balances = page.isPaged()
+                    ? leaveBalanceRepository.findByEmployeeIdAndIdGreaterThanOrderByIdAsc(request.getId(), page.afterId(), page.fetchLimit())
+                    : leaveBalanceRepository.findByEmployeeId(request.getId());
+            return toResponseList(page.slice(balances, LeaveBalance::getId));
+        });
     }
 
     @Override
@@ -166,15 +255,18 @@ public class LeaveBalanceServiceImpl implements LeaveBalanceService {
         LocalDate startDate = LocalDate.of(request.getYear(), 1, 1);
         LocalDate endDate = LocalDate.of(request.getYear(), 12, 31);
 
-        return Mono.fromCallable(() ->
-                leaveBalanceMapper.toResponseList(
-                        leaveBalanceRepository.findByEmployeeIdAndEffectiveDateBetween(
-                                request.getEmployeeId(),
-                                startDate,
-                                endDate
-                        )
-                )
-        ).subscribeOn(Schedulers.boundedElastic());
+        return read(() -> {
+            KeysetPage page = request.toPage();
+            List<LeaveBalance> balances = page.isPaged()
+                    ? leaveBalanceRepository.findByEmployeeIdAndEffectiveDateBetweenAndIdGreaterThanOrderByIdAsc(
+                            request.getEmployeeId(), startDate, endDate, page.afterId(), page.fetchLimit())
+                    : leaveBalanceRepository.findByEmployeeIdAndEffectiveDateBetween(
+                            request.getEmployeeId(),
+                            startDate,
+                            endDate
+                    );
+            return toResponseList(page.slice(balances, LeaveBalance::getId));
+        });
     }
 
     @Override
@@ -183,15 +275,13 @@ public class LeaveBalanceServiceImpl implements LeaveBalanceService {
             return Mono.error(new IllegalArgumentException("EmployeeId and LeaveTypeId are required"));
         }
 
-        return Mono.fromCallable(() ->
-                        leaveBalanceRepository
-                                .findByEmployeeIdAndLeaveTypeIdOrderByEffectiveDateAsc(request.getEmployeeId(), request.getLeaveTypeId())
-                                .stream().findFirst()
-                                .orElseThrow(() -> new ResourceNotFoundException(MESSAGE,
-                                        "Employee: " + request.getEmployeeId() + ", LeaveType: " + request.getLeaveTypeId()))
-                )
-                .map(leaveBalanceMapper::toResponse)
-                .subscribeOn(Schedulers.boundedElastic());
+        return read(() ->
+                leaveBalanceRepository
+                        .findFirstWithNamesByEmployeeIdAndLeaveTypeIdOrderByEffectiveDateAsc(request.getEmployeeId(), request.getLeaveTypeId())
+                        .map(leaveBalanceMapper::toResponse)
+                        .orElseThrow(() -> new ResourceNotFoundException(MESSAGE,
+                                "Employee: " + request.getEmployeeId() + ", LeaveType: " + request.getLeaveTypeId()))
+        );
     }
 
     @Override
@@ -203,19 +293,15 @@ public class LeaveBalanceServiceImpl implements LeaveBalanceService {
         LocalDate startDate = LocalDate.of(request.getYear(), 1, 1);
         LocalDate endDate = LocalDate.of(request.getYear(), 12, 31);
 
-        return Mono.fromCallable(() -> {
-            List<LeaveBalance> balances = leaveBalanceRepository
-                    .findByEmployeeIdAndLeaveTypeIdAndEffectiveDateBetween(
-                            request.getEmployeeId(), request.getLeaveTypeId(), startDate, endDate
-                    );
-
-            if (balances.isEmpty()) {
-                throw new ResourceNotFoundException(MESSAGE,
-                        "Employee: " + request.getEmployeeId() + ", LeaveType: " + request.getLeaveTypeId() + ", Year: " + request.getYear());
-            }
-
-            return leaveBalanceMapper.toResponse(balances.get(0));
-        }).subscribeOn(Schedulers.boundedElastic());
+        return read(() ->
+                leaveBalanceRepository
+                        .findFirstWithNamesByEmployeeIdAndLeaveTypeIdAndEffectiveDateBetweenOrderByEffectiveDateAsc(
+                                request.getEmployeeId(), request.getLeaveTypeId(), startDate, endDate
+                        )
+                        .map(leaveBalanceMapper::toResponse)
+                        .orElseThrow(() -> new ResourceNotFoundException(MESSAGE,
+                                "Employee: " + request.getEmployeeId() + ", LeaveType: " + request.getLeaveTypeId() + ", Year: " + request.getYear()))
+        );
     }
 
 
@@ -230,54 +316,45 @@ public class LeaveBalanceServiceImpl implements LeaveBalanceService {
         LocalDate startDate = LocalDate.of(request.getYear(), 1, 1);
         LocalDate endDate = LocalDate.of(request.getYear(), 12, 31);
 
-        return Mono.fromCallable(() ->
-                leaveBalanceMapper.toResponseList(
+        return read(() -> {
+            KeysetPage page = request.toPage();
+            if (!page.isPaged()) {
+                return leaveBalanceMapper.toResponseList(
                         leaveBalanceRepository.findByLeaveTypeIdAndEffectiveDateBetween(request.getLeaveTypeId(), startDate, endDate)
-                )
-        ).subscribeOn(Schedulers.boundedElastic());
+                );
+            }
+            List<LeaveBalance> balances = leaveBalanceRepository.findPageByLeaveTypeIdAndEffectiveDateBetween(
+                    request.getLeaveTypeId(), startDate, endDate,
+                    page.afterKey(LocalDate::parse, startDate), page.afterId(), page.fetchLimit());
+            return toResponseList(page.slice(balances, LeaveBalance::getEffectiveDate, LeaveBalance::getId));
+        });
     }
 
     @Override
-    public Mono<Void> deductLeave(DeductLeaveRequest request) {
-        LocalDate startDate = LocalDate.of(request.getYear(), 1, 1);
-        LocalDate endDate = LocalDate.of(request.getYear(), 12, 31);
+    public Mono<DeductLeaveResponse> deductLeave(DeductLeaveRequest request) {
+        if (request == null || request.getEmployeeId() == null || request.getLeaveTypeId() == null || request.getYear() == null) {
+            return Mono.error(new IllegalArgumentException("EmployeeId, LeaveTypeId and Year are required"));
+        }
 
-        // Reactive olarak repository çağrısı
-        return Mono.fromCallable(() ->
-                leaveBalanceRepository.findByEmployeeIdAndLeaveTypeIdAndEffectiveDateBetween(
-                        request.getEmployeeId(),
-                        request.getLeaveTypeId(),
-                        startDate,
-                        endDate
-                )
-        ).flatMap(balances -> {
-            if (balances.isEmpty()) {
-                return Mono.error(new ResourceNotFoundException("Leave Balance", -1L));
-            }
+        return leaveBalanceMutationGuard.run(request.getEmployeeId(),
+                Mono.fromCallable(() -> leaveBalanceDeductionEngine.deduct(
+                                request.getEmployeeId(), request.getLeaveTypeId(), request.getAmount(), request.getYear(),
+                                request.getLeaveRequestId()))
+                        .subscribeOn(jdbcScheduler));
+    }
 
-            // Toplam bakiyeyi hesapla
-            BigDecimal totalBalance = leaveBalanceValidator.calculateTotalBalance(balances);
-            leaveBalanceValidator.hasEnoughBalance(totalBalance, request.getAmount());
-
-            // Deduct işlemi: en eski effectiveDate’den başla
-            BigDecimal remainingToDeduct = request.getAmount();
-            for (LeaveBalance balance : balances) {
-                BigDecimal available = balance.getAmount().subtract(BigDecimal.valueOf(balance.getUsedDays()));
-                if (available.compareTo(remainingToDeduct) >= 0) {
-                    balance.setUsedDays(balance.getUsedDays() + remainingToDeduct.intValue());
-                    remainingToDeduct = BigDecimal.ZERO;
-                    break;
-                } else {
-                    balance.setUsedDays(balance.getUsedDays() + available.intValue());
-                    remainingToDeduct = remainingToDeduct.subtract(available);
-                }
-            }
+    @Override
+    public Mono<Void> refundLeave(DeductLeaveRequest request) {
+        if (request == null || request.getEmployeeId() == null || request.getLeaveTypeId() == null || request.getYear() == null) {
+            return Mono.error(new IllegalArgumentException("EmployeeId, LeaveTypeId and Year are required"));
+        }
 
-            // SaveAll blocking çağrısını boundedElastic üzerinde yap
-            return Mono.fromCallable(() -> leaveBalanceRepository.saveAll(balances))
-                    .subscribeOn(Schedulers.boundedElastic())
-                    .then();
-        }).subscribeOn(Schedulers.boundedElastic());
+        return leaveBalanceMutationGuard.run(request.getEmployeeId(),
+                Mono.fromCallable(() -> leaveBalanceDeductionEngine.refund(
+                                request.getEmployeeId(), request.getLeaveTypeId(), request.getAmount(), request.getYear(),
+                                request.getLeaveRequestId()))
+                        .subscribeOn(jdbcScheduler))
+                .then();
     }
 
 
@@ -290,14 +367,11 @@ public class LeaveBalanceServiceImpl implements LeaveBalanceService {
         LocalDate startDate = LocalDate.of(request.getYear(), 1, 1);
         LocalDate endDate = LocalDate.of(request.getYear(), 12, 31);
 
-        return Mono.zip(
-                Mono.fromCallable(() -> employeeRepository.findById(request.getEmployeeId())
-                        .orElseThrow(() -> new ResourceNotFoundException("Employee", request.getEmployeeId()))),
-                Mono.fromCallable(() -> leaveTypeRepository.findById(request.getLeaveTypeId())
-                        .orElseThrow(() -> new ResourceNotFoundException("LeaveType", request.getLeaveTypeId())))
-        ).flatMap(tuple -> {
-            Employee employee = tuple.getT1();
-            LeaveType leaveType = tuple.getT2();
+        Mono<Void> mutation = write(() -> {
+            Employee employee = employeeRepository.findById(request.getEmployeeId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Employee", request.getEmployeeId()));
+            LeaveType leaveType = referenceDataCache.findLeaveType(request.getLeaveTypeId())
+                    .orElseThrow(() -> new ResourceNotFoundException("LeaveType", request.getLeaveTypeId()));
 
             // Yeni yıl balance'ini kontrol et
             List<LeaveBalance> currentYearBalances = leaveBalanceRepository
@@ -305,36 +379,112 @@ public class LeaveBalanceServiceImpl implements LeaveBalanceService {
                             request.getEmployeeId(), request.getLeaveTypeId(), startDate, endDate
                     );
 
+            List<LeaveLedgerEntry> ledger = new ArrayList<>();
             LeaveBalance currentYearBalance;
             if (!currentYearBalances.isEmpty()) {
                 currentYearBalance = currentYearBalances.get(0);
             } else {
-                // Eğer yoksa yeni balance oluştur
+                // Eğer yoksa yeni balance oluştur; devir yıl açılırken bir kez yazılır
                 currentYearBalance = LeaveBalance.builder()
                         .employee(employee)
                         .leaveType(leaveType)
                         .amount(BigDecimal.ZERO)
                         .effectiveDate(startDate)
-                        .usedDays(0)
+                        .usedDays(BigDecimal.ZERO)
                         .build();
+
+                // Önceki yılın bakiyesi kendi devrini zaten içerir; tüm geçmişi taramaya gerek yok
+                BigDecimal carryOver = leaveBalanceRepository.sumRemainingByYear(List.of(request.getEmployeeId()),
+                                request.getLeaveTypeId(), LocalDate.of(request.getYear() - 1, 1, 1), LocalDate.of(request.getYear() - 1, 12, 31))
+                        .stream()
+                        .map(YearRemaining::getRemaining)
+                        .reduce(BigDecimal.ZERO, BigDecimal::add)
+                        .max(BigDecimal.ZERO);
+                if (carryOver.signum() > 0) {
+                    currentYearBalance.add(carryOver);
+                    ledger.add(LeaveLedgerEntry.of(currentYearBalance, LedgerEntryType.CARRY_OVER, carryOver, null));
+                }
             }
 
-            // Geçmiş yıllardan kalan izinleri ekle
-            List<LeaveBalance> pastBalances = leaveBalanceRepository
-                    .findByEmployeeIdAndLeaveTypeIdOrderByEffectiveDateAsc(request.getEmployeeId(), request.getLeaveTypeId());
+            currentYearBalance.add(request.getAmount());
+            ledger.add(LeaveLedgerEntry.of(currentYearBalance, LedgerEntryType.ACCRUAL, request.getAmount(), null));
 
-            BigDecimal carryOver = pastBalances.stream()
-                    .filter(b -> b.getEffectiveDate().isBefore(startDate))
-                    .map(b -> b.getAmount().subtract(BigDecimal.valueOf(b.getUsedDays())))
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            leaveBalanceRepository.save(currentYearBalance);
+            leaveLedgerRepository.saveAll(ledger);
+            return null;
+        }).then();
 
-            currentYearBalance.setAmount(currentYearBalance.getAmount().add(request.getAmount()).add(carryOver));
+        return leaveBalanceMutationGuard.run(request.getEmployeeId(), mutation);
+    }
 
-            leaveBalanceRepository.save(currentYearBalance);
+    @Override
+    public Mono<LeaveLedgerResponse> getLedger(EmployeeLeaveTypeYearRequest request) {
+        if (request == null || request.getEmployeeId() == null || request.getLeaveTypeId() == null || request.getYear() == null) {
+            return Mono.error(new IllegalArgumentException("EmployeeId, LeaveTypeId and Year are required"));
+        }
 
-            return Mono.empty();
-        }).subscribeOn(Schedulers.boundedElastic()).then();
+        return read(() -> {
+            BigDecimal amount = BigDecimal.ZERO;
+            BigDecimal usedDays = BigDecimal.ZERO;
+            List<LeaveLedgerEntryResponse> entries = new ArrayList<>();
+            for (LeaveLedgerEntry entry : leaveLedgerRepository.findByEmployeeIdAndLeaveTypeIdAndYearOrderByIdAsc(
+                    request.getEmployeeId(), request.getLeaveTypeId(), request.getYear())) {
+                if (entry.getEntryType().movesAmount()) {
+                    amount = amount.add(entry.getDays());
+                } else if (entry.getEntryType() == LedgerEntryType.DEDUCTION) {
+                    usedDays = usedDays.add(entry.getDays());
+                } else {
+                    usedDays = usedDays.subtract(entry.getDays());
+                }
+                entries.add(new LeaveLedgerEntryResponse(entry.getId(), entry.getEntryType(), entry.getDays(),
+                        entry.getLeaveRequestId(), entry.getCreatedAt()));
+            }
+            return new LeaveLedgerResponse(request.getEmployeeId(), request.getLeaveTypeId(), request.getYear(),
+                    amount, usedDays, entries);
+        });
     }
 
+    // Tutar ve kullanılan gün farkını defter kayıtlarına çevirir; sıfır fark kayıt üretmez
+    private static void recordChange(List<LeaveLedgerEntry> ledger, Employee employee, LeaveType leaveType, int year,
+                                     BigDecimal amountDelta, BigDecimal usedDelta) {
+        if (amountDelta.signum() != 0) {
+            ledger.add(LeaveLedgerEntry.of(employee, leaveType, year, LedgerEntryType.ADJUSTMENT, amountDelta, null));
+        }
+        if (usedDelta.signum() > 0) {
+            ledger.add(LeaveLedgerEntry.of(employee, leaveType, year, LedgerEntryType.DEDUCTION, usedDelta, null));
+        } else if (usedDelta.signum() < 0) {
+            ledger.add(LeaveLedgerEntry.of(employee, leaveType, year, LedgerEntryType.REFUND, usedDelta.negate(), null));
+        }
+    }
+
+    private <T> Mono<T> read(Supplier<T> query) {
+        return Mono.fromCallable(() -> readTransaction.execute(status -> query.get()))
+                .subscribeOn(jdbcScheduler);
+    }
 
-}
\ No newline at end of file
+    private Mono<Long> employeeOf(Long balanceId) {
+        return Mono.fromCallable(() -> leaveBalanceRepository.findEmployeeIdById(balanceId)
+                        .orElseThrow(() -> new ResourceNotFoundException(MESSAGE, balanceId)))
+                .subscribeOn(jdbcScheduler);
+    }
+
+    // Başka çalışana taşıma iki çalışanın da sırasını alır; hep küçük id önce, ters yönde iki taşıma birbirini beklemez
+    private <T> Mono<T> guarded(Long employeeId, Long otherEmployeeId, Mono<T> mutation) {
+        if (otherEmployeeId == null || otherEmployeeId.equals(employeeId)) {
+            return leaveBalanceMutationGuard.run(employeeId, mutation);
+        }
+        Long first = Math.min(employeeId, otherEmployeeId);
+        Long second = Math.max(employeeId, otherEmployeeId);
+        return leaveBalanceMutationGuard.run(first, leaveBalanceMutationGuard.run(second, mutation));
+    }
+
+    private <T> Mono<T> write(Supplier<T> work) {
+        return Mono.fromCallable(() -> writeTransaction.execute(status -> work.get()))
+                .subscribeOn(jdbcScheduler);
+    }
+
+    private LeaveBalanceResponseList toResponseList(KeysetPage.Slice<LeaveBalance> slice) {
+        KeysetPage.Slice<LeaveBalanceResponse> responses = slice.map(leaveBalanceMapper::toResponse);
+        return new LeaveBalanceResponseList(responses.items(), responses.nextCursor());
+    }
+}
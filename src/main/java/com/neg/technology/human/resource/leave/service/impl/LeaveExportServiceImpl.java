@@ -0,0 +1,67 @@
+package com.neg.technology.human.resource.leave.service.impl;
+
+import com.neg.technology.human.resource.employee.model.request.EmployeeDateRangeRequest;
+import com.neg.technology.human.resource.exception.InvalidLeaveRequestException;
+import com.neg.technology.human.resource.leave.model.request.LeaveTypeYearRequest;
+import com.neg.technology.human.resource.leave.service.LeaveExportService;
+import com.neg.technology.human.resource.utility.PgCopyExporter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+
+@Service
+@RequiredArgsConstructor
+public class LeaveExportServiceImpl implements LeaveExportService {
+
+    // Yalnızca LocalDate ve sayı değerleri gömülür; COPY bind parametresi almaz
+    static final String LEAVE_REQUESTS = """
+        SELECT lr.id AS leave_request_id, lr.employee_id, e.registration_number,
+               p.first_name, p.last_name, lt.name AS leave_type,
+               lr.start_date, lr.end_date, lr.start_half_day, lr.end_half_day, lr.requested_days,
+               lr.status, lr.approved_at, lr.is_cancelled, lr.cancelled_at
+        FROM leave_request lr
+        JOIN employee e ON e.id = lr.employee_id
+        JOIN person p ON p.id = e.person_id
+        JOIN leave_type lt ON lt.id = lr.leave_type_id
+        WHERE lr.start_date BETWEEN DATE '%s' AND DATE '%s'
+        ORDER BY lr.start_date, lr.id
+        """;
+
+    static final String LEAVE_BALANCES = """
+        SELECT lb.id AS leave_balance_id, lb.employee_id, e.registration_number,
+               p.first_name, p.last_name, lt.name AS leave_type,
+               lb.effective_date, lb.amount, lb.used_days, lb.amount - lb.used_days AS remaining_days
+        FROM leave_balance lb
+        JOIN employee e ON e.id = lb.employee_id
+        JOIN person p ON p.id = e.person_id
+        JOIN leave_type lt ON lt.id = lb.leave_type_id
+        WHERE lb.leave_type_id = %d AND lb.effective_date BETWEEN DATE '%s' AND DATE '%s'
+        ORDER BY lb.employee_id, lb.effective_date, lb.id
+        """;
+
+    private final PgCopyExporter pgCopyExporter;
+
+    @Override
+    public Flux<DataBuffer> exportLeaveRequests(EmployeeDateRangeRequest request, boolean gzip) {
+        LocalDate startDate = request.getStartDate();
+        LocalDate endDate = request.getEndDate();
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)) {
+            return Flux.error(new InvalidLeaveRequestException("A start date on or before the end date is required"));
+        }
+        return pgCopyExporter.csv("leave-requests", LEAVE_REQUESTS.formatted(startDate, endDate), gzip);
+    }
+
+    @Override
+    public Flux<DataBuffer> exportLeaveBalances(LeaveTypeYearRequest request, boolean gzip) {
+        Long leaveTypeId = request.getLeaveTypeId();
+        Integer year = request.getYear();
+        if (leaveTypeId == null || year == null) {
+            return Flux.error(new InvalidLeaveRequestException("LeaveTypeId and Year are required"));
+        }
+        return pgCopyExporter.csv("leave-balances",
+                LEAVE_BALANCES.formatted(leaveTypeId, LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31)), gzip);
+    }
+}
@@ -6,33 +6,27 @@ import com.neg.technology.human.resource.leave.model.entity.LeaveType;
 import com.neg.technology.human.resource.leave.model.request.LeavePolicyRequest;
 import com.neg.technology.human.resource.leave.model.response.LeavePolicyResponse;
 import com.neg.technology.human.resource.leave.model.response.LeavePolicyResponseList;
-import com.neg.technology.human.resource.leave.repository.LeaveTypeRepository;
 import com.neg.technology.human.resource.leave.service.LeavePolicyService;
 import com.neg.technology.human.resource.person.model.enums.Gender;
 import com.neg.technology.human.resource.exception.InvalidLeaveRequestException;
+import com.neg.technology.human.resource.utility.AnnualLeaveEntitlement;
+import com.neg.technology.human.resource.utility.ReferenceDataCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 import java.time.*;
 import java.util.List;
-import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class LeavePolicyServiceImpl implements LeavePolicyService {
 
     private final EmployeeService employeeService;
-    private final LeaveTypeRepository leaveTypeRepository;
-
-    private static final Set<LocalDate> OFFICIAL_HOLIDAYS = Set.of(
-            LocalDate.of(2025, Month.JANUARY, 1),
-            LocalDate.of(2025, Month.APRIL, 23),
-            LocalDate.of(2025, Month.MAY, 1),
-            LocalDate.of(2025, Month.MAY, 19),
-            LocalDate.of(2025, Month.JULY, 15),
-            LocalDate.of(2025, Month.AUGUST, 30),
-            LocalDate.of(2025, Month.OCTOBER, 29)
-    );
+    private final ReferenceDataCache referenceDataCache;
+    private final HolidayCalendarEngine holidayCalendarEngine;
+    private final Scheduler jdbcScheduler;
+
 
     private Mono<Employee> getEmployee(Long employeeId) {
         if (employeeId == null) return Mono.error(new IllegalArgumentException("EmployeeId cannot be null"));
@@ -69,9 +63,10 @@ public class LeavePolicyServiceImpl implements LeavePolicyService {
         }
 
         return getEmployee(request.getEmployeeId())
-                .flatMap(employee -> {
-                    LeaveType leaveType = leaveTypeRepository.findById(request.getLeaveTypeId())
-                            .orElseThrow(() -> new RuntimeException("LeaveType not found: " + request.getLeaveTypeId()));
+                .flatMap(employee -> Mono.fromCallable(() -> referenceDataCache.findLeaveType(request.getLeaveTypeId())
+                                .orElseThrow(() -> new RuntimeException("LeaveType not found: " + request.getLeaveTypeId())))
+                        .subscribeOn(jdbcScheduler)
+                        .flatMap(leaveType -> {
 
                     // Cinsiyete özel izin kontrolü
                     Gender requiredGender = leaveType.getGenderRequired();
@@ -107,7 +102,7 @@ public class LeavePolicyServiceImpl implements LeavePolicyService {
 
                     // Default
                     return Mono.just(leaveType.getDefaultDays() != null ? leaveType.getDefaultDays() : Integer.MAX_VALUE);
-                });
+                }));
     }
 
 
@@ -118,10 +113,7 @@ public class LeavePolicyServiceImpl implements LeavePolicyService {
                 .map(employee -> {
                     LocalDate startDate = getEmploymentStartDate(employee);
                     if (startDate == null) return LeavePolicyResponse.builder().days(0).eligible(false).build();
-                    int yearsWorked = calculateYearsBetween(startDate, LocalDate.now());
-                    int days = yearsWorked < 1 ? 0 :
-                            yearsWorked < 5 ? (calculateAge(employee) >= 50 ? 20 : 14) :
-                                    yearsWorked < 15 ? 20 : 26;
+                    int days = AnnualLeaveEntitlement.days(startDate, getBirthDate(employee), LocalDate.now());
                     return LeavePolicyResponse.builder().days(days).eligible(days > 0).build();
                 });
     }
@@ -206,10 +198,15 @@ public class LeavePolicyServiceImpl implements LeavePolicyService {
     @Override
     public Mono<LeavePolicyResponse> isHoliday(LeavePolicyRequest request) {
         if (request.getDate() == null) return Mono.error(new IllegalArgumentException("Date cannot be null"));
-        boolean holiday = OFFICIAL_HOLIDAYS.contains(request.getDate()) ||
-                request.getDate().getDayOfWeek() == DayOfWeek.SATURDAY ||
-                request.getDate().getDayOfWeek() == DayOfWeek.SUNDAY;
-        return Mono.just(LeavePolicyResponse.builder().eligible(holiday).days(holiday ? 1 : 0).build());
+        return holidayCalendarEngine.calendar().map(calendar -> {
+            boolean holiday = calendar.country().isHoliday(request.getDate());
+            return LeavePolicyResponse.builder().eligible(holiday).days(holiday ? 1 : 0).build();
+        });
+    }
+
+    @Override
+    public Mono<Void> reloadHolidayCalendar() {
+        return holidayCalendarEngine.reload().then();
     }
 
     @Override
@@ -0,0 +1,230 @@
+package com.neg.technology.human.resource.leave.service.impl;
+
+import com.neg.technology.human.resource.leave.model.entity.LeaveBalance;
+import com.neg.technology.human.resource.leave.model.entity.LeaveLedgerEntry;
+import com.neg.technology.human.resource.leave.model.enums.LedgerEntryType;
+import com.neg.technology.human.resource.leave.model.enums.LeaveStatus;
+import com.neg.technology.human.resource.leave.model.enums.StatusChangeOutcome;
+import com.neg.technology.human.resource.leave.model.response.BulkChangeLeaveRequestStatusResponse;
+import com.neg.technology.human.resource.leave.model.response.LeaveRequestStatusChangeResult;
+import com.neg.technology.human.resource.leave.repository.LeaveBalanceRepository;
+import com.neg.technology.human.resource.leave.repository.LeaveLedgerRepository;
+import com.neg.technology.human.resource.leave.repository.LeaveRequestRepository;
+import com.neg.technology.human.resource.leave.repository.LeaveRequestRepository.StatusChangeRow;
+import com.neg.technology.human.resource.utility.HolidayCalendar;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Approves or rejects many leave requests in one transaction with a fixed number of statements: one
+ * locking read of the requests, one locking read of every balance they touch, one batched update of the
+ * changed balances, one batched insert of their leave_ledger entries and one update of the requests.
+ * Requests are grouped by (employee, leave type, start year); each group's deductions are checked and
+ * drained oldest-first in memory, exactly as {@link LeaveBalanceDeductionEngine} does for a single
+ * request, and rejecting an approved request returns its days newest-first. An item that cannot be
+ * applied is reported and left unchanged while the rest of the batch proceeds.
+ * <p>
+ * The row locks queue against single deductions, so the in-process per-employee guard is not needed
+ * here. Blocking: callers run it on the JDBC scheduler.
+ */
+@Component
+public class LeaveRequestBulkStatusEngine {
+
+    private static final Comparator<GroupKey> GROUP_ORDER = Comparator.comparingLong(GroupKey::employeeId)
+            .thenComparingLong(GroupKey::leaveTypeId)
+            .thenComparingInt(GroupKey::year);
+
+    private final LeaveRequestRepository leaveRequestRepository;
+    private final LeaveBalanceRepository leaveBalanceRepository;
+    private final LeaveLedgerRepository leaveLedgerRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public LeaveRequestBulkStatusEngine(LeaveRequestRepository leaveRequestRepository,
+                                        LeaveBalanceRepository leaveBalanceRepository,
+                                        LeaveLedgerRepository leaveLedgerRepository,
+                                        PlatformTransactionManager transactionManager,
+                                        MeterRegistry meterRegistry) {
+        this.leaveRequestRepository = leaveRequestRepository;
+        this.leaveBalanceRepository = leaveBalanceRepository;
+        this.leaveLedgerRepository = leaveLedgerRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param newStatus APPROVED or REJECTED
+     * @param calendar  used only for old requests whose requested days were never stored
+     */
+    public BulkChangeLeaveRequestStatusResponse apply(List<Long> leaveRequestIds, LeaveStatus newStatus,
+                                                      String approvalNote, HolidayCalendar calendar) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failed";
+        try {
+            BulkChangeLeaveRequestStatusResponse response = transactionTemplate.execute(status ->
+                    applyLocked(leaveRequestIds, newStatus, approvalNote, calendar));
+            outcome = "committed";
+            response.getResults().forEach(result -> Counter.builder("hr.leave.bulk-status-change.items")
+                    .description("Leave requests in committed bulk status changes, by outcome")
+                    .tag("outcome", result.getOutcome().name().toLowerCase())
+                    .register(meterRegistry)
+                    .increment());
+            return response;
+        } finally {
+            sample.stop(Timer.builder("hr.leave.bulk-status-change")
+                    .description("Bulk leave request status changes, including the time spent waiting for locks")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private BulkChangeLeaveRequestStatusResponse applyLocked(List<Long> leaveRequestIds, LeaveStatus newStatus,
+                                                             String approvalNote, HolidayCalendar calendar) {
+        List<Long> ids = new ArrayList<>(new TreeSet<>(leaveRequestIds));
+        Map<Long, StatusChangeRow> rows = new HashMap<>();
+        for (StatusChangeRow row : leaveRequestRepository.lockForStatusChange(ids)) {
+            rows.put(row.getId(), row);
+        }
+
+        Map<Long, LeaveRequestStatusChangeResult> results = new LinkedHashMap<>();
+        Map<Long, BigDecimal> computedDays = new HashMap<>();
+        Map<GroupKey, List<StatusChangeRow>> groups = new TreeMap<>(GROUP_ORDER);
+        for (Long id : ids) {
+            StatusChangeRow row = rows.get(id);
+            if (row == null) {
+                results.put(id, failed(id, null, "Leave request not found."));
+                continue;
+            }
+            LeaveStatus oldStatus = row.getStatus();
+            if (Boolean.TRUE.equals(row.getIsCancelled()) || oldStatus == LeaveStatus.CANCELLED) {
+                results.put(id, failed(id, oldStatus, "Leave request is cancelled."));
+            } else if (oldStatus == newStatus) {
+                results.put(id, result(id, StatusChangeOutcome.SKIPPED, oldStatus, null,
+                        "Leave request is already " + newStatus + "."));
+            } else if (newStatus == LeaveStatus.APPROVED && oldStatus == LeaveStatus.REJECTED) {
+                results.put(id, failed(id, oldStatus, "Cannot approve a rejected or cancelled leave request."));
+            } else if (newStatus == LeaveStatus.PENDING && oldStatus == LeaveStatus.APPROVED) {
+                results.put(id, failed(id, oldStatus, LeaveRequestStatusEngine.APPROVED_TO_PENDING));
+            } else {
+                if (row.getRequestedDays() == null) {
+                    computedDays.put(id, calendar.forCompany(row.getCompanyId()).leaveDays(row.getStartDate(),
+                            row.getEndDate(), Boolean.TRUE.equals(row.getStartHalfDay()), Boolean.TRUE.equals(row.getEndHalfDay())));
+                }
+                if (newStatus == LeaveStatus.APPROVED || oldStatus == LeaveStatus.APPROVED) {
+                    groups.computeIfAbsent(GroupKey.of(row), key -> new ArrayList<>()).add(row);
+                }
+                results.put(id, result(id, StatusChangeOutcome.CHANGED, newStatus, null, null));
+            }
+        }
+
+        if (!groups.isEmpty()) {
+            applyToBalances(groups, newStatus, computedDays, results);
+        }
+
+        List<Long> changed = results.values().stream()
+                .filter(result -> result.getOutcome() == StatusChangeOutcome.CHANGED)
+                .map(LeaveRequestStatusChangeResult::getLeaveRequestId)
+                .toList();
+        if (!changed.isEmpty()) {
+            leaveRequestRepository.updateStatus(changed, newStatus, approvalNote);
+            for (Long id : changed) {
+                BigDecimal days = computedDays.get(id);
+                if (days != null) {
+                    leaveRequestRepository.fillRequestedDays(id, days);
+                }
+            }
+        }
+        // Değişen bakiyeler commit'te tek JDBC batch olarak yazılır
+
+        List<LeaveRequestStatusChangeResult> ordered = new ArrayList<>(results.values());
+        return new BulkChangeLeaveRequestStatusResponse(ordered,
+                count(ordered, StatusChangeOutcome.CHANGED),
+                count(ordered, StatusChangeOutcome.SKIPPED),
+                count(ordered, StatusChangeOutcome.FAILED));
+    }
+
+    private void applyToBalances(Map<GroupKey, List<StatusChangeRow>> groups, LeaveStatus newStatus,
+                                 Map<Long, BigDecimal> computedDays, Map<Long, LeaveRequestStatusChangeResult> results) {
+        TreeSet<Long> employeeIds = new TreeSet<>();
+        TreeSet<Long> leaveTypeIds = new TreeSet<>();
+        int firstYear = Integer.MAX_VALUE;
+        int lastYear = Integer.MIN_VALUE;
+        for (GroupKey key : groups.keySet()) {
+            employeeIds.add(key.employeeId());
+            leaveTypeIds.add(key.leaveTypeId());
+            firstYear = Math.min(firstYear, key.year());
+            lastYear = Math.max(lastYear, key.year());
+        }
+
+        Map<GroupKey, List<LeaveBalance>> balances = new HashMap<>();
+        for (LeaveBalance balance : leaveBalanceRepository.lockForBulkDeduction(employeeIds, leaveTypeIds,
+                LocalDate.of(firstYear, 1, 1), LocalDate.of(lastYear, 12, 31))) {
+            GroupKey key = new GroupKey(balance.getEmployee().getId(), balance.getLeaveType().getId(),
+                    balance.getEffectiveDate().getYear());
+            if (groups.containsKey(key)) {
+                balances.computeIfAbsent(key, k -> new ArrayList<>()).add(balance);
+            }
+        }
+
+        List<LeaveLedgerEntry> ledger = new ArrayList<>();
+        groups.forEach((key, rows) -> {
+            List<LeaveBalance> groupBalances = balances.getOrDefault(key, List.of());
+            for (StatusChangeRow row : rows) {
+                BigDecimal days = row.getRequestedDays() != null ? row.getRequestedDays() : computedDays.get(row.getId());
+                if (newStatus != LeaveStatus.APPROVED) {
+                    BigDecimal returned = LeaveBalanceDeductionEngine.release(groupBalances, days);
+                    results.get(row.getId()).setBalanceDays(returned);
+                    if (returned.signum() > 0) {
+                        ledger.add(LeaveLedgerEntry.of(groupBalances.get(0), LedgerEntryType.REFUND, returned, row.getId()));
+                    }
+                } else if (groupBalances.isEmpty()) {
+                    results.put(row.getId(), failed(row.getId(), row.getStatus(),
+                            "No leave balance for leave type " + key.leaveTypeId() + " in " + key.year() + "."));
+                } else if (LeaveBalanceDeductionEngine.available(groupBalances).compareTo(days) < 0) {
+                    results.put(row.getId(), failed(row.getId(), row.getStatus(), "Insufficient leave balance: "
+                            + LeaveBalanceDeductionEngine.available(groupBalances) + " available, " + days + " requested."));
+                } else {
+                    LeaveBalanceDeductionEngine.drain(groupBalances, days);
+                    results.get(row.getId()).setBalanceDays(days);
+                    ledger.add(LeaveLedgerEntry.of(groupBalances.get(0), LedgerEntryType.DEDUCTION, days, row.getId()));
+                }
+            }
+        });
+        leaveLedgerRepository.saveAll(ledger);
+    }
+
+    private static LeaveRequestStatusChangeResult failed(Long id, LeaveStatus status, String message) {
+        return result(id, StatusChangeOutcome.FAILED, status, null, message);
+    }
+
+    private static LeaveRequestStatusChangeResult result(Long id, StatusChangeOutcome outcome, LeaveStatus status,
+                                                         BigDecimal balanceDays, String message) {
+        return new LeaveRequestStatusChangeResult(id, outcome, status, balanceDays, message);
+    }
+
+    private static int count(List<LeaveRequestStatusChangeResult> results, StatusChangeOutcome outcome) {
+        return (int) results.stream().filter(result -> result.getOutcome() == outcome).count();
+    }
+
+    private record GroupKey(long employeeId, long leaveTypeId, int year) {
+
+        static GroupKey of(StatusChangeRow row) {
+            return new GroupKey(row.getEmployeeId(), row.getLeaveTypeId(), row.getStartDate().getYear());
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.neg.technology.human.resource.leave.service.impl;
+
+import com.neg.technology.human.resource.config.ConditionalOnR2dbcMode;
+import com.neg.technology.human.resource.employee.model.request.EmployeeDateRangeRequest;
+import com.neg.technology.human.resource.employee.model.request.EmployeeLeaveTypeDateRangeRequest;
+import com.neg.technology.human.resource.employee.model.request.EmployeeStatusRequest;
+import com.neg.technology.human.resource.exception.ResourceNotFoundException;
+import com.neg.technology.human.resource.leave.model.enums.LeaveStatus;
+import com.neg.technology.human.resource.leave.model.request.BulkChangeLeaveRequestStatusRequest;
+import com.neg.technology.human.resource.leave.model.request.ChangeLeaveRequestStatusRequest;
+import com.neg.technology.human.resource.leave.model.request.CreateLeaveRequestRequest;
+import com.neg.technology.human.resource.leave.model.request.UpdateLeaveRequestRequest;
+import com.neg.technology.human.resource.leave.model.response.BulkChangeLeaveRequestStatusResponse;
+import com.neg.technology.human.resource.leave.model.response.LeaveRequestResponse;
+import com.neg.technology.human.resource.leave.model.response.LeaveRequestResponseList;
+import com.neg.technology.human.resource.leave.repository.LeaveRequestR2dbcRepository;
+import com.neg.technology.human.resource.leave.service.LeaveRequestService;
+import com.neg.technology.human.resource.utility.KeysetPage;
+import com.neg.technology.human.resource.utility.module.entity.request.IdRequest;
+import com.neg.technology.human.resource.utility.module.entity.request.StatusRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * LeaveRequestService for hr.persistence.mode=r2dbc. Reads go through R2DBC end to end,
+ * create/update/status changes keep the JPA implementation and its balance bookkeeping.
+ */
+@Service
+@Primary
+@ConditionalOnR2dbcMode
+@RequiredArgsConstructor
+public class LeaveRequestR2dbcServiceImpl implements LeaveRequestService {
+
+    private final LeaveRequestServiceImpl jpaLeaveRequestService;
+    private final LeaveRequestR2dbcRepository leaveRequestR2dbcRepository;
+
+    @Override
+    public Mono<LeaveRequestResponseList> getAll() {
+        return toListResponse(leaveRequestR2dbcRepository.findAll());
+    }
+
+    @Override
+    public Flux<LeaveRequestResponse> streamAll() {
+        return leaveRequestR2dbcRepository.findAll();
+    }
+
+    @Override
+    public Mono<LeaveRequestResponse> getById(IdRequest request) {
+        return leaveRequestR2dbcRepository.findById(request.getId())
+                .switchIfEmpty(Mono.error(new ResourceNotFoundException("Leave Request", request.getId())));
+    }
+
+    @Override
+    public Mono<LeaveRequestResponse> create(CreateLeaveRequestRequest dto) {
+        return jpaLeaveRequestService.create(dto);
+    }
+
+    @Override
+    public Mono<LeaveRequestResponse> update(UpdateLeaveRequestRequest dto) {
+        return jpaLeaveRequestService.update(dto);
+    }
+
+    @Override
+    public Mono<Void> delete(IdRequest request) {
+        return jpaLeaveRequestService.delete(request);
+    }
+
+    @Override
+    public Mono<LeaveRequestResponseList> getByEmployee(IdRequest request) {
+        KeysetPage page = request.toPage();
+        return toListResponse(page, leaveRequestR2dbcRepository.findByEmployeeId(request.getId(), page));
+    }
+
+    @Override
+    public Mono<LeaveRequestResponseList> getByStatus(StatusRequest request) {
+        KeysetPage page = request.toPage();
+        return toListResponse(page, Mono.fromSupplier(() -> LeaveStatus.fromString(request.getStatus()))
+                .flatMapMany(status -> leaveRequestR2dbcRepository.findByStatus(status, page)));
+    }
+
+    @Override
+    public Mono<LeaveRequestResponseList> getCancelled() {
+        return toListResponse(leaveRequestR2dbcRepository.findByIsCancelledTrue());
+    }
+
+    @Override
+    public Mono<LeaveRequestResponseList> getByApprover(IdRequest request) {
+        KeysetPage page = request.toPage();
+        return toListResponse(page, leaveRequestR2dbcRepository.findByApprovedById(request.getId(), page));
+    }
+
+    @Override
+    public Mono<LeaveRequestResponseList> getByEmployeeAndStatus(EmployeeStatusRequest request) {
+        KeysetPage page = request.toPage();
+        return toListResponse(page, Mono.fromSupplier(() -> LeaveStatus.fromString(request.getStatus()))
+                .flatMapMany(status -> leaveRequestR2dbcRepository.findByEmployeeIdAndStatus(request.getEmployeeId(), status, page)));
+    }
+
+    @Override
+    public Mono<LeaveRequestResponseList> getByDateRange(EmployeeDateRangeRequest request) {
+        KeysetPage page = request.toPage();
+        return toDateKeyedListResponse(page,
+                leaveRequestR2dbcRepository.findByStartDateBetween(request.getStartDate(), request.getEndDate(), page));
+    }
+
+    @Override
+    public Mono<LeaveRequestResponseList> getByEmployeeLeaveTypeAndDateRange(EmployeeLeaveTypeDateRangeRequest request) {
+        KeysetPage page = request.toPage();
+        return toDateKeyedListResponse(page, leaveRequestR2dbcRepository.findByEmployeeIdAndLeaveTypeIdAndStartDateBetween(
+                request.getEmployeeId(),
+                request.getLeaveTypeId(),
+                request.getStartDate(),
+                request.getEndDate(),
+                page));
+    }
+
+    @Override
+    public Mono<LeaveRequestResponseList> getOverlapping(EmployeeDateRangeRequest request) {
+        return toListResponse(leaveRequestR2dbcRepository.findOverlapping(
+                request.getEmployeeId(),
+                request.getStartDate(),
+                request.getEndDate()));
+    }
+
+    @Override
+    public Mono<LeaveRequestResponseList> getApprovedByEmployee(Long employeeId) {
+        return toListResponse(leaveRequestR2dbcRepository.findByEmployeeIdAndStatus(employeeId, LeaveStatus.APPROVED, KeysetPage.unpaged()));
+    }
+
+    @Override
+    public Mono<LeaveRequestResponse> changeStatus(ChangeLeaveRequestStatusRequest request) {
+        return jpaLeaveRequestService.changeStatus(request);
+    }
+
+    @Override
+    public Mono<BulkChangeLeaveRequestStatusResponse> changeStatusBulk(BulkChangeLeaveRequestStatusRequest request) {
+        return jpaLeaveRequestService.changeStatusBulk(request);
+    }
+
+    private Mono<LeaveRequestResponseList> toListResponse(Flux<LeaveRequestResponse> leaveRequests) {
+        return leaveRequests.collectList().map(LeaveRequestResponseList::new);
+    }
+
+    private Mono<LeaveRequestResponseList> toListResponse(KeysetPage page, Flux<LeaveRequestResponse> leaveRequests) {
+        return leaveRequests.collectList()
+                .map(rows -> page.slice(rows, LeaveRequestResponse::getId))
+                .map(slice -> new LeaveRequestResponseList(slice.items(), slice.nextCursor()));
+    }
+
+    private Mono<LeaveRequestResponseList> toDateKeyedListResponse(KeysetPage page, Flux<LeaveRequestResponse> leaveRequests) {
+        return leaveRequests.collectList()
+                .map(rows -> page.slice(rows, LeaveRequestResponse::getStartDate, LeaveRequestResponse::getId))
+                .map(slice -> new LeaveRequestResponseList(slice.items(), slice.nextCursor()));
+    }
+}
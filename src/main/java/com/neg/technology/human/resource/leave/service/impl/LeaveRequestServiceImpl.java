@@ -5,59 +5,92 @@ import com.neg.technology.human.resource.employee.model.request.EmployeeDateRang
 import com.neg.technology.human.resource.employee.model.request.EmployeeLeaveTypeDateRangeRequest;
 import com.neg.technology.human.resource.employee.model.request.EmployeeStatusRequest;
 import com.neg.technology.human.resource.employee.repository.EmployeeRepository;
+import com.neg.technology.human.resource.exception.InvalidLeaveRequestException;
 import com.neg.technology.human.resource.exception.ResourceNotFoundException;
 import com.neg.technology.human.resource.leave.model.entity.LeaveRequest;
 import com.neg.technology.human.resource.leave.model.entity.LeaveType;
 import com.neg.technology.human.resource.leave.model.enums.LeaveStatus;
 import com.neg.technology.human.resource.leave.model.mapper.LeaveRequestMapper;
-import com.neg.technology.human.resource.leave.model.request.AddLeaveRequest;
+import com.neg.technology.human.resource.leave.model.request.BulkChangeLeaveRequestStatusRequest;
 import com.neg.technology.human.resource.leave.model.request.ChangeLeaveRequestStatusRequest;
 import com.neg.technology.human.resource.leave.model.request.CreateLeaveRequestRequest;
-import com.neg.technology.human.resource.leave.model.request.DeductLeaveRequest;
-import com.neg.technology.human.resource.leave.model.request.EmployeeLeaveTypeRequest;
 import com.neg.technology.human.resource.leave.model.request.UpdateLeaveRequestRequest;
+import com.neg.technology.human.resource.leave.model.response.BulkChangeLeaveRequestStatusResponse;
 import com.neg.technology.human.resource.leave.model.response.LeaveRequestResponse;
 import com.neg.technology.human.resource.leave.model.response.LeaveRequestResponseList;
 import com.neg.technology.human.resource.leave.repository.LeaveRequestRepository;
-import com.neg.technology.human.resource.leave.repository.LeaveTypeRepository;
-import com.neg.technology.human.resource.leave.service.LeaveBalanceService;
 import com.neg.technology.human.resource.leave.service.LeaveRequestService;
 import com.neg.technology.human.resource.leave.validator.LeaveRequestValidator;
+import com.neg.technology.human.resource.utility.HolidayCalendar;
 import com.neg.technology.human.resource.utility.Logger;
 import com.neg.technology.human.resource.utility.module.entity.request.IdRequest;
 import com.neg.technology.human.resource.utility.module.entity.request.StatusRequest;
-import lombok.RequiredArgsConstructor;
+import com.neg.technology.human.resource.utility.KeysetFlux;
+import com.neg.technology.human.resource.utility.KeysetPage;
+import com.neg.technology.human.resource.utility.ReferenceDataCache;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
+import reactor.core.scheduler.Scheduler;
 
 import java.math.BigDecimal;
-import java.time.temporal.ChronoUnit;
+import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 public class LeaveRequestServiceImpl implements LeaveRequestService {
 
+    static final String OVERLAP_CONSTRAINT = "ex_leave_request_no_overlap";
+
     private final LeaveRequestRepository leaveRequestRepository;
     private final EmployeeRepository employeeRepository;
-    private final LeaveTypeRepository leaveTypeRepository;
+    private final ReferenceDataCache referenceDataCache;
     private final LeaveRequestValidator leaveRequestValidator;
-    private final LeaveBalanceService leaveBalanceService;
+    private final LeaveRequestStatusEngine leaveRequestStatusEngine;
+    private final LeaveRequestBulkStatusEngine leaveRequestBulkStatusEngine;
+    private final HolidayCalendarEngine holidayCalendarEngine;
+    private final LeaveBalanceMutationGuard leaveBalanceMutationGuard;
+    private final TransactionTemplate writeTransaction;
+    private final Scheduler jdbcScheduler;
+
+    public LeaveRequestServiceImpl(LeaveRequestRepository leaveRequestRepository,
+                                   EmployeeRepository employeeRepository,
+                                   ReferenceDataCache referenceDataCache,
+                                   LeaveRequestValidator leaveRequestValidator,
+                                   LeaveRequestStatusEngine leaveRequestStatusEngine,
+                                   LeaveRequestBulkStatusEngine leaveRequestBulkStatusEngine,
+                                   HolidayCalendarEngine holidayCalendarEngine,
+                                   LeaveBalanceMutationGuard leaveBalanceMutationGuard,
+                                   PlatformTransactionManager transactionManager,
+                                   Scheduler jdbcScheduler) {
+        this.leaveRequestRepository = leaveRequestRepository;
+        this.employeeRepository = employeeRepository;
+        this.referenceDataCache = referenceDataCache;
+        this.leaveRequestValidator = leaveRequestValidator;
+        this.leaveRequestStatusEngine = leaveRequestStatusEngine;
+        this.leaveRequestBulkStatusEngine = leaveRequestBulkStatusEngine;
+        this.holidayCalendarEngine = holidayCalendarEngine;
+        this.leaveBalanceMutationGuard = leaveBalanceMutationGuard;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.jdbcScheduler = jdbcScheduler;
+    }
 
     private Mono<Employee> getEmployee(Long employeeId) {
         return Mono.fromCallable(() ->
                 employeeRepository.findById(employeeId)
                         .orElseThrow(() -> new ResourceNotFoundException("Employee", employeeId))
-        ).subscribeOn(Schedulers.boundedElastic());
+        ).subscribeOn(jdbcScheduler);
     }
 
     private Mono<LeaveType> getLeaveType(Long leaveTypeId) {
         return Mono.fromCallable(() ->
-                leaveTypeRepository.findById(leaveTypeId)
+                referenceDataCache.findLeaveType(leaveTypeId)
                         .orElseThrow(() -> new ResourceNotFoundException("Leave Type", leaveTypeId))
-        ).subscribeOn(Schedulers.boundedElastic());
+        ).subscribeOn(jdbcScheduler);
     }
 
     /* ---------- helper: string -> enum parse (throws if invalid) ---------- */
@@ -74,22 +107,25 @@ public class LeaveRequestServiceImpl implements LeaveRequestService {
 
     @Override
     public Mono<LeaveRequestResponseList> getAll() {
-        return Mono.fromCallable(() -> {
-            List<LeaveRequest> entities = leaveRequestRepository.findAll();
-            List<LeaveRequestResponse> responses = entities.stream()
-                    .map(LeaveRequestMapper::toDTO)
-                    .collect(Collectors.toList());
-            return new LeaveRequestResponseList(responses);
-        }).subscribeOn(Schedulers.boundedElastic());
+        return Mono.fromCallable(() -> new LeaveRequestResponseList(leaveRequestRepository.findAllResponses()))
+                .subscribeOn(jdbcScheduler);
+    }
+
+    @Override
+    public Flux<LeaveRequestResponse> streamAll() {
+        return KeysetFlux.stream(
+                afterId -> leaveRequestRepository.findResponsePage(afterId, Limit.of(KeysetFlux.DEFAULT_CHUNK_SIZE)),
+                LeaveRequestResponse::getId,
+                KeysetFlux.DEFAULT_CHUNK_SIZE,
+                jdbcScheduler);
     }
 
     @Override
     public Mono<LeaveRequestResponse> getById(IdRequest request) {
         return Mono.fromCallable(() ->
-                leaveRequestRepository.findById(request.getId())
-                        .map(LeaveRequestMapper::toDTO)
+                leaveRequestRepository.findResponseById(request.getId())
                         .orElseThrow(() -> new ResourceNotFoundException("Leave Request", request.getId()))
-        ).subscribeOn(Schedulers.boundedElastic());
+        ).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -97,31 +133,63 @@ public class LeaveRequestServiceImpl implements LeaveRequestService {
         return Mono.zip(
                 getEmployee(dto.getEmployeeId()),
                 getLeaveType(dto.getLeaveTypeId()),
-                dto.getApprovedById() != null ? getEmployee(dto.getApprovedById()) : Mono.just(null)
+                dto.getApprovedById() != null ? getEmployee(dto.getApprovedById()) : Mono.just(null),
+                holidayCalendarEngine.calendar()
         ).flatMap(tuple -> {
             Employee employee = tuple.getT1();
             LeaveType leaveType = tuple.getT2();
             Employee approver = tuple.getT3();
 
-            BigDecimal requestedDays = BigDecimal.valueOf(ChronoUnit.DAYS.between(dto.getStartDate(), dto.getEndDate()) + 1);
+            LeaveRequest entity = LeaveRequestMapper.toEntity(dto, employee, leaveType, approver);
+            entity.setRequestedDays(requestedDays(tuple.getT4(), entity));
+            if (entity.getRequestedDays().signum() == 0) {
+                return Mono.error(new InvalidLeaveRequestException("Leave request covers no working days."));
+            }
 
-            return leaveRequestValidator.validateLeaveRequestCreation(employee, leaveType, dto.getStartDate(), dto.getEndDate(), requestedDays)
-                    .flatMap(ignored -> leaveBalanceService.deductLeave(new DeductLeaveRequest(employee.getId(), leaveType.getId(), requestedDays, dto.getStartDate().getYear())))
+            return leaveRequestValidator.validateLeaveRequestCreation(employee, leaveType, dto.getStartDate(), dto.getEndDate(), entity.getRequestedDays())
                     .then(Mono.fromCallable(() -> {
-                        LeaveRequest entity = LeaveRequestMapper.toEntity(dto, employee, leaveType, approver);
                         entity.setStatus(LeaveStatus.PENDING);
-                        LeaveRequest saved = leaveRequestRepository.save(entity);
+                        LeaveRequest saved = saveRejectingOverlap(entity);
                         Logger.logCreated(LeaveRequest.class, saved.getId(), "LeaveRequest");
                         return LeaveRequestMapper.toDTO(saved);
-                    }));
-        }).subscribeOn(Schedulers.boundedElastic());
+                    }).subscribeOn(jdbcScheduler));
+        }).subscribeOn(jdbcScheduler);
+    }
+
+    /**
+     * Inserts or updates without a prior overlap query; concurrent requests for the same dates are
+     * serialized by the exclusion constraint and the loser gets the usual validation error. Flushes, so
+     * that inside a transaction the violation is raised here and not at commit.
+     */
+    private LeaveRequest saveRejectingOverlap(LeaveRequest entity) {
+        try {
+            return leaveRequestRepository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            String cause = e.getMostSpecificCause().getMessage();
+            if (cause != null && cause.contains(OVERLAP_CONSTRAINT)) {
+                throw new InvalidLeaveRequestException("An existing leave request already covers this date range.");
+            }
+            throw e;
+        }
     }
 
     @Override
     public Mono<LeaveRequestResponse> update(UpdateLeaveRequestRequest dto) {
-        return Mono.fromCallable(() -> {
-            LeaveRequest existing = leaveRequestRepository.findById(dto.getId())
+        // Satır kilitlenir: eşzamanlı bir onay, okunan durum ile kaydedilen değişiklik arasına giremez
+        return holidayCalendarEngine.calendar().flatMap(calendar -> Mono.fromCallable(() -> writeTransaction.execute(status -> {
+            LeaveRequest existing = leaveRequestRepository.lockById(dto.getId())
                     .orElseThrow(() -> new ResourceNotFoundException("Leave Request", dto.getId()));
+            // Durum ve iptal bakiyeye dokunur: yalnızca /changeStatus (LeaveRequestStatusEngine) değiştirebilir
+            if (changes(dto.getStatus() != null ? LeaveStatus.fromString(dto.getStatus()) : null, existing.getStatus())
+                    || changes(dto.getIsCancelled(), existing.getIsCancelled())) {
+                throw new InvalidLeaveRequestException(
+                        "Status and cancellation of a leave request can only be changed through /changeStatus.");
+            }
+            boolean approved = LeaveStatus.APPROVED.equals(existing.getStatus());
+            if (approved && changesBookedDays(existing, dto)) {
+                throw new InvalidLeaveRequestException(
+                        "Dates, leave type or employee of an approved leave request cannot be changed; cancel it and create a new one.");
+            }
 
             Employee employee = null;
             if (dto.getEmployeeId() != null) {
@@ -131,7 +199,7 @@ public class LeaveRequestServiceImpl implements LeaveRequestService {
 
             LeaveType leaveType = null;
             if (dto.getLeaveTypeId() != null) {
-                leaveType = leaveTypeRepository.findById(dto.getLeaveTypeId())
+                leaveType = referenceDataCache.findLeaveType(dto.getLeaveTypeId())
                         .orElseThrow(() -> new ResourceNotFoundException("Leave Type", dto.getLeaveTypeId()));
             }
 
@@ -142,35 +210,61 @@ public class LeaveRequestServiceImpl implements LeaveRequestService {
             }
 
             LeaveRequestMapper.updateEntity(existing, dto, employee, leaveType, approver);
+            // Onaylı talebin günleri bakiyeden düşülen değer olarak kalır; iade aynı değeri geri verir
+            if (!approved) {
+                existing.setRequestedDays(requestedDays(calendar, existing));
+                if (existing.getRequestedDays().signum() == 0) {
+                    throw new InvalidLeaveRequestException("Leave request covers no working days.");
+                }
+            }
 
-            LeaveRequest updated = leaveRequestRepository.save(existing);
+            LeaveRequest updated = saveRejectingOverlap(existing);
 
             Logger.logUpdated(LeaveRequest.class, updated.getId(), "LeaveRequest");
 
             return LeaveRequestMapper.toDTO(updated);
-        }).subscribeOn(Schedulers.boundedElastic());
+        })).subscribeOn(jdbcScheduler));
+    }
+
+    // Bakiyeden düşülen günleri değiştiren alanlar: çalışan, tür, tarihler ve yarım günler
+    private static boolean changesBookedDays(LeaveRequest existing, UpdateLeaveRequestRequest dto) {
+        return changes(dto.getEmployeeId(), existing.getEmployee().getId())
+                || changes(dto.getLeaveTypeId(), existing.getLeaveType().getId())
+                || changes(dto.getStartDate(), existing.getStartDate())
+                || changes(dto.getEndDate(), existing.getEndDate())
+                || changes(dto.getStartHalfDay(), existing.getStartHalfDay())
+                || changes(dto.getEndHalfDay(), existing.getEndHalfDay());
+    }
+
+    private static boolean changes(Object requested, Object current) {
+        return requested != null && !requested.equals(current);
     }
 
     @Override
     public Mono<Void> delete(IdRequest request) {
-        return Mono.fromRunnable(() -> {
-            if (!leaveRequestRepository.existsById(request.getId())) {
-                throw new ResourceNotFoundException("Leave Request", request.getId());
+        // Onaylı talebin günleri bakiyeden düşülmüş durumdadır: silmek yerine iptal edilip iade edilmeli.
+        // Diğer taleplerin defter kayıtları kalır, talep bağlantısı boşalır (fk_leave_ledger_leave_request)
+        return Mono.fromRunnable(() -> writeTransaction.executeWithoutResult(status -> {
+            LeaveRequest existing = leaveRequestRepository.lockById(request.getId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Leave Request", request.getId()));
+            if (LeaveStatus.APPROVED.equals(existing.getStatus())) {
+                throw new InvalidLeaveRequestException(
+                        "An approved leave request cannot be deleted; cancel it first so its days are returned to the balance.");
             }
-            leaveRequestRepository.deleteById(request.getId());
+            leaveRequestRepository.delete(existing);
             Logger.logDeleted(LeaveRequest.class, request.getId());
-        }).subscribeOn(Schedulers.boundedElastic()).then();
+        })).subscribeOn(jdbcScheduler).then();
     }
 
     @Override
     public Mono<LeaveRequestResponseList> getByEmployee(IdRequest request) {
         return Mono.fromCallable(() -> {
-            List<LeaveRequest> list = leaveRequestRepository.findByEmployeeId(request.getId());
-            List<LeaveRequestResponse> responses = list.stream()
-                    .map(LeaveRequestMapper::toDTO)
-                    .collect(Collectors.toList());
-            return new LeaveRequestResponseList(responses);
-        }).subscribeOn(Schedulers.boundedElastic());
+            KeysetPage page = request.toPage();
+            List<LeaveRequestResponse> list = page.isPaged()
+                    ? leaveRequestRepository.findResponsePageByEmployeeId(request.getId(), page.afterId(), page.fetchLimit())
+                    : leaveRequestRepository.findResponsesByEmployeeId(request.getId());
+            return toResponseList(page, list);
+        }).subscribeOn(jdbcScheduler);
     }
 
     /* ---------- FIXED: status methods must use LeaveStatus enum ---------- */
@@ -179,152 +273,143 @@ public class LeaveRequestServiceImpl implements LeaveRequestService {
     public Mono<LeaveRequestResponseList> getByStatus(StatusRequest request) {
         return Mono.fromCallable(() -> {
             LeaveStatus status = parseStatus(request.getStatus());
-            List<LeaveRequest> list = leaveRequestRepository.findByStatus(status);
-            List<LeaveRequestResponse> responses = list.stream()
-                    .map(LeaveRequestMapper::toDTO)
-                    .collect(Collectors.toList());
-            return new LeaveRequestResponseList(responses);
-        }).subscribeOn(Schedulers.boundedElastic());
+            KeysetPage page = request.toPage();
+            List<LeaveRequestResponse> list = page.isPaged()
+                    ? leaveRequestRepository.findResponsePageByStatus(status, page.afterId(), page.fetchLimit())
+                    : leaveRequestRepository.findResponsesByStatus(status);
+            return toResponseList(page, list);
+        }).subscribeOn(jdbcScheduler);
     }
 
     @Override
     public Mono<LeaveRequestResponseList> getCancelled() {
-        return Mono.fromCallable(() -> {
-            List<LeaveRequest> list = leaveRequestRepository.findByIsCancelledTrue();
-            List<LeaveRequestResponse> responses = list.stream()
-                    .map(LeaveRequestMapper::toDTO)
-                    .collect(Collectors.toList());
-            return new LeaveRequestResponseList(responses);
-        }).subscribeOn(Schedulers.boundedElastic());
+        return Mono.fromCallable(() -> new LeaveRequestResponseList(leaveRequestRepository.findCancelledResponses()))
+                .subscribeOn(jdbcScheduler);
     }
 
     @Override
     public Mono<LeaveRequestResponseList> getByApprover(IdRequest request) {
         return Mono.fromCallable(() -> {
-            List<LeaveRequest> list = leaveRequestRepository.findByApprovedById(request.getId());
-            List<LeaveRequestResponse> responses = list.stream()
-                    .map(LeaveRequestMapper::toDTO)
-                    .collect(Collectors.toList());
-            return new LeaveRequestResponseList(responses);
-        }).subscribeOn(Schedulers.boundedElastic());
+            KeysetPage page = request.toPage();
+            List<LeaveRequestResponse> list = page.isPaged()
+                    ? leaveRequestRepository.findResponsePageByApprovedById(request.getId(), page.afterId(), page.fetchLimit())
+                    : leaveRequestRepository.findResponsesByApprovedById(request.getId());
+            return toResponseList(page, list);
+        }).subscribeOn(jdbcScheduler);
     }
 
     @Override
     public Mono<LeaveRequestResponseList> getByEmployeeAndStatus(EmployeeStatusRequest request) {
         return Mono.fromCallable(() -> {
             LeaveStatus status = parseStatus(request.getStatus());
-            List<LeaveRequest> list = leaveRequestRepository.findByEmployeeIdAndStatus(request.getEmployeeId(), status);
-            List<LeaveRequestResponse> responses = list.stream()
-                    .map(LeaveRequestMapper::toDTO)
-                    .collect(Collectors.toList());
-            return new LeaveRequestResponseList(responses);
-        }).subscribeOn(Schedulers.boundedElastic());
+            KeysetPage page = request.toPage();
+            List<LeaveRequestResponse> list = page.isPaged()
+                    ? leaveRequestRepository.findResponsePageByEmployeeIdAndStatus(
+                            request.getEmployeeId(), status, page.afterId(), page.fetchLimit())
+                    : leaveRequestRepository.findResponsesByEmployeeIdAndStatus(request.getEmployeeId(), status);
+            return toResponseList(page, list);
+        }).subscribeOn(jdbcScheduler);
     }
 
     @Override
     public Mono<LeaveRequestResponseList> getByDateRange(EmployeeDateRangeRequest request) {
         return Mono.fromCallable(() -> {
-            List<LeaveRequest> list = leaveRequestRepository.findByStartDateBetween(
+            KeysetPage page = request.toPage();
+            if (!page.isPaged()) {
+                return toResponseList(page, leaveRequestRepository.findResponsesByStartDateBetween(
+                        request.getStartDate(),
+                        request.getEndDate()
+                ));
+            }
+            List<LeaveRequestResponse> list = leaveRequestRepository.findResponsePageByStartDateBetween(
                     request.getStartDate(),
-                    request.getEndDate()
+                    request.getEndDate(),
+                    page.afterKey(LocalDate::parse, request.getStartDate()),
+                    page.afterId(),
+                    page.fetchLimit()
             );
-            List<LeaveRequestResponse> responses = list.stream()
-                    .map(LeaveRequestMapper::toDTO)
-                    .collect(Collectors.toList());
-            return new LeaveRequestResponseList(responses);
-        }).subscribeOn(Schedulers.boundedElastic());
+            return toDateKeyedResponseList(page, list);
+        }).subscribeOn(jdbcScheduler);
     }
 
     @Override
     public Mono<LeaveRequestResponseList> getByEmployeeLeaveTypeAndDateRange(EmployeeLeaveTypeDateRangeRequest request) {
         return Mono.fromCallable(() -> {
-            List<LeaveRequest> list = leaveRequestRepository.findByEmployeeIdAndLeaveTypeIdAndStartDateBetween(
+            KeysetPage page = request.toPage();
+            if (!page.isPaged()) {
+                return toResponseList(page, leaveRequestRepository.findResponsesByEmployeeIdAndLeaveTypeIdAndStartDateBetween(
+                        request.getEmployeeId(),
+                        request.getLeaveTypeId(),
+                        request.getStartDate(),
+                        request.getEndDate()
+                ));
+            }
+            List<LeaveRequestResponse> list = leaveRequestRepository.findResponsePageByEmployeeIdAndLeaveTypeIdAndStartDateBetween(
                     request.getEmployeeId(),
                     request.getLeaveTypeId(),
                     request.getStartDate(),
-                    request.getEndDate()
+                    request.getEndDate(),
+                    page.afterKey(LocalDate::parse, request.getStartDate()),
+                    page.afterId(),
+                    page.fetchLimit()
             );
-            List<LeaveRequestResponse> responses = list.stream()
-                    .map(LeaveRequestMapper::toDTO)
-                    .collect(Collectors.toList());
-            return new LeaveRequestResponseList(responses);
-        }).subscribeOn(Schedulers.boundedElastic());
+            return toDateKeyedResponseList(page, list);
+        }).subscribeOn(jdbcScheduler);
     }
 
     @Override
     public Mono<LeaveRequestResponseList> getOverlapping(EmployeeDateRangeRequest request) {
-        return Mono.fromCallable(() -> {
-            List<LeaveRequest> list = leaveRequestRepository.findOverlappingRequests(
-                    request.getEmployeeId(),
-                    request.getStartDate(),
-                    request.getEndDate()
-            );
-            List<LeaveRequestResponse> responses = list.stream()
-                    .map(LeaveRequestMapper::toDTO)
-                    .collect(Collectors.toList());
-            return new LeaveRequestResponseList(responses);
-        }).subscribeOn(Schedulers.boundedElastic());
+        return Mono.fromCallable(() -> new LeaveRequestResponseList(leaveRequestRepository.findOverlappingResponses(
+                request.getEmployeeId(),
+                request.getStartDate(),
+                request.getEndDate()
+        ))).subscribeOn(jdbcScheduler);
     }
 
     @Override
     public Mono<LeaveRequestResponseList> getApprovedByEmployee(Long employeeId) {
-        return Mono.fromCallable(() -> {
-            List<LeaveRequest> list = leaveRequestRepository.findByEmployeeIdAndStatus(employeeId, LeaveStatus.APPROVED);
-            List<LeaveRequestResponse> responses = list.stream()
-                    .map(LeaveRequestMapper::toDTO)
-                    .collect(Collectors.toList());
-            return new LeaveRequestResponseList(responses);
-        }).subscribeOn(Schedulers.boundedElastic());
+        return Mono.fromCallable(() -> new LeaveRequestResponseList(
+                leaveRequestRepository.findResponsesByEmployeeIdAndStatus(employeeId, LeaveStatus.APPROVED)
+        )).subscribeOn(jdbcScheduler);
     }
 
     @Override
     public Mono<LeaveRequestResponse> changeStatus(ChangeLeaveRequestStatusRequest dto) {
-        return Mono.fromCallable(() ->
-                leaveRequestRepository.findById(dto.getLeaveRequestId())
+        // Talep kilitlenir, durum kilit altında yeniden okunur; bakiye ve durum aynı transaction'da yazılır.
+        // Diğer bakiye değişiklikleri gibi çalışanın sırasında ve iyimser kilit çakışmasında yeniden denenerek çalışır
+        return holidayCalendarEngine.calendar().flatMap(calendar -> Mono.fromCallable(() ->
+                leaveRequestRepository.findEmployeeIdById(dto.getLeaveRequestId())
                         .orElseThrow(() -> new ResourceNotFoundException("Leave Request", dto.getLeaveRequestId()))
-        ).flatMap(existing -> {
-            LeaveStatus oldStatus = existing.getStatus();
-            LeaveStatus newStatus = dto.getStatus(); // dto.status already enum (as you changed it)
-
-            BigDecimal requestedDays = BigDecimal.valueOf(ChronoUnit.DAYS.between(existing.getStartDate(), existing.getEndDate()) + 1);
-
-            return leaveRequestValidator.validateStatusChange(existing, dto)
-                    .then(Mono.defer(() -> {
-                        if (LeaveStatus.APPROVED.equals(newStatus) && !LeaveStatus.APPROVED.equals(oldStatus)) {
-                            return leaveBalanceService.getByEmployeeAndLeaveType(
-                                            new EmployeeLeaveTypeRequest(existing.getEmployee().getId(), existing.getLeaveType().getId()))
-                                    .flatMap(balance -> {
-                                        if (balance.getAmount().compareTo(requestedDays) < 0) {
-                                            return Mono.error(new RuntimeException("Insufficient leave balance."));
-                                        }
-                                        return leaveBalanceService.deductLeave(new DeductLeaveRequest(
-                                                        existing.getEmployee().getId(),
-                                                        existing.getLeaveType().getId(),
-                                                        requestedDays,
-                                                        existing.getStartDate().getYear()))
-                                                .then(updateLeaveRequest(existing, newStatus, dto.getApprovalNote()));
-                                    });
-                        } else if ((LeaveStatus.REJECTED.equals(newStatus) || LeaveStatus.CANCELLED.equals(newStatus))
-                                && LeaveStatus.APPROVED.equals(oldStatus)) {
-                            return leaveBalanceService.addLeave(new AddLeaveRequest(
-                                            existing.getEmployee().getId(),
-                                            existing.getLeaveType().getId(),
-                                            requestedDays,
-                                            existing.getStartDate().getYear()))
-                                    .then(updateLeaveRequest(existing, newStatus, dto.getApprovalNote()));
-                        } else {
-                            return updateLeaveRequest(existing, newStatus, dto.getApprovalNote());
-                        }
-                    }))
-                    .map(LeaveRequestMapper::toDTO);
-        }).subscribeOn(Schedulers.boundedElastic());
+        ).subscribeOn(jdbcScheduler).flatMap(employeeId -> leaveBalanceMutationGuard.run(employeeId, Mono.fromCallable(() ->
+                leaveRequestStatusEngine.apply(dto.getLeaveRequestId(), dto.getStatus(), dto.getApprovalNote(), calendar)
+        ).subscribeOn(jdbcScheduler))));
+    }
+
+    @Override
+    public Mono<BulkChangeLeaveRequestStatusResponse> changeStatusBulk(BulkChangeLeaveRequestStatusRequest dto) {
+        if (dto.getStatus() != LeaveStatus.APPROVED && dto.getStatus() != LeaveStatus.REJECTED) {
+            return Mono.error(new InvalidLeaveRequestException("Bulk status change supports only APPROVED and REJECTED."));
+        }
+        // Tüm talepler ve etkilenen bakiyeler tek transaction içinde, talep başına sonuçla işlenir
+        return holidayCalendarEngine.calendar().flatMap(calendar -> Mono.fromCallable(() ->
+                leaveRequestBulkStatusEngine.apply(dto.getLeaveRequestIds(), dto.getStatus(), dto.getApprovalNote(), calendar)
+        ).subscribeOn(jdbcScheduler));
+    }
+
+    private LeaveRequestResponseList toResponseList(KeysetPage page, List<LeaveRequestResponse> rows) {
+        KeysetPage.Slice<LeaveRequestResponse> slice = page.slice(rows, LeaveRequestResponse::getId);
+        return new LeaveRequestResponseList(slice.items(), slice.nextCursor());
+    }
+
+    private LeaveRequestResponseList toDateKeyedResponseList(KeysetPage page, List<LeaveRequestResponse> rows) {
+        KeysetPage.Slice<LeaveRequestResponse> slice = page.slice(rows, LeaveRequestResponse::getStartDate, LeaveRequestResponse::getId);
+        return new LeaveRequestResponseList(slice.items(), slice.nextCursor());
     }
 
-    private Mono<LeaveRequest> updateLeaveRequest(LeaveRequest existing, LeaveStatus newStatus, String approvalNote) {
-        existing.setStatus(newStatus);
-        if (approvalNote != null) existing.setApprovalNote(approvalNote);
-        return Mono.fromCallable(() -> leaveRequestRepository.save(existing))
-                .subscribeOn(Schedulers.boundedElastic());
+    private static BigDecimal requestedDays(HolidayCalendar calendar, LeaveRequest request) {
+        Long companyId = request.getEmployee().getCompany() != null ? request.getEmployee().getCompany().getId() : null;
+        return calendar.forCompany(companyId).leaveDays(request.getStartDate(), request.getEndDate(),
+                Boolean.TRUE.equals(request.getStartHalfDay()), Boolean.TRUE.equals(request.getEndHalfDay()));
     }
 
 }
@@ -0,0 +1,96 @@
+package com.neg.technology.human.resource.leave.service.impl;
+
+import com.neg.technology.human.resource.exception.ResourceNotFoundException;
+import com.neg.technology.human.resource.leave.model.enums.LeaveStatus;
+import com.neg.technology.human.resource.leave.model.response.LeaveRequestResponse;
+import com.neg.technology.human.resource.leave.repository.LeaveRequestRepository;
+import com.neg.technology.human.resource.leave.repository.LeaveRequestRepository.StatusChangeRow;
+import com.neg.technology.human.resource.utility.HolidayCalendar;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Changes the status of one leave request in a single transaction. The request row is locked first and
+ * its status re-read under the lock, so two approvals of the same request, or an approval racing
+ * {@link LeaveRequestBulkStatusEngine}, deduct once: the later one sees APPROVED and only updates the
+ * note. The balances are then locked and changed by {@link LeaveBalanceDeductionEngine} and the new status
+ * is written before the same commit, so a failure anywhere leaves both the balance and the request as
+ * they were.
+ * <p>
+ * A cancelled request is not changed again, and an approved one only leaves APPROVED through REJECTED or
+ * CANCELLED, which return its days.
+ * <p>
+ * Locks are taken in the bulk engine's order, requests before balances. Blocking: callers run it on the
+ * JDBC scheduler.
+ */
+@Component
+public class LeaveRequestStatusEngine {
+
+    static final String APPROVED_TO_PENDING =
+            "An approved leave request cannot be set back to PENDING; reject or cancel it so its days are returned.";
+
+    private final LeaveRequestRepository leaveRequestRepository;
+    private final LeaveBalanceDeductionEngine leaveBalanceDeductionEngine;
+    private final TransactionTemplate transactionTemplate;
+
+    public LeaveRequestStatusEngine(LeaveRequestRepository leaveRequestRepository,
+                                    LeaveBalanceDeductionEngine leaveBalanceDeductionEngine,
+                                    PlatformTransactionManager transactionManager) {
+        this.leaveRequestRepository = leaveRequestRepository;
+        this.leaveBalanceDeductionEngine = leaveBalanceDeductionEngine;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * @param calendar used only for old requests whose requested days were never stored
+     */
+    public LeaveRequestResponse apply(Long leaveRequestId, LeaveStatus newStatus, String approvalNote, HolidayCalendar calendar) {
+        return transactionTemplate.execute(status -> applyLocked(leaveRequestId, newStatus, approvalNote, calendar));
+    }
+
+    private LeaveRequestResponse applyLocked(Long leaveRequestId, LeaveStatus newStatus, String approvalNote,
+                                             HolidayCalendar calendar) {
+        StatusChangeRow row = leaveRequestRepository.lockForStatusChange(List.of(leaveRequestId)).stream()
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Leave Request", leaveRequestId));
+        LeaveStatus oldStatus = row.getStatus();
+
+        // Toplu motorla aynı kurallar: iptal edilmiş talep değişmez, onaylı talep iade olmadan beklemeye dönmez
+        if (Boolean.TRUE.equals(row.getIsCancelled()) || oldStatus == LeaveStatus.CANCELLED) {
+            throw new IllegalArgumentException("Leave request is cancelled.");
+        }
+        if (newStatus == LeaveStatus.APPROVED && oldStatus == LeaveStatus.REJECTED) {
+            throw new IllegalArgumentException("Cannot approve a rejected or cancelled leave request.");
+        }
+        if (newStatus == LeaveStatus.PENDING && oldStatus == LeaveStatus.APPROVED) {
+            throw new IllegalArgumentException(APPROVED_TO_PENDING);
+        }
+
+        // Kayıtlı değer kullanılır; boş olan eski kayıtlar bir kez hesaplanıp bu değişiklikle saklanır
+        BigDecimal requestedDays = row.getRequestedDays();
+        if (requestedDays == null) {
+            requestedDays = calendar.forCompany(row.getCompanyId()).leaveDays(row.getStartDate(), row.getEndDate(),
+                    Boolean.TRUE.equals(row.getStartHalfDay()), Boolean.TRUE.equals(row.getEndHalfDay()));
+            leaveRequestRepository.fillRequestedDays(leaveRequestId, requestedDays);
+        }
+
+        int year = row.getStartDate().getYear();
+        if (newStatus == LeaveStatus.APPROVED && oldStatus != LeaveStatus.APPROVED) {
+            leaveBalanceDeductionEngine.deductInTransaction(row.getEmployeeId(), row.getLeaveTypeId(), requestedDays,
+                    year, leaveRequestId);
+        } else if ((newStatus == LeaveStatus.REJECTED || newStatus == LeaveStatus.CANCELLED)
+                && oldStatus == LeaveStatus.APPROVED) {
+            // Onaylı talebin günleri kullanılan günlerden geri alınır, hak edişe eklenmez
+            leaveBalanceDeductionEngine.refundInTransaction(row.getEmployeeId(), row.getLeaveTypeId(), requestedDays,
+                    year, leaveRequestId);
+        }
+
+        leaveRequestRepository.updateStatus(List.of(leaveRequestId), newStatus, approvalNote);
+        return leaveRequestRepository.findResponseById(leaveRequestId)
+                .orElseThrow(() -> new ResourceNotFoundException("Leave Request", leaveRequestId));
+    }
+}
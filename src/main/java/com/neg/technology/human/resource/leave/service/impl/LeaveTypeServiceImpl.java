@@ -14,9 +14,11 @@ import com.neg.technology.human.resource.utility.module.entity.request.BooleanRe
 import com.neg.technology.human.resource.utility.module.entity.request.IdRequest;
 import com.neg.technology.human.resource.utility.module.entity.request.IntegerRequest;
 import com.neg.technology.human.resource.utility.module.entity.request.NameRequest;
+import com.neg.technology.human.resource.utility.ReferenceDataCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.util.List;
 
@@ -25,23 +27,25 @@ import java.util.List;
 public class LeaveTypeServiceImpl implements LeaveTypeService {
 
     private final LeaveTypeRepository leaveTypeRepository;
+    private final ReferenceDataCache referenceDataCache;
     private final LeaveTypeMapper leaveTypeMapper;
+    private final Scheduler jdbcScheduler;
 
     @Override
     public Mono<LeaveTypeResponseList> getAll() {
         return Mono.fromCallable(() -> {
             List<LeaveType> entities = leaveTypeRepository.findAll();
             return new LeaveTypeResponseList(leaveTypeMapper.toResponseList(entities));
-        });
+        }).subscribeOn(jdbcScheduler);
     }
 
     @Override
     public Mono<LeaveTypeResponse> getById(IdRequest request) {
         return Mono.fromCallable(() ->
-                leaveTypeRepository.findById(request.getId())
+                referenceDataCache.findLeaveType(request.getId())
                         .map(leaveTypeMapper::toResponse)
                         .orElseThrow(() -> new ResourceNotFoundException("Leave Type", request.getId()))
-        );
+        ).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -51,7 +55,7 @@ public class LeaveTypeServiceImpl implements LeaveTypeService {
             LeaveType saved = leaveTypeRepository.save(entity);
             Logger.logCreated(LeaveType.class, saved.getId(), saved.getName());
             return leaveTypeMapper.toResponse(saved);
-        });
+        }).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -62,9 +66,10 @@ public class LeaveTypeServiceImpl implements LeaveTypeService {
 
             leaveTypeMapper.updateEntityFromRequest(request, existing);
             LeaveType updated = leaveTypeRepository.save(existing);
+            referenceDataCache.evictLeaveType(updated.getId());
             Logger.logUpdated(LeaveType.class, updated.getId(), updated.getName());
             return leaveTypeMapper.toResponse(updated);
-        });
+        }).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -74,8 +79,9 @@ public class LeaveTypeServiceImpl implements LeaveTypeService {
                 throw new ResourceNotFoundException("Leave Type", request.getId());
             }
             leaveTypeRepository.deleteById(request.getId());
+            referenceDataCache.evictLeaveType(request.getId());
             Logger.logDeleted(LeaveType.class, request.getId());
-        });
+        }).subscribeOn(jdbcScheduler).then();
     }
 
     @Override
@@ -84,7 +90,7 @@ public class LeaveTypeServiceImpl implements LeaveTypeService {
                 leaveTypeRepository.findByNameIgnoreCase(request.getName())
                         .map(leaveTypeMapper::toResponse)
                         .orElseThrow(() -> new ResourceNotFoundException("Leave Type with name", request.getName()))
-        );
+        ).subscribeOn(jdbcScheduler);
     }
 
 
@@ -95,7 +101,7 @@ public class LeaveTypeServiceImpl implements LeaveTypeService {
                     ? leaveTypeRepository.findByIsAnnualTrue()
                     : leaveTypeRepository.findByIsAnnualFalse();
             return new LeaveTypeResponseList(leaveTypeMapper.toResponseList(entities));
-        });
+        }).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -105,7 +111,7 @@ public class LeaveTypeServiceImpl implements LeaveTypeService {
                     ? leaveTypeRepository.findByIsUnpaidTrue()
                     : leaveTypeRepository.findByIsUnpaidFalse();
             return new LeaveTypeResponseList(leaveTypeMapper.toResponseList(entities));
-        });
+        }).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -113,7 +119,7 @@ public class LeaveTypeServiceImpl implements LeaveTypeService {
         return Mono.fromCallable(() -> {
             List<LeaveType> entities = leaveTypeRepository.findByGenderRequiredIsNotNull();
             return new LeaveTypeResponseList(leaveTypeMapper.toResponseList(entities));
-        });
+        }).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -121,7 +127,7 @@ public class LeaveTypeServiceImpl implements LeaveTypeService {
         return Mono.fromCallable(() -> {
             List<LeaveType> entities = leaveTypeRepository.findByBorrowableLimitGreaterThan(request.getValue());
             return new LeaveTypeResponseList(leaveTypeMapper.toResponseList(entities));
-        });
+        }).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -129,6 +135,6 @@ public class LeaveTypeServiceImpl implements LeaveTypeService {
         return Mono.fromCallable(() -> {
             List<LeaveType> entities = leaveTypeRepository.findByValidAfterDaysGreaterThan(request.getValue());
             return new LeaveTypeResponseList(leaveTypeMapper.toResponseList(entities));
-        });
+        }).subscribeOn(jdbcScheduler);
     }
 }
\ No newline at end of file
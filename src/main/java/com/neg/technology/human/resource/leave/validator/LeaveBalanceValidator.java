@@ -29,11 +29,11 @@ public class LeaveBalanceValidator {
                 .map(LeaveBalance::getAmount)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
 
-        int totalUsedDays = balances.stream()
-                .mapToInt(LeaveBalance::getUsedDays)
-                .sum();
+        BigDecimal totalUsedDays = balances.stream()
+                .map(LeaveBalance::getUsedDays)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
 
-        return totalAmount.subtract(BigDecimal.valueOf(totalUsedDays));
+        return totalAmount.subtract(totalUsedDays);
     }
 
 
@@ -1,13 +1,10 @@
 package com.neg.technology.human.resource.leave.validator;
 
 import com.neg.technology.human.resource.employee.model.entity.Employee;
-import com.neg.technology.human.resource.leave.model.entity.LeaveRequest;
-import com.neg.technology.human.resource.leave.model.enums.LeaveStatus;
 import com.neg.technology.human.resource.leave.model.entity.LeaveType;
-import com.neg.technology.human.resource.leave.model.request.ChangeLeaveRequestStatusRequest;
 import com.neg.technology.human.resource.leave.model.request.EmployeeLeaveTypeRequest;
-import com.neg.technology.human.resource.leave.repository.LeaveRequestRepository;
 import com.neg.technology.human.resource.leave.service.LeaveBalanceService;
+import com.neg.technology.human.resource.leave.service.impl.HolidayCalendarEngine;
 import com.neg.technology.human.resource.person.model.enums.Gender;
 
 import lombok.RequiredArgsConstructor;
@@ -15,28 +12,15 @@ import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
-import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.Month;
-import java.util.List;
-import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
 public class LeaveRequestValidator {
 
-    private final LeaveRequestRepository leaveRequestRepository;
     private final LeaveBalanceService leaveBalanceService;
+    private final HolidayCalendarEngine holidayCalendarEngine;
 
-    private static final Set<LocalDate> OFFICIAL_HOLIDAYS = Set.of(
-            LocalDate.of(2025, Month.JANUARY, 1),
-            LocalDate.of(2025, Month.APRIL, 23),
-            LocalDate.of(2025, Month.MAY, 1),
-            LocalDate.of(2025, Month.MAY, 19),
-            LocalDate.of(2025, Month.JULY, 15),
-            LocalDate.of(2025, Month.AUGUST, 30),
-            LocalDate.of(2025, Month.OCTOBER, 29)
-    );
 
     /**
      * Checks if a given date is a holiday (official holiday or weekend).
@@ -45,10 +29,8 @@ public class LeaveRequestValidator {
         if (date == null) {
             return Mono.error(new IllegalArgumentException("Date cannot be null"));
         }
-        boolean isHoliday = OFFICIAL_HOLIDAYS.contains(date) ||
-                date.getDayOfWeek() == DayOfWeek.SATURDAY ||
-                date.getDayOfWeek() == DayOfWeek.SUNDAY;
-        return Mono.just(isHoliday);
+        return holidayCalendarEngine.calendar()
+                .map(calendar -> calendar.country().isHoliday(date));
     }
 
     /**
@@ -73,24 +55,11 @@ public class LeaveRequestValidator {
     }
 
     /**
-     * Checks if an employee has any overlapping leave requests for the specified dates.
-     */
-    public Mono<Boolean> hasOverlappingRequests(Long employeeId, LocalDate startDate, LocalDate endDate) {
-        List<LeaveRequest> overlappingRequests = leaveRequestRepository.findOverlappingRequests(employeeId, startDate, endDate);
-        return Mono.just(overlappingRequests.isEmpty());
-    }
-
-    /**
-     * Validates a new leave request before creation.
+     * Validates a new leave request before creation. Overlaps are not checked here: the
+     * ex_leave_request_no_overlap constraint rejects them atomically on insert.
      */
     public Mono<Void> validateLeaveRequestCreation(Employee employee, LeaveType leaveType, LocalDate startDate, LocalDate endDate, BigDecimal requestedDays) {
-        return hasOverlappingRequests(employee.getId(), startDate, endDate)
-                .flatMap(isNotOverlapping -> {
-                    if (Boolean.FALSE.equals(isNotOverlapping)) {
-                        return Mono.error(new RuntimeException("An existing leave request already covers this date range."));
-                    }
-                    return validateEligibility(employee, leaveType);
-                })
+        return validateEligibility(employee, leaveType)
                 .then(Mono.fromCallable(() -> {
                     return leaveBalanceService.getByEmployeeAndLeaveType(new EmployeeLeaveTypeRequest(employee.getId(), leaveType.getId()))
                             .doOnNext(balance -> {
@@ -102,17 +71,4 @@ public class LeaveRequestValidator {
                 })).then();
     }
 
-
-    public Mono<Void> validateStatusChange(LeaveRequest existingRequest, ChangeLeaveRequestStatusRequest dto) {
-        LeaveStatus oldStatus = existingRequest.getStatus();
-        LeaveStatus newStatus = dto.getStatus(); // Artık doğrudan enum geliyor
-
-        if (newStatus == LeaveStatus.APPROVED && (oldStatus == LeaveStatus.REJECTED || oldStatus == LeaveStatus.CANCELLED)) {
-            return Mono.error(new IllegalArgumentException("Cannot approve a rejected or cancelled leave request."));
-        }
-
-        // İsteğe bağlı olarak başka kurallar ekleyebilirsin
-        return Mono.empty();
-    }
-
 }
\ No newline at end of file
@@ -1,8 +1,11 @@
 package com.neg.technology.human.resource.person.controller;
 
 import com.neg.technology.human.resource.person.model.request.CreatePersonRequest;
+import com.neg.technology.human.resource.person.model.request.PersonSearchRequest;
 import com.neg.technology.human.resource.person.model.request.UpdatePersonRequest;
 import com.neg.technology.human.resource.person.model.response.PersonResponse;
+import com.neg.technology.human.resource.person.model.response.PersonSearchResponse;
+import com.neg.technology.human.resource.person.service.PersonSearchService;
 import com.neg.technology.human.resource.person.service.PersonService;
 import com.neg.technology.human.resource.person.validator.PersonValidator;
 import com.neg.technology.human.resource.utility.module.entity.request.*;
@@ -12,8 +15,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
@@ -25,6 +30,7 @@ import java.util.List;
 public class PersonController {
 
     private final PersonService personService;
+    private final PersonSearchService personSearchService;
     private final PersonValidator personValidator;
 
     @Operation(summary = "Get all persons", description = "Retrieve a list of all persons")
@@ -35,6 +41,13 @@ public class PersonController {
                 .map(ResponseEntity::ok);
     }
 
+    @Operation(summary = "Stream all persons", description = "Streams persons as newline-delimited JSON without loading the whole table")
+    @ApiResponse(responseCode = "200", description = "Persons streamed successfully")
+    @PostMapping(value = "/streamAll", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<PersonResponse> streamAllPersons() {
+        return personService.streamAllPersons();
+    }
+
     @Operation(summary = "Get person by ID", description = "Retrieve a person by its unique ID")
     @ApiResponse(responseCode = "200", description = "Person found")
     @ApiResponse(responseCode = "404", description = "Person not found")
@@ -131,6 +144,16 @@ public class PersonController {
                 .map(ResponseEntity::ok);
     }
 
+    @Operation(summary = "Typeahead search", description = "Persons whose first name, last name or email contains the query, most similar first")
+    @ApiResponse(responseCode = "200", description = "Matching persons retrieved successfully")
+    @PostMapping("/typeahead")
+    public Mono<ResponseEntity<List<PersonSearchResponse>>> typeahead(
+            @Parameter(description = "Search text and optional result limit", required = true)
+            @Valid @RequestBody PersonSearchRequest request) {
+        return personSearchService.typeahead(request)
+                .map(ResponseEntity::ok);
+    }
+
     @Operation(summary = "Get person by email", description = "Retrieve a person by their email address")
     @ApiResponse(responseCode = "200", description = "Person found")
     @ApiResponse(responseCode = "404", description = "Person not found")
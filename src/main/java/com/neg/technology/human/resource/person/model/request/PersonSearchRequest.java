@@ -0,0 +1,20 @@
+package com.neg.technology.human.resource.person.model.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PersonSearchRequest {
+
+    @NotBlank(message = "Query is required")
+    private String query;
+
+    // Boşsa hr.person-search.default-limit; en fazla hr.person-search.max-limit
+    @Positive(message = "Limit must be positive")
+    private Integer limit;
+}
@@ -0,0 +1,18 @@
+package com.neg.technology.human.resource.person.model.response;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PersonSearchResponse {
+    private Long id;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private Long employeeId;
+    private String registrationNumber;
+    private Float score;
+}
@@ -0,0 +1,119 @@
+package com.neg.technology.human.resource.person.repository;
+
+import com.neg.technology.human.resource.config.ConditionalOnR2dbcMode;
+import com.neg.technology.human.resource.person.model.response.PersonResponse;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+@Repository
+@ConditionalOnR2dbcMode
+@RequiredArgsConstructor
+public class PersonR2dbcRepository {
+
+    private static final String SELECT_PERSON = """
+            SELECT id, first_name, last_name, national_id, birth_date, gender,
+                   email, phone, address, marital_status
+            FROM person
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<PersonResponse> findById(Long id) {
+        return databaseClient.sql(SELECT_PERSON + "WHERE id = :id")
+                .bind("id", id)
+                .map(PersonR2dbcRepository::toResponse)
+                .one();
+    }
+
+    public Flux<PersonResponse> findAll() {
+        return databaseClient.sql(SELECT_PERSON + "ORDER BY id")
+                .map(PersonR2dbcRepository::toResponse)
+                .all();
+    }
+
+    public Mono<PersonResponse> findByNationalId(String nationalId) {
+        return databaseClient.sql(SELECT_PERSON + "WHERE national_id = :nationalId LIMIT 1")
+                .bind("nationalId", nationalId)
+                .map(PersonR2dbcRepository::toResponse)
+                .one();
+    }
+
+    public Mono<PersonResponse> findByEmailIgnoreCase(String email) {
+        return databaseClient.sql(SELECT_PERSON + "WHERE upper(email) = upper(:email) LIMIT 1")
+                .bind("email", email)
+                .map(PersonR2dbcRepository::toResponse)
+                .one();
+    }
+
+    public Flux<PersonResponse> findByGender(String gender) {
+        return databaseClient.sql(SELECT_PERSON + "WHERE gender = :gender ORDER BY id")
+                .bind("gender", gender)
+                .map(PersonR2dbcRepository::toResponse)
+                .all();
+    }
+
+    public Flux<PersonResponse> findByBirthDateBefore(LocalDate birthDate) {
+        return databaseClient.sql(SELECT_PERSON + "WHERE birth_date < :birthDate ORDER BY id")
+                .bind("birthDate", birthDate)
+                .map(PersonR2dbcRepository::toResponse)
+                .all();
+    }
+
+    public Flux<PersonResponse> findByMaritalStatusIgnoreCase(String maritalStatus) {
+        return databaseClient.sql(SELECT_PERSON + "WHERE upper(marital_status) = upper(:maritalStatus) ORDER BY id")
+                .bind("maritalStatus", maritalStatus)
+                .map(PersonR2dbcRepository::toResponse)
+                .all();
+    }
+
+    public Flux<PersonResponse> findByFirstNameAndLastNameContainingIgnoreCase(String firstName, String lastName) {
+        return databaseClient.sql(SELECT_PERSON + """
+                        WHERE upper(first_name) LIKE '%' || upper(:firstName) || '%'
+                          AND upper(last_name) LIKE '%' || upper(:lastName) || '%'
+                        ORDER BY id
+                        """)
+                .bind("firstName", firstName)
+                .bind("lastName", lastName)
+                .map(PersonR2dbcRepository::toResponse)
+                .all();
+    }
+
+    public Mono<Boolean> existsById(Long id) {
+        return exists("SELECT EXISTS (SELECT 1 FROM person WHERE id = :value)", id);
+    }
+
+    public Mono<Boolean> existsByEmail(String email) {
+        return exists("SELECT EXISTS (SELECT 1 FROM person WHERE email = :value)", email);
+    }
+
+    public Mono<Boolean> existsByNationalId(String nationalId) {
+        return exists("SELECT EXISTS (SELECT 1 FROM person WHERE national_id = :value)", nationalId);
+    }
+
+    private Mono<Boolean> exists(String sql, Object value) {
+        return databaseClient.sql(sql)
+                .bind("value", value)
+                .map(row -> row.get(0, Boolean.class))
+                .one();
+    }
+
+    private static PersonResponse toResponse(Readable row) {
+        return new PersonResponse(
+                row.get("id", Long.class),
+                row.get("first_name", String.class),
+                row.get("last_name", String.class),
+                row.get("national_id", String.class),
+                row.get("birth_date", LocalDate.class),
+                row.get("gender", String.class),
+                row.get("email", String.class),
+                row.get("phone", String.class),
+                row.get("address", String.class),
+                row.get("marital_status", String.class));
+    }
+}
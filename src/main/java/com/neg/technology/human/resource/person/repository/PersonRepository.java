@@ -3,10 +3,13 @@ package com.neg.technology.human.resource.person.repository;
 import com.neg.technology.human.resource.person.model.entity.Person;
 import com.neg.technology.human.resource.person.model.enums.Gender;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,4 +38,13 @@ public interface PersonRepository extends JpaRepository<Person, Long> {
     List<Person> findByFirstNameContainingIgnoreCase(String firstName);
 
     List<Person> findByLastNameContainingIgnoreCase(String lastName);
+
+    List<Person> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    // Toplu içe aktarımda chunk başına tek sorgu; upper(), findByEmailIgnoreCase ile aynı ifade indeksini kullanır
+    @Query("SELECT upper(p.email) FROM Person p WHERE upper(p.email) IN :emails")
+    List<String> findExistingEmailsUpperCase(Collection<String> emails);
+
+    @Query("SELECT p.nationalId FROM Person p WHERE p.nationalId IN :nationalIds")
+    List<String> findExistingNationalIds(Collection<String> nationalIds);
 }
@@ -0,0 +1,86 @@
+package com.neg.technology.human.resource.person.repository;
+
+import com.neg.technology.human.resource.person.model.entity.Person;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+
+import java.util.List;
+
+/**
+ * Typeahead over person names and e-mail, served by the pg_trgm GIN indexes from
+ * db.changelog-1.20-person-trigram-search.yaml. Patterns are matched against upper(column) like the
+ * indexes; each OR / AND branch is one bitmap index scan, so only matching rows are read and ranked.
+ * <p>
+ * Patterns come escaped with a backslash, PostgreSQL's default LIKE escape, and already wrapped in %.
+ * The database upper-cases them, so case folding follows the database collation on both sides.
+ */
+@org.springframework.stereotype.Repository
+public interface PersonSearchRepository extends Repository<Person, Long> {
+
+    String ROW_COLUMNS = """
+        SELECT p.id AS "id", p.first_name AS "firstName", p.last_name AS "lastName", p.email AS "email",
+               e.id AS "employeeId", e.registration_number AS "registrationNumber",
+        """;
+
+    // Tek terim: ad, soyad veya e-postadan herhangi birinde geçen kişiler, en benzer olan önce
+    @Query(value = ROW_COLUMNS + """
+               greatest(similarity(p.first_name, :term), similarity(p.last_name, :term),
+                        coalesce(similarity(p.email, :term), 0)) AS "score"
+        FROM person p
+        LEFT JOIN employee e ON e.person_id = p.id
+        WHERE upper(p.first_name) LIKE upper(:pattern)
+           OR upper(p.last_name) LIKE upper(:pattern)
+           OR upper(p.email) LIKE upper(:pattern)
+        ORDER BY "score" DESC, p.id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<SearchRow> searchByNameOrEmail(String term, String pattern, int limit);
+
+    // "Ali Kay": ilk kelime adda, kalanı soyadda
+    @Query(value = ROW_COLUMNS + """
+               similarity(concat_ws(' ', p.first_name, p.last_name), :term) AS "score"
+        FROM person p
+        LEFT JOIN employee e ON e.person_id = p.id
+        WHERE upper(p.first_name) LIKE upper(:firstNamePattern)
+          AND upper(p.last_name) LIKE upper(:lastNamePattern)
+        ORDER BY "score" DESC, p.id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<SearchRow> searchByFullName(String term, String firstNamePattern, String lastNamePattern, int limit);
+
+    // Bellek içi DirectoryIndex için herkes; çalışan olmayan kişilerde çalışan alanları null
+    @Query("""
+        SELECT p.id AS personId, e.id AS employeeId, p.firstName AS firstName, p.lastName AS lastName,
+               e.registrationNumber AS registrationNumber
+        FROM Person p LEFT JOIN Employee e ON e.person = p
+        """)
+    List<DirectoryRow> findDirectoryRows();
+
+    interface SearchRow {
+        Long getId();
+
+        String getFirstName();
+
+        String getLastName();
+
+        String getEmail();
+
+        Long getEmployeeId();
+
+        String getRegistrationNumber();
+
+        Float getScore();
+    }
+
+    interface DirectoryRow {
+        Long getPersonId();
+
+        Long getEmployeeId();
+
+        String getFirstName();
+
+        String getLastName();
+
+        String getRegistrationNumber();
+    }
+}
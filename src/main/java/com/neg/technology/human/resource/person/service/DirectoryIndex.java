@@ -0,0 +1,162 @@
+package com.neg.technology.human.resource.person.service;
+
+import com.neg.technology.human.resource.config.DirectoryIndexProperties;
+import com.neg.technology.human.resource.person.repository.PersonSearchRepository;
+import com.neg.technology.human.resource.utility.DirectoryPrefixIndex;
+import com.neg.technology.human.resource.utility.DirectoryPrefixIndex.Entry;
+import com.neg.technology.human.resource.utility.SnapshotHolder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.UnaryOperator;
+
+/**
+ * Holds the current {@link DirectoryPrefixIndex} so that directory autocomplete is answered from memory.
+ * When hr.directory-index.enabled is set, the index is loaded once the application is ready and kept
+ * current by {@link PersonServiceImpl} and EmployeeServiceImpl, which report every committed change of
+ * this node. Changes made elsewhere (other nodes, the employee import, the database directly) are picked
+ * up by a periodic rebuild. When disabled, nothing is loaded and the change reports are ignored.
+ * <p>
+ * Reads are lock-free; updates are serialized by {@link SnapshotHolder} and each one copies only the
+ * overlay. Once the overlay holds hr.directory-index.max-pending-changes changes, the arrays are rebuilt
+ * on the JDBC scheduler; updates keep going to the overlay meanwhile and are replayed onto the result.
+ */
+@Slf4j
+public class DirectoryIndex {
+
+    static final String METRIC_PREFIX = "hr.directory-index";
+
+    private final PersonSearchRepository personSearchRepository;
+    private final DirectoryIndexProperties properties;
+    private final Timer buildTimer;
+    private final SnapshotHolder<DirectoryPrefixIndex> snapshot;
+    private final AtomicBoolean compacting = new AtomicBoolean();
+
+    public DirectoryIndex(PersonSearchRepository personSearchRepository,
+                          DirectoryIndexProperties properties,
+                          Scheduler jdbcScheduler,
+                          MeterRegistry meterRegistry) {
+        this.personSearchRepository = personSearchRepository;
+        this.properties = properties;
+        this.buildTimer = Timer.builder(METRIC_PREFIX + ".build")
+                .description("Loading the directory from the database and building the prefix index")
+                .register(meterRegistry);
+        this.snapshot = new SnapshotHolder<>("Directory index", this::load, jdbcScheduler);
+        Gauge.builder(METRIC_PREFIX + ".persons", this, index -> index.current().size())
+                .description("Persons in the in-memory directory index")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".pending-changes", this, index -> index.current().pendingChanges())
+                .description("Local changes in the overlay, not yet folded into the arrays")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".footprint", this, index -> index.current().footprintBytes())
+                .description("Heap held by the directory index arrays and strings")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        snapshot.start(properties.getRefreshInterval(), this::refresh,
+                index -> log.info("Directory index loaded: {} persons, {} terms, {} bytes",
+                        index.size(), index.terms(), index.footprintBytes()));
+    }
+
+    public void stop() {
+        snapshot.stop();
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * The current index, loading it first if this is the first use.
+     */
+    public Mono<DirectoryPrefixIndex> index() {
+        return snapshot.get();
+    }
+
+    /**
+     * Records a committed person create or name change; the employee fields stay as they were.
+     */
+    public void putPerson(Long personId, String firstName, String lastName) {
+        update(index -> {
+            Entry existing = index.find(personId);
+            return index.with(existing == null
+                    ? new Entry(personId, null, firstName, lastName, null)
+                    : new Entry(personId, existing.employeeId(), firstName, lastName, existing.registrationNumber()));
+        });
+    }
+
+    /**
+     * Records a committed person delete.
+     */
+    public void removePerson(Long personId) {
+        update(index -> index.without(personId));
+    }
+
+    /**
+     * Records a committed employee create or update for the person the employee belongs to.
+     */
+    public void putEmployee(Long personId, Long employeeId, String registrationNumber) {
+        update(index -> {
+            Entry existing = index.find(personId);
+            return existing == null ? index : index.with(new Entry(personId, employeeId,
+                    existing.firstName(), existing.lastName(), registrationNumber));
+        });
+    }
+
+    /**
+     * Records a committed employee delete; the person stays in the directory.
+     */
+    public void removeEmployee(Long personId) {
+        putEmployee(personId, null, null);
+    }
+
+    /**
+     * Reloads the directory and replaces the index. Local changes that landed during the reload are
+     * applied to the reloaded index, so they are neither lost nor a reason to skip the rebuild.
+     */
+    public Mono<Void> refresh() {
+        return snapshot.reload((current, loaded) -> loaded).then();
+    }
+
+    private void update(UnaryOperator<DirectoryPrefixIndex> change) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        snapshot.update(change);
+        // Dizileri yeniden kurmak saniyeler sürebilir: istek thread'inde ve holder kilidi altında değil, arka planda
+        if (current().pendingChanges() > properties.getMaxPendingChanges() && compacting.compareAndSet(false, true)) {
+            snapshot.rebuild(DirectoryPrefixIndex::compacted)
+                    .doFinally(signal -> compacting.set(false))
+                    .subscribe(index -> { }, error -> log.warn("Directory index compaction failed; retried on the next change", error));
+        }
+    }
+
+    private DirectoryPrefixIndex current() {
+        DirectoryPrefixIndex current = snapshot.current();
+        return current != null ? current : DirectoryPrefixIndex.empty();
+    }
+
+    private DirectoryPrefixIndex load() {
+        return buildTimer.record(() -> {
+            List<PersonSearchRepository.DirectoryRow> rows = personSearchRepository.findDirectoryRows();
+            return DirectoryPrefixIndex.of(rows.stream()
+                    .map(row -> new Entry(row.getPersonId(), row.getEmployeeId(), row.getFirstName(),
+                            row.getLastName(), row.getRegistrationNumber()))
+                    .toList());
+        });
+    }
+}
@@ -0,0 +1,61 @@
+package com.neg.technology.human.resource.person.service;
+
+import com.neg.technology.human.resource.config.PersonSearchProperties;
+import com.neg.technology.human.resource.person.model.request.PersonSearchRequest;
+import com.neg.technology.human.resource.person.model.response.PersonSearchResponse;
+import com.neg.technology.human.resource.utility.DirectoryPrefixIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Typeahead answered from the in-memory {@link DirectoryIndex}; used instead of
+ * {@link PersonSearchServiceImpl} when hr.directory-index.enabled is set. Every word of the query must
+ * start a word of the first name, last name or registration number. E-mail is not indexed and there
+ * is no similarity score: results come in alphabetical order of the term matching the first word.
+ */
+public class DirectoryIndexSearchService implements PersonSearchService {
+
+    private final DirectoryIndex directoryIndex;
+    private final PersonSearchProperties properties;
+    private final Timer timer;
+
+    public DirectoryIndexSearchService(DirectoryIndex directoryIndex,
+                                       PersonSearchProperties properties,
+                                       MeterRegistry meterRegistry) {
+        this.directoryIndex = directoryIndex;
+        this.properties = properties;
+        this.timer = Timer.builder(PersonSearchServiceImpl.METRIC_PREFIX)
+                .description("Person typeahead lookups, without the wait for a JDBC thread")
+                .tag("mode", "directory-index")
+                .serviceLevelObjectives(Duration.ofMillis(20))
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<List<PersonSearchResponse>> typeahead(PersonSearchRequest request) {
+        String query = request.getQuery() == null ? "" : request.getQuery();
+        if (query.replaceAll("\\s+", "").length() < properties.getMinQueryLength()) {
+            return Mono.just(List.of());
+        }
+        int limit = Math.min(request.getLimit() != null ? request.getLimit() : properties.getDefaultLimit(),
+                properties.getMaxLimit());
+        return directoryIndex.index()
+                .map(index -> timer.record(() -> index.search(query, limit).stream()
+                        .map(DirectoryIndexSearchService::toResponse)
+                        .toList()));
+    }
+
+    private static PersonSearchResponse toResponse(DirectoryPrefixIndex.Entry entry) {
+        return PersonSearchResponse.builder()
+                .id(entry.personId())
+                .firstName(entry.firstName())
+                .lastName(entry.lastName())
+                .employeeId(entry.employeeId())
+                .registrationNumber(entry.registrationNumber())
+                .build();
+    }
+}
@@ -0,0 +1,132 @@
+package com.neg.technology.human.resource.person.service;
+
+import com.neg.technology.human.resource.config.ConditionalOnR2dbcMode;
+import com.neg.technology.human.resource.person.model.entity.Person;
+import com.neg.technology.human.resource.person.model.enums.Gender;
+import com.neg.technology.human.resource.person.model.request.CreatePersonRequest;
+import com.neg.technology.human.resource.person.model.request.UpdatePersonRequest;
+import com.neg.technology.human.resource.person.model.response.PersonResponse;
+import com.neg.technology.human.resource.person.repository.PersonR2dbcRepository;
+import com.neg.technology.human.resource.utility.module.entity.request.IdRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * PersonService for hr.persistence.mode=r2dbc. DTO reads go through R2DBC, writes and
+ * the entity-returning lookups are delegated to the JPA implementation.
+ */
+@Service
+@Primary
+@ConditionalOnR2dbcMode
+@RequiredArgsConstructor
+public class PersonR2dbcServiceImpl implements PersonService {
+
+    private final PersonServiceImpl jpaPersonService;
+    private final PersonR2dbcRepository personR2dbcRepository;
+
+    @Override
+    public Mono<List<PersonResponse>> getAllPersons() {
+        return personR2dbcRepository.findAll().collectList();
+    }
+
+    @Override
+    public Flux<PersonResponse> streamAllPersons() {
+        return personR2dbcRepository.findAll();
+    }
+
+    @Override
+    public Mono<PersonResponse> getPersonById(IdRequest request) {
+        return personR2dbcRepository.findById(request.getId())
+                .switchIfEmpty(Mono.error(new RuntimeException("Person not found with ID: " + request.getId())));
+    }
+
+    @Override
+    public Mono<PersonResponse> createPerson(CreatePersonRequest dto) {
+        return jpaPersonService.createPerson(dto);
+    }
+
+    @Override
+    public Mono<PersonResponse> updatePerson(UpdatePersonRequest dto) {
+        return jpaPersonService.updatePerson(dto);
+    }
+
+    @Override
+    public Mono<Void> deletePerson(IdRequest request) {
+        return jpaPersonService.deletePerson(request);
+    }
+
+    @Override
+    public Mono<List<PersonResponse>> getPersonsByGender(String gender) {
+        return Mono.fromSupplier(() -> Gender.fromString(gender))
+                .flatMapMany(g -> personR2dbcRepository.findByGender(g.name()))
+                .collectList();
+    }
+
+    @Override
+    public Mono<List<PersonResponse>> getPersonsBornBefore(String date) {
+        return Mono.fromSupplier(() -> LocalDate.parse(date))
+                .flatMapMany(personR2dbcRepository::findByBirthDateBefore)
+                .collectList();
+    }
+
+    @Override
+    public Mono<List<PersonResponse>> getPersonsByMaritalStatus(String status) {
+        return personR2dbcRepository.findByMaritalStatusIgnoreCase(status).collectList();
+    }
+
+    @Override
+    public Mono<PersonResponse> getPersonByNationalId(String nationalId) {
+        return personR2dbcRepository.findByNationalId(nationalId)
+                .switchIfEmpty(Mono.error(new RuntimeException("Person not found with national ID: " + nationalId)));
+    }
+
+    @Override
+    public Mono<List<PersonResponse>> searchPersonsByName(String firstName, String lastName) {
+        return personR2dbcRepository.findByFirstNameAndLastNameContainingIgnoreCase(
+                        firstName != null ? firstName : "",
+                        lastName != null ? lastName : "")
+                .collectList();
+    }
+
+    @Override
+    public Mono<PersonResponse> getPersonByEmail(String email) {
+        return personR2dbcRepository.findByEmailIgnoreCase(email)
+                .switchIfEmpty(Mono.error(new RuntimeException("Person not found with email: " + email)));
+    }
+
+    @Override
+    public Mono<Boolean> existsByEmail(String email) {
+        return personR2dbcRepository.existsByEmail(email);
+    }
+
+    @Override
+    public Mono<Boolean> existsByNationalId(String nationalId) {
+        return personR2dbcRepository.existsByNationalId(nationalId);
+    }
+
+    @Override
+    public Mono<Person> findByEmailIgnoreCase(String email) {
+        return jpaPersonService.findByEmailIgnoreCase(email);
+    }
+
+    @Override
+    public Mono<Person> findByNationalId(String nationalId) {
+        return jpaPersonService.findByNationalId(nationalId);
+    }
+
+    @Override
+    public Mono<Boolean> existsById(Long id) {
+        return personR2dbcRepository.existsById(id);
+    }
+
+    @Override
+    public Mono<List<Person>> searchByOptionalNames(String firstName, String lastName) {
+        return jpaPersonService.searchByOptionalNames(firstName, lastName);
+    }
+}
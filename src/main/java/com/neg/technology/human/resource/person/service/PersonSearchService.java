@@ -0,0 +1,13 @@
+package com.neg.technology.human.resource.person.service;
+
+import com.neg.technology.human.resource.person.model.request.PersonSearchRequest;
+import com.neg.technology.human.resource.person.model.response.PersonSearchResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface PersonSearchService {
+
+    // En benzer kişiler önce, en fazla istenen sayıda
+    Mono<List<PersonSearchResponse>> typeahead(PersonSearchRequest request);
+}
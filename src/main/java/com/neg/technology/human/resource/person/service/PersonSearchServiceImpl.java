@@ -0,0 +1,87 @@
+package com.neg.technology.human.resource.person.service;
+
+import com.neg.technology.human.resource.config.PersonSearchProperties;
+import com.neg.technology.human.resource.person.model.request.PersonSearchRequest;
+import com.neg.technology.human.resource.person.model.response.PersonSearchResponse;
+import com.neg.technology.human.resource.person.repository.PersonSearchRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Typeahead for the employee picker. A single word is looked up in first name, last name and e-mail;
+ * "first last" matches the first word against the first name and the rest against the last name.
+ * Words shorter than a trigram are matched as prefixes: a contains pattern gives pg_trgm nothing to
+ * look up and would read the whole index.
+ */
+public class PersonSearchServiceImpl implements PersonSearchService {
+
+    static final String METRIC_PREFIX = "hr.person.search";
+
+    private static final int TRIGRAM = 3;
+
+    private final PersonSearchRepository personSearchRepository;
+    private final PersonSearchProperties properties;
+    private final Scheduler jdbcScheduler;
+    private final MeterRegistry meterRegistry;
+
+    public PersonSearchServiceImpl(PersonSearchRepository personSearchRepository,
+                                   PersonSearchProperties properties,
+                                   Scheduler jdbcScheduler,
+                                   MeterRegistry meterRegistry) {
+        this.personSearchRepository = personSearchRepository;
+        this.properties = properties;
+        this.jdbcScheduler = jdbcScheduler;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<List<PersonSearchResponse>> typeahead(PersonSearchRequest request) {
+        String term = request.getQuery() == null ? "" : request.getQuery().strip().replaceAll("\\s+", " ");
+        if (term.replace(" ", "").length() < properties.getMinQueryLength()) {
+            return Mono.just(List.of());
+        }
+        int limit = Math.min(request.getLimit() != null ? request.getLimit() : properties.getDefaultLimit(),
+                properties.getMaxLimit());
+        int space = term.indexOf(' ');
+        return Mono.fromCallable(() -> space < 0
+                ? timed("name-or-email", () -> personSearchRepository.searchByNameOrEmail(
+                        term, pattern(term), limit))
+                : timed("full-name", () -> personSearchRepository.searchByFullName(
+                        term, pattern(term.substring(0, space)), pattern(term.substring(space + 1)), limit))
+        ).subscribeOn(jdbcScheduler);
+    }
+
+    static String pattern(String word) {
+        String escaped = word.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return word.length() < TRIGRAM ? escaped + "%" : "%" + escaped + "%";
+    }
+
+    private List<PersonSearchResponse> timed(String mode, Supplier<List<PersonSearchRepository.SearchRow>> search) {
+        return Timer.builder(METRIC_PREFIX)
+                .description("Person typeahead lookups, without the wait for a JDBC thread")
+                .tag("mode", mode)
+                .serviceLevelObjectives(Duration.ofMillis(20))
+                .register(meterRegistry)
+                .record(() -> search.get().stream()
+                        .map(PersonSearchServiceImpl::toResponse)
+                        .toList());
+    }
+
+    private static PersonSearchResponse toResponse(PersonSearchRepository.SearchRow row) {
+        return PersonSearchResponse.builder()
+                .id(row.getId())
+                .firstName(row.getFirstName())
+                .lastName(row.getLastName())
+                .email(row.getEmail())
+                .employeeId(row.getEmployeeId())
+                .registrationNumber(row.getRegistrationNumber())
+                .score(row.getScore())
+                .build();
+    }
+}
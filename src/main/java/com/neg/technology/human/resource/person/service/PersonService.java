@@ -5,6 +5,7 @@ import com.neg.technology.human.resource.person.model.request.CreatePersonReques
 import com.neg.technology.human.resource.person.model.request.UpdatePersonRequest;
 import com.neg.technology.human.resource.person.model.response.PersonResponse;
 import com.neg.technology.human.resource.utility.module.entity.request.IdRequest;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
@@ -13,6 +14,8 @@ public interface PersonService {
 
     Mono<List<PersonResponse>> getAllPersons();
 
+    Flux<PersonResponse> streamAllPersons();
+
     Mono<PersonResponse> getPersonById(IdRequest request);
 
     Mono<PersonResponse> createPerson(CreatePersonRequest dto);
@@ -10,8 +10,12 @@ import com.neg.technology.human.resource.person.model.response.PersonResponse;
 import com.neg.technology.human.resource.person.repository.PersonRepository;
 import com.neg.technology.human.resource.utility.module.entity.request.IdRequest;
 import lombok.RequiredArgsConstructor;
+import com.neg.technology.human.resource.utility.KeysetFlux;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -21,13 +25,24 @@ public class PersonServiceImpl implements PersonService {
 
     private final PersonRepository personRepository;
     private final PersonMapper personMapper;
+    private final DirectoryIndex directoryIndex;
+    private final Scheduler jdbcScheduler;
 
     @Override
     public Mono<List<PersonResponse>> getAllPersons() {
         return Mono.fromCallable(() -> {
             List<Person> persons = personRepository.findAll();
             return personMapper.toResponseList(persons);
-        });
+        }).subscribeOn(jdbcScheduler);
+    }
+
+    @Override
+    public Flux<PersonResponse> streamAllPersons() {
+        return KeysetFlux.stream(
+                afterId -> personMapper.toResponseList(personRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(KeysetFlux.DEFAULT_CHUNK_SIZE))),
+                PersonResponse::getId,
+                KeysetFlux.DEFAULT_CHUNK_SIZE,
+                jdbcScheduler);
     }
 
     @Override
@@ -36,7 +51,7 @@ public class PersonServiceImpl implements PersonService {
                 personRepository.findById(request.getId())
                         .map(personMapper::toResponse)
                         .orElseThrow(() -> new RuntimeException("Person not found with ID: " + request.getId()))
-        );
+        ).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -44,8 +59,9 @@ public class PersonServiceImpl implements PersonService {
         return Mono.fromCallable(() -> {
             Person entity = personMapper.toEntity(dto);
             Person saved = personRepository.save(entity);
+            directoryIndex.putPerson(saved.getId(), saved.getFirstName(), saved.getLastName());
             return personMapper.toResponse(saved);
-        });
+        }).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -56,8 +72,9 @@ public class PersonServiceImpl implements PersonService {
 
             personMapper.updateEntity(existing, dto);
             Person updated = personRepository.save(existing);
+            directoryIndex.putPerson(updated.getId(), updated.getFirstName(), updated.getLastName());
             return personMapper.toResponse(updated);
-        });
+        }).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -67,7 +84,8 @@ public class PersonServiceImpl implements PersonService {
                 throw new ResourceNotFoundException(request.getClass().getName(),request.getId());
             }
             personRepository.deleteById(request.getId());
-        });
+            directoryIndex.removePerson(request.getId());
+        }).subscribeOn(jdbcScheduler).then();
     }
 
     @Override
@@ -76,7 +94,7 @@ public class PersonServiceImpl implements PersonService {
             Gender g = Gender.fromString(gender);
             List<Person> persons = personRepository.findByGender(g);
             return personMapper.toResponseList(persons);
-        });
+        }).subscribeOn(jdbcScheduler);
     }
 
 
@@ -86,7 +104,7 @@ public class PersonServiceImpl implements PersonService {
             LocalDate birthDate = LocalDate.parse(date);
             List<Person> persons = personRepository.findByBirthDateBefore(birthDate);
             return personMapper.toResponseList(persons);
-        });
+        }).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -94,7 +112,7 @@ public class PersonServiceImpl implements PersonService {
         return Mono.fromCallable(() -> {
             List<Person> persons = personRepository.findByMaritalStatusIgnoreCase(status);
             return personMapper.toResponseList(persons);
-        });
+        }).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -103,7 +121,7 @@ public class PersonServiceImpl implements PersonService {
                 personRepository.findByNationalId(nationalId)
                         .map(personMapper::toResponse)
                         .orElseThrow(() -> new RuntimeException("Person not found with national ID: " + nationalId))
-        );
+        ).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -114,7 +132,7 @@ public class PersonServiceImpl implements PersonService {
                     lastName != null ? lastName : ""
             );
             return personMapper.toResponseList(persons);
-        });
+        }).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -123,21 +141,21 @@ public class PersonServiceImpl implements PersonService {
                 personRepository.findByEmailIgnoreCase(email)
                         .map(personMapper::toResponse)
                         .orElseThrow(() -> new RuntimeException("Person not found with email: " + email))
-        );
+        ).subscribeOn(jdbcScheduler);
     }
 
     @Override
     public Mono<Boolean> existsByEmail(String email) {
         return Mono.fromCallable(() ->
                 personRepository.existsByEmail(email)
-        );
+        ).subscribeOn(jdbcScheduler);
     }
 
     @Override
     public Mono<Boolean> existsByNationalId(String nationalId) {
         return Mono.fromCallable(() ->
                 personRepository.existsByNationalId(nationalId)
-        );
+        ).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -145,7 +163,7 @@ public class PersonServiceImpl implements PersonService {
         return Mono.fromCallable(() ->
                 personRepository.findByEmailIgnoreCase(email)
                         .orElseThrow(() -> new RuntimeException("Person not found with email: " + email))
-        );
+        ).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -153,14 +171,14 @@ public class PersonServiceImpl implements PersonService {
         return Mono.fromCallable(() ->
                 personRepository.findByNationalId(nationalId)
                         .orElseThrow(() -> new RuntimeException("Person not found with national ID: " + nationalId))
-        );
+        ).subscribeOn(jdbcScheduler);
     }
 
     @Override
     public Mono<Boolean> existsById(Long id) {
         return Mono.fromCallable(() ->
                 personRepository.existsById(id)
-        );
+        ).subscribeOn(jdbcScheduler);
     }
 
     @Override
@@ -175,6 +193,6 @@ public class PersonServiceImpl implements PersonService {
             } else {
                 return personRepository.findByFirstNameContainingIgnoreCaseAndLastNameContainingIgnoreCase(firstName, lastName);
             }
-        });
+        }).subscribeOn(jdbcScheduler);
     }
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.neg.technology.human.resource.utility;
+
+import java.time.LocalDate;
+import java.time.Period;
+
+/**
+ * Annual leave days an employee is entitled to on a given day (İş Kanunu md. 53): none in the first year,
+ * 14 days up to 5 years of service (20 from the age of 50), 20 days up to 15 years and 26 days after that.
+ * Shared by the annual leave policy, which asks for today, and the year-end accrual, which asks for
+ * January 1st of the new year.
+ */
+public final class AnnualLeaveEntitlement {
+
+    private AnnualLeaveEntitlement() {}
+
+    /**
+     * @param employmentStart null means no entitlement
+     * @param birthDate       null is treated as under 50
+     */
+    public static int days(LocalDate employmentStart, LocalDate birthDate, LocalDate asOf) {
+        if (employmentStart == null) {
+            return 0;
+        }
+        int yearsWorked = yearsBetween(employmentStart, asOf);
+        if (yearsWorked < 1) {
+            return 0;
+        }
+        if (yearsWorked < 5) {
+            return birthDate != null && yearsBetween(birthDate, asOf) >= 50 ? 20 : 14;
+        }
+        return yearsWorked < 15 ? 20 : 26;
+    }
+
+    private static int yearsBetween(LocalDate from, LocalDate to) {
+        return Period.between(from, to).getYears();
+    }
+}
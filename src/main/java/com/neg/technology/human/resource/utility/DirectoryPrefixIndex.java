@@ -0,0 +1,486 @@
+package com.neg.technology.human.resource.utility;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable prefix index over person names and employee registration numbers for directory
+ * autocomplete. Words are lower-cased with Turkish rules and folded to ASCII (ı/İ → i, ş → s, ğ → g,
+ * ç → c, ö → o, ü → u), so "IŞIK", "ışık" and "isik" are the same term.
+ * <p>
+ * Distinct terms are kept in one sorted array: the terms starting with a prefix are a contiguous range
+ * found with two binary searches. The people holding each term are a slice of one shared posting array,
+ * and the terms of each person a slice of another (compressed sparse rows). A query walks the range of
+ * its first word, which can stop as soon as the limit is reached, or of a far more selective word, and
+ * checks the other words with integer comparisons.
+ * <p>
+ * Rebuilding is O(n log n), so single changes go to a small overlay that shadows the arrays until
+ * {@link #compacted()} folds it in. Every change returns a new index; readers never see half of one.
+ */
+public final class DirectoryPrefixIndex {
+
+    private static final long NO_EMPLOYEE = 0;
+
+    private static final int DRIVER_RATIO = 8;
+
+    private static final DirectoryPrefixIndex EMPTY = build(List.of());
+
+    /**
+     * One person of the directory; the employee fields are null when the person is not employed.
+     */
+    public record Entry(long personId, Long employeeId, String firstName, String lastName, String registrationNumber) {
+    }
+
+    // Kişiler personId sırasında; dizin konumu kişinin numarasıdır
+    private final long[] personIds;
+    private final long[] employeeIds;
+    private final String[] firstNames;
+    private final String[] lastNames;
+    private final String[] registrationNumbers;
+    private final String[] terms;
+    private final int[] termStart;
+    private final int[] postings;
+    private final int[] personTermStart;
+    private final int[] personTerms;
+    private final long stringBytes;
+    // personId → yeni kayıt; null değer silinmiş kişi
+    private final Map<Long, Entry> overlay;
+    private final int size;
+
+    private DirectoryPrefixIndex(long[] personIds, long[] employeeIds, String[] firstNames, String[] lastNames,
+                                 String[] registrationNumbers, String[] terms, int[] termStart, int[] postings,
+                                 int[] personTermStart, int[] personTerms, long stringBytes,
+                                 Map<Long, Entry> overlay, int size) {
+        this.personIds = personIds;
+        this.employeeIds = employeeIds;
+        this.firstNames = firstNames;
+        this.lastNames = lastNames;
+        this.registrationNumbers = registrationNumbers;
+        this.terms = terms;
+        this.termStart = termStart;
+        this.postings = postings;
+        this.personTermStart = personTermStart;
+        this.personTerms = personTerms;
+        this.stringBytes = stringBytes;
+        this.overlay = overlay;
+        this.size = size;
+    }
+
+    public static DirectoryPrefixIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @param entries people in any order; for a repeated person id the last entry wins
+     */
+    public static DirectoryPrefixIndex of(List<Entry> entries) {
+        return build(entries);
+    }
+
+    /**
+     * Lower-cased, Turkish-folded words of {@code text}, split on anything that is not a letter or digit.
+     */
+    public static List<String> words(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> words = new ArrayList<>(4);
+        StringBuilder word = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int type = Character.getType(c);
+            if (type == Character.NON_SPACING_MARK || type == Character.COMBINING_SPACING_MARK) {
+                // Ayrışmış yazımda aksan ayrı karakterdir; harfin kendisi zaten eklendi
+                continue;
+            }
+            char folded = fold(c);
+            if (folded != 0) {
+                word.append(folded);
+            } else if (!word.isEmpty()) {
+                words.add(word.toString());
+                word.setLength(0);
+            }
+        }
+        if (!word.isEmpty()) {
+            words.add(word.toString());
+        }
+        return words;
+    }
+
+    // Türkçe küçük harf + ASCII katlama; ayraçlar için 0. Türkçe kurallarda I → ı, İ → i; ikisi de i olur
+    private static char fold(char c) {
+        if (c < 0x80) {
+            return Character.isLetterOrDigit(c) ? Character.toLowerCase(c) : 0;
+        }
+        switch (c) {
+            case 'ç', 'Ç': return 'c';
+            case 'ğ', 'Ğ': return 'g';
+            case 'ı', 'İ': return 'i';
+            case 'ö', 'Ö': return 'o';
+            case 'ş', 'Ş': return 's';
+            case 'ü', 'Ü': return 'u';
+            default:
+                if (!Character.isLetterOrDigit(c)) {
+                    return 0;
+                }
+                // Diğer aksanlı harfler (é, â, î) temel harflerine
+                return Character.toLowerCase(Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD).charAt(0));
+        }
+    }
+
+    private static DirectoryPrefixIndex build(List<Entry> input) {
+        Map<Long, Entry> byId = new HashMap<>(input.size() * 2);
+        for (Entry entry : input) {
+            byId.put(entry.personId(), entry);
+        }
+        Entry[] entries = byId.values().toArray(Entry[]::new);
+        Arrays.sort(entries, Comparator.comparingLong(Entry::personId));
+        int n = entries.length;
+
+        // Aynı adlar tek String örneğini paylaşır; isimler çok tekrarlanır
+        Map<String, String> names = new HashMap<>();
+        // Terimler önce görülme sırasıyla numaralanır, sıralandıktan sonra yeniden numaralanır
+        Map<String, Integer> termIds = new HashMap<>();
+        List<String> seenTerms = new ArrayList<>();
+        long[] personIds = new long[n];
+        long[] employeeIds = new long[n];
+        String[] firstNames = new String[n];
+        String[] lastNames = new String[n];
+        String[] registrationNumbers = new String[n];
+        int[] personTermStart = new int[n + 1];
+        int[] personTerms = new int[n * 3];
+        for (int i = 0; i < n; i++) {
+            Entry entry = entries[i];
+            personIds[i] = entry.personId();
+            employeeIds[i] = entry.employeeId() == null ? NO_EMPLOYEE : entry.employeeId();
+            firstNames[i] = canonical(names, entry.firstName());
+            lastNames[i] = canonical(names, entry.lastName());
+            registrationNumbers[i] = entry.registrationNumber();
+            List<String> words = termsOf(entry);
+            if (personTermStart[i] + words.size() > personTerms.length) {
+                personTerms = Arrays.copyOf(personTerms, Math.max(personTerms.length * 2, personTermStart[i] + words.size()));
+            }
+            for (int w = 0; w < words.size(); w++) {
+                Integer id = termIds.putIfAbsent(words.get(w), seenTerms.size());
+                if (id == null) {
+                    id = seenTerms.size();
+                    seenTerms.add(words.get(w));
+                }
+                personTerms[personTermStart[i] + w] = id;
+            }
+            personTermStart[i + 1] = personTermStart[i] + words.size();
+        }
+        personTerms = Arrays.copyOf(personTerms, personTermStart[n]);
+
+        String[] terms = seenTerms.toArray(String[]::new);
+        Arrays.sort(terms);
+        int[] rank = new int[terms.length];
+        for (int t = 0; t < terms.length; t++) {
+            rank[termIds.get(terms[t])] = t;
+        }
+
+        int[] termStart = new int[terms.length + 1];
+        for (int p = 0; p < personTerms.length; p++) {
+            personTerms[p] = rank[personTerms[p]];
+            termStart[personTerms[p] + 1]++;
+        }
+        for (int t = 0; t < terms.length; t++) {
+            termStart[t + 1] += termStart[t];
+        }
+        int[] postings = new int[termStart[terms.length]];
+        int[] fill = Arrays.copyOf(termStart, terms.length);
+        for (int i = 0; i < n; i++) {
+            for (int p = personTermStart[i]; p < personTermStart[i + 1]; p++) {
+                postings[fill[personTerms[p]]++] = i;
+            }
+        }
+
+        long stringBytes = 0;
+        for (String value : names.values()) {
+            stringBytes += stringBytes(value);
+        }
+        for (String value : terms) {
+            stringBytes += stringBytes(value);
+        }
+        for (String value : registrationNumbers) {
+            stringBytes += stringBytes(value);
+        }
+        return new DirectoryPrefixIndex(personIds, employeeIds, firstNames, lastNames, registrationNumbers,
+                terms, termStart, postings, personTermStart, personTerms, stringBytes, Map.of(), n);
+    }
+
+    /**
+     * Same index with {@code entry} added or replacing the person with the same id.
+     */
+    public DirectoryPrefixIndex with(Entry entry) {
+        boolean present = contains(entry.personId());
+        return withOverlay(entry.personId(), entry, present ? size : size + 1);
+    }
+
+    /**
+     * Same index without the person; unchanged if the person is not in it.
+     */
+    public DirectoryPrefixIndex without(long personId) {
+        if (!contains(personId)) {
+            return this;
+        }
+        return withOverlay(personId, null, size - 1);
+    }
+
+    /**
+     * The arrays rebuilt with the overlay folded in.
+     */
+    public DirectoryPrefixIndex compacted() {
+        return overlay.isEmpty() ? this : build(entries());
+    }
+
+    /**
+     * People with a term starting with each word of {@code query}, ordered by the smallest term matching
+     * the first word, then by person id; at most {@code limit}.
+     */
+    public List<Entry> search(String query, int limit) {
+        List<String> words = words(query);
+        if (words.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        int[][] ranges = new int[words.size()][];
+        int driver = 0;
+        for (int w = 0; w < ranges.length; w++) {
+            ranges[w] = range(words.get(w));
+            if (postingCount(ranges[w]) < postingCount(ranges[driver])) {
+                driver = w;
+            }
+        }
+        // İlk kelimeden gezmek limit dolunca durabilir; başka kelime ancak çok daha seçiciyse tercih edilir
+        if (postingCount(ranges[0]) <= (long) postingCount(ranges[driver]) * DRIVER_RATIO) {
+            driver = 0;
+        }
+
+        // Sıralama anahtarı (ilk kelimeye uyan en küçük terim, kişi) tek long içinde; terim numaraları sıralıdır
+        long[] found = new long[Math.min(limit, 16)];
+        int count = 0;
+        BitSet seen = new BitSet();
+        scan:
+        for (int t = ranges[driver][0]; t < ranges[driver][1]; t++) {
+            for (int p = termStart[t]; p < termStart[t + 1]; p++) {
+                int person = postings[p];
+                if (seen.get(person)) {
+                    continue;
+                }
+                seen.set(person);
+                int key = driver == 0 ? t : firstTerm(person, ranges[0]);
+                if (key < 0 || overlay.containsKey(personIds[person]) || !matchesAll(person, ranges)) {
+                    continue;
+                }
+                if (count == found.length) {
+                    found = Arrays.copyOf(found, count * 2);
+                }
+                found[count++] = (long) key << 32 | person;
+                // İlk kelimeden gezilirken eşleşmeler anahtar sırasında gelir; ilk limit tanesi yeterli
+                if (driver == 0 && count == limit) {
+                    break scan;
+                }
+            }
+        }
+        Arrays.sort(found, 0, count);
+
+        List<Match> matches = new ArrayList<>();
+        for (int i = 0; i < Math.min(count, limit); i++) {
+            matches.add(new Match(terms[(int) (found[i] >>> 32)], entry((int) found[i])));
+        }
+        for (Entry entry : overlay.values()) {
+            if (entry != null) {
+                String key = matchKey(termsOf(entry), words);
+                if (key != null) {
+                    matches.add(new Match(key, entry));
+                }
+            }
+        }
+        if (!overlay.isEmpty()) {
+            matches.sort(Comparator.comparing(Match::key).thenComparingLong(match -> match.entry().personId()));
+        }
+        return matches.stream()
+                .limit(limit)
+                .map(Match::entry)
+                .toList();
+    }
+
+    public Entry find(long personId) {
+        if (overlay.containsKey(personId)) {
+            return overlay.get(personId);
+        }
+        int person = Arrays.binarySearch(personIds, personId);
+        return person < 0 ? null : entry(person);
+    }
+
+    public boolean contains(long personId) {
+        return find(personId) != null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int terms() {
+        return terms.length;
+    }
+
+    /**
+     * Changes held in the overlay, waiting for {@link #compacted()}.
+     */
+    public int pendingChanges() {
+        return overlay.size();
+    }
+
+    /**
+     * Heap taken by the arrays and the strings they reference, excluding object headers of the arrays
+     * and assuming compressed references. The overlay is not counted.
+     */
+    public long footprintBytes() {
+        return (long) (personIds.length + employeeIds.length) * Long.BYTES
+                + (long) (firstNames.length + lastNames.length + registrationNumbers.length + terms.length) * Integer.BYTES
+                + (long) (termStart.length + postings.length + personTermStart.length + personTerms.length) * Integer.BYTES
+                + stringBytes;
+    }
+
+    /**
+     * Every person in the index, overlay applied, in no particular order.
+     */
+    public List<Entry> entries() {
+        List<Entry> entries = new ArrayList<>(size);
+        for (int i = 0; i < personIds.length; i++) {
+            if (!overlay.containsKey(personIds[i])) {
+                entries.add(entry(i));
+            }
+        }
+        for (Entry entry : overlay.values()) {
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    private DirectoryPrefixIndex withOverlay(long personId, Entry entry, int newSize) {
+        Map<Long, Entry> changed = new HashMap<>(overlay);
+        changed.put(personId, entry);
+        return new DirectoryPrefixIndex(personIds, employeeIds, firstNames, lastNames, registrationNumbers,
+                terms, termStart, postings, personTermStart, personTerms, stringBytes,
+                Collections.unmodifiableMap(changed), newSize);
+    }
+
+    private Entry entry(int person) {
+        long employeeId = employeeIds[person];
+        return new Entry(personIds[person], employeeId == NO_EMPLOYEE ? null : employeeId,
+                firstNames[person], lastNames[person], registrationNumbers[person]);
+    }
+
+    // [ilk, son) aralığı: word ile başlayan terimler
+    private int[] range(String word) {
+        return new int[]{lowerBound(word), lowerBound(word + Character.MAX_VALUE)};
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = terms.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (terms[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int postingCount(int[] range) {
+        return termStart[range[1]] - termStart[range[0]];
+    }
+
+    // Kişinin aralıktaki en küçük terim numarası; yoksa -1
+    private int firstTerm(int person, int[] range) {
+        int first = -1;
+        for (int p = personTermStart[person]; p < personTermStart[person + 1]; p++) {
+            int term = personTerms[p];
+            if (term >= range[0] && term < range[1] && (first < 0 || term < first)) {
+                first = term;
+            }
+        }
+        return first;
+    }
+
+    private boolean matchesAll(int person, int[][] ranges) {
+        for (int w = 1; w < ranges.length; w++) {
+            boolean found = false;
+            for (int p = personTermStart[person]; p < personTermStart[person + 1] && !found; p++) {
+                found = personTerms[p] >= ranges[w][0] && personTerms[p] < ranges[w][1];
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Overlay kaydı için sıralama anahtarı: ilk kelimeyle başlayan en küçük terim; eşleşmezse null
+    private static String matchKey(List<String> personWords, List<String> words) {
+        String key = null;
+        for (String term : personWords) {
+            if (term.startsWith(words.get(0)) && (key == null || term.compareTo(key) < 0)) {
+                key = term;
+            }
+        }
+        for (int w = 1; w < words.size() && key != null; w++) {
+            String word = words.get(w);
+            if (personWords.stream().noneMatch(term -> term.startsWith(word))) {
+                key = null;
+            }
+        }
+        return key;
+    }
+
+    // Ad, soyad ve sicil numarasının kelimeleri; "EMP-0042" hem "emp", "0042" hem "emp0042" olarak aranır
+    private static List<String> termsOf(Entry entry) {
+        List<String> terms = new ArrayList<>(words(entry.firstName()));
+        addDistinct(terms, words(entry.lastName()));
+        List<String> registration = words(entry.registrationNumber());
+        addDistinct(terms, registration);
+        if (registration.size() > 1) {
+            addDistinct(terms, List.of(String.join("", registration)));
+        }
+        return terms;
+    }
+
+    // Kişi başına birkaç kelime: küme yerine doğrusal arama
+    private static void addDistinct(List<String> terms, List<String> words) {
+        for (String word : words) {
+            if (!terms.contains(word)) {
+                terms.add(word);
+            }
+        }
+    }
+
+    private static String canonical(Map<String, String> canonical, String value) {
+        return value == null ? null : canonical.computeIfAbsent(value, v -> v);
+    }
+
+    // String başlığı + değer dizisi; Latin-1 karakterler 1, diğerleri 2 bayt
+    private static long stringBytes(String value) {
+        if (value == null) {
+            return 0;
+        }
+        boolean latin1 = value.chars().allMatch(c -> c <= 0xFF);
+        return 24 + 16 + (long) value.length() * (latin1 ? 1 : 2);
+    }
+
+    private record Match(String key, Entry entry) {
+    }
+}
@@ -0,0 +1,168 @@
+package com.neg.technology.human.resource.utility;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable snapshot of a country's holiday calendar plus the extra days off of individual companies.
+ * Each calendar covers the whole years that have holidays as a bitmap of non-working days indexed by
+ * day, with a running count of working days, so "is this a holiday" is one bit and "working days between
+ * A and B" is two array reads. Dates outside the covered years only have weekends off, which is counted
+ * arithmetically.
+ */
+public final class HolidayCalendar {
+
+    private static final HolidayCalendar EMPTY = of(Set.of(), Map.of());
+
+    private final WorkingDays country;
+    private final Map<Long, WorkingDays> companies;
+
+    private HolidayCalendar(WorkingDays country, Map<Long, WorkingDays> companies) {
+        this.country = country;
+        this.companies = companies;
+    }
+
+    public static HolidayCalendar empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @param countryHolidays holidays of every company
+     * @param companyHolidays extra days off per company id
+     */
+    public static HolidayCalendar of(Collection<LocalDate> countryHolidays,
+                                     Map<Long, ? extends Collection<LocalDate>> companyHolidays) {
+        Map<Long, WorkingDays> companies = new HashMap<>();
+        companyHolidays.forEach((companyId, days) -> {
+            Set<LocalDate> merged = new HashSet<>(countryHolidays);
+            merged.addAll(days);
+            companies.put(companyId, new WorkingDays(merged));
+        });
+        return new HolidayCalendar(new WorkingDays(countryHolidays), Map.copyOf(companies));
+    }
+
+    /**
+     * Calendar of the company, or the country calendar when the company has no days of its own or is null.
+     */
+    public WorkingDays forCompany(Long companyId) {
+        return companyId == null ? country : companies.getOrDefault(companyId, country);
+    }
+
+    public WorkingDays country() {
+        return country;
+    }
+
+    public static final class WorkingDays {
+
+        // 1970-01-05 Pazartesi; hafta içi sayımı bu günden başlayan tam haftalarla yapılır
+        private static final long MONDAY = 4;
+        private static final BigDecimal HALF_DAY = new BigDecimal("0.5");
+
+        private final long firstDay;
+        private final long endDay;
+        private final BitSet offDays;
+        private final int[] workingBefore;
+        private final int holidays;
+
+        private WorkingDays(Collection<LocalDate> days) {
+            Set<LocalDate> holidays = Set.copyOf(days);
+            int firstYear = holidays.stream().mapToInt(LocalDate::getYear).min().orElse(0);
+            int lastYear = holidays.stream().mapToInt(LocalDate::getYear).max().orElse(-1);
+            this.firstDay = LocalDate.of(firstYear, 1, 1).toEpochDay();
+            this.endDay = holidays.isEmpty() ? firstDay : LocalDate.of(lastYear + 1, 1, 1).toEpochDay();
+
+            int span = (int) (endDay - firstDay);
+            this.offDays = new BitSet(span);
+            for (int i = 0; i < span; i++) {
+                if (!isWeekday(firstDay + i)) {
+                    offDays.set(i);
+                }
+            }
+            for (LocalDate holiday : holidays) {
+                offDays.set((int) (holiday.toEpochDay() - firstDay));
+            }
+            this.workingBefore = new int[span + 1];
+            for (int i = 0; i < span; i++) {
+                workingBefore[i + 1] = workingBefore[i] + (offDays.get(i) ? 0 : 1);
+            }
+            this.holidays = (int) holidays.stream().filter(day -> isWeekday(day.toEpochDay())).count();
+        }
+
+        /**
+         * True for weekends and official holidays.
+         */
+        public boolean isHoliday(LocalDate date) {
+            long day = date.toEpochDay();
+            return day >= firstDay && day < endDay ? offDays.get((int) (day - firstDay)) : !isWeekday(day);
+        }
+
+        public boolean isWorkingDay(LocalDate date) {
+            return !isHoliday(date);
+        }
+
+        /**
+         * Working days from {@code from} to {@code to}, both inclusive; 0 when {@code to} is before {@code from}.
+         */
+        public int workingDays(LocalDate from, LocalDate to) {
+            long a = from.toEpochDay();
+            long b = to.toEpochDay() + 1;
+            if (b <= a) {
+                return 0;
+            }
+            long lo = Math.max(a, firstDay);
+            long hi = Math.min(b, endDay);
+            long covered = lo < hi ? workingBefore[(int) (hi - firstDay)] - workingBefore[(int) (lo - firstDay)] : 0;
+            return (int) (covered + weekdays(a, Math.min(b, firstDay)) + weekdays(Math.max(a, endDay), b));
+        }
+
+        /**
+         * Leave days charged for {@code from}..{@code to} inclusive: working days, less half a day when the
+         * leave starts at noon on a working first day or ends at noon on a working last day. A one-day leave
+         * with either half-day flag is half a day.
+         */
+        public BigDecimal leaveDays(LocalDate from, LocalDate to, boolean startHalfDay, boolean endHalfDay) {
+            int days = workingDays(from, to);
+            if (days == 0) {
+                return BigDecimal.ZERO.setScale(1);
+            }
+            if (from.equals(to)) {
+                return startHalfDay || endHalfDay ? HALF_DAY : BigDecimal.ONE.setScale(1);
+            }
+            BigDecimal leaveDays = BigDecimal.valueOf(days).setScale(1);
+            if (startHalfDay && isWorkingDay(from)) {
+                leaveDays = leaveDays.subtract(HALF_DAY);
+            }
+            if (endHalfDay && isWorkingDay(to)) {
+                leaveDays = leaveDays.subtract(HALF_DAY);
+            }
+            return leaveDays;
+        }
+
+        /**
+         * Holidays falling on a weekday, i.e. those that change a working day count.
+         */
+        public int holidays() {
+            return holidays;
+        }
+
+        private static boolean isWeekday(long epochDay) {
+            return Math.floorMod(epochDay - MONDAY, 7) < 5;
+        }
+
+        // [from, to) aralığındaki hafta içi günler
+        private static long weekdays(long from, long to) {
+            return to > from ? weekdaysBefore(to) - weekdaysBefore(from) : 0;
+        }
+
+        private static long weekdaysBefore(long epochDay) {
+            long days = epochDay - MONDAY;
+            return Math.floorDiv(days, 7) * 5 + Math.min(Math.floorMod(days, 7), 5);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.neg.technology.human.resource.utility;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs reactive tasks one at a time per key while tasks for different keys run fully in parallel.
+ * Each key keeps only the completion signal of its most recently submitted task; a new task waits for
+ * that signal and then replaces it, so tasks for a key run in submission order without any thread being
+ * blocked or a global lock being taken. The entry is dropped when the last queued task for the key finishes.
+ * <p>
+ * Tasks are not reentrant: a task must not submit to the same key on the same executor.
+ */
+public final class KeyedSequentialExecutor {
+
+    private final Map<Object, Mono<Void>> tails = new ConcurrentHashMap<>();
+    private final Timer queueWait;
+
+    public KeyedSequentialExecutor(String name, MeterRegistry meterRegistry) {
+        this.queueWait = Timer.builder(name + ".queue-wait")
+                .description("Time a task waited for earlier tasks with the same key")
+                .register(meterRegistry);
+        Gauge.builder(name + ".active-keys", tails, Map::size)
+                .description("Keys with a running or queued task")
+                .register(meterRegistry);
+    }
+
+    public <T> Mono<T> submit(Object key, Mono<T> task) {
+        return Mono.defer(() -> {
+            Sinks.Empty<Void> done = Sinks.empty();
+            Mono<Void> tail = done.asMono();
+            Mono<Void> previous = tails.put(key, tail);
+            long queuedAt = System.nanoTime();
+
+            Mono<Void> turn = previous != null ? previous : Mono.empty();
+            return turn
+                    .then(Mono.defer(() -> {
+                        queueWait.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                        return task;
+                    }))
+                    .doOnTerminate(() -> release(key, tail, done))
+                    // a task cancelled while queued still holds its successors back until its predecessor is done
+                    .doOnCancel(() -> turn.subscribe(null, error -> release(key, tail, done), () -> release(key, tail, done)));
+        });
+    }
+
+    private void release(Object key, Mono<Void> tail, Sinks.Empty<Void> done) {
+        tails.remove(key, tail);
+        done.tryEmitEmpty();
+    }
+
+    int activeKeys() {
+        return tails.size();
+    }
+}
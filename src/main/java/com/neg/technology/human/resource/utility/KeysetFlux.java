@@ -0,0 +1,61 @@
+package com.neg.technology.human.resource.utility;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Streams a table as a Flux by reading it in id-ordered chunks ({@code WHERE id > :lastId
+ * ORDER BY id LIMIT :chunk}). Every chunk is a short query on the JDBC scheduler, so no
+ * connection or transaction is held open while the client is slow, and the next chunk is
+ * only fetched once downstream has drained the previous one. Memory stays bounded by
+ * roughly two chunks regardless of table size.
+ */
+public final class KeysetFlux {
+
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+
+    private KeysetFlux() {}
+
+    /**
+     * @param chunkLoader loads the next chunk (already mapped to DTOs) after the given id;
+     *                    must return at most {@code chunkSize} rows ordered by id
+     * @param idOf        extracts the id the next chunk starts after
+     */
+    public static <T> Flux<T> stream(LongFunction<List<T>> chunkLoader,
+                                     ToLongFunction<T> idOf,
+                                     int chunkSize,
+                                     Scheduler scheduler) {
+        return chunks(chunkLoader, idOf, chunkSize, 0L, scheduler)
+                // prefetch of one chunk keeps at most one chunk buffered ahead of the consumer
+                .concatMapIterable(Function.identity(), 1);
+    }
+
+    /**
+     * Same walk as {@link #stream} but emits whole chunks and starts after {@code afterId}, for batch
+     * jobs that process a chunk at a time and resume from a checkpoint. Chunks are read one after the
+     * other and only as fast as downstream requests them.
+     */
+    public static <T> Flux<List<T>> chunks(LongFunction<List<T>> chunkLoader,
+                                           ToLongFunction<T> idOf,
+                                           int chunkSize,
+                                           long afterId,
+                                           Scheduler scheduler) {
+        return loadChunk(chunkLoader, afterId, scheduler)
+                .filter(chunk -> !chunk.isEmpty())
+                .expand(chunk -> chunk.size() < chunkSize
+                        ? Mono.empty()
+                        : loadChunk(chunkLoader, idOf.applyAsLong(chunk.get(chunk.size() - 1)), scheduler)
+                                .filter(next -> !next.isEmpty()));
+    }
+
+    private static <T> Mono<List<T>> loadChunk(LongFunction<List<T>> chunkLoader, long afterId, Scheduler scheduler) {
+        return Mono.fromCallable(() -> chunkLoader.apply(afterId))
+                .subscribeOn(scheduler);
+    }
+}
@@ -0,0 +1,148 @@
+package com.neg.technology.human.resource.utility;
+
+import com.neg.technology.human.resource.exception.InvalidPageRequestException;
+import org.springframework.data.domain.Limit;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * One page of a list endpoint, addressed by the (sort key, id) of the last row the client saw.
+ * Pages are read with {@code WHERE (sortKey, id) > (:afterKey, :afterId) ORDER BY sortKey, id LIMIT n + 1}
+ * so a deep page is the same index seek as the first one, unlike OFFSET. The extra row only tells
+ * whether there is a next page.
+ * <p>
+ * The cursor handed to clients is an opaque Base64 token; requests carrying neither cursor nor limit
+ * are unpaged and keep returning the full list.
+ */
+public final class KeysetPage {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    private static final KeysetPage UNPAGED = new KeysetPage(null, 0L, 0);
+    private static final char SEPARATOR = '|';
+
+    private final String afterKey;
+    private final long afterId;
+    private final int limit;
+
+    private KeysetPage(String afterKey, long afterId, int limit) {
+        this.afterKey = afterKey;
+        this.afterId = afterId;
+        this.limit = limit;
+    }
+
+    public static KeysetPage unpaged() {
+        return UNPAGED;
+    }
+
+    public static KeysetPage of(String cursor, Integer limit) {
+        boolean hasCursor = cursor != null && !cursor.isBlank();
+        if (!hasCursor && limit == null) {
+            return UNPAGED;
+        }
+        int size = limit != null ? limit : DEFAULT_LIMIT;
+        if (size < 1 || size > MAX_LIMIT) {
+            throw new InvalidPageRequestException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        if (!hasCursor) {
+            return new KeysetPage(null, 0L, size);
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(SEPARATOR);
+            String key = separator > 0 ? decoded.substring(0, separator) : null;
+            return new KeysetPage(key, Long.parseLong(decoded.substring(separator + 1)), size);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPageRequestException("Invalid cursor: " + cursor);
+        }
+    }
+
+    public boolean isPaged() {
+        return limit > 0;
+    }
+
+    public long afterId() {
+        return afterId;
+    }
+
+    /**
+     * @param first sort key to start from when there is no cursor yet (usually the lower bound of the filter)
+     */
+    public <K> K afterKey(Function<String, K> parser, K first) {
+        if (afterKey == null) {
+            return first;
+        }
+        try {
+            return parser.apply(afterKey);
+        } catch (RuntimeException e) {
+            throw new InvalidPageRequestException("Invalid cursor key: " + afterKey);
+        }
+    }
+
+    /** Page size plus the look-ahead row. */
+    public Limit fetchLimit() {
+        return Limit.of(limit + 1);
+    }
+
+    /** Keyset predicate and ordering on id, appended after an existing WHERE clause. */
+    public String keysetClause(String idColumn) {
+        if (!isPaged()) {
+            return " ORDER BY " + idColumn;
+        }
+        return " AND " + idColumn + " > :afterId ORDER BY " + idColumn + " LIMIT :fetchSize";
+    }
+
+    /** Keyset predicate and ordering on (sort key, id), appended after an existing WHERE clause. */
+    public String keysetClause(String keyColumn, String idColumn) {
+        if (!isPaged()) {
+            return " ORDER BY " + keyColumn + ", " + idColumn;
+        }
+        return " AND (" + keyColumn + ", " + idColumn + ") > (:afterKey, :afterId)"
+                + " ORDER BY " + keyColumn + ", " + idColumn + " LIMIT :fetchSize";
+    }
+
+    /** Bind values for {@link #keysetClause(String)}. */
+    public Map<String, Object> bindings() {
+        return isPaged() ? Map.of("afterId", afterId, "fetchSize", limit + 1) : Map.of();
+    }
+
+    /** Bind values for {@link #keysetClause(String, String)}. */
+    public Map<String, Object> bindings(Object afterKey) {
+        return isPaged() ? Map.of("afterKey", afterKey, "afterId", afterId, "fetchSize", limit + 1) : Map.of();
+    }
+
+    public <T> Slice<T> slice(List<T> rows, ToLongFunction<T> idOf) {
+        return slice(rows, row -> null, idOf);
+    }
+
+    /**
+     * Cuts the look-ahead row off a page read with {@link #fetchLimit()} and builds the cursor of the
+     * next page from the last row kept. Unpaged reads pass through untouched.
+     */
+    public <T> Slice<T> slice(List<T> rows, Function<T, ?> keyOf, ToLongFunction<T> idOf) {
+        if (!isPaged() || rows.size() <= limit) {
+            return new Slice<>(rows, null);
+        }
+        List<T> items = rows.subList(0, limit);
+        T last = items.get(limit - 1);
+        return new Slice<>(items, encode(keyOf.apply(last), idOf.applyAsLong(last)));
+    }
+
+    private static String encode(Object key, long id) {
+        String raw = (key != null ? key.toString() + SEPARATOR : "") + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public record Slice<T>(List<T> items, String nextCursor) {
+
+        public <R> Slice<R> map(Function<T, R> mapper) {
+            return new Slice<>(items.stream().map(mapper).toList(), nextCursor);
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package com.neg.technology.human.resource.utility;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the employee → manager relation held in primitive arrays. Employees are
+ * addressed by their position in the sorted {@code ids} array; the manager of each is a parent index
+ * and the direct reports of each are a slice of one shared array (compressed sparse rows). A pre-order
+ * walk assigns every employee a rank so that "reports to" is two comparisons against the manager's
+ * rank and subtree size, without walking the chain.
+ * <p>
+ * Changes produce a new snapshot; readers never see a half-applied change. Employees on a manager
+ * cycle (and everyone below them) are not reachable from a top-level employee: their depth is -1 and
+ * they count towards {@link #cyclicNodes()}.
+ */
+public final class OrgGraph {
+
+    private static final int NONE = -1;
+
+    private static final OrgGraph EMPTY = build(new long[0], new int[0]);
+
+    private final long[] ids;
+    private final int[] parent;
+    private final int[] childStart;
+    private final int[] children;
+    private final int[] depth;
+    private final int[] rank;
+    private final int[] subtreeSize;
+    private final int cyclicNodes;
+
+    private OrgGraph(long[] ids, int[] parent, int[] childStart, int[] children,
+                     int[] depth, int[] rank, int[] subtreeSize, int cyclicNodes) {
+        this.ids = ids;
+        this.parent = parent;
+        this.childStart = childStart;
+        this.children = children;
+        this.depth = depth;
+        this.rank = rank;
+        this.subtreeSize = subtreeSize;
+        this.cyclicNodes = cyclicNodes;
+    }
+
+    public static OrgGraph empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @param ids        employee ids, in any order, without duplicates
+     * @param managerIds manager of {@code ids[i]} at index i, or null; a manager that is not among
+     *                   {@code ids} is treated as no manager
+     */
+    public static OrgGraph of(long[] ids, Long[] managerIds) {
+        int n = ids.length;
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(ids[a], ids[b]));
+
+        long[] sorted = new long[n];
+        for (int i = 0; i < n; i++) {
+            sorted[i] = ids[order[i]];
+        }
+        int[] parent = new int[n];
+        for (int i = 0; i < n; i++) {
+            Long managerId = managerIds[order[i]];
+            parent[i] = managerId == null ? NONE : Math.max(NONE, Arrays.binarySearch(sorted, managerId));
+        }
+        return build(sorted, parent);
+    }
+
+    private static OrgGraph build(long[] ids, int[] parent) {
+        int n = ids.length;
+
+        int[] childStart = new int[n + 1];
+        for (int p : parent) {
+            if (p != NONE) {
+                childStart[p + 1]++;
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            childStart[i + 1] += childStart[i];
+        }
+        int[] children = new int[childStart[n]];
+        int[] fill = Arrays.copyOf(childStart, n);
+        for (int i = 0; i < n; i++) {
+            if (parent[i] != NONE) {
+                children[fill[parent[i]]++] = i;
+            }
+        }
+
+        // Üst yöneticiden başlayan iteratif pre-order; döngüdeki düğümlere hiç ulaşılmaz
+        int[] depth = new int[n];
+        int[] rank = new int[n];
+        int[] subtreeSize = new int[n];
+        Arrays.fill(depth, NONE);
+        Arrays.fill(rank, NONE);
+        int[] visit = new int[n];
+        int[] stack = new int[n];
+        int visited = 0;
+        int top = 0;
+        for (int root = n - 1; root >= 0; root--) {
+            if (parent[root] == NONE) {
+                stack[top++] = root;
+                depth[root] = 0;
+            }
+        }
+        while (top > 0) {
+            int node = stack[--top];
+            rank[node] = visited;
+            visit[visited++] = node;
+            for (int c = childStart[node + 1] - 1; c >= childStart[node]; c--) {
+                depth[children[c]] = depth[node] + 1;
+                stack[top++] = children[c];
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            subtreeSize[i] = rank[i] == NONE ? 0 : 1;
+        }
+        for (int r = visited - 1; r >= 0; r--) {
+            int node = visit[r];
+            if (parent[node] != NONE) {
+                subtreeSize[parent[node]] += subtreeSize[node];
+            }
+        }
+
+        return new OrgGraph(ids, parent, childStart, children, depth, rank, subtreeSize, n - visited);
+    }
+
+    /**
+     * Same graph with {@code employeeId} added or moved under {@code managerId} (null for none).
+     */
+    public OrgGraph withManager(long employeeId, Long managerId) {
+        int index = Arrays.binarySearch(ids, employeeId);
+        long[] nextIds = ids;
+        int[] nextParent;
+        if (index >= 0) {
+            nextParent = parent.clone();
+        } else {
+            // Yeni çalışan: sıralı konuma ekle, kaymış ebeveyn indekslerini düzelt
+            index = -index - 1;
+            nextIds = new long[ids.length + 1];
+            System.arraycopy(ids, 0, nextIds, 0, index);
+            System.arraycopy(ids, index, nextIds, index + 1, ids.length - index);
+            nextIds[index] = employeeId;
+            nextParent = new int[parent.length + 1];
+            for (int i = 0; i < parent.length; i++) {
+                int p = parent[i];
+                nextParent[i < index ? i : i + 1] = p != NONE && p >= index ? p + 1 : p;
+            }
+        }
+        nextParent[index] = managerId == null ? NONE : Math.max(NONE, Arrays.binarySearch(nextIds, managerId));
+        return build(nextIds, nextParent);
+    }
+
+    /**
+     * Same graph with every {@code employeeIds[i]} added or moved under {@code managerIds[i]}, rebuilt once
+     * for the whole batch rather than once per employee as repeated {@link #withManager} calls would.
+     */
+    public OrgGraph withManagers(long[] employeeIds, Long[] managerIds) {
+        Map<Long, Long> managers = new HashMap<>(ids.length + employeeIds.length);
+        for (int i = 0; i < ids.length; i++) {
+            managers.put(ids[i], parent[i] == NONE ? null : ids[parent[i]]);
+        }
+        for (int i = 0; i < employeeIds.length; i++) {
+            managers.put(employeeIds[i], managerIds[i]);
+        }
+        long[] nextIds = new long[managers.size()];
+        Long[] nextManagers = new Long[managers.size()];
+        int i = 0;
+        for (Map.Entry<Long, Long> entry : managers.entrySet()) {
+            nextIds[i] = entry.getKey();
+            nextManagers[i++] = entry.getValue();
+        }
+        return of(nextIds, nextManagers);
+    }
+
+    /**
+     * Same graph without {@code employeeId}; its direct reports, if any, become top-level.
+     */
+    public OrgGraph without(long employeeId) {
+        int index = Arrays.binarySearch(ids, employeeId);
+        if (index < 0) {
+            return this;
+        }
+        long[] nextIds = new long[ids.length - 1];
+        System.arraycopy(ids, 0, nextIds, 0, index);
+        System.arraycopy(ids, index + 1, nextIds, index, nextIds.length - index);
+        int[] nextParent = new int[nextIds.length];
+        for (int i = 0; i < parent.length; i++) {
+            if (i == index) {
+                continue;
+            }
+            int p = parent[i];
+            nextParent[i < index ? i : i - 1] = p == index ? NONE : p != NONE && p > index ? p - 1 : p;
+        }
+        return build(nextIds, nextParent);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public boolean contains(long employeeId) {
+        return Arrays.binarySearch(ids, employeeId) >= 0;
+    }
+
+    /**
+     * @return manager id, or null for a top-level or unknown employee
+     */
+    public Long managerOf(long employeeId) {
+        int index = Arrays.binarySearch(ids, employeeId);
+        return index < 0 || parent[index] == NONE ? null : ids[parent[index]];
+    }
+
+    public long[] directReports(long employeeId) {
+        int index = Arrays.binarySearch(ids, employeeId);
+        if (index < 0) {
+            return new long[0];
+        }
+        long[] reports = new long[childStart[index + 1] - childStart[index]];
+        for (int c = 0; c < reports.length; c++) {
+            reports[c] = ids[children[childStart[index] + c]];
+        }
+        return reports;
+    }
+
+    /**
+     * @return levels between the employee and the top of their hierarchy (0 for top-level), or -1 when
+     * the employee is unknown or on a manager cycle
+     */
+    public int depth(long employeeId) {
+        int index = Arrays.binarySearch(ids, employeeId);
+        return index < 0 ? NONE : depth[index];
+    }
+
+    /**
+     * @return the employee plus everyone reporting to them directly or indirectly; 0 when unknown
+     */
+    public int headcount(long employeeId) {
+        int index = Arrays.binarySearch(ids, employeeId);
+        return index < 0 ? 0 : subtreeSize[index];
+    }
+
+    /**
+     * True when {@code managerId} is above {@code employeeId} in the chain of command, i.e. may act on
+     * the employee's requests. An employee does not report to themselves.
+     */
+    public boolean reportsTo(long employeeId, long managerId) {
+        int employee = Arrays.binarySearch(ids, employeeId);
+        int manager = Arrays.binarySearch(ids, managerId);
+        if (employee < 0 || manager < 0 || rank[manager] == NONE) {
+            return false;
+        }
+        return rank[employee] > rank[manager] && rank[employee] < rank[manager] + subtreeSize[manager];
+    }
+
+    public int cyclicNodes() {
+        return cyclicNodes;
+    }
+
+    /**
+     * Heap taken by the arrays of this snapshot, excluding object headers.
+     */
+    public long footprintBytes() {
+        return (long) ids.length * Long.BYTES
+                + (long) (parent.length + childStart.length + children.length
+                + depth.length + rank.length + subtreeSize.length) * Integer.BYTES;
+    }
+
+    /**
+     * True when both snapshots hold the same employees with the same managers.
+     */
+    public boolean sameEdges(OrgGraph other) {
+        return Arrays.equals(ids, other.ids) && Arrays.equals(parent, other.parent);
+    }
+}
@@ -0,0 +1,114 @@
+package com.neg.technology.human.resource.utility;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.neg.technology.human.resource.company.model.entity.Company;
+import com.neg.technology.human.resource.company.model.entity.Position;
+import com.neg.technology.human.resource.company.repository.CompanyRepository;
+import com.neg.technology.human.resource.company.repository.PositionRepository;
+import com.neg.technology.human.resource.config.ReferenceDataCacheProperties;
+import com.neg.technology.human.resource.department.model.entity.Department;
+import com.neg.technology.human.resource.department.repository.DepartmentRepository;
+import com.neg.technology.human.resource.leave.model.entity.LeaveType;
+import com.neg.technology.human.resource.leave.repository.LeaveTypeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Read-through cache for the small, rarely changing reference tables that are looked up by id on
+ * almost every employee, leave request and leave balance write. Entries are detached entities: callers
+ * may attach them to associations and read them, but must not modify them. Updates go through the
+ * repository and call the matching {@code evict} method once saved.
+ * <p>
+ * Missing ids are not cached, so a freshly created row is visible immediately. Hit/miss counts are
+ * published as {@code cache.gets} with {@code cache=<name>}.
+ * <p>
+ * Blocking: misses load through the repository on the calling thread.
+ */
+public class ReferenceDataCache {
+
+    private final LeaveTypeRepository leaveTypeRepository;
+    private final DepartmentRepository departmentRepository;
+    private final PositionRepository positionRepository;
+    private final CompanyRepository companyRepository;
+
+    private final Cache<Long, LeaveType> leaveTypes;
+    private final Cache<Long, Department> departments;
+    private final Cache<Long, Position> positions;
+    private final Cache<Long, Company> companies;
+
+    public ReferenceDataCache(LeaveTypeRepository leaveTypeRepository,
+                              DepartmentRepository departmentRepository,
+                              PositionRepository positionRepository,
+                              CompanyRepository companyRepository,
+                              ReferenceDataCacheProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.leaveTypeRepository = leaveTypeRepository;
+        this.departmentRepository = departmentRepository;
+        this.positionRepository = positionRepository;
+        this.companyRepository = companyRepository;
+        this.leaveTypes = newCache("leaveTypes", properties, meterRegistry);
+        this.departments = newCache("departments", properties, meterRegistry);
+        this.positions = newCache("positions", properties, meterRegistry);
+        this.companies = newCache("companies", properties, meterRegistry);
+    }
+
+    public Optional<LeaveType> findLeaveType(Long id) {
+        return find(leaveTypes, id, leaveTypeRepository::findById);
+    }
+
+    public Optional<Department> findDepartment(Long id) {
+        return find(departments, id, departmentRepository::findById);
+    }
+
+    public Optional<Position> findPosition(Long id) {
+        return find(positions, id, positionRepository::findById);
+    }
+
+    public Optional<Company> findCompany(Long id) {
+        return find(companies, id, companyRepository::findById);
+    }
+
+    public void evictLeaveType(Long id) {
+        evict(leaveTypes, id);
+    }
+
+    public void evictDepartment(Long id) {
+        evict(departments, id);
+    }
+
+    public void evictPosition(Long id) {
+        evict(positions, id);
+    }
+
+    public void evictCompany(Long id) {
+        evict(companies, id);
+    }
+
+    private static <T> Optional<T> find(Cache<Long, T> cache, Long id, Function<Long, Optional<T>> loader) {
+        if (id == null) {
+            // keep the repository's own handling of a null id
+            return loader.apply(null);
+        }
+        return Optional.ofNullable(cache.get(id, key -> loader.apply(key).orElse(null)));
+    }
+
+    private static void evict(Cache<Long, ?> cache, Long id) {
+        if (id != null) {
+            cache.invalidate(id);
+        }
+    }
+
+    private static <T> Cache<Long, T> newCache(String name, ReferenceDataCacheProperties properties,
+                                                MeterRegistry meterRegistry) {
+        Cache<Long, T> cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+}
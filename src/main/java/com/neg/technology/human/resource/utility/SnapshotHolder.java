@@ -0,0 +1,181 @@
+package com.neg.technology.human.resource.utility;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Holds an immutable snapshot loaded from the database for the indexes that answer reads from memory
+ * (org graph, holiday calendar, directory). The first load runs in the background on {@link #start} or on
+ * the first {@link #get()}; a successful load is kept, a failed one is retried on the next use. The owner
+ * keeps the snapshot current with local changes ({@link #update}) and a periodic {@link #reload}; costly
+ * reshaping of the snapshot, such as compaction, runs in the background through {@link #rebuild}.
+ * <p>
+ * Reads are lock-free; changes and the install of a load or rebuild are serialized on the holder. Local
+ * changes that arrive while a load or rebuild is running are re-applied to its result before it is
+ * installed, so neither undoes a change it missed. Changes must therefore be idempotent: set or remove a value,
+ * never add to one.
+ */
+@Slf4j
+public final class SnapshotHolder<T> {
+
+    private final String name;
+    private final Callable<T> loader;
+    private final Scheduler jdbcScheduler;
+    private final Mono<T> initialLoad;
+    // Yükleme veya yeniden kurma sürerken gelen yerel değişiklikler; her biri kendi başlangıcından sonrakileri yeniden uygular
+    private final List<Change<T>> recorded = new ArrayList<>();
+
+    private volatile T snapshot;
+    private long version;
+    private long installs;
+    private int loading;
+    private Disposable refresh;
+
+    /**
+     * @param name   used in log messages, e.g. "Org graph"
+     * @param loader reads the full snapshot; blocking, runs on the JDBC scheduler
+     */
+    public SnapshotHolder(String name, Callable<T> loader, Scheduler jdbcScheduler) {
+        this.name = name;
+        this.loader = loader;
+        this.jdbcScheduler = jdbcScheduler;
+        // Başarılı yükleme süresiz önbelleklenir, hata önbelleklenmez: sonraki kullanım yeniden dener.
+        // Yenileme bu arada daha yeni bir snapshot koyduysa o kalır
+        this.initialLoad = reload((current, loaded) -> current != null ? current : loaded)
+                .cache(value -> Duration.ofMillis(Long.MAX_VALUE), error -> Duration.ZERO, () -> Duration.ZERO);
+    }
+
+    /**
+     * Starts the first load and, unless the interval is zero, runs refresh at that interval. A failed
+     * refresh is logged and the previous snapshot kept; a refresh still running when the next one is due
+     * makes that one skip.
+     */
+    public void start(Duration refreshInterval, Supplier<Mono<?>> refresh, Consumer<T> onLoaded) {
+        initialLoad.subscribe(onLoaded, error -> log.warn("{} could not be loaded; retried on first use", name, error));
+        if (!refreshInterval.isZero()) {
+            this.refresh = Flux.interval(refreshInterval, refreshInterval, jdbcScheduler)
+                    .onBackpressureDrop()
+                    .concatMap(tick -> refresh.get()
+                            .onErrorResume(error -> {
+                                log.warn("{} refresh failed; keeping the previous snapshot", name, error);
+                                return Mono.empty();
+                            }))
+                    .subscribe();
+        }
+    }
+
+    public void stop() {
+        if (refresh != null) {
+            refresh.dispose();
+        }
+    }
+
+    /**
+     * The current snapshot, loading it first if this is the first use.
+     */
+    public Mono<T> get() {
+        T current = snapshot;
+        return current != null ? Mono.just(current) : initialLoad;
+    }
+
+    /**
+     * The current snapshot, or null before the first load.
+     */
+    public T current() {
+        return snapshot;
+    }
+
+    /**
+     * Applies a committed local change. Before the first load there is nothing to change; the load in
+     * progress, if any, applies it once it has read the database.
+     */
+    public synchronized void update(UnaryOperator<T> change) {
+        version++;
+        if (loading > 0) {
+            recorded.add(new Change<>(version, change));
+        }
+        if (snapshot != null) {
+            snapshot = change.apply(snapshot);
+        }
+    }
+
+    /**
+     * Loads the snapshot again, re-applies the local changes that arrived meanwhile and installs what
+     * reconcile returns for the current snapshot (null before the first load) and the loaded one.
+     *
+     * @return the installed snapshot
+     */
+    public Mono<T> reload(BinaryOperator<T> reconcile) {
+        return Mono.fromCallable(() -> {
+            Started<T> started = beginLoad();
+            try {
+                return install(started.version(), loader.call(), reconcile);
+            } finally {
+                endLoad();
+            }
+        }).subscribeOn(jdbcScheduler);
+    }
+
+    /**
+     * Replaces the snapshot with what rebuild returns for it, e.g. a compacted copy. The rebuild runs on
+     * the JDBC scheduler without holding up {@link #update}; local changes that arrive meanwhile are
+     * re-applied to its result. If a load installs a snapshot first, the rebuild is dropped.
+     *
+     * @return the installed snapshot; empty before the first load
+     */
+    public Mono<T> rebuild(UnaryOperator<T> rebuild) {
+        return Mono.fromCallable(() -> {
+            Started<T> started = beginLoad();
+            try {
+                if (started.snapshot() == null) {
+                    return null;
+                }
+                return install(started.version(), rebuild.apply(started.snapshot()),
+                        (current, rebuilt) -> installs == started.installs() ? rebuilt : current);
+            } finally {
+                endLoad();
+            }
+        }).subscribeOn(jdbcScheduler);
+    }
+
+    private synchronized Started<T> beginLoad() {
+        loading++;
+        return new Started<>(version, installs, snapshot);
+    }
+
+    private synchronized T install(long loadedAfter, T loaded, BinaryOperator<T> reconcile) {
+        T replayed = loaded;
+        for (Change<T> change : recorded) {
+            if (change.version() > loadedAfter) {
+                replayed = change.operator().apply(replayed);
+            }
+        }
+        snapshot = reconcile.apply(snapshot, replayed);
+        installs++;
+        return snapshot;
+    }
+
+    private synchronized void endLoad() {
+        if (--loading == 0) {
+            recorded.clear();
+        }
+    }
+
+    private record Change<T>(long version, UnaryOperator<T> operator) {
+    }
+
+    private record Started<T>(long version, long installs, T snapshot) {
+    }
+}
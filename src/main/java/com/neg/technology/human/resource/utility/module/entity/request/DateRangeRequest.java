@@ -10,7 +10,7 @@ import java.time.LocalDate;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
-public class DateRangeRequest {
+public class DateRangeRequest extends KeysetPageRequest {
     @NotNull
     private LocalDate startDate;
 
@@ -8,7 +8,7 @@ import lombok.*;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
-public class DateRequest {
+public class DateRequest extends KeysetPageRequest {
     @NotNull
     private String date;
 }
\ No newline at end of file
@@ -8,7 +8,7 @@ import lombok.*;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
-public class IdRequest {
+public class IdRequest extends KeysetPageRequest {
     @NotNull
     private Long id;
 }
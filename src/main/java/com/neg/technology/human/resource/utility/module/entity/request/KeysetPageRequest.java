@@ -0,0 +1,26 @@
+package com.neg.technology.human.resource.utility.module.entity.request;
+
+import com.neg.technology.human.resource.utility.KeysetPage;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Optional cursor paging for list requests. Leave both fields out to get the full, unpaged list;
+ * send {@code limit} for the first page and the returned {@code nextCursor} for the following ones.
+ */
+@Getter
+@Setter
+public abstract class KeysetPageRequest {
+
+    private String cursor;
+
+    @Min(1)
+    @Max(KeysetPage.MAX_LIMIT)
+    private Integer limit;
+
+    public KeysetPage toPage() {
+        return KeysetPage.of(cursor, limit);
+    }
+}
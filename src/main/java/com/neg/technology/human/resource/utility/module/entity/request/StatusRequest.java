@@ -8,7 +8,7 @@ import lombok.*;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
-public class StatusRequest {
+public class StatusRequest extends KeysetPageRequest {
     @NotNull
     private String status;
 }
\ No newline at end of file
@@ -0,0 +1,266 @@
+package com.neg.technology.human.resource;
+
+import com.neg.technology.human.resource.department.model.request.DepartmentIdRequest;
+import com.neg.technology.human.resource.employee.model.request.EmployeeDateRangeRequest;
+import com.neg.technology.human.resource.employee.model.request.EmployeeLeaveTypeYearRequest;
+import com.neg.technology.human.resource.employee.repository.EmployeeRepository;
+import com.neg.technology.human.resource.employee.repository.OrgChartRepository;
+import com.neg.technology.human.resource.employee.service.impl.EmployeeImportEngine;
+import com.neg.technology.human.resource.employee.service.impl.EmployeeServiceImpl;
+import com.neg.technology.human.resource.employee.service.impl.OrgChartServiceImpl;
+import com.neg.technology.human.resource.employee.service.impl.OrgGraphIndex;
+import com.neg.technology.human.resource.leave.model.mapper.LeaveBalanceMapper;
+import com.neg.technology.human.resource.leave.model.enums.LeaveStatus;
+import com.neg.technology.human.resource.leave.model.request.BulkChangeLeaveRequestStatusRequest;
+import com.neg.technology.human.resource.leave.model.request.EmployeeLeaveTypeRequest;
+import com.neg.technology.human.resource.leave.model.request.LeaveTypeYearRequest;
+import com.neg.technology.human.resource.leave.model.response.BulkChangeLeaveRequestStatusResponse;
+import com.neg.technology.human.resource.leave.repository.LeaveBalanceRepository;
+import com.neg.technology.human.resource.leave.repository.LeaveLedgerRepository;
+import com.neg.technology.human.resource.leave.repository.LeaveRequestRepository;
+import com.neg.technology.human.resource.leave.service.impl.HolidayCalendarEngine;
+import com.neg.technology.human.resource.leave.service.impl.LeaveBalanceDeductionEngine;
+import com.neg.technology.human.resource.leave.service.impl.LeaveBalanceMutationGuard;
+import com.neg.technology.human.resource.leave.service.impl.LeaveBalanceServiceImpl;
+import com.neg.technology.human.resource.leave.service.impl.LeaveRequestBulkStatusEngine;
+import com.neg.technology.human.resource.leave.service.impl.LeaveRequestServiceImpl;
+import com.neg.technology.human.resource.leave.service.impl.LeaveRequestStatusEngine;
+import com.neg.technology.human.resource.leave.validator.LeaveBalanceValidator;
+import com.neg.technology.human.resource.leave.validator.LeaveRequestValidator;
+import com.neg.technology.human.resource.person.repository.PersonRepository;
+import com.neg.technology.human.resource.person.service.DirectoryIndex;
+import com.neg.technology.human.resource.utility.HolidayCalendar;
+import com.neg.technology.human.resource.utility.ReferenceDataCache;
+import com.neg.technology.human.resource.utility.module.entity.request.IdRequest;
+import com.neg.technology.human.resource.utility.module.entity.request.StatusRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import liquibase.integration.spring.SpringLiquibase;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mockito;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * Calls the employee, leave request and leave balance read endpoints against a real PostgreSQL and counts
+ * the JDBC statements each one issues. Every endpoint must answer in a single statement whatever the number
+ * of rows, i.e. without a follow-up select per person, department, manager, leave type or approver. The
+ * bulk approval must likewise issue the same few statements however many requests it changes.
+ * Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class EndpointStatementCountTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static EntityManagerFactory entityManagerFactory;
+    private static Statistics statistics;
+    private static EmployeeServiceImpl employeeService;
+    private static OrgChartServiceImpl orgChartService;
+    private static LeaveRequestServiceImpl leaveRequestService;
+    private static LeaveBalanceServiceImpl leaveBalanceService;
+
+    @BeforeAll
+    static void migrateLoadAndWire() throws Exception {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog("classpath:db/changelog/db.changelog-master.yaml");
+        liquibase.setContexts("test");
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        // id'ler açıkça verilir: diziler 50'şer artar (pooled), sonraki satırlar bu id'lere başvurur
+        jdbcTemplate.execute("INSERT INTO company (id, name) SELECT g, 'Company ' || g FROM generate_series(1, 5) g");
+        jdbcTemplate.execute("INSERT INTO department (id, name) SELECT g, 'Department ' || g FROM generate_series(1, 5) g");
+        jdbcTemplate.execute("INSERT INTO position (id, title) SELECT g, 'Position ' || g FROM generate_series(1, 5) g");
+        jdbcTemplate.execute("INSERT INTO person (id, first_name, last_name) SELECT g, 'First' || g, 'Last' || g FROM generate_series(1, 200) g");
+        jdbcTemplate.execute("""
+                INSERT INTO employee (id, person_id, department_id, position_id, company_id, manager_id,
+                                      hire_date, employment_start_date, is_active)
+                SELECT g, g, 1 + g % 5, 1 + g % 5, 1 + g % 5,
+                       CASE WHEN g > 1 THEN 1 + g / 10 END,
+                       timestamp '2020-01-01', timestamp '2020-01-01', true
+                FROM generate_series(1, 200) g
+                """);
+        jdbcTemplate.execute("INSERT INTO leave_type (id, name, is_annual, is_unpaid) SELECT g, 'Leave ' || g, true, false FROM generate_series(1, 5) g");
+        jdbcTemplate.execute("""
+                INSERT INTO leave_request (id, employee_id, leave_type_id, start_date, end_date, requested_days,
+                                           status, approved_by, is_cancelled)
+                SELECT g + 1, 1 + g % 10, 1 + g % 5, date '2025-01-01' + g * 7, date '2025-01-01' + g * 7 + 2, 3,
+                       CASE WHEN g % 2 = 0 THEN 'PENDING' ELSE 'APPROVED' END, 1 + g % 20, false
+                FROM generate_series(0, 39) g
+                """);
+        // 50k balances: 200 employees x 5 leave types x 50 years
+        jdbcTemplate.execute("""
+                INSERT INTO leave_balance (id, employee_id, leave_type_id, effective_date, amount)
+                SELECT row_number() OVER (ORDER BY e, t, y), e, t, make_date(y, 1, 1), 14
+                FROM generate_series(1, 200) e, generate_series(1, 5) t, generate_series(1976, 2025) y
+                """);
+
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan("com.neg.technology.human.resource");
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(Map.of(
+                AvailableSettings.PHYSICAL_NAMING_STRATEGY, "org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy",
+                AvailableSettings.GENERATE_STATISTICS, true,
+                AvailableSettings.STATEMENT_BATCH_SIZE, 50,
+                AvailableSettings.ORDER_UPDATES, true));
+        factory.afterPropertiesSet();
+        entityManagerFactory = factory.getObject();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // shared EntityManager: a fresh persistence context per call, joined to the service's transaction if any
+        JpaRepositoryFactory repositories = new JpaRepositoryFactory(
+                SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory));
+        EmployeeRepository employeeRepository = repositories.getRepository(EmployeeRepository.class);
+        employeeService = new EmployeeServiceImpl(employeeRepository,
+                Mockito.mock(PersonRepository.class), Mockito.mock(ReferenceDataCache.class), Mockito.mock(OrgGraphIndex.class),
+                Mockito.mock(DirectoryIndex.class), Mockito.mock(EmployeeImportEngine.class), Schedulers.immediate());
+        orgChartService = new OrgChartServiceImpl(repositories.getRepository(OrgChartRepository.class),
+                Mockito.mock(OrgGraphIndex.class), Schedulers.immediate());
+        LeaveRequestRepository leaveRequestRepository = repositories.getRepository(LeaveRequestRepository.class);
+        LeaveBalanceRepository leaveBalanceRepository = repositories.getRepository(LeaveBalanceRepository.class);
+        LeaveLedgerRepository leaveLedgerRepository = repositories.getRepository(LeaveLedgerRepository.class);
+        HolidayCalendarEngine holidayCalendarEngine = Mockito.mock(HolidayCalendarEngine.class);
+        Mockito.when(holidayCalendarEngine.calendar()).thenReturn(Mono.just(HolidayCalendar.empty()));
+        leaveRequestService = new LeaveRequestServiceImpl(leaveRequestRepository,
+                employeeRepository, Mockito.mock(ReferenceDataCache.class), Mockito.mock(LeaveRequestValidator.class),
+                Mockito.mock(LeaveRequestStatusEngine.class),
+                new LeaveRequestBulkStatusEngine(leaveRequestRepository, leaveBalanceRepository, leaveLedgerRepository,
+                        new JpaTransactionManager(entityManagerFactory), new SimpleMeterRegistry()),
+                holidayCalendarEngine, Mockito.mock(LeaveBalanceMutationGuard.class),
+                new JpaTransactionManager(entityManagerFactory), Schedulers.immediate());
+        leaveBalanceService = new LeaveBalanceServiceImpl(leaveBalanceRepository, leaveLedgerRepository,
+                employeeRepository, Mockito.mock(ReferenceDataCache.class), new LeaveBalanceMapper(), new LeaveBalanceValidator(),
+                Mockito.mock(LeaveBalanceDeductionEngine.class), Mockito.mock(LeaveBalanceMutationGuard.class),
+                new JpaTransactionManager(entityManagerFactory), Schedulers.immediate());
+    }
+
+    @AfterAll
+    static void close() {
+        if (entityManagerFactory != null) {
+            entityManagerFactory.close();
+        }
+    }
+
+    static Stream<Arguments> endpoints() {
+        return Stream.of(
+                arguments("getAllEmployees", (Supplier<Mono<?>>) () -> employeeService.getAllEmployees()),
+                arguments("getActiveEmployees", (Supplier<Mono<?>>) () -> employeeService.getActiveEmployees()),
+                arguments("getEmployeeById", (Supplier<Mono<?>>) () -> employeeService.getEmployeeById(new IdRequest(42L))),
+                arguments("getEmployeesByDepartment", (Supplier<Mono<?>>) () -> employeeService.getEmployeesByDepartment(department(2L, null))),
+                arguments("getEmployeesByDepartment (paged)", (Supplier<Mono<?>>) () -> employeeService.getEmployeesByDepartment(department(2L, 10))),
+                arguments("streamAllEmployees", (Supplier<Mono<?>>) () -> employeeService.streamAllEmployees().take(50).collectList()),
+
+                arguments("getSubtree", (Supplier<Mono<?>>) () -> orgChartService.getSubtree(new IdRequest(1L))),
+                arguments("getChainOfCommand", (Supplier<Mono<?>>) () -> orgChartService.getChainOfCommand(new IdRequest(150L))),
+                arguments("getSpanOfControl", (Supplier<Mono<?>>) () -> orgChartService.getSpanOfControl(new IdRequest(1L))),
+
+                arguments("getAll leave requests", (Supplier<Mono<?>>) () -> leaveRequestService.getAll()),
+                arguments("getById leave request", (Supplier<Mono<?>>) () -> leaveRequestService.getById(new IdRequest(5L))),
+                arguments("getByEmployee", (Supplier<Mono<?>>) () -> leaveRequestService.getByEmployee(new IdRequest(3L))),
+                arguments("getByStatus", (Supplier<Mono<?>>) () -> leaveRequestService.getByStatus(new StatusRequest("APPROVED"))),
+                arguments("getByApprover", (Supplier<Mono<?>>) () -> leaveRequestService.getByApprover(new IdRequest(2L))),
+                arguments("getByDateRange", (Supplier<Mono<?>>) () -> leaveRequestService.getByDateRange(dateRange())),
+                arguments("getOverlapping", (Supplier<Mono<?>>) () -> leaveRequestService.getOverlapping(dateRange())),
+                arguments("getApprovedByEmployee", (Supplier<Mono<?>>) () -> leaveRequestService.getApprovedByEmployee(1L)),
+
+                arguments("getAll leave balances", (Supplier<Mono<?>>) () -> leaveBalanceService.getAll()),
+                arguments("getById leave balance", (Supplier<Mono<?>>) () -> leaveBalanceService.getById(new IdRequest(7L))),
+                arguments("getByEmployee balances", (Supplier<Mono<?>>) () -> leaveBalanceService.getByEmployee(new IdRequest(3L))),
+                arguments("getByLeaveTypeAndYear", (Supplier<Mono<?>>) () -> leaveBalanceService.getByLeaveTypeAndYear(leaveTypeYear(null))),
+                arguments("getByLeaveTypeAndYear (paged)", (Supplier<Mono<?>>) () -> leaveBalanceService.getByLeaveTypeAndYear(leaveTypeYear(100))),
+                arguments("getByEmployeeAndLeaveType", (Supplier<Mono<?>>) () ->
+                        leaveBalanceService.getByEmployeeAndLeaveType(new EmployeeLeaveTypeRequest(4L, 2L))),
+                arguments("getByEmployeeLeaveTypeAndYear", (Supplier<Mono<?>>) () ->
+                        leaveBalanceService.getByEmployeeLeaveTypeAndYear(new EmployeeLeaveTypeYearRequest(4L, 2L, 2025)))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("endpoints")
+    void endpointIssuesOneStatement(String endpoint, Supplier<Mono<?>> call) {
+        statistics.clear();
+
+        Object response = call.get().block();
+
+        assertThat(response).isNotNull();
+        assertThat(statistics.getPrepareStatementCount())
+                .as("statements issued by %s", endpoint)
+                .isEqualTo(1);
+    }
+
+    // Toplu onay: talep sayısından bağımsız olarak talepler, bakiyeler, bakiye batch'i, defter batch'i ve talep güncellemesi.
+    // leave_ledger_id_seq bu testte ilk kez kullanılır: pooled optimizer ilk blok için iki nextval çeker.
+    @Test
+    void bulkApprovalIssuesFixedStatements() {
+        List<Long> pending = LongStream.rangeClosed(1, 40).filter(id -> id % 2 == 1).boxed().toList();
+        statistics.clear();
+
+        BulkChangeLeaveRequestStatusResponse response = leaveRequestService.changeStatusBulk(
+                new BulkChangeLeaveRequestStatusRequest(pending, LeaveStatus.APPROVED, "bulk")).block();
+
+        assertThat(response.getChanged()).isEqualTo(pending.size());
+        assertThat(statistics.getPrepareStatementCount())
+                .as("statements issued by bulkChangeStatus for %d requests", pending.size())
+                .isEqualTo(7);
+    }
+
+    private static DepartmentIdRequest department(Long departmentId, Integer limit) {
+        DepartmentIdRequest request = new DepartmentIdRequest();
+        request.setDepartmentId(departmentId);
+        request.setLimit(limit);
+        return request;
+    }
+
+    private static LeaveTypeYearRequest leaveTypeYear(Integer limit) {
+        LeaveTypeYearRequest request = new LeaveTypeYearRequest();
+        request.setLeaveTypeId(2L);
+        request.setYear(2025);
+        request.setLimit(limit);
+        return request;
+    }
+
+    private static EmployeeDateRangeRequest dateRange() {
+        EmployeeDateRangeRequest request = new EmployeeDateRangeRequest();
+        request.setEmployeeId(1L);
+        request.setStartDate(LocalDate.of(2025, 1, 1));
+        request.setEndDate(LocalDate.of(2025, 12, 31));
+        return request;
+    }
+}
@@ -0,0 +1,225 @@
+package com.neg.technology.human.resource;
+
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * Runs the Liquibase changelog against a real PostgreSQL, loads a production-shaped data set and
+ * checks with EXPLAIN that the SQL behind each repository method is served by one of the indexes
+ * from the changelog (db.changelog-1.10-indexes.yaml and later). Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class IndexUsageExplainTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final List<String> LEAVE_REQUEST_BY_EMPLOYEE = List.of(
+            "ix_leave_request_employee_id", "ix_leave_request_employee_status",
+            "ix_leave_request_employee_type_start", "ix_leave_request_overlap");
+    private static final List<String> LEAVE_BALANCE_BY_EMPLOYEE = List.of(
+            "ix_leave_balance_employee_type_date", "ix_leave_balance_employee_date");
+
+    private static final List<String> PERSON_TRIGRAM = List.of(
+            "ix_person_first_name_trgm", "ix_person_last_name_trgm", "ix_person_email_trgm");
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void migrateAndLoad() throws Exception {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog("classpath:db/changelog/db.changelog-master.yaml");
+        liquibase.setContexts("test");
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        // id'ler açıkça verilir: diziler 50'şer artar (pooled), sonraki satırlar bu id'lere başvurur
+        jdbcTemplate.execute("INSERT INTO company (id, name) SELECT g, 'Company ' || g FROM generate_series(1, 200) g");
+        jdbcTemplate.execute("INSERT INTO department (id, name) SELECT g, 'Department ' || g FROM generate_series(1, 100) g");
+        jdbcTemplate.execute("INSERT INTO position (id, title) SELECT g, 'Position ' || g FROM generate_series(1, 200) g");
+        jdbcTemplate.execute("INSERT INTO person (id, first_name, last_name) SELECT g, 'First' || g, 'Last' || g FROM generate_series(1, 20000) g");
+        jdbcTemplate.execute("""
+                INSERT INTO employee (id, person_id, department_id, position_id, company_id, manager_id,
+                                      hire_date, employment_start_date, employment_end_date, is_active)
+                SELECT g, g, 1 + g % 100, 1 + g % 200, 1 + g % 200,
+                       CASE WHEN g > 1 THEN 1 + g / 10 END,
+                       timestamp '2000-01-01' + g * interval '4 hours',
+                       timestamp '2000-01-01' + g * interval '4 hours',
+                       CASE WHEN g % 50 = 0 THEN timestamp '2001-01-01' + g * interval '4 hours' END,
+                       g % 50 <> 0
+                FROM generate_series(1, 20000) g
+                """);
+        jdbcTemplate.execute("INSERT INTO leave_type (id, name, is_annual, is_unpaid) SELECT g, 'Leave ' || g, true, false FROM generate_series(1, 50) g");
+        jdbcTemplate.execute("""
+                INSERT INTO leave_balance (employee_id, leave_type_id, effective_date, amount)
+                SELECT e, 1 + (e + k * 17) % 50, make_date(y, 1, 1), 14
+                FROM generate_series(1, 20000) e, generate_series(2022, 2025) y, generate_series(1, 3) k
+                """);
+        jdbcTemplate.execute("""
+                INSERT INTO leave_request (employee_id, leave_type_id, start_date, end_date, requested_days,
+                                           status, approved_by, is_cancelled)
+                SELECT 1 + g % 20000, 1 + g % 50,
+                       date '2020-01-01' + (g / 20000) * 200 + g % 150,
+                       date '2020-01-01' + (g / 20000) * 200 + g % 150 + g % 5, 1 + g % 5,
+                       CASE WHEN g % 100 = 0 THEN 'PENDING' ELSE 'APPROVED' END,
+                       1 + (g * 7) % 20000, g % 200 = 0
+                FROM generate_series(0, 199999) g
+                """);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    static Stream<Arguments> repositoryQueries() {
+        return Stream.of(
+                // LeaveRequestRepository
+                arguments("LeaveRequest.findResponsesByEmployeeId",
+                        "SELECT * FROM leave_request WHERE employee_id = 42",
+                        LEAVE_REQUEST_BY_EMPLOYEE),
+                arguments("LeaveRequest.findResponsePageByEmployeeId",
+                        "SELECT * FROM leave_request WHERE employee_id = 42 AND id > 0 ORDER BY id LIMIT 51",
+                        LEAVE_REQUEST_BY_EMPLOYEE),
+                arguments("LeaveRequest.findResponsesByEmployeeIdAndStatus",
+                        "SELECT * FROM leave_request WHERE employee_id = 42 AND status = 'APPROVED'",
+                        LEAVE_REQUEST_BY_EMPLOYEE),
+                arguments("LeaveRequest.findResponsesByStatus",
+                        "SELECT * FROM leave_request WHERE status = 'PENDING'",
+                        List.of("ix_leave_request_status")),
+                arguments("LeaveRequest.findResponsePageByStatus",
+                        "SELECT * FROM leave_request WHERE status = 'PENDING' AND id > 1000 ORDER BY id LIMIT 51",
+                        List.of("ix_leave_request_status")),
+                arguments("LeaveRequest.findCancelledResponses",
+                        "SELECT * FROM leave_request WHERE is_cancelled = true",
+                        List.of("ix_leave_request_cancelled")),
+                arguments("LeaveRequest.findResponsesByApprovedById",
+                        "SELECT * FROM leave_request WHERE approved_by = 42",
+                        List.of("ix_leave_request_approved_by")),
+                arguments("LeaveRequest.findByLeaveType",
+                        "SELECT * FROM leave_request WHERE leave_type_id = 3",
+                        List.of("ix_leave_request_leave_type_id")),
+                arguments("LeaveRequest.findResponsesByStartDateBetween",
+                        "SELECT * FROM leave_request WHERE start_date BETWEEN date '2024-01-01' AND date '2024-01-10'",
+                        List.of("ix_leave_request_start_date")),
+                arguments("LeaveRequest.findResponsePageByStartDateBetween",
+                        """
+                        SELECT * FROM leave_request
+                        WHERE start_date >= date '2022-01-01' AND start_date <= date '2024-12-31'
+                          AND start_date >= date '2023-06-01' AND (start_date > date '2023-06-01' OR id > 5000)
+                        ORDER BY start_date, id LIMIT 51
+                        """,
+                        List.of("ix_leave_request_start_date")),
+                arguments("LeaveRequest.findResponsesByEmployeeIdAndLeaveTypeIdAndStartDateBetween",
+                        """
+                        SELECT * FROM leave_request
+                        WHERE employee_id = 42 AND leave_type_id = 43
+                          AND start_date BETWEEN date '2020-01-01' AND date '2025-12-31'
+                        """,
+                        LEAVE_REQUEST_BY_EMPLOYEE),
+                arguments("LeaveRequest.findOverlappingResponses",
+                        """
+                        SELECT * FROM leave_request
+                        WHERE employee_id = 42 AND start_date <= date '2024-03-10' AND end_date >= date '2024-03-01'
+                          AND is_cancelled = false
+                        """,
+                        LEAVE_REQUEST_BY_EMPLOYEE),
+
+                // LeaveBalanceRepository
+                arguments("LeaveBalance.findByEmployeeId",
+                        "SELECT * FROM leave_balance WHERE employee_id = 42",
+                        LEAVE_BALANCE_BY_EMPLOYEE),
+                arguments("LeaveBalance.findByEmployeeIdAndEffectiveDateBetween",
+                        "SELECT * FROM leave_balance WHERE employee_id = 42 AND effective_date BETWEEN date '2024-01-01' AND date '2024-12-31'",
+                        LEAVE_BALANCE_BY_EMPLOYEE),
+                arguments("LeaveBalance.findByEmployeeIdAndLeaveTypeIdAndEffectiveDate",
+                        "SELECT * FROM leave_balance WHERE employee_id = 42 AND leave_type_id = 10 AND effective_date = date '2024-01-01'",
+                        List.of("ix_leave_balance_employee_type_date")),
+                arguments("LeaveBalance.findByEmployeeIdAndLeaveTypeIdOrderByEffectiveDateAsc",
+                        "SELECT * FROM leave_balance WHERE employee_id = 42 AND leave_type_id = 10 ORDER BY effective_date",
+                        List.of("ix_leave_balance_employee_type_date")),
+                arguments("LeaveBalance.findByLeaveTypeIdAndEffectiveDateBetween",
+                        "SELECT * FROM leave_balance WHERE leave_type_id = 2 AND effective_date BETWEEN date '2024-01-01' AND date '2024-12-31'",
+                        List.of("ix_leave_balance_type_date")),
+                arguments("LeaveBalance.findPageByLeaveTypeIdAndEffectiveDateBetween",
+                        """
+                        SELECT * FROM leave_balance
+                        WHERE leave_type_id = 2 AND effective_date >= date '2024-01-01' AND effective_date <= date '2024-12-31'
+                          AND effective_date >= date '2024-01-01' AND (effective_date > date '2024-01-01' OR id > 1000)
+                        ORDER BY effective_date, id LIMIT 51
+                        """,
+                        List.of("ix_leave_balance_type_date")),
+
+                // EmployeeRepository
+                arguments("Employee.findByPersonId",
+                        "SELECT * FROM employee WHERE person_id = 42",
+                        List.of("ix_employee_person_id")),
+                arguments("Employee.findResponsesByDepartmentId",
+                        "SELECT * FROM employee WHERE department_id = 7",
+                        List.of("ix_employee_department_id")),
+                arguments("Employee.findResponsePageByDepartmentId",
+                        "SELECT * FROM employee WHERE department_id = 7 AND id > 5000 ORDER BY id LIMIT 51",
+                        List.of("ix_employee_department_id")),
+                arguments("Employee.findResponsesByPositionId",
+                        "SELECT * FROM employee WHERE position_id = 7",
+                        List.of("ix_employee_position_id")),
+                arguments("Employee.findResponsesByCompanyId",
+                        "SELECT * FROM employee WHERE company_id = 7",
+                        List.of("ix_employee_company_id")),
+                arguments("Employee.findByManagerId",
+                        "SELECT * FROM employee WHERE manager_id = 42",
+                        List.of("ix_employee_manager_id")),
+                arguments("Employee.findResponsesByHireDateBefore",
+                        "SELECT * FROM employee WHERE hire_date < timestamp '2000-02-01'",
+                        List.of("ix_employee_hire_date")),
+                arguments("Employee.findResponsesByEmploymentEndDateBefore",
+                        "SELECT * FROM employee WHERE employment_end_date < timestamp '2001-03-01'",
+                        List.of("ix_employee_employment_end_date")),
+                arguments("Employee.findInactiveResponses",
+                        "SELECT * FROM employee WHERE is_active = false",
+                        List.of("ix_employee_inactive")),
+
+                // PersonRepository, PersonSearchRepository
+                arguments("Person.findByFirstNameContainingIgnoreCase",
+                        "SELECT * FROM person WHERE upper(first_name) LIKE upper('%st1234%') ESCAPE '\\'",
+                        List.of("ix_person_first_name_trgm")),
+                arguments("PersonSearch.searchByNameOrEmail",
+                        """
+                        SELECT * FROM person
+                        WHERE upper(first_name) LIKE upper('%st1234%') OR upper(last_name) LIKE upper('%st1234%')
+                           OR upper(email) LIKE upper('%st1234%')
+                        """,
+                        PERSON_TRIGRAM),
+                arguments("PersonSearch.searchByFullName",
+                        "SELECT * FROM person WHERE upper(first_name) LIKE upper('%st1234%') AND upper(last_name) LIKE upper('la%')",
+                        PERSON_TRIGRAM)
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    void repositoryQueryUsesIndex(String method, String sql, List<String> expectedIndexes) {
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+
+        assertThat(plan)
+                .as("plan for %s:%n%s", method, plan)
+                .doesNotContain("Seq Scan")
+                .containsAnyOf(expectedIndexes.toArray(String[]::new));
+    }
+}
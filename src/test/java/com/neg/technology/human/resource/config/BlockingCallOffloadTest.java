@@ -0,0 +1,220 @@
+package com.neg.technology.human.resource.config;
+
+import com.neg.technology.human.resource.company.repository.CompanyRepository;
+import com.neg.technology.human.resource.company.repository.PositionRepository;
+import com.neg.technology.human.resource.company.service.impl.CompanyServiceImpl;
+import com.neg.technology.human.resource.company.service.impl.PositionServiceImpl;
+import com.neg.technology.human.resource.company.service.impl.ProjectServiceImpl;
+import com.neg.technology.human.resource.company.validator.ProjectValidator;
+import com.neg.technology.human.resource.department.repository.DepartmentRepository;
+import com.neg.technology.human.resource.department.service.DepartmentServiceImpl;
+import com.neg.technology.human.resource.department.validator.DepartmentValidator;
+import com.neg.technology.human.resource.employee.repository.OrgChartRepository;
+import com.neg.technology.human.resource.employee.service.impl.EmployeeProjectServiceImpl;
+import com.neg.technology.human.resource.employee.service.impl.EmployeeServiceImpl;
+import com.neg.technology.human.resource.employee.service.impl.OrgChartServiceImpl;
+import com.neg.technology.human.resource.employee.service.impl.OrgGraphIndex;
+import com.neg.technology.human.resource.leave.repository.HolidayRepository;
+import com.neg.technology.human.resource.leave.repository.LeaveTypeRepository;
+import com.neg.technology.human.resource.leave.service.impl.HolidayCalendarEngine;
+import com.neg.technology.human.resource.leave.service.impl.LeaveAccrualServiceImpl;
+import com.neg.technology.human.resource.leave.service.impl.LeaveBalanceMutationGuard;
+import com.neg.technology.human.resource.leave.service.impl.LeaveBalanceServiceImpl;
+import com.neg.technology.human.resource.leave.service.impl.LeavePolicyServiceImpl;
+import com.neg.technology.human.resource.leave.service.impl.LeaveRequestServiceImpl;
+import com.neg.technology.human.resource.leave.service.impl.LeaveTypeServiceImpl;
+import com.neg.technology.human.resource.leave.validator.LeaveRequestValidator;
+import com.neg.technology.human.resource.person.service.PersonSearchServiceImpl;
+import com.neg.technology.human.resource.person.service.PersonServiceImpl;
+import com.neg.technology.human.resource.utility.ReferenceDataCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.reactivestreams.Publisher;
+import org.springframework.data.repository.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Calls every public reactive method of the services and validators that talk to JPA
+ * from a non-blocking thread (the role reactor-netty's event loop plays at runtime) and
+ * fails if any repository method is invoked on that thread instead of the JDBC scheduler.
+ */
+class BlockingCallOffloadTest {
+
+    private static final String BASE_PACKAGE = "com.neg.technology.human.resource";
+
+    private static Scheduler jdbcScheduler;
+    private final Queue<String> violations = new ConcurrentLinkedQueue<>();
+
+    @BeforeAll
+    static void createScheduler() {
+        jdbcScheduler = JdbcSchedulerFactory.create(4, 100, new SimpleMeterRegistry());
+    }
+
+    @AfterAll
+    static void disposeScheduler() {
+        jdbcScheduler.dispose();
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = {
+            EmployeeServiceImpl.class,
+            EmployeeProjectServiceImpl.class,
+            OrgChartServiceImpl.class,
+            PersonServiceImpl.class,
+            PersonSearchServiceImpl.class,
+            PositionServiceImpl.class,
+            CompanyServiceImpl.class,
+            ProjectServiceImpl.class,
+            DepartmentServiceImpl.class,
+            LeaveTypeServiceImpl.class,
+            LeaveBalanceServiceImpl.class,
+            LeaveRequestServiceImpl.class,
+            LeavePolicyServiceImpl.class,
+            LeaveAccrualServiceImpl.class,
+            DepartmentValidator.class,
+            ProjectValidator.class,
+            LeaveRequestValidator.class
+    })
+    void repositoryCallsNeverRunOnNonBlockingThreads(Class<?> type) throws Exception {
+        Object target = instantiate(type);
+
+        for (Method method : type.getDeclaredMethods()) {
+            if (!Modifier.isPublic(method.getModifiers()) || !Publisher.class.isAssignableFrom(method.getReturnType())) {
+                continue;
+            }
+            Object[] args = new Object[method.getParameterCount()];
+            for (int i = 0; i < args.length; i++) {
+                args[i] = sample(method.getParameterTypes()[i], 0);
+            }
+            invokeOnNonBlockingThread(target, method, args);
+        }
+
+        assertThat(violations).as("repository calls made on a non-blocking thread").isEmpty();
+    }
+
+    @Test
+    void guardDetectsUnscheduledRepositoryCall() {
+        Runnable repository = repositoryMock(Runnable.class);
+
+        Mono.defer(() -> Mono.fromRunnable(repository))
+                .subscribeOn(Schedulers.parallel())
+                .block(Duration.ofSeconds(5));
+
+        assertThat(violations).hasSize(1);
+    }
+
+    private void invokeOnNonBlockingThread(Object target, Method method, Object[] args) {
+        Mono.defer(() -> {
+                    try {
+                        return Flux.from((Publisher<?>) method.invoke(target, args)).then();
+                    } catch (InvocationTargetException e) {
+                        return Mono.error(e.getCause());
+                    } catch (IllegalAccessException e) {
+                        return Mono.error(e);
+                    }
+                })
+                .subscribeOn(Schedulers.parallel())
+                // mocked repositories return empty results, so most calls end in an error
+                .onErrorResume(e -> Mono.empty())
+                .block(Duration.ofSeconds(5));
+    }
+
+    private Object instantiate(Class<?> type) throws ReflectiveOperationException {
+        Constructor<?> constructor = type.getDeclaredConstructors()[0];
+        Object[] args = new Object[constructor.getParameterCount()];
+        for (int i = 0; i < args.length; i++) {
+            Class<?> parameter = constructor.getParameterTypes()[i];
+            if (parameter == Scheduler.class) {
+                args[i] = jdbcScheduler;
+            } else if (parameter == ReferenceDataCache.class) {
+                args[i] = new ReferenceDataCache(repositoryMock(LeaveTypeRepository.class), repositoryMock(DepartmentRepository.class),
+                        repositoryMock(PositionRepository.class), repositoryMock(CompanyRepository.class),
+                        new ReferenceDataCacheProperties(), new SimpleMeterRegistry());
+            } else if (parameter == LeaveBalanceMutationGuard.class) {
+                args[i] = new LeaveBalanceMutationGuard(new LeaveBalanceMutationProperties(), new SimpleMeterRegistry());
+            } else if (parameter == HolidayCalendarEngine.class) {
+                args[i] = new HolidayCalendarEngine(repositoryMock(HolidayRepository.class), new HolidayCalendarProperties(),
+                        jdbcScheduler, new SimpleMeterRegistry());
+            } else if (parameter == OrgGraphIndex.class) {
+                args[i] = new OrgGraphIndex(repositoryMock(OrgChartRepository.class), new OrgGraphProperties(),
+                        jdbcScheduler, new SimpleMeterRegistry());
+            } else if (parameter == PersonSearchProperties.class) {
+                args[i] = new PersonSearchProperties();
+            } else if (parameter == MeterRegistry.class) {
+                args[i] = new SimpleMeterRegistry();
+            } else if (Repository.class.isAssignableFrom(parameter)) {
+                args[i] = repositoryMock(parameter);
+            } else {
+                args[i] = Mockito.mock(parameter);
+            }
+        }
+        return constructor.newInstance(args);
+    }
+
+    private <T> T repositoryMock(Class<T> type) {
+        Answer<Object> guard = (InvocationOnMock invocation) -> {
+            if (Schedulers.isInNonBlockingThread()) {
+                violations.add(invocation.getMethod().getDeclaringClass().getSimpleName() + "."
+                        + invocation.getMethod().getName() + " on " + Thread.currentThread().getName());
+            }
+            return Mockito.RETURNS_DEFAULTS.answer(invocation);
+        };
+        return Mockito.mock(type, guard);
+    }
+
+    private Object sample(Class<?> type, int depth) {
+        if (type == Long.class || type == long.class) return 1L;
+        if (type == Integer.class || type == int.class) return 2025;
+        if (type == Boolean.class || type == boolean.class) return Boolean.TRUE;
+        if (type == String.class) return "sample";
+        if (type == BigDecimal.class) return BigDecimal.ONE;
+        if (type == LocalDate.class) return LocalDate.of(2025, 3, 3);
+        if (type == LocalDateTime.class) return LocalDateTime.of(2025, 3, 3, 9, 0);
+        if (type.isEnum()) return type.getEnumConstants()[0];
+        if (type == List.class) return List.of();
+        if (depth > 2 || !type.getName().startsWith(BASE_PACKAGE)) return null;
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            Object instance = constructor.newInstance();
+            for (Class<?> c = type; c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    field.set(instance, sample(field.getType(), depth + 1));
+                }
+            }
+            return instance;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.neg.technology.human.resource.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JdbcSchedulerFactoryTest {
+
+    @Test
+    void virtualSchedulerRunsCallsOnVirtualThreads() {
+        Scheduler scheduler = JdbcSchedulerFactory.createVirtual(2, new SimpleMeterRegistry());
+        try {
+            Boolean virtual = Mono.fromCallable(() -> Thread.currentThread().isVirtual())
+                    .subscribeOn(scheduler)
+                    .block(Duration.ofSeconds(5));
+
+            assertThat(virtual).isTrue();
+        } finally {
+            scheduler.dispose();
+        }
+    }
+
+    @Test
+    void virtualSchedulerRejectsCallsBeyondMaxInFlight() throws InterruptedException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        Scheduler scheduler = JdbcSchedulerFactory.createVirtual(1, meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        try {
+            Mono.fromRunnable(() -> {
+                        started.countDown();
+                        awaitQuietly(release);
+                    })
+                    .subscribeOn(scheduler)
+                    .subscribe();
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> Mono.fromCallable(() -> 1).subscribeOn(scheduler).block(Duration.ofSeconds(5)))
+                    .isInstanceOf(RejectedExecutionException.class);
+            assertThat(meterRegistry.get("hr.jdbc.scheduler.rejected").counter().count()).isEqualTo(1.0);
+        } finally {
+            release.countDown();
+            scheduler.dispose();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
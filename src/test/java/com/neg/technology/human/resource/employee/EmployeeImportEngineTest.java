@@ -0,0 +1,150 @@
+package com.neg.technology.human.resource.employee;
+
+import com.neg.technology.human.resource.company.model.entity.Company;
+import com.neg.technology.human.resource.company.model.entity.Position;
+import com.neg.technology.human.resource.config.EmployeeImportProperties;
+import com.neg.technology.human.resource.department.model.entity.Department;
+import com.neg.technology.human.resource.employee.model.entity.Employee;
+import com.neg.technology.human.resource.employee.model.response.EmployeeImportError;
+import com.neg.technology.human.resource.employee.model.response.EmployeeImportResponse;
+import com.neg.technology.human.resource.employee.repository.EmployeeRepository;
+import com.neg.technology.human.resource.employee.service.impl.EmployeeImportEngine;
+import com.neg.technology.human.resource.employee.service.impl.OrgGraphIndex;
+import com.neg.technology.human.resource.exception.InvalidImportFileException;
+import com.neg.technology.human.resource.person.model.entity.Person;
+import com.neg.technology.human.resource.person.repository.PersonRepository;
+import com.neg.technology.human.resource.utility.ReferenceDataCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmployeeImportEngineTest {
+
+    private final PersonRepository personRepository = Mockito.mock(PersonRepository.class);
+    private final EmployeeRepository employeeRepository = Mockito.mock(EmployeeRepository.class);
+    private final ReferenceDataCache referenceDataCache = Mockito.mock(ReferenceDataCache.class);
+    private final OrgGraphIndex orgGraphIndex = Mockito.mock(OrgGraphIndex.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private EmployeeImportEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        EmployeeImportProperties properties = new EmployeeImportProperties();
+        properties.setChunkSize(3);
+        properties.setParallelism(2);
+        engine = new EmployeeImportEngine(personRepository, employeeRepository, referenceDataCache, orgGraphIndex,
+                Mockito.mock(PlatformTransactionManager.class), properties, Schedulers.immediate(), meterRegistry);
+
+        when(referenceDataCache.findDepartment(anyLong())).thenReturn(Optional.empty());
+        when(referenceDataCache.findDepartment(1L)).thenReturn(Optional.of(Department.builder().id(1L).build()));
+        when(referenceDataCache.findPosition(anyLong())).thenReturn(Optional.of(Position.builder().id(2L).build()));
+        when(referenceDataCache.findCompany(anyLong())).thenReturn(Optional.of(Company.builder().id(3L).build()));
+        AtomicLong ids = new AtomicLong(100);
+        when(employeeRepository.saveAll(any())).thenAnswer(invocation -> {
+            Iterable<Employee> employees = invocation.getArgument(0);
+            employees.forEach(employee -> employee.setId(ids.incrementAndGet()));
+            return employees;
+        });
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importsValidRowsAndReportsTheRestByLine() {
+        when(personRepository.findExistingEmailsUpperCase(any())).thenReturn(List.of("TAKEN@EXAMPLE.COM"));
+        when(employeeRepository.findExistingIds(any())).thenReturn(List.of(7L));
+
+        Flux<String> lines = Flux.just(
+                "\uFEFFFirst_Name;last_name;email;national_id;department_id;position_id;company_id;manager_id;hire_date;employment_start_date",
+                "Ayşe;\"Yılmaz; Demir\";ayse@example.com;111;1;2;3;7;2024-01-15;2024-02-01T09:00",
+                ";Kaya;;;1;2;3;;2024-01-15;2024-01-15",
+                "Ali;Kaya;taken@example.com;;1;2;3;;2024-01-15;2024-01-15",
+                "",
+                "Can;Er;;222;1;2;3;8;2024-01-15;2024-01-15",
+                "Deniz;Ak;;111;1;2;3;;2024-01-15;2024-01-15",
+                "Ece;Su;;;9;2;3;;2024-01-15;2024-01-15",
+                "Fatih;Ok;;;1;2;3;;2024-01-15;2024-01-15;extra",
+                "Gül;Ay;;333;1;2;3;;2024-01-15;2024-01-15");
+
+        EmployeeImportResponse response = engine.importLines(lines).block();
+
+        assertThat(response.getTotalRows()).isEqualTo(8);
+        assertThat(response.getImported()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(6);
+        assertThat(response.getErrors()).extracting(EmployeeImportError::getLine, EmployeeImportError::getMessage).containsExactly(
+                tuple(3L, "First name must not be empty"),
+                tuple(4L, "Email already exists"),
+                tuple(6L, "Invalid manager id"),
+                tuple(7L, "National ID appears earlier in the file"),
+                tuple(8L, "Invalid department id"),
+                tuple(9L, "Expected 10 fields but found 11"));
+
+        ArgumentCaptor<List<Person>> people = ArgumentCaptor.forClass(List.class);
+        verify(personRepository, times(2)).saveAll(people.capture());
+        Person first = people.getAllValues().get(0).get(0);
+        assertThat(first.getLastName()).isEqualTo("Yılmaz; Demir");
+        ArgumentCaptor<List<Employee>> employees = ArgumentCaptor.forClass(List.class);
+        verify(employeeRepository, times(2)).saveAll(employees.capture());
+        Employee employee = employees.getAllValues().get(0).get(0);
+        assertThat(employee.getPerson()).isSameAs(first);
+        assertThat(employee.getEmploymentStartDate()).isEqualTo(LocalDateTime.of(2024, 2, 1, 9, 0));
+        assertThat(employee.getIsActive()).isTrue();
+        verify(employeeRepository).getReferenceById(7L);
+        verify(orgGraphIndex).putAll(new long[]{101}, new Long[]{7L});
+
+        // Yöneticiler ve e-postalar chunk başına en fazla bir sorguyla kontrol edilir
+        verify(employeeRepository, times(2)).findExistingIds(any());
+        verify(personRepository, times(1)).findExistingEmailsUpperCase(any());
+        assertThat(meterRegistry.get("hr.employee.import.rows").tag("outcome", "imported").counter().count()).isEqualTo(2);
+        assertThat(EmployeeImportEngine.errorFile(response.getErrors())).startsWith("line,error,row\n3,\"First name must not be empty\",\";Kaya;");
+    }
+
+    @Test
+    void rowsOfAFailedChunkDoNotBlockTheirEmailLaterInTheFile() {
+        when(personRepository.saveAll(any()))
+                .thenThrow(new DataIntegrityViolationException("connection reset"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        Flux<String> lines = Flux.just(
+                "first_name;last_name;email;national_id;department_id;position_id;company_id;hire_date;employment_start_date",
+                "Ayşe;Yılmaz;ayse@example.com;111;1;2;3;2024-01-15;2024-01-15",
+                "Ali;Kaya;;;1;2;3;2024-01-15;2024-01-15",
+                "Can;Er;;;1;2;3;2024-01-15;2024-01-15",
+                "Ayşe;Yılmaz;ayse@example.com;111;1;2;3;2024-01-15;2024-01-15");
+
+        EmployeeImportResponse response = engine.importLines(lines).block();
+
+        assertThat(response.getImported()).isEqualTo(1);
+        assertThat(response.getErrors()).extracting(EmployeeImportError::getLine).containsExactly(2L, 3L, 4L);
+        assertThat(response.getErrors()).allSatisfy(error -> assertThat(error.getMessage()).startsWith("Not imported"));
+    }
+
+    @Test
+    void rejectsAFileWithoutTheRequiredColumns() {
+        StepVerifier.create(engine.importLines(Flux.just("first_name,last_name,hire_date", "Ali,Kaya,2024-01-15")))
+                .expectErrorSatisfies(e -> assertThat(e).isInstanceOf(InvalidImportFileException.class)
+                        .hasMessage("Missing column 'department_id'"))
+                .verify();
+        verify(personRepository, never()).saveAll(any());
+    }
+}
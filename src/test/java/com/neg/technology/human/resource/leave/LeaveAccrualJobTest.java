@@ -0,0 +1,183 @@
+package com.neg.technology.human.resource.leave;
+
+import com.neg.technology.human.resource.config.LeaveAccrualProperties;
+import com.neg.technology.human.resource.employee.model.entity.Employee;
+import com.neg.technology.human.resource.employee.repository.EmployeeRepository;
+import com.neg.technology.human.resource.employee.repository.EmployeeRepository.AccrualCandidate;
+import com.neg.technology.human.resource.exception.InvalidLeaveRequestException;
+import com.neg.technology.human.resource.leave.model.entity.LeaveAccrualRun;
+import com.neg.technology.human.resource.leave.model.entity.LeaveBalance;
+import com.neg.technology.human.resource.leave.model.entity.LeaveLedgerEntry;
+import com.neg.technology.human.resource.leave.model.entity.LeaveType;
+import com.neg.technology.human.resource.leave.model.enums.AccrualRunStatus;
+import com.neg.technology.human.resource.leave.model.enums.LedgerEntryType;
+import com.neg.technology.human.resource.leave.repository.LeaveAccrualRunRepository;
+import com.neg.technology.human.resource.leave.repository.LeaveBalanceRepository;
+import com.neg.technology.human.resource.leave.repository.LeaveBalanceRepository.YearRemaining;
+import com.neg.technology.human.resource.leave.repository.LeaveLedgerRepository;
+import com.neg.technology.human.resource.leave.repository.LeaveTypeRepository;
+import com.neg.technology.human.resource.leave.service.impl.LeaveAccrualJob;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LeaveAccrualJobTest {
+
+    private final LeaveAccrualRunRepository runRepository = Mockito.mock(LeaveAccrualRunRepository.class);
+    private final EmployeeRepository employeeRepository = Mockito.mock(EmployeeRepository.class);
+    private final LeaveBalanceRepository leaveBalanceRepository = Mockito.mock(LeaveBalanceRepository.class);
+    private final LeaveLedgerRepository leaveLedgerRepository = Mockito.mock(LeaveLedgerRepository.class);
+    private final LeaveTypeRepository leaveTypeRepository = Mockito.mock(LeaveTypeRepository.class);
+    private LeaveAccrualJob job;
+
+    @BeforeEach
+    void setUp() {
+        LeaveAccrualProperties properties = new LeaveAccrualProperties();
+        properties.setChunkSize(2);
+        properties.setParallelism(2);
+        // Schedulers.immediate(): arka plandaki koşu start() içinde tamamlanır
+        job = new LeaveAccrualJob(runRepository, employeeRepository, leaveBalanceRepository, leaveLedgerRepository, leaveTypeRepository,
+                Mockito.mock(PlatformTransactionManager.class), properties, Schedulers.immediate(), new SimpleMeterRegistry());
+        when(runRepository.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(leaveTypeRepository.getReferenceById(7L)).thenReturn(LeaveType.builder().id(7L).build());
+        when(employeeRepository.getReferenceById(anyLong()))
+                .thenAnswer(invocation -> Employee.builder().id(invocation.getArgument(0)).build());
+        // Koşu bu düğümde kalır: her yazma talep edilen started_at ile eşleşir
+        when(runRepository.lockClaim(eq(5L), any())).thenAnswer(invocation -> Optional.of(run(AccrualRunStatus.RUNNING, 0L)));
+        when(runRepository.advanceCheckpoint(eq(5L), any(), anyLong(), anyLong(), anyLong())).thenReturn(1);
+        when(runRepository.finish(eq(5L), any(), any(), any())).thenReturn(1);
+    }
+
+    @Test
+    void failedRunResumesAfterCheckpointAndAccruesEntitlementPlusCarryOver() {
+        when(runRepository.lockByYearAndLeaveTypeId(2026, 7L)).thenReturn(Optional.of(run(AccrualRunStatus.FAILED, 100L)));
+        when(employeeRepository.findAccrualPage(100L, Limit.of(2))).thenReturn(List.of(
+                candidate(101L, LocalDate.of(2015, 1, 1)),
+                candidate(102L, LocalDate.of(2015, 1, 1))));
+        when(employeeRepository.findAccrualPage(102L, Limit.of(2))).thenReturn(List.of(
+                candidate(103L, LocalDate.of(2025, 6, 1))));
+        // 101: önceki yıldan 3.5 gün kaldı; 102: yeni yılın bakiyesi yarıda kalan koşuda zaten yazılmış
+        when(leaveBalanceRepository.sumRemainingByYear(eq(List.of(101L, 102L)), eq(7L),
+                eq(LocalDate.of(2025, 1, 1)), eq(LocalDate.of(2026, 12, 31)))).thenReturn(List.of(
+                remaining(101L, 2025, "3.5"),
+                remaining(102L, 2025, "9"),
+                remaining(102L, 2026, "20")));
+
+        StepVerifier.create(job.start(2026, 7L))
+                .assertNext(run -> assertThat(run.getStatus()).isEqualTo(AccrualRunStatus.RUNNING))
+                .verifyComplete();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<LeaveBalance>> saved = ArgumentCaptor.forClass(List.class);
+        verify(leaveBalanceRepository, Mockito.times(2)).saveAll(saved.capture());
+        assertThat(saved.getAllValues().get(0)).singleElement().satisfies(balance -> {
+            assertThat(balance.getEmployee().getId()).isEqualTo(101L);
+            assertThat(balance.getEffectiveDate()).isEqualTo(LocalDate.of(2026, 1, 1));
+            assertThat(balance.getAmount()).isEqualByComparingTo("23.5");
+        });
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<LeaveLedgerEntry>> ledger = ArgumentCaptor.forClass(List.class);
+        verify(leaveLedgerRepository, Mockito.times(2)).saveAll(ledger.capture());
+        assertThat(ledger.getAllValues().get(0)).extracting(LeaveLedgerEntry::getEntryType, entry -> entry.getDays().toPlainString())
+                .containsExactly(tuple(LedgerEntryType.CARRY_OVER, "3.5"), tuple(LedgerEntryType.ACCRUAL, "20"));
+        // 103 henüz bir yılını doldurmadı ve devri yok
+        assertThat(saved.getAllValues().get(1)).isEmpty();
+
+        ArgumentCaptor<LocalDateTime> claimedAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(runRepository).advanceCheckpoint(eq(5L), claimedAt.capture(), eq(102L), eq(2L), eq(1L));
+        verify(runRepository).advanceCheckpoint(5L, claimedAt.getValue(), 103L, 1, 0);
+        verify(runRepository).finish(5L, claimedAt.getValue(), AccrualRunStatus.COMPLETED, null);
+        verify(runRepository, Mockito.times(2)).lockClaim(5L, claimedAt.getValue());
+    }
+
+    @Test
+    void runTakenOverStopsWithoutWritingMore() {
+        when(runRepository.lockByYearAndLeaveTypeId(2026, 7L)).thenReturn(Optional.of(run(AccrualRunStatus.FAILED, 0L)));
+        when(employeeRepository.findAccrualPage(0L, Limit.of(2))).thenReturn(List.of(
+                candidate(101L, LocalDate.of(2015, 1, 1)),
+                candidate(102L, LocalDate.of(2015, 1, 1))));
+        when(employeeRepository.findAccrualPage(102L, Limit.of(2))).thenReturn(List.of(
+                candidate(103L, LocalDate.of(2015, 1, 1))));
+        // İlk chunk'tan sonra başka bir düğüm koşuyu bayat bulup devraldı: started_at artık eşleşmez
+        when(runRepository.lockClaim(eq(5L), any()))
+                .thenAnswer(invocation -> Optional.of(run(AccrualRunStatus.RUNNING, 0L)))
+                .thenReturn(Optional.empty());
+        when(runRepository.finish(eq(5L), any(), any(), any())).thenReturn(0);
+
+        StepVerifier.create(job.start(2026, 7L))
+                .assertNext(run -> assertThat(run.getStatus()).isEqualTo(AccrualRunStatus.RUNNING))
+                .verifyComplete();
+
+        verify(leaveBalanceRepository, Mockito.times(1)).saveAll(any());
+        verify(runRepository).advanceCheckpoint(eq(5L), any(), eq(102L), eq(2L), eq(2L));
+        verify(runRepository, never()).advanceCheckpoint(eq(5L), any(), eq(103L), anyLong(), anyLong());
+        verify(runRepository, never()).finish(eq(5L), any(), eq(AccrualRunStatus.COMPLETED), any());
+        verify(runRepository).finish(eq(5L), any(), eq(AccrualRunStatus.FAILED), any());
+    }
+
+    @Test
+    void liveRunIsNotTakenOverAndCompletedRunIsNotRepeated() {
+        LeaveAccrualRun live = Mockito.spy(run(AccrualRunStatus.RUNNING, 0L));
+        when(live.getLastHeartbeat()).thenReturn(LocalDateTime.now().minusMinutes(1));
+        when(runRepository.lockByYearAndLeaveTypeId(2026, 7L)).thenReturn(Optional.of(live));
+
+        StepVerifier.create(job.start(2026, 7L))
+                .verifyError(InvalidLeaveRequestException.class);
+
+        when(runRepository.lockByYearAndLeaveTypeId(2026, 7L)).thenReturn(Optional.of(run(AccrualRunStatus.COMPLETED, 500L)));
+
+        StepVerifier.create(job.start(2026, 7L))
+                .assertNext(run -> assertThat(run.getStatus()).isEqualTo(AccrualRunStatus.COMPLETED))
+                .verifyComplete();
+
+        verify(employeeRepository, never()).findAccrualPage(anyLong(), any());
+        verify(runRepository, never()).saveAndFlush(any());
+    }
+
+    private static LeaveAccrualRun run(AccrualRunStatus status, Long checkpoint) {
+        return LeaveAccrualRun.builder()
+                .id(5L)
+                .year(2026)
+                .leaveType(LeaveType.builder().id(7L).build())
+                .status(status)
+                .checkpointEmployeeId(checkpoint)
+                .build();
+    }
+
+    private static AccrualCandidate candidate(Long id, LocalDate employmentStart) {
+        return new AccrualCandidate() {
+            public Long getId() { return id; }
+            public LocalDateTime getEmploymentStartDate() { return employmentStart.atStartOfDay(); }
+            public LocalDate getBirthDate() { return LocalDate.of(1990, 5, 5); }
+        };
+    }
+
+    private static YearRemaining remaining(Long employeeId, int year, String days) {
+        return new YearRemaining() {
+            public Long getEmployeeId() { return employeeId; }
+            public Integer getYear() { return year; }
+            public BigDecimal getRemaining() { return new BigDecimal(days); }
+        };
+    }
+}
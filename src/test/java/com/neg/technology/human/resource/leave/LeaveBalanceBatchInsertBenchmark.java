@@ -0,0 +1,135 @@
+package com.neg.technology.human.resource.leave;
+
+import com.neg.technology.human.resource.employee.model.entity.Employee;
+import com.neg.technology.human.resource.leave.model.entity.LeaveBalance;
+import com.neg.technology.human.resource.leave.model.entity.LeaveType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import liquibase.integration.spring.SpringLiquibase;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Inserts leave balances through Hibernate into a real PostgreSQL, once with JDBC batching as set up by
+ * JdbcBatchConfig and once with batching off, and prints rows/sec for both. Ids come from the pooled
+ * leave_balance_id_seq, so a batched run needs one sequence call and one round trip per 50 rows.
+ * Skipped unless hr.benchmark.batch-insert=true and Docker is available:
+ * <pre>
+ * mvn test -Dtest=LeaveBalanceBatchInsertBenchmark -Dhr.benchmark.batch-insert=true -Dhr.benchmark.rows=100000
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "hr.benchmark.batch-insert", matches = "true")
+@Testcontainers(disabledWithoutDocker = true)
+class LeaveBalanceBatchInsertBenchmark {
+
+    private static final int ROWS = Integer.getInteger("hr.benchmark.rows", 100_000);
+    private static final int BATCH_SIZE = 50;
+    // Transaction başına satır; her commit sonrası persistence context temizlenir
+    private static final int ROWS_PER_TRANSACTION = 1_000;
+    private static final int DAYS_PER_EMPLOYEE = 1_000;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static DriverManagerDataSource dataSource;
+
+    @BeforeAll
+    static void migrateAndLoad() throws Exception {
+        dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog("classpath:db/changelog/db.changelog-master.yaml");
+        liquibase.setContexts("test");
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+
+        // (çalışan, tarih) çiftleri iki koşu boyunca benzersiz kalacak kadar çalışan
+        int employees = 2 * (ROWS / DAYS_PER_EMPLOYEE + 1);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("INSERT INTO person (id, first_name, last_name) SELECT g, 'First' || g, 'Last' || g FROM generate_series(1, ?) g", employees);
+        jdbcTemplate.update("""
+                INSERT INTO employee (id, person_id, hire_date, employment_start_date, is_active)
+                SELECT g, g, timestamp '2020-01-01', timestamp '2020-01-01', true FROM generate_series(1, ?) g
+                """, employees);
+        jdbcTemplate.execute("INSERT INTO leave_type (id, name, is_annual, is_unpaid) VALUES (1, 'Annual', true, false)");
+    }
+
+    @Test
+    void measureInsertThroughput() {
+        Run batched = insert(BATCH_SIZE, 1);
+        Run unbatched = insert(1, 1 + ROWS / DAYS_PER_EMPLOYEE + 1);
+
+        System.out.printf("%,d leave balances: batched %.0f rows/s (%,d statements), unbatched %.0f rows/s (%,d statements)%n",
+                ROWS, batched.rowsPerSecond(), batched.statements(), unbatched.rowsPerSecond(), unbatched.statements());
+
+        // Süre makineye bağlı; doğrulanan, round trip sayısının satır sayısıyla değil batch sayısıyla büyümesi
+        assertThat(batched.statements()).isLessThan(ROWS / 10);
+        assertThat(unbatched.statements()).isGreaterThanOrEqualTo(ROWS);
+        assertThat(new JdbcTemplate(dataSource).queryForObject("SELECT count(*) FROM leave_balance", Long.class))
+                .isEqualTo(2L * ROWS);
+    }
+
+    private static Run insert(int batchSize, long firstEmployeeId) {
+        EntityManagerFactory entityManagerFactory = entityManagerFactory(batchSize);
+        try {
+            LocalDate firstDay = LocalDate.of(2000, 1, 1);
+            long start = System.nanoTime();
+            EntityManager entityManager = entityManagerFactory.createEntityManager();
+            for (int offset = 0; offset < ROWS; offset += ROWS_PER_TRANSACTION) {
+                entityManager.getTransaction().begin();
+                for (int i = offset; i < Math.min(ROWS, offset + ROWS_PER_TRANSACTION); i++) {
+                    entityManager.persist(LeaveBalance.builder()
+                            .employee(entityManager.getReference(Employee.class, firstEmployeeId + i / DAYS_PER_EMPLOYEE))
+                            .leaveType(entityManager.getReference(LeaveType.class, 1L))
+                            .effectiveDate(firstDay.plusDays(i % DAYS_PER_EMPLOYEE))
+                            .amount(BigDecimal.valueOf(14))
+                            .usedDays(BigDecimal.ZERO)
+                            .build());
+                }
+                entityManager.getTransaction().commit();
+                entityManager.clear();
+            }
+            entityManager.close();
+            double seconds = (System.nanoTime() - start) / 1e9;
+            long statements = entityManagerFactory.unwrap(SessionFactory.class).getStatistics().getPrepareStatementCount();
+            return new Run(ROWS / seconds, statements);
+        } finally {
+            entityManagerFactory.close();
+        }
+    }
+
+    private static EntityManagerFactory entityManagerFactory(int batchSize) {
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan("com.neg.technology.human.resource");
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(Map.of(
+                AvailableSettings.PHYSICAL_NAMING_STRATEGY, "org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy",
+                AvailableSettings.GENERATE_STATISTICS, true,
+                AvailableSettings.STATEMENT_BATCH_SIZE, batchSize,
+                AvailableSettings.ORDER_INSERTS, true));
+        factory.afterPropertiesSet();
+        return factory.getObject();
+    }
+
+    private record Run(double rowsPerSecond, long statements) {
+    }
+}
@@ -0,0 +1,128 @@
+package com.neg.technology.human.resource.leave;
+
+import com.neg.technology.human.resource.exception.LeaveBalanceExceededException;
+import com.neg.technology.human.resource.leave.model.entity.LeaveBalance;
+import com.neg.technology.human.resource.leave.model.entity.LeaveLedgerEntry;
+import com.neg.technology.human.resource.leave.model.enums.LedgerEntryType;
+import com.neg.technology.human.resource.leave.model.response.DeductLeaveResponse;
+import com.neg.technology.human.resource.leave.repository.LeaveBalanceRepository;
+import com.neg.technology.human.resource.leave.repository.LeaveLedgerRepository;
+import com.neg.technology.human.resource.leave.service.impl.LeaveBalanceDeductionEngine;
+import com.neg.technology.human.resource.leave.validator.LeaveBalanceValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LeaveBalanceDeductionEngineTest {
+
+    private final LeaveBalanceRepository repository = Mockito.mock(LeaveBalanceRepository.class);
+    private final LeaveLedgerRepository ledgerRepository = Mockito.mock(LeaveLedgerRepository.class);
+    private final PlatformTransactionManager transactionManager = Mockito.mock(PlatformTransactionManager.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LeaveBalanceDeductionEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new LeaveBalanceDeductionEngine(repository, ledgerRepository, new LeaveBalanceValidator(), transactionManager, meterRegistry);
+    }
+
+    @Test
+    void drainsOldestBalanceFirstInsideOneTransaction() {
+        LeaveBalance older = balance(LocalDate.of(2025, 1, 1), 5, 3);
+        LeaveBalance newer = balance(LocalDate.of(2025, 7, 1), 10, 0);
+        when(repository.lockForDeduction(1L, 2L, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31)))
+                .thenReturn(List.of(older, newer));
+
+        DeductLeaveResponse response = engine.deduct(1L, 2L, BigDecimal.valueOf(4), 2025, 9L);
+
+        assertThat(older.getUsedDays()).isEqualByComparingTo("5");
+        assertThat(newer.getUsedDays()).isEqualByComparingTo("2");
+        assertThat(response.getDeductedAmount()).isEqualByComparingTo("4");
+        assertThat(response.getRemainingBalance()).isEqualByComparingTo("8");
+        ArgumentCaptor<LeaveLedgerEntry> entry = ArgumentCaptor.forClass(LeaveLedgerEntry.class);
+        verify(ledgerRepository).save(entry.capture());
+        assertThat(entry.getValue().getEntryType()).isEqualTo(LedgerEntryType.DEDUCTION);
+        assertThat(entry.getValue().getDays()).isEqualByComparingTo("4");
+        assertThat(entry.getValue().getLeaveRequestId()).isEqualTo(9L);
+        verify(transactionManager).commit(any());
+        assertThat(meterRegistry.get("hr.leave.deduction").tag("outcome", "deducted").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("hr.leave.deduction.lock-wait").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsHalfDaysWhenDeducting() {
+        LeaveBalance only = balance(LocalDate.of(2025, 1, 1), 5, 1);
+        when(repository.lockForDeduction(any(), any(), any(), any())).thenReturn(List.of(only));
+
+        DeductLeaveResponse response = engine.deduct(1L, 2L, new BigDecimal("2.5"), 2025, null);
+
+        assertThat(only.getUsedDays()).isEqualByComparingTo("3.5");
+        assertThat(response.getRemainingBalance()).isEqualByComparingTo("1.5");
+    }
+
+    @Test
+    void rejectsDeductionBeyondAvailableBalanceAndRollsBack() {
+        LeaveBalance only = balance(LocalDate.of(2025, 1, 1), 5, 4);
+        when(repository.lockForDeduction(any(), any(), any(), any())).thenReturn(List.of(only));
+
+        assertThatThrownBy(() -> engine.deduct(1L, 2L, BigDecimal.valueOf(2), 2025, null))
+                .isInstanceOf(LeaveBalanceExceededException.class);
+
+        assertThat(only.getUsedDays()).isEqualByComparingTo("4");
+        verify(ledgerRepository, never()).save(any());
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        assertThat(meterRegistry.get("hr.leave.deduction").tag("outcome", "insufficient").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void refundReturnsUsedDaysNewestFirstAndRecordsIt() {
+        LeaveBalance older = balance(LocalDate.of(2025, 1, 1), 5, 5);
+        LeaveBalance newer = balance(LocalDate.of(2025, 7, 1), 10, 1);
+        when(repository.lockForDeduction(any(), any(), any(), any())).thenReturn(List.of(older, newer));
+
+        BigDecimal returned = engine.refund(1L, 2L, new BigDecimal("2.5"), 2025, 9L);
+
+        assertThat(returned).isEqualByComparingTo("2.5");
+        assertThat(newer.getUsedDays()).isEqualByComparingTo("0");
+        assertThat(older.getUsedDays()).isEqualByComparingTo("3.5");
+        ArgumentCaptor<LeaveLedgerEntry> entry = ArgumentCaptor.forClass(LeaveLedgerEntry.class);
+        verify(ledgerRepository).save(entry.capture());
+        assertThat(entry.getValue().getEntryType()).isEqualTo(LedgerEntryType.REFUND);
+        assertThat(entry.getValue().getDays()).isEqualByComparingTo("2.5");
+    }
+
+    @Test
+    void refundWithNothingUsedRecordsNoLedgerEntry() {
+        LeaveBalance only = balance(LocalDate.of(2025, 1, 1), 5, 0);
+        when(repository.lockForDeduction(any(), any(), any(), any())).thenReturn(List.of(only));
+
+        BigDecimal returned = engine.refund(1L, 2L, BigDecimal.valueOf(2), 2025, 9L);
+
+        assertThat(returned).isEqualByComparingTo("0");
+        verify(ledgerRepository, never()).save(any());
+        verify(transactionManager).commit(any());
+    }
+
+    private static LeaveBalance balance(LocalDate effectiveDate, int amount, int usedDays) {
+        return LeaveBalance.builder()
+                .effectiveDate(effectiveDate)
+                .amount(BigDecimal.valueOf(amount))
+                .usedDays(BigDecimal.valueOf(usedDays))
+                .build();
+    }
+}
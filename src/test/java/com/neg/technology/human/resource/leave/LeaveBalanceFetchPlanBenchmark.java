@@ -0,0 +1,191 @@
+package com.neg.technology.human.resource.leave;
+
+import com.neg.technology.human.resource.employee.repository.EmployeeRepository;
+import com.neg.technology.human.resource.leave.model.entity.LeaveBalance;
+import com.neg.technology.human.resource.leave.model.mapper.LeaveBalanceMapper;
+import com.neg.technology.human.resource.leave.model.request.LeaveTypeYearRequest;
+import com.neg.technology.human.resource.leave.model.response.LeaveBalanceResponseList;
+import com.neg.technology.human.resource.leave.repository.LeaveBalanceRepository;
+import com.neg.technology.human.resource.leave.repository.LeaveLedgerRepository;
+import com.neg.technology.human.resource.leave.service.impl.LeaveBalanceDeductionEngine;
+import com.neg.technology.human.resource.leave.service.impl.LeaveBalanceMutationGuard;
+import com.neg.technology.human.resource.leave.service.impl.LeaveBalanceServiceImpl;
+import com.neg.technology.human.resource.leave.validator.LeaveBalanceValidator;
+import com.neg.technology.human.resource.utility.ReferenceDataCache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import liquibase.integration.spring.SpringLiquibase;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.mockito.Mockito;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reads one leave type's balances for a year, hr.benchmark.rows of them, from a real PostgreSQL in two
+ * ways and prints the median time and statement count of each:
+ * <ul>
+ *   <li>EAGER: employee and leave type mapped EAGER (test resource leave-balance-eager-orm.xml) and the
+ *   plain derived query without a fetch graph, as balances were read before they became lazy;</li>
+ *   <li>LAZY + graph: {@link LeaveBalanceServiceImpl#getByLeaveTypeAndYear} as it is now.</li>
+ * </ul>
+ * The second-level cache is off in both, so every run pays for the selects its fetch plan issues.
+ * Skipped unless hr.benchmark.fetch-plan=true and Docker is available:
+ * <pre>
+ * mvn test -Dtest=LeaveBalanceFetchPlanBenchmark -Dhr.benchmark.fetch-plan=true -Dhr.benchmark.rows=50000
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "hr.benchmark.fetch-plan", matches = "true")
+@Testcontainers(disabledWithoutDocker = true)
+class LeaveBalanceFetchPlanBenchmark {
+
+    private static final int ROWS = Integer.getInteger("hr.benchmark.rows", 50_000);
+    private static final int RUNS = 5;
+    private static final int YEAR = 2025;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static DriverManagerDataSource dataSource;
+
+    @BeforeAll
+    static void migrateAndLoad() throws Exception {
+        dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog("classpath:db/changelog/db.changelog-master.yaml");
+        liquibase.setContexts("test");
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+
+        // Çalışan başına bir bakiye; yöneticiler EAGER zincirinin de yüklenmesi için onar onar bağlanır
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("INSERT INTO company (id, name) SELECT g, 'Company ' || g FROM generate_series(1, 5) g");
+        jdbcTemplate.execute("INSERT INTO department (id, name) SELECT g, 'Department ' || g FROM generate_series(1, 5) g");
+        jdbcTemplate.execute("INSERT INTO position (id, title) SELECT g, 'Position ' || g FROM generate_series(1, 5) g");
+        jdbcTemplate.update("INSERT INTO person (id, first_name, last_name) SELECT g, 'First' || g, 'Last' || g FROM generate_series(1, ?) g", ROWS);
+        jdbcTemplate.update("""
+                INSERT INTO employee (id, person_id, department_id, position_id, company_id, manager_id,
+                                      hire_date, employment_start_date, is_active)
+                SELECT g, g, 1 + g % 5, 1 + g % 5, 1 + g % 5,
+                       CASE WHEN g > 1 THEN 1 + g / 10 END,
+                       timestamp '2020-01-01', timestamp '2020-01-01', true
+                FROM generate_series(1, ?) g
+                """, ROWS);
+        jdbcTemplate.execute("INSERT INTO leave_type (id, name, is_annual, is_unpaid) SELECT g, 'Leave ' || g, true, false FROM generate_series(1, 2) g");
+        // İkinci tür ve önceki yıl gürültü: sorgu yalnızca (tür 1, 2025) satırlarını döndürür
+        jdbcTemplate.update("""
+                INSERT INTO leave_balance (id, employee_id, leave_type_id, effective_date, amount)
+                SELECT row_number() OVER (ORDER BY e, t, y), e, t, make_date(y, 1, 1), 14
+                FROM generate_series(1, ?) e, generate_series(1, 2) t, generate_series(?, ?) y
+                """, ROWS, YEAR - 1, YEAR);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void measureEagerAgainstLazyWithGraph() {
+        EntityManagerFactory eagerFactory = entityManagerFactory("META-INF/leave-balance-eager-orm.xml");
+        EntityManagerFactory lazyFactory = entityManagerFactory();
+        try {
+            LeaveBalanceMapper mapper = new LeaveBalanceMapper();
+            Run eager = measure(eagerFactory, () -> {
+                EntityManager entityManager = eagerFactory.createEntityManager();
+                try {
+                    List<LeaveBalance> balances = entityManager.createQuery("""
+                                    SELECT lb FROM LeaveBalance lb
+                                    WHERE lb.leaveType.id = :leaveTypeId AND lb.effectiveDate BETWEEN :start AND :end
+                                    """, LeaveBalance.class)
+                            .setParameter("leaveTypeId", 1L)
+                            .setParameter("start", LocalDate.of(YEAR, 1, 1))
+                            .setParameter("end", LocalDate.of(YEAR, 12, 31))
+                            .getResultList();
+                    return mapper.toResponseList(balances);
+                } finally {
+                    entityManager.close();
+                }
+            });
+
+            LeaveBalanceServiceImpl service = service(lazyFactory);
+            Run lazy = measure(lazyFactory, () ->
+                    service.getByLeaveTypeAndYear(new LeaveTypeYearRequest(1L, YEAR)).block());
+
+            System.out.printf("getByLeaveTypeAndYear, %,d balances: EAGER %,d ms (%,d statements), LAZY + graph %,d ms (%,d statements)%n",
+                    ROWS, eager.millis(), eager.statements(), lazy.millis(), lazy.statements());
+
+            // Süre makineye bağlı; doğrulanan, EAGER'ın satır başına select yapması ve graph'ın tek select'i
+            assertThat(eager.size()).isEqualTo(ROWS);
+            assertThat(lazy.size()).isEqualTo(ROWS);
+            assertThat(eager.statements()).isGreaterThanOrEqualTo(ROWS);
+            assertThat(lazy.statements()).isEqualTo(1);
+        } finally {
+            eagerFactory.close();
+            lazyFactory.close();
+        }
+    }
+
+    // İlk koşu ısınmadır; kalanların medyanı raporlanır
+    private static Run measure(EntityManagerFactory factory, Supplier<LeaveBalanceResponseList> read) {
+        read.get();
+        long[] millis = new long[RUNS];
+        long statements = 0;
+        int size = 0;
+        for (int i = 0; i < RUNS; i++) {
+            factory.unwrap(SessionFactory.class).getStatistics().clear();
+            long start = System.nanoTime();
+            size = read.get().getLeaveBalances().size();
+            millis[i] = (System.nanoTime() - start) / 1_000_000;
+            statements = factory.unwrap(SessionFactory.class).getStatistics().getPrepareStatementCount();
+        }
+        Arrays.sort(millis);
+        return new Run(millis[RUNS / 2], statements, size);
+    }
+
+    private static LeaveBalanceServiceImpl service(EntityManagerFactory factory) {
+        JpaRepositoryFactory repositories = new JpaRepositoryFactory(SharedEntityManagerCreator.createSharedEntityManager(factory));
+        return new LeaveBalanceServiceImpl(repositories.getRepository(LeaveBalanceRepository.class),
+                repositories.getRepository(LeaveLedgerRepository.class), repositories.getRepository(EmployeeRepository.class),
+                Mockito.mock(ReferenceDataCache.class), new LeaveBalanceMapper(), new LeaveBalanceValidator(),
+                Mockito.mock(LeaveBalanceDeductionEngine.class), Mockito.mock(LeaveBalanceMutationGuard.class),
+                new JpaTransactionManager(factory), Schedulers.immediate());
+    }
+
+    private static EntityManagerFactory entityManagerFactory(String... mappingResources) {
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan("com.neg.technology.human.resource");
+        factory.setMappingResources(mappingResources);
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        // İkinci seviye önbellek kapalı: açıkken tekrarlanan koşularda EAGER'ın çalışan select'leri önbellekten gelir
+        factory.setJpaPropertyMap(Map.of(
+                AvailableSettings.PHYSICAL_NAMING_STRATEGY, "org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy",
+                AvailableSettings.GENERATE_STATISTICS, true,
+                AvailableSettings.USE_SECOND_LEVEL_CACHE, false));
+        factory.afterPropertiesSet();
+        return factory.getObject();
+    }
+
+    private record Run(long millis, long statements, int size) {
+    }
+}
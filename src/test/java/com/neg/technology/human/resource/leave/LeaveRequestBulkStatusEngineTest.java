@@ -0,0 +1,171 @@
+package com.neg.technology.human.resource.leave;
+
+import com.neg.technology.human.resource.employee.model.entity.Employee;
+import com.neg.technology.human.resource.leave.model.entity.LeaveBalance;
+import com.neg.technology.human.resource.leave.model.entity.LeaveLedgerEntry;
+import com.neg.technology.human.resource.leave.model.entity.LeaveType;
+import com.neg.technology.human.resource.leave.model.enums.LeaveStatus;
+import com.neg.technology.human.resource.leave.model.enums.LedgerEntryType;
+import com.neg.technology.human.resource.leave.model.enums.StatusChangeOutcome;
+import com.neg.technology.human.resource.leave.model.response.BulkChangeLeaveRequestStatusResponse;
+import com.neg.technology.human.resource.leave.model.response.LeaveRequestStatusChangeResult;
+import com.neg.technology.human.resource.leave.repository.LeaveBalanceRepository;
+import com.neg.technology.human.resource.leave.repository.LeaveLedgerRepository;
+import com.neg.technology.human.resource.leave.repository.LeaveRequestRepository;
+import com.neg.technology.human.resource.leave.repository.LeaveRequestRepository.StatusChangeRow;
+import com.neg.technology.human.resource.leave.service.impl.LeaveRequestBulkStatusEngine;
+import com.neg.technology.human.resource.utility.HolidayCalendar;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LeaveRequestBulkStatusEngineTest {
+
+    private final LeaveRequestRepository leaveRequestRepository = Mockito.mock(LeaveRequestRepository.class);
+    private final LeaveBalanceRepository leaveBalanceRepository = Mockito.mock(LeaveBalanceRepository.class);
+    private final LeaveLedgerRepository leaveLedgerRepository = Mockito.mock(LeaveLedgerRepository.class);
+    private final PlatformTransactionManager transactionManager = Mockito.mock(PlatformTransactionManager.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LeaveRequestBulkStatusEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new LeaveRequestBulkStatusEngine(leaveRequestRepository, leaveBalanceRepository, leaveLedgerRepository, transactionManager, meterRegistry);
+    }
+
+    @Test
+    void approvesGroupsAgainstOneBalanceReadAndReportsEachRequest() {
+        // çalışan 1: 5 günlük bakiyeye 3 + 3 gün; ikincisi sığmaz. Çalışan 2: 2 gün
+        when(leaveRequestRepository.lockForStatusChange(List.of(10L, 11L, 12L, 13L, 14L))).thenReturn(List.of(
+                row(10L, 1L, "3", LeaveStatus.PENDING),
+                row(11L, 1L, "3", LeaveStatus.PENDING),
+                row(12L, 2L, "2", LeaveStatus.PENDING),
+                row(13L, 2L, "1", LeaveStatus.APPROVED)));
+        LeaveBalance first = balance(1L, LocalDate.of(2025, 1, 1), 5, 0);
+        LeaveBalance second = balance(2L, LocalDate.of(2025, 1, 1), 14, 1);
+        when(leaveBalanceRepository.lockForBulkDeduction(any(), any(), eq(LocalDate.of(2025, 1, 1)), eq(LocalDate.of(2025, 12, 31))))
+                .thenReturn(List.of(first, second));
+
+        BulkChangeLeaveRequestStatusResponse response = engine.apply(
+                List.of(14L, 12L, 11L, 10L, 13L, 10L), LeaveStatus.APPROVED, "ok", HolidayCalendar.empty());
+
+        assertThat(response.getResults()).extracting(LeaveRequestStatusChangeResult::getLeaveRequestId)
+                .containsExactly(10L, 11L, 12L, 13L, 14L);
+        assertThat(response.getResults()).extracting(LeaveRequestStatusChangeResult::getOutcome).containsExactly(
+                StatusChangeOutcome.CHANGED, StatusChangeOutcome.FAILED, StatusChangeOutcome.CHANGED,
+                StatusChangeOutcome.SKIPPED, StatusChangeOutcome.FAILED);
+        assertThat(response.getResults().get(1).getMessage()).startsWith("Insufficient leave balance");
+        assertThat(response.getChanged()).isEqualTo(2);
+        assertThat(response.getSkipped()).isEqualTo(1);
+        assertThat(response.getFailed()).isEqualTo(2);
+        assertThat(first.getUsedDays()).isEqualByComparingTo("3");
+        assertThat(second.getUsedDays()).isEqualByComparingTo("3");
+
+        verify(leaveBalanceRepository, times(1)).lockForBulkDeduction(any(), any(), any(), any());
+        verify(leaveRequestRepository).updateStatus(List.of(10L, 12L), LeaveStatus.APPROVED, "ok");
+        assertThat(savedLedger()).extracting(LeaveLedgerEntry::getLeaveRequestId, LeaveLedgerEntry::getEntryType)
+                .containsExactly(tuple(10L, LedgerEntryType.DEDUCTION), tuple(12L, LedgerEntryType.DEDUCTION));
+        verify(transactionManager).commit(any());
+        assertThat(meterRegistry.get("hr.leave.bulk-status-change.items").tag("outcome", "failed").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectingApprovedRequestReturnsItsDaysAndPendingNeedsNoBalance() {
+        when(leaveRequestRepository.lockForStatusChange(List.of(20L, 21L))).thenReturn(List.of(
+                row(20L, 1L, "2.5", LeaveStatus.APPROVED),
+                row(21L, 1L, "4", LeaveStatus.PENDING)));
+        LeaveBalance older = balance(1L, LocalDate.of(2025, 1, 1), 5, 5);
+        LeaveBalance newer = balance(1L, LocalDate.of(2025, 7, 1), 5, 1);
+        when(leaveBalanceRepository.lockForBulkDeduction(any(), any(), any(), any())).thenReturn(List.of(older, newer));
+
+        BulkChangeLeaveRequestStatusResponse response = engine.apply(
+                List.of(20L, 21L), LeaveStatus.REJECTED, null, HolidayCalendar.empty());
+
+        assertThat(response.getChanged()).isEqualTo(2);
+        assertThat(response.getResults().get(0).getBalanceDays()).isEqualByComparingTo("2.5");
+        assertThat(response.getResults().get(1).getBalanceDays()).isNull();
+        assertThat(newer.getUsedDays()).isEqualByComparingTo("0");
+        assertThat(older.getUsedDays()).isEqualByComparingTo("3.5");
+        verify(leaveRequestRepository).updateStatus(List.of(20L, 21L), LeaveStatus.REJECTED, null);
+        assertThat(savedLedger()).singleElement().satisfies(entry -> {
+            assertThat(entry.getEntryType()).isEqualTo(LedgerEntryType.REFUND);
+            assertThat(entry.getDays()).isEqualByComparingTo("2.5");
+        });
+    }
+
+    @Test
+    void nothingToChangeTouchesNoBalance() {
+        when(leaveRequestRepository.lockForStatusChange(List.of(30L))).thenReturn(List.of(
+                row(30L, 1L, "1", LeaveStatus.REJECTED)));
+
+        BulkChangeLeaveRequestStatusResponse response = engine.apply(
+                List.of(30L), LeaveStatus.APPROVED, null, HolidayCalendar.empty());
+
+        assertThat(response.getFailed()).isEqualTo(1);
+        verify(leaveBalanceRepository, never()).lockForBulkDeduction(any(), any(), any(), any());
+        verify(leaveRequestRepository, never()).updateStatus(any(), any(), any());
+    }
+
+    @Test
+    void approvedRequestDoesNotGoBackToPending() {
+        when(leaveRequestRepository.lockForStatusChange(List.of(40L))).thenReturn(List.of(
+                row(40L, 1L, "2", LeaveStatus.APPROVED)));
+
+        BulkChangeLeaveRequestStatusResponse response = engine.apply(
+                List.of(40L), LeaveStatus.PENDING, null, HolidayCalendar.empty());
+
+        assertThat(response.getFailed()).isEqualTo(1);
+        assertThat(response.getResults().get(0).getMessage()).contains("cannot be set back to PENDING");
+        verify(leaveBalanceRepository, never()).lockForBulkDeduction(any(), any(), any(), any());
+        verify(leaveRequestRepository, never()).updateStatus(any(), any(), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<LeaveLedgerEntry> savedLedger() {
+        ArgumentCaptor<List<LeaveLedgerEntry>> ledger = ArgumentCaptor.forClass(List.class);
+        verify(leaveLedgerRepository).saveAll(ledger.capture());
+        return ledger.getValue();
+    }
+
+    private static LeaveBalance balance(Long employeeId, LocalDate effectiveDate, int amount, int usedDays) {
+        return LeaveBalance.builder()
+                .employee(Employee.builder().id(employeeId).build())
+                .leaveType(LeaveType.builder().id(7L).build())
+                .effectiveDate(effectiveDate)
+                .amount(BigDecimal.valueOf(amount))
+                .usedDays(BigDecimal.valueOf(usedDays))
+                .build();
+    }
+
+    private static StatusChangeRow row(Long id, Long employeeId, String requestedDays, LeaveStatus status) {
+        return new StatusChangeRow() {
+            public Long getId() { return id; }
+            public Long getEmployeeId() { return employeeId; }
+            public Long getLeaveTypeId() { return 7L; }
+            public Long getCompanyId() { return null; }
+            public LocalDate getStartDate() { return LocalDate.of(2025, 3, 3); }
+            public LocalDate getEndDate() { return LocalDate.of(2025, 3, 7); }
+            public Boolean getStartHalfDay() { return false; }
+            public Boolean getEndHalfDay() { return false; }
+            public BigDecimal getRequestedDays() { return new BigDecimal(requestedDays); }
+            public LeaveStatus getStatus() { return status; }
+            public Boolean getIsCancelled() { return false; }
+        };
+    }
+}
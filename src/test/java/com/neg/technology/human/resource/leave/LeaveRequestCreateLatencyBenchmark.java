@@ -0,0 +1,124 @@
+package com.neg.technology.human.resource.leave;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load test for POST /api/leave-requests/create against an already running instance.
+ * Skipped unless hr.benchmark.base-url is set. To compare execution modes, start the
+ * application once with the default platform-thread JDBC pool and once with
+ * hr.jdbc-scheduler.virtual-threads=true, then run for example:
+ * <pre>
+ * mvn test -Dtest=LeaveRequestCreateLatencyBenchmark -Dhr.benchmark.base-url=http://localhost:8082 \
+ *     -Dhr.benchmark.employee-ids=1-50 -Dhr.benchmark.leave-type-id=1 -Dhr.benchmark.approver-id=1
+ * </pre>
+ * Latency is measured for every response, including validation rejections (overlap,
+ * insufficient balance), since those paths hit the database just as well.
+ */
+@EnabledIfSystemProperty(named = "hr.benchmark.base-url", matches = ".+")
+class LeaveRequestCreateLatencyBenchmark {
+
+    private static final int CLIENTS = Integer.getInteger("hr.benchmark.clients", 1000);
+    private static final int REQUESTS_PER_CLIENT = Integer.getInteger("hr.benchmark.requests-per-client", 10);
+    private static final int WARMUP_REQUESTS = Integer.getInteger("hr.benchmark.warmup-requests", 2000);
+
+    @Test
+    void measureCreateLatency() {
+        String baseUrl = System.getProperty("hr.benchmark.base-url");
+        long[] employeeIds = parseRange(System.getProperty("hr.benchmark.employee-ids", "1-10"));
+        long leaveTypeId = Long.getLong("hr.benchmark.leave-type-id", 1L);
+        long approverId = Long.getLong("hr.benchmark.approver-id", 1L);
+
+        ConnectionProvider connections = ConnectionProvider.builder("benchmark")
+                .maxConnections(CLIENTS)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        WebClient client = WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connections)))
+                .build();
+
+        AtomicInteger sequence = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+
+        run(client, WARMUP_REQUESTS, sequence, employeeIds, leaveTypeId, approverId, errors).blockLast();
+        errors.set(0);
+
+        int total = CLIENTS * REQUESTS_PER_CLIENT;
+        long started = System.nanoTime();
+        long[] latencies = run(client, total, sequence, employeeIds, leaveTypeId, approverId, errors)
+                .collectList()
+                .block()
+                .stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .toArray();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        System.out.printf("%d requests, %d clients, %d non-2xx, %.0f req/s%n",
+                latencies.length, CLIENTS, errors.get(), latencies.length / (elapsed.toMillis() / 1000.0));
+        System.out.printf("p50=%.1f ms p95=%.1f ms p99=%.1f ms max=%.1f ms%n",
+                percentile(latencies, 50), percentile(latencies, 95), percentile(latencies, 99),
+                latencies[latencies.length - 1] / 1_000_000.0);
+
+        connections.dispose();
+    }
+
+    private Flux<Long> run(WebClient client, int requests, AtomicInteger sequence, long[] employeeIds,
+                           long leaveTypeId, long approverId, AtomicInteger errors) {
+        return Flux.range(0, requests)
+                .flatMap(i -> {
+                    int n = sequence.getAndIncrement();
+                    LocalDate start = LocalDate.of(2025, 1, 1).plusDays(n % 300);
+                    Map<String, Object> body = Map.of(
+                            "employeeId", employeeIds[n % employeeIds.length],
+                            "leaveTypeId", leaveTypeId,
+                            "startDate", start.toString(),
+                            "endDate", start.toString(),
+                            "requestedDays", 1,
+                            "status", "PENDING",
+                            "approvedById", approverId);
+                    return Mono.defer(() -> {
+                        long t0 = System.nanoTime();
+                        return client.post()
+                                .uri("/api/leave-requests/create")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .bodyValue(body)
+                                .exchangeToMono(response -> {
+                                    if (!response.statusCode().is2xxSuccessful()) {
+                                        errors.incrementAndGet();
+                                    }
+                                    return response.releaseBody();
+                                })
+                                .then(Mono.fromSupplier(() -> System.nanoTime() - t0));
+                    });
+                }, CLIENTS);
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static long[] parseRange(String range) {
+        String[] bounds = range.split("-");
+        long from = Long.parseLong(bounds[0].trim());
+        long to = bounds.length > 1 ? Long.parseLong(bounds[1].trim()) : from;
+        long[] ids = new long[(int) (to - from + 1)];
+        Arrays.setAll(ids, i -> from + i);
+        return ids;
+    }
+}
@@ -0,0 +1,77 @@
+package com.neg.technology.human.resource.leave;
+
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks ex_leave_request_no_overlap against a real PostgreSQL: live requests of one employee cannot
+ * overlap, while rejected and cancelled ones leave their dates free. Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class LeaveRequestOverlapConstraintTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void migrate() throws Exception {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog("classpath:db/changelog/db.changelog-master.yaml");
+        liquibase.setContexts("test");
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("INSERT INTO person (id, first_name, last_name) VALUES (1, 'Ayşe', 'Yılmaz')");
+        jdbcTemplate.execute("INSERT INTO employee (id, person_id, hire_date, employment_start_date, is_active) VALUES (1, 1, timestamp '2020-01-01', timestamp '2020-01-01', true)");
+        jdbcTemplate.execute("INSERT INTO leave_type (id, name, is_annual, is_unpaid) VALUES (1, 'Annual', true, false)");
+    }
+
+    @BeforeEach
+    void clear() {
+        jdbcTemplate.execute("DELETE FROM leave_request");
+    }
+
+    @Test
+    void rejectedOrCancelledRequestDoesNotBlockResubmittingItsDates() {
+        insert("REJECTED");
+        insert("CANCELLED");
+
+        assertThatCode(() -> insert("PENDING")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void liveRequestsStillCannotOverlap() {
+        insert("APPROVED");
+
+        assertThatThrownBy(() -> insert("PENDING"))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .hasMessageContaining("ex_leave_request_no_overlap");
+    }
+
+    private static void insert(String status) {
+        jdbcTemplate.update("""
+                INSERT INTO leave_request (employee_id, leave_type_id, start_date, end_date, requested_days, status,
+                                           approved_by, is_cancelled)
+                VALUES (1, 1, date '2025-03-03', date '2025-03-05', 3, ?, 1, false)
+                """, status);
+    }
+}
@@ -0,0 +1,190 @@
+package com.neg.technology.human.resource.leave;
+
+import com.neg.technology.human.resource.leave.model.entity.LeaveBalance;
+import com.neg.technology.human.resource.leave.model.entity.LeaveLedgerEntry;
+import com.neg.technology.human.resource.leave.model.enums.LeaveStatus;
+import com.neg.technology.human.resource.leave.model.enums.LedgerEntryType;
+import com.neg.technology.human.resource.leave.model.response.LeaveRequestResponse;
+import com.neg.technology.human.resource.leave.repository.LeaveBalanceRepository;
+import com.neg.technology.human.resource.leave.repository.LeaveLedgerRepository;
+import com.neg.technology.human.resource.leave.repository.LeaveRequestRepository;
+import com.neg.technology.human.resource.leave.repository.LeaveRequestRepository.StatusChangeRow;
+import com.neg.technology.human.resource.leave.service.impl.LeaveBalanceDeductionEngine;
+import com.neg.technology.human.resource.leave.service.impl.LeaveRequestStatusEngine;
+import com.neg.technology.human.resource.leave.validator.LeaveBalanceValidator;
+import com.neg.technology.human.resource.utility.HolidayCalendar;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LeaveRequestStatusEngineTest {
+
+    private final LeaveRequestRepository leaveRequestRepository = Mockito.mock(LeaveRequestRepository.class);
+    private final LeaveBalanceRepository leaveBalanceRepository = Mockito.mock(LeaveBalanceRepository.class);
+    private final LeaveLedgerRepository leaveLedgerRepository = Mockito.mock(LeaveLedgerRepository.class);
+    private final PlatformTransactionManager transactionManager = Mockito.mock(PlatformTransactionManager.class);
+    // leave_request satırının FOR UPDATE kilidi ve kilit altında okunan durumu
+    private final ReentrantLock rowLock = new ReentrantLock();
+    private final AtomicReference<LeaveStatus> status = new AtomicReference<>(LeaveStatus.PENDING);
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+    private final LeaveBalance balance = LeaveBalance.builder()
+            .effectiveDate(LocalDate.of(2025, 1, 1))
+            .amount(BigDecimal.valueOf(10))
+            .usedDays(BigDecimal.ZERO)
+            .build();
+    private LeaveRequestStatusEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        LeaveBalanceDeductionEngine deductionEngine = new LeaveBalanceDeductionEngine(leaveBalanceRepository,
+                leaveLedgerRepository, new LeaveBalanceValidator(), transactionManager, new SimpleMeterRegistry());
+        engine = new LeaveRequestStatusEngine(leaveRequestRepository, deductionEngine, transactionManager);
+
+        when(leaveRequestRepository.lockForStatusChange(List.of(5L))).thenAnswer(invocation -> {
+            rowLock.lock();
+            return List.of(row(status.get(), cancelled.get()));
+        });
+        when(leaveRequestRepository.updateStatus(eq(List.of(5L)), any(), any())).thenAnswer(invocation -> {
+            status.set(invocation.getArgument(1));
+            return 1;
+        });
+        when(leaveRequestRepository.findResponseById(5L)).thenAnswer(invocation ->
+                Optional.of(LeaveRequestResponse.builder().id(5L).status(status.get().name()).build()));
+        when(leaveBalanceRepository.lockForDeduction(any(), any(), any(), any())).thenReturn(List.of(balance));
+        doAnswer(invocation -> release()).when(transactionManager).commit(any());
+        doAnswer(invocation -> release()).when(transactionManager).rollback(any());
+    }
+
+    @Test
+    void concurrentApprovalsOfOneRequestDeductOnce() throws Exception {
+        CountDownLatch bothLocking = new CountDownLatch(2);
+        doAnswer(invocation -> {
+            bothLocking.countDown();
+            rowLock.lock();
+            // kilidi alan, diğeri de kilide gelene kadar bekler: iki onay gerçekten yarışır
+            bothLocking.await(5, TimeUnit.SECONDS);
+            return List.of(row(status.get(), false));
+        }).when(leaveRequestRepository).lockForStatusChange(List.of(5L));
+
+        CompletableFuture<LeaveRequestResponse> first = CompletableFuture.supplyAsync(() ->
+                engine.apply(5L, LeaveStatus.APPROVED, "ok", HolidayCalendar.empty()));
+        CompletableFuture<LeaveRequestResponse> second = CompletableFuture.supplyAsync(() ->
+                engine.apply(5L, LeaveStatus.APPROVED, "ok", HolidayCalendar.empty()));
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo("APPROVED");
+        assertThat(second.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo("APPROVED");
+        assertThat(balance.getUsedDays()).isEqualByComparingTo("3");
+        ArgumentCaptor<LeaveLedgerEntry> entry = ArgumentCaptor.forClass(LeaveLedgerEntry.class);
+        verify(leaveLedgerRepository).save(entry.capture());
+        assertThat(entry.getValue().getEntryType()).isEqualTo(LedgerEntryType.DEDUCTION);
+        assertThat(entry.getValue().getDays()).isEqualByComparingTo("3");
+    }
+
+    @Test
+    void failedStatusWriteRollsBackTheDeduction() {
+        when(leaveRequestRepository.updateStatus(anyCollection(), any(), any())).thenThrow(new IllegalStateException("write failed"));
+
+        assertThatThrownBy(() -> engine.apply(5L, LeaveStatus.APPROVED, null, HolidayCalendar.empty()))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        assertThat(status.get()).isEqualTo(LeaveStatus.PENDING);
+    }
+
+    @Test
+    void rejectingApprovedRequestRefundsUnderTheSameLock() {
+        status.set(LeaveStatus.APPROVED);
+        balance.setUsedDays(BigDecimal.valueOf(3));
+
+        LeaveRequestResponse response = engine.apply(5L, LeaveStatus.REJECTED, null, HolidayCalendar.empty());
+
+        assertThat(response.getStatus()).isEqualTo("REJECTED");
+        assertThat(balance.getUsedDays()).isEqualByComparingTo("0");
+        assertThatThrownBy(() -> engine.apply(5L, LeaveStatus.APPROVED, null, HolidayCalendar.empty()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Cannot approve");
+        assertThat(balance.getUsedDays()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    void approvedRequestDoesNotGoBackToPendingWithItsDaysStillUsed() {
+        status.set(LeaveStatus.APPROVED);
+        balance.setUsedDays(BigDecimal.valueOf(3));
+
+        assertThatThrownBy(() -> engine.apply(5L, LeaveStatus.PENDING, null, HolidayCalendar.empty()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("cannot be set back to PENDING");
+
+        assertThat(status.get()).isEqualTo(LeaveStatus.APPROVED);
+        assertThat(balance.getUsedDays()).isEqualByComparingTo("3");
+        verify(leaveLedgerRepository, never()).save(any());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void cancelledRequestIsNotChangedAgain() {
+        // is_cancelled işaretli ama durumu PENDING kalmış eski kayıt
+        cancelled.set(true);
+
+        assertThatThrownBy(() -> engine.apply(5L, LeaveStatus.APPROVED, null, HolidayCalendar.empty()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("cancelled");
+        status.set(LeaveStatus.CANCELLED);
+        cancelled.set(false);
+        assertThatThrownBy(() -> engine.apply(5L, LeaveStatus.REJECTED, null, HolidayCalendar.empty()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("cancelled");
+
+        assertThat(balance.getUsedDays()).isEqualByComparingTo("0");
+        verify(leaveBalanceRepository, never()).lockForDeduction(any(), any(), any(), any());
+        verify(leaveRequestRepository, never()).updateStatus(any(), any(), any());
+    }
+
+    private Object release() {
+        if (rowLock.isHeldByCurrentThread()) {
+            rowLock.unlock();
+        }
+        return null;
+    }
+
+    private static StatusChangeRow row(LeaveStatus status, boolean cancelled) {
+        return new StatusChangeRow() {
+            public Long getId() { return 5L; }
+            public Long getEmployeeId() { return 1L; }
+            public Long getLeaveTypeId() { return 7L; }
+            public Long getCompanyId() { return null; }
+            public LocalDate getStartDate() { return LocalDate.of(2025, 3, 3); }
+            public LocalDate getEndDate() { return LocalDate.of(2025, 3, 5); }
+            public Boolean getStartHalfDay() { return false; }
+            public Boolean getEndHalfDay() { return false; }
+            public BigDecimal getRequestedDays() { return BigDecimal.valueOf(3); }
+            public LeaveStatus getStatus() { return status; }
+            public Boolean getIsCancelled() { return cancelled; }
+        };
+    }
+}
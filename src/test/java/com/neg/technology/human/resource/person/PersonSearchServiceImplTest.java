@@ -0,0 +1,61 @@
+package com.neg.technology.human.resource.person;
+
+import com.neg.technology.human.resource.config.PersonSearchProperties;
+import com.neg.technology.human.resource.person.model.request.PersonSearchRequest;
+import com.neg.technology.human.resource.person.model.response.PersonSearchResponse;
+import com.neg.technology.human.resource.person.repository.PersonSearchRepository;
+import com.neg.technology.human.resource.person.service.PersonSearchServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class PersonSearchServiceImplTest {
+
+    private final PersonSearchRepository personSearchRepository = Mockito.mock(PersonSearchRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PersonSearchServiceImpl service = new PersonSearchServiceImpl(personSearchRepository,
+            new PersonSearchProperties(), Schedulers.immediate(), meterRegistry);
+
+    @Test
+    void singleWordSearchesNamesAndEmailWithEscapedContainsPattern() {
+        PersonSearchRepository.SearchRow row = Mockito.mock(PersonSearchRepository.SearchRow.class);
+        when(row.getId()).thenReturn(5L);
+        when(row.getFirstName()).thenReturn("Ayşe");
+        when(row.getScore()).thenReturn(0.6f);
+        when(personSearchRepository.searchByNameOrEmail("ay%e_", "%ay\\%e\\_%", 50)).thenReturn(List.of(row));
+
+        List<PersonSearchResponse> result = service.typeahead(new PersonSearchRequest("  ay%e_ ", 500)).block();
+
+        assertThat(result).singleElement().satisfies(person -> {
+            assertThat(person.getId()).isEqualTo(5L);
+            assertThat(person.getFirstName()).isEqualTo("Ayşe");
+            assertThat(person.getScore()).isEqualTo(0.6f);
+        });
+        assertThat(meterRegistry.get("hr.person.search").tag("mode", "name-or-email").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void twoWordsMatchFirstAndLastNameAndShortWordsAsPrefix() {
+        service.typeahead(new PersonSearchRequest("Ali   Ka", null)).block();
+
+        verify(personSearchRepository).searchByFullName("Ali Ka", "%Ali%", "Ka%", 10);
+        verify(personSearchRepository, never()).searchByNameOrEmail(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    void tooShortQueryDoesNotTouchTheDatabase() {
+        assertThat(service.typeahead(new PersonSearchRequest(" a ", null)).block()).isEmpty();
+        verifyNoInteractions(personSearchRepository);
+    }
+}
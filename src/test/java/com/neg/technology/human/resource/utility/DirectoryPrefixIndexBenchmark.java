@@ -0,0 +1,90 @@
+package com.neg.technology.human.resource.utility;
+
+import com.neg.technology.human.resource.utility.DirectoryPrefixIndex.Entry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Builds a {@link DirectoryPrefixIndex} over generated persons with Turkish names and registration
+ * numbers and prints the build time, the estimated footprint, the heap actually retained once the input
+ * is dropped and the query latency. Skipped unless hr.benchmark.directory-index=true; give the JVM
+ * enough heap for the input list:
+ * <pre>
+ * mvn test -Dtest=DirectoryPrefixIndexBenchmark -Dhr.benchmark.directory-index=true \
+ *     -Dhr.benchmark.persons=1000000 -DargLine=-Xmx2g
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "hr.benchmark.directory-index", matches = "true")
+class DirectoryPrefixIndexBenchmark {
+
+    private static final int PERSONS = Integer.getInteger("hr.benchmark.persons", 1_000_000);
+    private static final int QUERIES = Integer.getInteger("hr.benchmark.queries", 100_000);
+
+    private static final String[] FIRST_NAMES = {
+            "Ahmet", "Mehmet", "Mustafa", "Ali", "Hüseyin", "Hasan", "İbrahim", "İsmail", "Osman", "Yusuf",
+            "Murat", "Ömer", "Ramazan", "Halil", "Süleyman", "Abdullah", "Mahmut", "Recep", "Salih", "Kemal",
+            "Fatma", "Ayşe", "Emine", "Hatice", "Zeynep", "Elif", "Meryem", "Şerife", "Zehra", "Sultan",
+            "Hanife", "Merve", "Havva", "Zeliha", "Esra", "Fadime", "Özlem", "Hacer", "Yasemin", "Gülsüm",
+            "Işık", "Işıl", "Çağla", "Çağrı", "Gökhan", "Görkem", "Tuğba", "Büşra", "Şeyma", "Ümit"};
+    private static final String[] LAST_NAMES = {
+            "Yılmaz", "Kaya", "Demir", "Şahin", "Çelik", "Yıldız", "Yıldırım", "Öztürk", "Aydın", "Özdemir",
+            "Arslan", "Doğan", "Kılıç", "Aslan", "Çetin", "Kara", "Koç", "Kurt", "Özkan", "Şimşek",
+            "Polat", "Öz", "Korkmaz", "Karataş", "Erdoğan", "Güneş", "Aktaş", "Bulut", "Keskin", "Ünal"};
+
+    @Test
+    void measureBuildAndQuery() {
+        long heapBefore = usedHeap();
+        Random random = new Random(42);
+        List<Entry> entries = new ArrayList<>(PERSONS);
+        for (int i = 1; i <= PERSONS; i++) {
+            // Çoğu kişiye ikinci, numaralı bir soyadı: terimler gerçek bir dizindeki kadar çeşitli olsun
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            if (random.nextInt(4) != 0) {
+                lastName += " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + random.nextInt(2000);
+            }
+            boolean employed = random.nextInt(10) < 8;
+            entries.add(new Entry(i, employed ? (long) i : null, FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+                    lastName, employed ? String.format("EMP-%07d", i) : null));
+        }
+
+        long started = System.nanoTime();
+        DirectoryPrefixIndex index = DirectoryPrefixIndex.of(entries);
+        long buildMillis = (System.nanoTime() - started) / 1_000_000;
+        // Girdi listesi bırakılır; index'in paylaştığı String'ler index'e sayılır
+        entries.clear();
+        long retained = usedHeap() - heapBefore;
+        System.out.printf("%d persons, %d terms, built in %d ms, footprint estimate %d MB, heap retained %d MB%n",
+                index.size(), index.terms(), buildMillis, index.footprintBytes() >> 20, retained >> 20);
+
+        String[] queries = {"a", "me", "ayş", "yıl", "ışık", "ozt", "kaya 1", "zeynep şa", "emp-00012", "EMP0099"};
+        for (int i = 0; i < 10_000; i++) {
+            index.search(queries[i % queries.length], 10);
+        }
+        long[] nanos = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            long start = System.nanoTime();
+            index.search(queries[i % queries.length], 10);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        System.out.printf("query p50=%.1f µs p99=%.1f µs max=%.1f µs%n",
+                nanos[QUERIES / 2] / 1000.0, nanos[QUERIES * 99 / 100] / 1000.0, nanos[QUERIES - 1] / 1000.0);
+        assertThat(index.search("ayşe", 10)).hasSize(10);
+        assertThat(index.size()).isEqualTo(PERSONS);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,62 @@
+package com.neg.technology.human.resource.utility;
+
+import com.neg.technology.human.resource.utility.DirectoryPrefixIndex.Entry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DirectoryPrefixIndexTest {
+
+    private final DirectoryPrefixIndex index = DirectoryPrefixIndex.of(List.of(
+            new Entry(1, 10L, "Işık", "Öztürk", "EMP-0042"),
+            new Entry(2, null, "İsmail", "Şahin", null),
+            new Entry(3, 11L, "Ayşe", "Işıkçı", "EMP-0043"),
+            new Entry(4, 12L, "Ali", "Güneş", "ACC-7")));
+
+    @Test
+    void foldsTurkishLettersAndMatchesWordPrefixes() {
+        assertThat(DirectoryPrefixIndex.words("IŞIK Öztürk-Ğ")).containsExactly("isik", "ozturk", "g");
+
+        assertThat(ids(index.search("isik", 10))).containsExactly(1L, 3L);
+        assertThat(ids(index.search("ISMA", 10))).containsExactly(2L);
+        assertThat(ids(index.search("sah", 10))).containsExactly(2L);
+        assertThat(ids(index.search("emp", 1))).containsExactly(1L);
+    }
+
+    @Test
+    void everyWordMustMatchAndRegistrationNumbersMatchWithOrWithoutSeparator() {
+        assertThat(ids(index.search("ayşe ışık", 10))).containsExactly(3L);
+        assertThat(ids(index.search("ışık ayşe", 10))).containsExactly(3L);
+        assertThat(ids(index.search("ali ışık", 10))).isEmpty();
+        assertThat(ids(index.search("emp0043", 10))).containsExactly(3L);
+        assertThat(ids(index.search("EMP-004", 10))).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void overlayShadowsTheArraysUntilCompacted() {
+        DirectoryPrefixIndex changed = index
+                .with(new Entry(5, null, "Işıl", "Kaya", null))
+                .with(new Entry(1, 10L, "Deniz", "Öztürk", "EMP-0042"))
+                .without(2)
+                .without(99);
+
+        assertThat(changed.size()).isEqualTo(4);
+        assertThat(changed.pendingChanges()).isEqualTo(3);
+        assertThat(ids(changed.search("isi", 10))).containsExactly(3L, 5L);
+        assertThat(ids(changed.search("ism", 10))).isEmpty();
+        assertThat(changed.find(1).firstName()).isEqualTo("Deniz");
+        assertThat(index.find(1).firstName()).isEqualTo("Işık");
+
+        DirectoryPrefixIndex compacted = changed.compacted();
+        assertThat(compacted.pendingChanges()).isZero();
+        assertThat(compacted.size()).isEqualTo(4);
+        assertThat(ids(compacted.search("isi", 10))).containsExactly(3L, 5L);
+        assertThat(ids(compacted.search("deniz ozt", 10))).containsExactly(1L);
+    }
+
+    private static List<Long> ids(List<Entry> entries) {
+        return entries.stream().map(Entry::personId).toList();
+    }
+}
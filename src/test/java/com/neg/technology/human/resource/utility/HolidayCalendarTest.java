@@ -0,0 +1,88 @@
+package com.neg.technology.human.resource.utility;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HolidayCalendarTest {
+
+    private static final Set<LocalDate> TR_2025 = Set.of(
+            LocalDate.of(2025, 1, 1), LocalDate.of(2025, 4, 23), LocalDate.of(2025, 5, 1),
+            LocalDate.of(2025, 5, 19), LocalDate.of(2025, 7, 15), LocalDate.of(2025, 8, 30),
+            LocalDate.of(2025, 10, 29));
+
+    private static final HolidayCalendar CALENDAR = HolidayCalendar.of(TR_2025,
+            Map.of(7L, List.of(LocalDate.of(2025, 12, 31), LocalDate.of(2026, 1, 2))));
+
+    @Test
+    void holidaysAndWeekendsAreOffInsideAndOutsideLoadedYears() {
+        HolidayCalendar.WorkingDays country = CALENDAR.country();
+
+        assertThat(country.isHoliday(LocalDate.of(2025, 10, 29))).isTrue();
+        assertThat(country.isHoliday(LocalDate.of(2025, 10, 28))).isFalse();
+        assertThat(country.isHoliday(LocalDate.of(2025, 10, 25))).isTrue();   // Cumartesi
+        assertThat(country.isHoliday(LocalDate.of(2026, 10, 29))).isFalse();  // yüklü yıl dışında yalnızca hafta sonu
+        assertThat(country.isHoliday(LocalDate.of(2024, 12, 29))).isTrue();   // Pazar
+        assertThat(country.holidays()).isEqualTo(6);                         // 30 Ağustos Cumartesi
+    }
+
+    @Test
+    void workingDaysMatchDayByDayCount() {
+        HolidayCalendar.WorkingDays company = CALENDAR.forCompany(7L);
+        LocalDate[][] ranges = {
+                {LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31)},
+                {LocalDate.of(2024, 12, 20), LocalDate.of(2026, 1, 10)},
+                {LocalDate.of(2023, 3, 1), LocalDate.of(2023, 3, 31)},
+                {LocalDate.of(2025, 10, 29), LocalDate.of(2025, 10, 29)},
+                {LocalDate.of(2025, 10, 30), LocalDate.of(2025, 10, 29)}
+        };
+
+        for (LocalDate[] range : ranges) {
+            for (HolidayCalendar.WorkingDays days : List.of(CALENDAR.country(), company)) {
+                assertThat(days.workingDays(range[0], range[1]))
+                        .as("%s..%s", range[0], range[1])
+                        .isEqualTo(countDayByDay(days, range[0], range[1]));
+            }
+        }
+        assertThat(CALENDAR.country().workingDays(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31))).isEqualTo(255);
+        assertThat(company.workingDays(LocalDate.of(2025, 12, 29), LocalDate.of(2026, 1, 2))).isEqualTo(3);
+    }
+
+    @Test
+    void halfDaysOnlyReduceWorkingEnds() {
+        HolidayCalendar.WorkingDays country = CALENDAR.country();
+        LocalDate tuesday = LocalDate.of(2025, 10, 28);
+        LocalDate friday = LocalDate.of(2025, 10, 31);
+
+        assertThat(country.leaveDays(tuesday, friday, false, false)).isEqualByComparingTo("3");   // 29 Ekim tatil
+        assertThat(country.leaveDays(tuesday, friday, true, true)).isEqualByComparingTo("2");
+        assertThat(country.leaveDays(tuesday, LocalDate.of(2025, 11, 2), false, true)).isEqualByComparingTo("3");  // Pazar
+        assertThat(country.leaveDays(tuesday, tuesday, true, false)).isEqualByComparingTo("0.5");
+        assertThat(country.leaveDays(LocalDate.of(2025, 10, 29), LocalDate.of(2025, 10, 29), false, false)).isZero();
+    }
+
+    @Test
+    void companiesWithoutOwnDaysUseTheCountryCalendar() {
+        assertThat(CALENDAR.forCompany(99L)).isSameAs(CALENDAR.country());
+        assertThat(CALENDAR.forCompany(null)).isSameAs(CALENDAR.country());
+        assertThat(CALENDAR.forCompany(7L).isHoliday(LocalDate.of(2025, 12, 31))).isTrue();
+        assertThat(CALENDAR.country().isHoliday(LocalDate.of(2025, 12, 31))).isFalse();
+    }
+
+    private static int countDayByDay(HolidayCalendar.WorkingDays days, LocalDate from, LocalDate to) {
+        int count = 0;
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            boolean weekend = day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY;
+            if (!weekend && !days.isHoliday(day)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,69 @@
+package com.neg.technology.human.resource.utility;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeyedSequentialExecutorTest {
+
+    private final KeyedSequentialExecutor executor = new KeyedSequentialExecutor("test", new SimpleMeterRegistry());
+
+    @Test
+    void tasksForSameKeyNeverOverlap() {
+        AtomicInteger running = new AtomicInteger();
+        List<Integer> overlaps = new CopyOnWriteArrayList<>();
+
+        Flux.range(0, 50)
+                .flatMap(i -> executor.submit(42L, Mono.fromCallable(() -> {
+                            int concurrent = running.incrementAndGet();
+                            if (concurrent > 1) {
+                                overlaps.add(concurrent);
+                            }
+                            Thread.sleep(1);
+                            running.decrementAndGet();
+                            return i;
+                        }).subscribeOn(Schedulers.boundedElastic())), 50)
+                .blockLast(Duration.ofSeconds(10));
+
+        assertThat(overlaps).isEmpty();
+        assertThat(executor.activeKeys()).isZero();
+    }
+
+    @Test
+    void otherKeysAreNotHeldBackByABusyKey() {
+        Sinks.Empty<Void> release = Sinks.empty();
+        executor.submit(1L, release.asMono()).subscribe();
+
+        String other = executor.submit(2L, Mono.just("done")).block(Duration.ofSeconds(1));
+        Mono<String> sameKey = executor.submit(1L, Mono.just("after"));
+
+        assertThat(other).isEqualTo("done");
+        release.tryEmitEmpty();
+        assertThat(sameKey.block(Duration.ofSeconds(1))).isEqualTo("after");
+    }
+
+    @Test
+    void cancelledQueuedTaskDoesNotLetSuccessorJumpAhead() {
+        Sinks.Empty<Void> release = Sinks.empty();
+        List<String> order = new CopyOnWriteArrayList<>();
+        executor.submit(1L, release.asMono().doOnTerminate(() -> order.add("first"))).subscribe();
+        executor.submit(1L, Mono.fromRunnable(() -> order.add("cancelled"))).subscribe().dispose();
+        Mono<Void> third = executor.submit(1L, Mono.fromRunnable(() -> order.add("third")));
+        third.subscribe();
+
+        assertThat(order).isEmpty();
+        release.tryEmitEmpty();
+
+        assertThat(order).containsExactly("first", "third");
+    }
+}
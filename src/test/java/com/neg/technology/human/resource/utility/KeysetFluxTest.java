@@ -0,0 +1,62 @@
+package com.neg.technology.human.resource.utility;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.LongFunction;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeysetFluxTest {
+
+    @Test
+    void readsEveryRowInIdOrderAndStopsAfterShortChunk() {
+        Queue<Long> requestedAfter = new ConcurrentLinkedQueue<>();
+        LongFunction<List<Long>> table = table(25, requestedAfter);
+
+        StepVerifier.create(KeysetFlux.stream(table, Long::longValue, 10, Schedulers.immediate()))
+                .expectNextSequence(LongStream.rangeClosed(1, 25).boxed().toList())
+                .verifyComplete();
+
+        assertThat(requestedAfter).containsExactly(0L, 10L, 20L);
+    }
+
+    @Test
+    void fetchesNextChunkOnlyWhenConsumerAsksForIt() {
+        Queue<Long> requestedAfter = new ConcurrentLinkedQueue<>();
+        LongFunction<List<Long>> table = table(1_000, requestedAfter);
+
+        StepVerifier.create(KeysetFlux.stream(table, Long::longValue, 10, Schedulers.immediate()), 5)
+                .expectNextCount(5)
+                .thenAwait(Duration.ofMillis(50))
+                .then(() -> assertThat(requestedAfter).hasSizeLessThanOrEqualTo(2))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void chunksResumeAfterCheckpointAndEmitNoEmptyChunk() {
+        Queue<Long> requestedAfter = new ConcurrentLinkedQueue<>();
+        LongFunction<List<Long>> table = table(30, requestedAfter);
+
+        StepVerifier.create(KeysetFlux.chunks(table, Long::longValue, 10, 10L, Schedulers.immediate()))
+                .expectNext(LongStream.rangeClosed(11, 20).boxed().toList())
+                .expectNext(LongStream.rangeClosed(21, 30).boxed().toList())
+                .verifyComplete();
+
+        assertThat(requestedAfter).containsExactly(10L, 20L, 30L);
+    }
+
+    private static LongFunction<List<Long>> table(long rows, Queue<Long> requestedAfter) {
+        return afterId -> {
+            requestedAfter.add(afterId);
+            return LongStream.rangeClosed(afterId + 1, Math.min(afterId + 10, rows)).boxed().toList();
+        };
+    }
+}
@@ -0,0 +1,58 @@
+package com.neg.technology.human.resource.utility;
+
+import com.neg.technology.human.resource.exception.InvalidPageRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetPageTest {
+
+    @Test
+    void requestWithoutCursorAndLimitStaysUnpaged() {
+        KeysetPage page = KeysetPage.of(null, null);
+        List<Long> rows = LongStream.rangeClosed(1, 1_000).boxed().toList();
+
+        KeysetPage.Slice<Long> slice = page.slice(rows, Long::longValue);
+
+        assertThat(page.isPaged()).isFalse();
+        assertThat(slice.items()).hasSize(1_000);
+        assertThat(slice.nextCursor()).isNull();
+    }
+
+    @Test
+    void nextCursorResumesAfterLastRowOfPage() {
+        record Row(LocalDate date, long id) {}
+        List<Row> firstFetch = List.of(
+                new Row(LocalDate.of(2025, 1, 2), 7),
+                new Row(LocalDate.of(2025, 1, 2), 9),
+                new Row(LocalDate.of(2025, 1, 3), 4));
+
+        KeysetPage first = KeysetPage.of(null, 2);
+        KeysetPage.Slice<Row> slice = first.slice(firstFetch, Row::date, Row::id);
+
+        assertThat(first.fetchLimit().max()).isEqualTo(3);
+        assertThat(slice.items()).extracting(Row::id).containsExactly(7L, 9L);
+
+        KeysetPage next = KeysetPage.of(slice.nextCursor(), 2);
+        assertThat(next.afterKey(LocalDate::parse, LocalDate.MIN)).isEqualTo(LocalDate.of(2025, 1, 2));
+        assertThat(next.afterId()).isEqualTo(9L);
+        assertThat(next.slice(List.of(firstFetch.get(2)), Row::date, Row::id).nextCursor()).isNull();
+    }
+
+    @Test
+    void rejectsTamperedCursorAndOutOfRangeLimit() {
+        assertThatThrownBy(() -> KeysetPage.of("not a cursor", 10))
+                .isInstanceOf(InvalidPageRequestException.class);
+        assertThatThrownBy(() -> KeysetPage.of(null, KeysetPage.MAX_LIMIT + 1))
+                .isInstanceOf(InvalidPageRequestException.class);
+        KeysetPage idOnly = KeysetPage.of(null, 1);
+        String cursor = idOnly.slice(List.of(5L, 6L), Long::longValue).nextCursor();
+        assertThat(KeysetPage.of(cursor, 1).afterKey(Function.identity(), "first")).isEqualTo("first");
+    }
+}
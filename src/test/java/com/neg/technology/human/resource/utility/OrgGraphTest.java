@@ -0,0 +1,87 @@
+package com.neg.technology.human.resource.utility;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrgGraphTest {
+
+    // 1 ─┬─ 2 ─┬─ 4
+    //    │     └─ 5 ── 7
+    //    └─ 3
+    // 6 (üst düzey), 8 ↔ 9 döngü
+    private static final OrgGraph GRAPH = OrgGraph.of(
+            new long[]{5, 1, 9, 2, 7, 3, 4, 6, 8},
+            new Long[]{2L, null, 8L, 1L, 5L, 1L, 2L, null, 9L});
+
+    @Test
+    void answersHierarchyQueriesFromArrays() {
+        assertThat(GRAPH.size()).isEqualTo(9);
+        assertThat(GRAPH.managerOf(7)).isEqualTo(5L);
+        assertThat(GRAPH.managerOf(1)).isNull();
+        assertThat(GRAPH.directReports(2)).containsExactly(4, 5);
+        assertThat(GRAPH.depth(7)).isEqualTo(3);
+        assertThat(GRAPH.headcount(1)).isEqualTo(6);
+        assertThat(GRAPH.headcount(6)).isEqualTo(1);
+
+        assertThat(GRAPH.reportsTo(7, 1)).isTrue();
+        assertThat(GRAPH.reportsTo(7, 2)).isTrue();
+        assertThat(GRAPH.reportsTo(3, 2)).isFalse();
+        assertThat(GRAPH.reportsTo(1, 1)).isFalse();
+        assertThat(GRAPH.reportsTo(7, 6)).isFalse();
+    }
+
+    @Test
+    void isolatesManagerCycles() {
+        assertThat(GRAPH.cyclicNodes()).isEqualTo(2);
+        assertThat(GRAPH.depth(8)).isEqualTo(-1);
+        assertThat(GRAPH.reportsTo(8, 9)).isFalse();
+    }
+
+    @Test
+    void incrementalChangesMatchAFreshBuild() {
+        OrgGraph changed = GRAPH
+                .withManager(5, 3L)     // 5 ve altı 3'e taşınır
+                .withManager(10, 7L)    // yeni çalışan
+                .withManager(0, null)   // en küçük id ile araya ekleme
+                .without(2);            // 4 üst düzey olur
+
+        OrgGraph fresh = OrgGraph.of(
+                new long[]{0, 1, 3, 4, 5, 6, 7, 8, 9, 10},
+                new Long[]{null, null, 1L, null, 3L, null, 5L, 9L, 8L, 7L});
+
+        assertThat(changed.sameEdges(fresh)).isTrue();
+        assertThat(changed.reportsTo(10, 1)).isTrue();
+        assertThat(changed.depth(10)).isEqualTo(4);
+        assertThat(changed.headcount(3)).isEqualTo(4);
+        assertThat(GRAPH.managerOf(5)).isEqualTo(2L);
+    }
+
+    @Test
+    void batchChangeMatchesOneByOne() {
+        OrgGraph batch = GRAPH.withManagers(new long[]{10, 5, 11}, new Long[]{7L, 3L, 10L});
+        OrgGraph oneByOne = GRAPH.withManager(10, 7L).withManager(5, 3L).withManager(11, 10L);
+
+        assertThat(batch.sameEdges(oneByOne)).isTrue();
+        assertThat(batch.depth(11)).isEqualTo(5);
+        assertThat(batch.cyclicNodes()).isEqualTo(2);
+    }
+
+    @Test
+    void footprintFor200kEmployeesStaysWithinAFewMegabytes() {
+        int employees = 200_000;
+        long[] ids = new long[employees];
+        Long[] managerIds = new Long[employees];
+        for (int i = 0; i < employees; i++) {
+            ids[i] = i + 1;
+            managerIds[i] = i == 0 ? null : (long) (i / 8 + 1);
+        }
+
+        OrgGraph graph = OrgGraph.of(ids, managerIds);
+
+        // 8 bayt id + 6 int dizi ≈ 32 bayt/çalışan
+        assertThat(graph.footprintBytes()).isLessThan(7L * 1024 * 1024);
+        assertThat(graph.headcount(1)).isEqualTo(employees);
+        assertThat(graph.reportsTo(employees, 1)).isTrue();
+    }
+}
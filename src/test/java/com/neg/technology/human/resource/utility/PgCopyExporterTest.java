@@ -0,0 +1,87 @@
+package com.neg.technology.human.resource.utility;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PgCopyExporterTest {
+
+    private static final String CSV = "id,status\n1,APPROVED\n2,PENDING\n";
+
+    private final DataSource dataSource = Mockito.mock(DataSource.class);
+    private final Connection connection = Mockito.mock(Connection.class);
+    private final CopyManager copyManager = Mockito.mock(CopyManager.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PgCopyExporter exporter = new PgCopyExporter(dataSource, DefaultDataBufferFactory.sharedInstance,
+            Schedulers.boundedElastic(), meterRegistry);
+
+    @Test
+    void streamsCopyOutputGzippedAndReleasesTheConnection() throws Exception {
+        PGConnection pgConnection = Mockito.mock(PGConnection.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        when(copyManager.copyOut(anyString(), any(OutputStream.class))).thenAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write(CSV.getBytes(StandardCharsets.UTF_8));
+            return 2L;
+        });
+
+        byte[] body = join(exporter.csv("leave-requests", "SELECT 1", true));
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(CSV);
+        }
+        verify(copyManager).copyOut(Mockito.eq("COPY (SELECT 1) TO STDOUT WITH (FORMAT csv, HEADER)"), any(OutputStream.class));
+        verify(connection).close();
+        assertThat(meterRegistry.get("hr.export.copy.rows").tag("export", "leave-requests").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("hr.export.copy").tag("outcome", "completed").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void marksGzipBodiesAsContentEncoded() {
+        assertThat(PgCopyExporter.acceptsGzip("deflate, GZIP;q=0.8")).isTrue();
+        assertThat(PgCopyExporter.acceptsGzip(null)).isFalse();
+
+        ResponseEntity<Flux<DataBuffer>> response = PgCopyExporter.attachment("leave-requests.csv", true, Flux.empty());
+
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeaders().getContentDisposition().getFilename()).isEqualTo("leave-requests.csv");
+        assertThat(PgCopyExporter.attachment("x.csv", false, Flux.empty()).getHeaders())
+                .doesNotContainKey(HttpHeaders.CONTENT_ENCODING);
+    }
+
+    private static byte[] join(Flux<DataBuffer> buffers) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        buffers.doOnNext(buffer -> {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            out.writeBytes(bytes);
+            DataBufferUtils.release(buffer);
+        }).blockLast();
+        return out.toByteArray();
+    }
+}
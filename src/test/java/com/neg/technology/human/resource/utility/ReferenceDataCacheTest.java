@@ -0,0 +1,53 @@
+package com.neg.technology.human.resource.utility;
+
+import com.neg.technology.human.resource.company.repository.CompanyRepository;
+import com.neg.technology.human.resource.company.repository.PositionRepository;
+import com.neg.technology.human.resource.config.ReferenceDataCacheProperties;
+import com.neg.technology.human.resource.department.repository.DepartmentRepository;
+import com.neg.technology.human.resource.leave.model.entity.LeaveType;
+import com.neg.technology.human.resource.leave.repository.LeaveTypeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReferenceDataCacheTest {
+
+    private final LeaveTypeRepository leaveTypeRepository = Mockito.mock(LeaveTypeRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ReferenceDataCache cache = new ReferenceDataCache(leaveTypeRepository,
+            Mockito.mock(DepartmentRepository.class), Mockito.mock(PositionRepository.class),
+            Mockito.mock(CompanyRepository.class), new ReferenceDataCacheProperties(), meterRegistry);
+
+    @Test
+    void servesRepeatedLookupsFromCacheUntilEvicted() {
+        LeaveType annual = LeaveType.builder().id(3L).name("Yıllık izin").build();
+        when(leaveTypeRepository.findById(3L)).thenReturn(Optional.of(annual));
+
+        assertThat(cache.findLeaveType(3L)).containsSame(annual);
+        assertThat(cache.findLeaveType(3L)).containsSame(annual);
+        verify(leaveTypeRepository, times(1)).findById(3L);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "leaveTypes").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+
+        cache.evictLeaveType(3L);
+        cache.findLeaveType(3L);
+        verify(leaveTypeRepository, times(2)).findById(3L);
+    }
+
+    @Test
+    void doesNotCacheMissingIds() {
+        when(leaveTypeRepository.findById(9L)).thenReturn(Optional.empty());
+
+        assertThat(cache.findLeaveType(9L)).isEmpty();
+        cache.findLeaveType(9L);
+
+        verify(leaveTypeRepository, times(2)).findById(9L);
+    }
+}
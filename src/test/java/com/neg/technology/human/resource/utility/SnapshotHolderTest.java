@@ -0,0 +1,101 @@
+package com.neg.technology.human.resource.utility;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SnapshotHolderTest {
+
+    // Veritabanındaki satırlar; yükleyici her çağrıda bunları okur
+    private final AtomicReference<Map<Long, String>> database = new AtomicReference<>(Map.of(1L, "Ayşe", 2L, "Mehmet"));
+
+    @Test
+    void changeReportedDuringReloadIsAppliedToTheReloadedSnapshot() {
+        AtomicReference<Runnable> duringRead = new AtomicReference<>(() -> { });
+        SnapshotHolder<Map<Long, String>> holder = new SnapshotHolder<>("Test", () -> {
+            Map<Long, String> rows = database.get();
+            duringRead.get().run();
+            return rows;
+        }, Schedulers.immediate());
+        holder.get().block();
+
+        // Başka bir düğüm 1'i değiştirdi; bu düğüm, okuma bittikten sonra commit edilen 2'nin değişikliğini bildirir
+        database.set(Map.of(1L, "Ayşe Nur", 2L, "Mehmet"));
+        duringRead.set(() -> holder.update(put(2L, "Mehmet Ali")));
+
+        StepVerifier.create(holder.reload((current, loaded) -> loaded))
+                .assertNext(snapshot -> assertThat(snapshot).containsEntry(1L, "Ayşe Nur").containsEntry(2L, "Mehmet Ali"))
+                .verifyComplete();
+        assertThat(holder.current()).containsEntry(2L, "Mehmet Ali");
+
+        // Kaydedilen değişiklik yalnızca o yüklemeye aittir
+        duringRead.set(() -> { });
+        database.set(Map.of(1L, "Ayşe Nur", 2L, "Mehmet Can"));
+        assertThat(holder.reload((current, loaded) -> loaded).block()).containsEntry(2L, "Mehmet Can");
+    }
+
+    @Test
+    void failedFirstLoadIsRetriedOnNextUseAndUpdatesWaitForIt() {
+        AtomicInteger loads = new AtomicInteger();
+        SnapshotHolder<Map<Long, String>> holder = new SnapshotHolder<>("Test", () -> {
+            if (loads.incrementAndGet() == 1) {
+                throw new IllegalStateException("database down");
+            }
+            return database.get();
+        }, Schedulers.immediate());
+
+        StepVerifier.create(holder.get()).verifyError(IllegalStateException.class);
+        holder.update(put(3L, "Zeynep"));
+        assertThat(holder.current()).isNull();
+
+        assertThat(holder.get().block()).containsOnlyKeys(1L, 2L);
+        assertThat(holder.get().block()).isSameAs(holder.current());
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void rebuildRunsOutsideUpdatesAndKeepsTheirChanges() {
+        SnapshotHolder<Map<Long, String>> holder = new SnapshotHolder<>("Test", database::get, Schedulers.immediate());
+        holder.get().block();
+
+        // Yeniden kurma sürerken gelen değişiklik beklemeden uygulanır ve sonuca yeniden eklenir
+        Map<Long, String> rebuilt = holder.rebuild(snapshot -> {
+            holder.update(put(3L, "Zeynep"));
+            assertThat(holder.current()).containsKey(3L);
+            return Map.copyOf(snapshot);
+        }).block();
+
+        assertThat(rebuilt).containsOnlyKeys(1L, 2L, 3L);
+        assertThat(holder.current()).isSameAs(rebuilt);
+    }
+
+    @Test
+    void loadInstalledDuringRebuildWins() {
+        SnapshotHolder<Map<Long, String>> holder = new SnapshotHolder<>("Test", database::get, Schedulers.immediate());
+        holder.get().block();
+
+        database.set(Map.of(1L, "Ayşe Nur"));
+        holder.rebuild(snapshot -> {
+            holder.reload((current, loaded) -> loaded).block();
+            return Map.copyOf(snapshot);
+        }).block();
+
+        assertThat(holder.current()).containsOnlyKeys(1L).containsEntry(1L, "Ayşe Nur");
+    }
+
+    private static UnaryOperator<Map<Long, String>> put(Long id, String name) {
+        return snapshot -> {
+            Map<Long, String> changed = new HashMap<>(snapshot);
+            changed.put(id, name);
+            return Map.copyOf(changed);
+        };
+    }
+}